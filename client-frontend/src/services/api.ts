@@ -1,4 +1,17 @@
 // dadp-hub 패턴: fetch + 절대 경로 사용
+
+// 비로그인 사용자 기기 ID (로컬 스토리지에 한 번 생성 후 재사용)
+const getDeviceId = (): string => {
+  let deviceId = localStorage.getItem('deviceId');
+  if (!deviceId) {
+    deviceId = typeof crypto !== 'undefined' && typeof crypto.randomUUID === 'function'
+      ? crypto.randomUUID()
+      : `${Date.now().toString(36)}-${Math.random().toString(36).slice(2, 12)}`;
+    localStorage.setItem('deviceId', deviceId);
+  }
+  return deviceId;
+};
+
 export const apiClient = {
   // GET 요청
   get: async <T>(endpoint: string, options?: { params?: Record<string, any> }): Promise<T> => {
@@ -65,9 +78,12 @@ export const apiClient = {
       const headers: Record<string, string> = {
         'Content-Type': 'application/json',
       };
+      // 최근 미션 멘트 중복 방지는 서버가 이 헤더 기준으로 기록 (비로그인은 X-Device-Id)
       const userId = localStorage.getItem('userId');
       if (userId) {
         headers['X-User-Id'] = userId;
+      } else {
+        headers['X-Device-Id'] = getDeviceId();
       }
 
       const response = await fetch(endpoint, {
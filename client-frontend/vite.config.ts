@@ -1,10 +1,47 @@
-import { defineConfig } from 'vite'
+import { defineConfig, type Plugin } from 'vite'
 import react from '@vitejs/plugin-react'
 import path from 'path'
+import fs from 'fs'
+import zlib from 'zlib'
+
+// 빌드 결과의 텍스트 파일마다 .br/.gz를 미리 만들어 둠
+// (백엔드 WebConfig/IndexHtmlCache가 Accept-Encoding에 따라 골라 보내므로 요청마다 압축하지 않음)
+const COMPRESSIBLE = /\.(js|mjs|css|html|svg|json|txt)$/
+const MIN_COMPRESS_BYTES = 1024
+
+function precompress(): Plugin {
+  let outDir = 'dist'
+  return {
+    name: 'lotto-precompress',
+    apply: 'build',
+    configResolved(config) {
+      outDir = path.resolve(config.root, config.build.outDir)
+    },
+    closeBundle() {
+      const walk = (dir: string): string[] =>
+        fs.readdirSync(dir, { withFileTypes: true }).flatMap((entry) => {
+          const full = path.join(dir, entry.name)
+          return entry.isDirectory() ? walk(full) : [full]
+        })
+      for (const file of walk(outDir)) {
+        if (!COMPRESSIBLE.test(file)) continue
+        const content = fs.readFileSync(file)
+        if (content.length < MIN_COMPRESS_BYTES) continue
+        fs.writeFileSync(`${file}.gz`, zlib.gzipSync(content, { level: 9 }))
+        fs.writeFileSync(`${file}.br`, zlib.brotliCompressSync(content, {
+          params: {
+            [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+            [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+          },
+        }))
+      }
+    },
+  }
+}
 
 // https://vite.dev/config/
 export default defineConfig({
-  plugins: [react()],
+  plugins: [react(), precompress()],
   base: '/lotto/',
   server: {
     host: '127.0.0.1',
@@ -0,0 +1,114 @@
+package io.appback.lottoguide.api.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * SPA index.html 메모리 캐시
+ *
+ * 번들된 index.html은 배포 단위로만 바뀌므로 처음 요청 때 한 번 읽어 바이트로 보관합니다.
+ * - 빌드 시 만든 index.html.br / index.html.gz가 있으면 그대로 사용 (gzip은 없으면 메모리에서 압축)
+ * - Cache-Control: no-cache + ETag (배포 후 새 해시 번들을 바로 받도록 매번 재검증, 바뀌지 않았으면 304)
+ * - ETag는 내용 해시에 인코딩 구분(-br, -gz)을 붙여 표현마다 다르게 둠
+ */
+@Component
+@Slf4j
+public class IndexHtmlCache {
+
+    private static final String INDEX_LOCATION = "static/index.html";
+    private static final MediaType HTML_UTF8 = MediaType.parseMediaType("text/html;charset=UTF-8");
+
+    private volatile Page page;
+
+    private record Page(String hash, byte[] html, byte[] gzip, byte[] brotli) {}
+
+    /**
+     * index.html 응답 (번들에 없으면 404)
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request) throws IOException {
+        Page current = page();
+        if (current == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = current.html();
+        String encoding = null;
+        if (current.brotli() != null && HttpCaching.acceptsEncoding(acceptEncoding, "br")) {
+            body = current.brotli();
+            encoding = "br";
+        } else if (HttpCaching.acceptsEncoding(acceptEncoding, "gzip")) {
+            body = current.gzip();
+            encoding = "gzip";
+        }
+        String etag = encoding == null ? "\"" + current.hash() + "\""
+                : "\"" + current.hash() + ("br".equals(encoding) ? "-br" : "-gz") + "\"";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (HttpCaching.matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(HTML_UTF8);
+        if (encoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        headers.setContentLength(body.length);
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    private Page page() throws IOException {
+        Page current = page;
+        if (current == null) {
+            synchronized (this) {
+                if (page == null) {
+                    page = load();
+                }
+                current = page;
+            }
+        }
+        return current;
+    }
+
+    private static Page load() throws IOException {
+        byte[] html = read(INDEX_LOCATION);
+        if (html == null) {
+            log.error("index.html 파일을 찾을 수 없음: {}", INDEX_LOCATION);
+            return null;
+        }
+        byte[] brotli = read(INDEX_LOCATION + ".br");
+        byte[] gzip = read(INDEX_LOCATION + ".gz");
+        if (gzip == null) {
+            gzip = HttpCaching.gzip(html);
+        }
+        String etag = HttpCaching.etag(html);
+        log.info("index.html 로드: {} bytes (gzip {} bytes, br {})", html.length, gzip.length,
+                brotli != null ? brotli.length + " bytes" : "없음");
+        return new Page(etag.substring(1, etag.length() - 1), html, gzip, brotli);
+    }
+
+    private static byte[] read(String location) throws IOException {
+        Resource resource = new ClassPathResource(location);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
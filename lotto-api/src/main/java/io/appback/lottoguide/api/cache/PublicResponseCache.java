@@ -0,0 +1,137 @@
+package io.appback.lottoguide.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 위주 공개 API 응답 캐시 (직렬화된 본문 + ETag)
+ *
+ * 페이지를 열 때마다 호출되지만 관리자가 수정할 때만 바뀌는 응답을
+ * 내용 버전마다 한 번만 만들어 JSON 바이트와 gzip 바이트로 보관합니다.
+ * - ETag: 본문 SHA-256 앞부분 (내용이 같으면 재시작/인스턴스와 관계없이 같은 값)
+ * - If-None-Match가 일치하면 본문 없이 304
+ * - Accept-Encoding에 gzip이 있으면 미리 압축한 바이트 전송
+ * - Cache-Control: no-cache (브라우저는 보관하되 매번 ETag로 재검증)
+ *
+ * 관리자 수정/업로드 후 invalidate(key)로 버전을 올리며, 만드는 도중 버전이 바뀐 응답은 보관하지 않습니다.
+ * 기동 시 초기 데이터 삽입(CommandLineRunner)보다 먼저 들어온 요청이 있을 수 있어 기동 완료 시 한 번 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublicResponseCache {
+
+    public static final String STRATEGY_DESCRIPTIONS = "strategy-descriptions";
+    public static final String SYSTEM_OPTIONS = "system-options";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 응답 본문 생성 함수 (캐시가 비었거나 버전이 바뀐 경우에만 호출)
+     */
+    @FunctionalInterface
+    public interface BodyLoader {
+        Object load() throws Exception;
+    }
+
+    private record CachedBody(long version, String etag, byte[] json, byte[] gzip) {}
+
+    /**
+     * 캐시된 본문으로 응답 (조건부 요청이면 304)
+     *
+     * @param key 캐시 키
+     * @param request 현재 요청 (If-None-Match, Accept-Encoding 확인)
+     * @param loader 본문 객체 생성 함수 (Jackson으로 직렬화)
+     */
+    public ResponseEntity<byte[]> respond(String key, HttpServletRequest request, BodyLoader loader) throws Exception {
+        CachedBody body = body(key, loader);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(body.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (HttpCaching.matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), body.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        byte[] bytes = body.json();
+        if (HttpCaching.acceptsEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip")) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            bytes = body.gzip();
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(bytes.length);
+        return ResponseEntity.ok().headers(headers).body(bytes);
+    }
+
+    /**
+     * 내용 변경 알림 (다음 요청에서 다시 생성)
+     *
+     * 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 무효화합니다.
+     * (커밋 전에 들어온 요청이 이전 내용으로 다시 만든 응답을 남기지 않도록)
+     */
+    public void invalidate(String key) {
+        bump(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(key);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        versions.keySet().forEach(this::bump);
+    }
+
+    private void bump(String key) {
+        version(key).incrementAndGet();
+        bodies.remove(key);
+        log.debug("응답 캐시 무효화: {}", key);
+    }
+
+    private CachedBody body(String key, BodyLoader loader) throws Exception {
+        AtomicLong version = version(key);
+        long current = version.get();
+        CachedBody cached = bodies.get(key);
+        if (cached != null && cached.version() == current) {
+            return cached;
+        }
+
+        byte[] json = objectMapper.writeValueAsBytes(loader.load());
+        CachedBody built = new CachedBody(current, HttpCaching.etag(json), json, HttpCaching.gzip(json));
+        // 만드는 동안 무효화되었으면 보관하지 않음 (이번 응답에만 사용)
+        if (version.get() == current) {
+            bodies.put(key, built);
+        }
+        return built;
+    }
+
+    private AtomicLong version(String key) {
+        return versions.computeIfAbsent(key, k -> new AtomicLong());
+    }
+}
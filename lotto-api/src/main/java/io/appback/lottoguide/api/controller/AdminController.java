@@ -2,9 +2,21 @@ package io.appback.lottoguide.api.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.api.cache.PublicResponseCache;
+import io.appback.lottoguide.api.export.CsvStreamingExporter;
+import io.appback.lottoguide.domain.mission.phrase.PhraseIndex;
+import io.appback.lottoguide.domain.mission.policy.ForbiddenPhraseDetector;
+import io.appback.lottoguide.domain.mission.template.MissionTemplateIndex;
+import io.appback.lottoguide.infra.archive.DrawArchive;
+import io.appback.lottoguide.infra.archive.DrawArchiveService;
 import io.appback.lottoguide.infra.collector.LottoDrawCollector;
 import io.appback.lottoguide.infra.external.DonghaengLottoApiClient;
 import io.appback.lottoguide.infra.external.dto.DrawApiResponse;
+import io.appback.lottoguide.infra.monitoring.jfr.FlightRecordingService;
+import io.appback.lottoguide.infra.persistence.bulk.CsvContentImporter;
+import io.appback.lottoguide.infra.persistence.bulk.CsvImportDescriptor;
+import io.appback.lottoguide.infra.persistence.bulk.CsvImportDescriptors;
+import io.appback.lottoguide.infra.persistence.bulk.DrawCsvBulkLoader;
 import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
 import io.appback.lottoguide.infra.persistence.entity.StrategyDescriptionEntity;
 import io.appback.lottoguide.infra.persistence.entity.DestinyLimitMessageEntity;
@@ -23,6 +35,8 @@ import io.appback.lottoguide.infra.persistence.entity.MissionPhraseBEntity;
 import io.appback.lottoguide.infra.persistence.entity.MissionPhraseCEntity;
 import io.appback.lottoguide.infra.persistence.repository.SystemOptionRepository;
 import io.appback.lottoguide.infra.persistence.entity.SystemOptionEntity;
+import io.appback.lottoguide.infra.persistence.repository.ForbiddenPhraseRepository;
+import io.appback.lottoguide.infra.persistence.entity.ForbiddenPhraseEntity;
 import io.appback.lottoguide.infra.refresh.DrawRefreshService;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +44,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -37,11 +52,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.nio.charset.StandardCharsets;
@@ -51,7 +68,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.LinkedHashSet;
 import java.util.TreeMap;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -78,8 +94,22 @@ public class AdminController {
     private final MissionPhraseBRepository missionPhraseBRepository;
     private final MissionPhraseCRepository missionPhraseCRepository;
     private final SystemOptionRepository systemOptionRepository;
+    private final ForbiddenPhraseRepository forbiddenPhraseRepository;
+    private final ForbiddenPhraseDetector forbiddenPhraseDetector;
+    private final DrawArchiveService drawArchiveService;
+    private final DrawCsvBulkLoader drawCsvBulkLoader;
+    private final CsvContentImporter csvContentImporter;
+    private final PhraseIndex phraseIndex;
+    private final MissionTemplateIndex missionTemplateIndex;
+    private final CsvStreamingExporter csvStreamingExporter;
+    private final FlightRecordingService flightRecordingService;
+    private final PublicResponseCache publicResponseCache;
     private final ObjectMapper objectMapper;
     
+    // 누락 회차 수집 시 한 번에 동시 조회할 회차 수
+    @Value("${external.dhlottery.bulk.window-size:8}")
+    private int bulkWindowSize;
+    
     /**
      * 외부 API에서 추첨 데이터 수집 및 DB 저장
      * 
@@ -290,50 +320,56 @@ public class AdminController {
             int savedCount = 0;
             int failedCount = 0;
             List<Integer> failedDrawNos = new ArrayList<>();
-            final long RATE_LIMIT_DELAY_MS = 300; // Rate limiting
+            final long RATE_LIMIT_DELAY_MS = 300; // Rate limiting (구간 사이 대기)
+            final int windowSize = Math.max(1, bulkWindowSize);
             
-            for (Integer drawNo : missingDrawNos) {
-                Optional<DrawApiResponse> apiResponseOpt = apiClient.fetchDraw(drawNo);
+            for (int from = 0; from < missingDrawNos.size(); from += windowSize) {
+                // 구간 내 누락 회차 동시 조회
+                List<Integer> window = missingDrawNos.subList(from, Math.min(missingDrawNos.size(), from + windowSize));
+                Map<Integer, DrawApiResponse> fetched = apiClient.fetchDrawBatch(window);
                 
-                if (apiResponseOpt.isPresent()) {
-                    DrawApiResponse apiResponse = apiResponseOpt.get();
-                    int[] numbers = apiResponse.getNumbers();
-                    Arrays.sort(numbers);
-                    
-                    DrawEntity drawEntity = DrawEntity.builder()
-                            .drawNo(apiResponse.getDrwNo())
-                            .drawDate(apiResponse.getDrawDate())
-                            .n1(numbers[0])
-                            .n2(numbers[1])
-                            .n3(numbers[2])
-                            .n4(numbers[3])
-                            .n5(numbers[4])
-                            .n6(numbers[5])
-                            .bonus(apiResponse.getBnusNo())
-                            .build();
-                    
-                    drawRepository.save(drawEntity);
-                    savedCount++;
-                    
-                    log.debug("누락 회차 {} 저장 완료", drawNo);
+                for (Integer drawNo : window) {
+                    DrawApiResponse apiResponse = fetched.get(drawNo);
                     
-                    // 진행 상황 로깅 (100회차마다)
-                    if (savedCount % 100 == 0) {
-                        log.info("누락 회차 수집 진행: {}개 저장 완료", savedCount);
+                    if (apiResponse != null) {
+                        int[] numbers = apiResponse.getNumbers();
+                        Arrays.sort(numbers);
+                        
+                        DrawEntity drawEntity = DrawEntity.builder()
+                                .drawNo(apiResponse.getDrwNo())
+                                .drawDate(apiResponse.getDrawDate())
+                                .n1(numbers[0])
+                                .n2(numbers[1])
+                                .n3(numbers[2])
+                                .n4(numbers[3])
+                                .n5(numbers[4])
+                                .n6(numbers[5])
+                                .bonus(apiResponse.getBnusNo())
+                                .build();
+                        
+                        drawRepository.save(drawEntity);
+                        savedCount++;
+                        
+                        log.debug("누락 회차 {} 저장 완료", drawNo);
+                        
+                        // 진행 상황 로깅 (100회차마다)
+                        if (savedCount % 100 == 0) {
+                            log.info("누락 회차 수집 진행: {}개 저장 완료", savedCount);
+                        }
+                    } else {
+                        failedCount++;
+                        failedDrawNos.add(drawNo);
+                        log.warn("누락 회차 {} 수집 실패", drawNo);
                     }
-                } else {
-                    failedCount++;
-                    failedDrawNos.add(drawNo);
-                    log.warn("누락 회차 {} 수집 실패", drawNo);
                 }
                 
                 // Rate limiting
-                if (drawNo < missingDrawNos.get(missingDrawNos.size() - 1)) {
+                if (from + windowSize < missingDrawNos.size()) {
                     try {
                         Thread.sleep(RATE_LIMIT_DELAY_MS);
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
-                        log.warn("누락 회차 수집 중단: drawNo={}", drawNo);
+                        log.warn("누락 회차 수집 중단: drawNo={}", window.get(window.size() - 1));
                         break;
                     }
                 }
@@ -510,7 +546,8 @@ public class AdminController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
             }
             
-            // 2. 동행복권 API에서 조회
+            // 2. 동행복권 API에서 조회 (로컬 응답 캐시를 비우고 새로 조회)
+            apiClient.evictCachedDraw(drawNo);
             Optional<DrawApiResponse> apiResponseOpt = apiClient.fetchDraw(drawNo);
             
             if (apiResponseOpt.isEmpty()) {
@@ -621,71 +658,34 @@ public class AdminController {
      * 
      * 주의: totalPrize, winnerCount, prizePerPerson은 선택적 필드입니다 (없으면 빈 값)
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/export-csv")
-    public ResponseEntity<byte[]> exportCsv() {
-        try {
-            log.info("관리자 요청: CSV 다운로드 시작");
-            
-            // 1. DB에서 모든 데이터 조회 (회차 순으로 정렬)
-            List<DrawEntity> draws = drawRepository.findAll().stream()
-                    .sorted(Comparator.comparing(DrawEntity::getDrawNo))
-                    .collect(Collectors.toList());
-            
-            log.info("CSV 다운로드: 총 {}개 회차 데이터", draws.size());
-            
-            // 2. CSV 생성
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            // BOM 추가 (Excel에서 UTF-8 인식)
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            // 헤더 작성
-            writer.println("drawNo,drawDate,n1,n2,n3,n4,n5,n6,bonus,totalPrize,winnerCount,prizePerPerson");
-            
-            // 데이터 작성
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
-            for (DrawEntity draw : draws) {
-                writer.printf("%d,%s,%d,%d,%d,%d,%d,%d,%d,%s,%s,%s%n",
-                        draw.getDrawNo(),
-                        draw.getDrawDate().format(dateFormatter),
-                        draw.getN1(),
-                        draw.getN2(),
-                        draw.getN3(),
-                        draw.getN4(),
-                        draw.getN5(),
-                        draw.getN6(),
-                        draw.getBonus(),
-                        draw.getTotalPrize() != null ? draw.getTotalPrize() : "",
-                        draw.getWinnerCount() != null ? draw.getWinnerCount() : "",
-                        draw.getPrizePerPerson() != null ? draw.getPrizePerPerson() : "");
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            // 3. 응답 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("lotto_draws_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: CSV 다운로드 완료 - {}개 회차, {} bytes", draws.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: CSV 다운로드 시작 (gzip={})", gzip);
+        
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
+        return csvStreamingExporter.export("lotto_draws",
+                "drawNo,drawDate,n1,n2,n3,n4,n5,n6,bonus,totalPrize,winnerCount,prizePerPerson",
+                drawRepository::streamAllByOrderByDrawNoAsc,
+                (draw, row) -> row
+                        .add(draw.getDrawNo())
+                        .add(draw.getDrawDate().format(dateFormatter))
+                        .add(draw.getN1())
+                        .add(draw.getN2())
+                        .add(draw.getN3())
+                        .add(draw.getN4())
+                        .add(draw.getN5())
+                        .add(draw.getN6())
+                        .add(draw.getBonus())
+                        .add(draw.getTotalPrize())
+                        .add(draw.getWinnerCount())
+                        .add(draw.getPrizePerPerson()),
+                gzip);
     }
     
     /**
@@ -703,13 +703,15 @@ public class AdminController {
      * 주의: totalPrize, winnerCount, prizePerPerson은 선택적 필드입니다 (없으면 빈 값)
      * winnerCount는 "15명" 형식도 지원합니다 (자동으로 "명" 제거)
      * 
+     * 저장은 PostgreSQL COPY로 한 번에 처리하며, 저장된 회차가 있으면 메트릭/패턴 통계를 한 번 재계산합니다.
+     * 응답의 errorReport에 줄 번호별 오류가 포함됩니다.
+     * 
      * @param file CSV 파일
      * @param includeHeader 헤더 포함 여부 (기본값: true)
      * @param delimiter 구분자 (기본값: 쉼표)
      * @return 업로드 결과
      */
     @PostMapping("/import-csv")
-    @Transactional
     public ResponseEntity<Map<String, Object>> importCsv(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "includeHeader", defaultValue = "true") boolean includeHeader,
@@ -733,157 +735,16 @@ public class AdminController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
             }
             
-            // 2. CSV 파싱 및 저장 (회차 번호가 Primary Key이므로 저장 순서와 무관)
-            int savedCount = 0;
-            int skippedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    // BOM 제거 (첫 줄에 BOM이 있을 수 있음)
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    // 빈 줄 건너뛰기
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    // 헤더 건너뛰기
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (includeHeader) {
-                            // 헤더 포함 옵션이 true이면 첫 줄 건너뛰기
-                            continue;
-                        }
-                        // 헤더 포함 옵션이 false이면 첫 줄도 데이터로 처리
-                    }
-                    
-                    // CSV 파싱 (구분자 사용)
-                    String[] columns = line.split(delimiter.equals("\t") ? "\t" : Pattern.quote(delimiter));
-                    if (columns.length < 9) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 9개 필요, 실제: %d개)", lineNumber, columns.length));
-                        continue;
-                    }
-                    
-                    try {
-                        // 필수 데이터 파싱 및 검증 (비어있으면 스킵)
-                        String drawNoStr = columns[0].trim();
-                        String drawDateStr = columns[1].trim();
-                        String n1Str = columns[2].trim();
-                        String n2Str = columns[3].trim();
-                        String n3Str = columns[4].trim();
-                        String n4Str = columns[5].trim();
-                        String n5Str = columns[6].trim();
-                        String n6Str = columns[7].trim();
-                        String bonusStr = columns[8].trim();
-                        
-                        // 필수 필드가 비어있으면 스킵 (회차만 있고 내용이 없는 경우)
-                        if (drawNoStr.isEmpty() || drawDateStr.isEmpty() || 
-                            n1Str.isEmpty() || n2Str.isEmpty() || n3Str.isEmpty() || 
-                            n4Str.isEmpty() || n5Str.isEmpty() || n6Str.isEmpty() || bonusStr.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: 필수 필드가 비어있습니다 (회차만 있고 내용이 없는 경우 저장하지 않음)", lineNumber));
-                            continue;
-                        }
-                        
-                        int drawNo = Integer.parseInt(drawNoStr);
-                        LocalDate drawDate = LocalDate.parse(drawDateStr, dateFormatter);
-                        int n1 = Integer.parseInt(n1Str);
-                        int n2 = Integer.parseInt(n2Str);
-                        int n3 = Integer.parseInt(n3Str);
-                        int n4 = Integer.parseInt(n4Str);
-                        int n5 = Integer.parseInt(n5Str);
-                        int n6 = Integer.parseInt(n6Str);
-                        int bonus = Integer.parseInt(bonusStr);
-                        
-                        // 선택적 데이터 파싱 (당첨금 정보)
-                        Double totalPrize = null;
-                        Integer winnerCount = null;
-                        Double prizePerPerson = null;
-                        
-                        if (columns.length >= 10 && !columns[9].trim().isEmpty()) {
-                            try {
-                                totalPrize = Double.parseDouble(columns[9].trim());
-                            } catch (NumberFormatException e) {
-                                log.debug("라인 {}: 당첨금 파싱 실패 (무시): {}", lineNumber, columns[9].trim());
-                            }
-                        }
-                        
-                        if (columns.length >= 11 && !columns[10].trim().isEmpty()) {
-                            try {
-                                String winnerCountStr = columns[10].trim();
-                                // "15명" 형식에서 "명" 제거
-                                winnerCountStr = winnerCountStr.replaceAll("[^0-9]", "");
-                                if (!winnerCountStr.isEmpty()) {
-                                    winnerCount = Integer.parseInt(winnerCountStr);
-                                }
-                            } catch (NumberFormatException e) {
-                                log.debug("라인 {}: 당첨인원 파싱 실패 (무시): {}", lineNumber, columns[10].trim());
-                            }
-                        }
-                        
-                        if (columns.length >= 12 && !columns[11].trim().isEmpty()) {
-                            try {
-                                prizePerPerson = Double.parseDouble(columns[11].trim());
-                            } catch (NumberFormatException e) {
-                                log.debug("라인 {}: 인당당첨금 파싱 실패 (무시): {}", lineNumber, columns[11].trim());
-                            }
-                        }
-                        
-                        // 번호 정렬
-                        int[] numbers = {n1, n2, n3, n4, n5, n6};
-                        Arrays.sort(numbers);
-                        
-                        // 이미 존재하는 회차 확인 (회차 번호가 Primary Key이므로 중복 체크)
-                        Optional<DrawEntity> existingOpt = drawRepository.findByDrawNo(drawNo);
-                        if (existingOpt.isPresent()) {
-                            skippedCount++;
-                            log.debug("회차 {}는 이미 존재함, 건너뜀", drawNo);
-                            continue;
-                        }
-                        
-                        // 엔티티 생성 및 저장 (회차 번호를 key로 사용하므로 순서와 무관)
-                        DrawEntity drawEntity = DrawEntity.builder()
-                                .drawNo(drawNo)
-                                .drawDate(drawDate)
-                                .n1(numbers[0])
-                                .n2(numbers[1])
-                                .n3(numbers[2])
-                                .n4(numbers[3])
-                                .n5(numbers[4])
-                                .n6(numbers[5])
-                                .bonus(bonus)
-                                .totalPrize(totalPrize)
-                                .winnerCount(winnerCount)
-                                .prizePerPerson(prizePerPerson)
-                                .build();
-                        
-                        drawRepository.save(drawEntity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 파싱 실패 - %s", lineNumber, e.getMessage()));
-                        log.warn("CSV 라인 {} 파싱 실패: {}", lineNumber, e.getMessage());
-                    }
-                }
-            }
+            // 2. 대량 업로드 (병렬 검증 + COPY + 단일 병합, 완료 후 메트릭 재계산 한 번)
+            DrawCsvBulkLoader.BulkImportResult importResult = 
+                    drawCsvBulkLoader.load(file.getInputStream(), includeHeader, delimiter);
             
-            // 3. 캐시 초기화
-            drawRefreshService.clearCache();
+            int savedCount = importResult.savedCount();
+            int skippedCount = importResult.skippedCount();
+            int errorCount = importResult.errors().size();
+            List<String> errors = importResult.errors().stream()
+                    .map(error -> String.format("라인 %d: %s", error.line(), error.message()))
+                    .collect(Collectors.toList());
             
             String message = String.format("CSV 업로드 완료: 저장 %d개, 건너뜀 %d개, 오류 %d개", 
                     savedCount, skippedCount, errorCount);
@@ -894,6 +755,7 @@ public class AdminController {
             result.put("skippedCount", skippedCount);
             result.put("errorCount", errorCount);
             result.put("errors", errors);
+            result.put("errorReport", importResult.errors());
             
             log.info("관리자 요청: CSV 업로드 완료 - 저장: {}개, 건너뜀: {}개, 오류: {}개", 
                     savedCount, skippedCount, errorCount);
@@ -911,6 +773,231 @@ public class AdminController {
         }
     }
     
+    /**
+     * 바이너리 아카이브 다운로드
+     * 
+     * GET /api/v1/admin/export-archive
+     * 
+     * DB에 저장된 모든 추첨 데이터를 LGDA 바이너리 아카이브로 다운로드합니다.
+     * 고정 길이 레코드 + CRC32 체크섬 형식이며, 번들 아카이브(archive/lotto_draws.lgda) 갱신에도 사용합니다.
+     * 
+     * @return 아카이브 파일 다운로드
+     */
+    @GetMapping("/export-archive")
+    public ResponseEntity<StreamingResponseBody> exportArchive() {
+        log.info("관리자 요청: 아카이브 다운로드 시작");
+        
+        // DB 커서에서 응답 스트림으로 바로 기록 (전체 아카이브를 메모리에 만들지 않음)
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, 16 * 1024);
+            long bytes = drawArchiveService.exportArchive(out);
+            out.flush();
+            log.info("관리자 요청: 아카이브 다운로드 완료 - {} bytes", bytes);
+        };
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(DrawArchive.CONTENT_TYPE));
+        headers.setContentDispositionFormData("attachment", 
+                String.format("lotto_draws_%s%s", 
+                        LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")), DrawArchive.FILE_EXTENSION));
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+    
+    /**
+     * 바이너리 아카이브 업로드
+     * 
+     * POST /api/v1/admin/import-archive
+     * 
+     * LGDA 아카이브를 업로드하여 DB에 저장합니다.
+     * 체크섬이 맞지 않으면 전체를 거부하며, 이미 존재하는 회차는 건너뜁니다.
+     * 
+     * @param file 아카이브 파일 (.lgda)
+     * @return 업로드 결과
+     */
+    @PostMapping("/import-archive")
+    public ResponseEntity<Map<String, Object>> importArchive(@RequestParam("file") MultipartFile file) {
+        Map<String, Object> result = new HashMap<>();
+        
+        try {
+            log.info("관리자 요청: 아카이브 업로드 시작 - 파일명: {}, 크기: {} bytes", 
+                    file.getOriginalFilename(), file.getSize());
+            
+            if (file.isEmpty()) {
+                result.put("success", false);
+                result.put("message", "파일이 비어있습니다.");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+            }
+            
+            DrawArchive archive;
+            try {
+                archive = DrawArchive.wrap(file.getBytes());
+            } catch (IllegalArgumentException e) {
+                result.put("success", false);
+                result.put("message", "아카이브 형식 오류: " + e.getMessage());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+            }
+            
+            DrawArchiveService.ImportResult importResult = drawArchiveService.importArchive(archive);
+            
+            String message = String.format("아카이브 업로드 완료: 저장 %d개, 건너뜀 %d개", 
+                    importResult.savedCount(), importResult.skippedCount());
+            
+            result.put("success", true);
+            result.put("message", message);
+            result.put("savedCount", importResult.savedCount());
+            result.put("skippedCount", importResult.skippedCount());
+            result.put("minDrawNo", importResult.minDrawNo());
+            result.put("maxDrawNo", importResult.maxDrawNo());
+            
+            log.info("관리자 요청: {}", message);
+            
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            log.error("관리자 요청: 아카이브 업로드 실패", e);
+            
+            result.put("success", false);
+            result.put("message", "아카이브 업로드 실패: " + e.getMessage());
+            result.put("error", e.getClass().getSimpleName());
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        }
+    }
+    
+
+    /**
+     * JFR 녹화 시작
+     * 
+     * POST /api/v1/admin/jfr/record
+     * 
+     * 지정한 시간 동안 JDK Flight Recorder 녹화를 시작하고 바로 반환합니다 (202).
+     * 녹화가 끝나면 GET /api/v1/admin/jfr/record/download로 .jfr 파일을 내려받습니다.
+     * 동시에 하나의 녹화만 가능하며, 번호 생성/캐시 재구성/메트릭 재계산/수집/멘트 선택 이벤트(lottoguide.*)가 함께 기록됩니다.
+     * app.jfr.enabled가 켜져 있고 관리자 토큰(X-Admin-Token)을 보낸 요청만 허용합니다.
+     * 
+     * @param seconds 녹화 시간 (초, 기본값: 60, 최대 app.jfr.max-duration-seconds)
+     * @param settings JDK 설정 프로파일 (default: 오버헤드 1% 미만, profile: 더 촘촘한 샘플링)
+     * @return 녹화 상태
+     */
+    @PostMapping("/jfr/record")
+    public ResponseEntity<Map<String, Object>> startFlightRecording(
+            @RequestParam(value = "seconds", defaultValue = "60") long seconds,
+            @RequestParam(value = "settings", defaultValue = "default") String settings) {
+        Map<String, Object> result = new HashMap<>();
+        if (!flightRecordingService.isEnabled()) {
+            result.put("success", false);
+            result.put("message", "JFR 녹화가 비활성화되어 있습니다. (app.jfr.enabled)");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        
+        try {
+            log.info("관리자 요청: JFR 녹화 시작 - {}초, 설정: {}", seconds, settings);
+            
+            result.put("success", true);
+            result.put("recording", flightRecordingService.start(seconds, settings));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+            
+        } catch (IllegalArgumentException e) {
+            result.put("success", false);
+            result.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+            
+        } catch (IllegalStateException e) {
+            result.put("success", false);
+            result.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+            
+        } catch (Exception e) {
+            log.error("관리자 요청: JFR 녹화 시작 실패", e);
+            
+            result.put("success", false);
+            result.put("message", "JFR 녹화 시작 실패: " + e.getMessage());
+            result.put("error", e.getClass().getSimpleName());
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        }
+    }
+    
+    /**
+     * JFR 녹화 상태 조회
+     * 
+     * GET /api/v1/admin/jfr/record
+     * 
+     * @return 현재(또는 내려받지 않은 마지막) 녹화 상태 (RUNNING / COMPLETED)
+     */
+    @GetMapping("/jfr/record")
+    public ResponseEntity<Map<String, Object>> getFlightRecordingStatus() {
+        Map<String, Object> result = new HashMap<>();
+        if (!flightRecordingService.isEnabled()) {
+            result.put("success", false);
+            result.put("message", "JFR 녹화가 비활성화되어 있습니다. (app.jfr.enabled)");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        
+        result.put("success", true);
+        result.put("recording", flightRecordingService.status().orElse(null));
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * JFR 녹화 파일 다운로드
+     * 
+     * GET /api/v1/admin/jfr/record/download
+     * 
+     * 완료된 녹화를 .jfr 파일로 내려받습니다 (한 번만 가능, 전송 후 서버에서 삭제).
+     * JDK Mission Control 또는 jfr print로 열어볼 수 있습니다.
+     * 
+     * @return .jfr 파일 다운로드 (녹화 중이거나 녹화가 없으면 409)
+     */
+    @GetMapping("/jfr/record/download")
+    public ResponseEntity<?> downloadFlightRecording() {
+        Map<String, Object> result = new HashMap<>();
+        if (!flightRecordingService.isEnabled()) {
+            result.put("success", false);
+            result.put("message", "JFR 녹화가 비활성화되어 있습니다. (app.jfr.enabled)");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        
+        try {
+            Path file = flightRecordingService.takeCompleted();
+            long size = Files.size(file);
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            headers.setContentDispositionFormData("attachment",
+                    String.format("lotto_guide_%s.jfr",
+                            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))));
+            headers.setContentLength(size);
+            
+            StreamingResponseBody body = out -> {
+                try {
+                    Files.copy(file, out);
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            };
+            
+            log.info("관리자 요청: JFR 녹화 다운로드 - {} bytes", size);
+            return ResponseEntity.ok().headers(headers).body(body);
+            
+        } catch (IllegalStateException e) {
+            result.put("success", false);
+            result.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+            
+        } catch (Exception e) {
+            log.error("관리자 요청: JFR 녹화 다운로드 실패", e);
+            
+            result.put("success", false);
+            result.put("message", "JFR 녹화 다운로드 실패: " + e.getMessage());
+            result.put("error", e.getClass().getSimpleName());
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        }
+    }
     /**
      * 범위 수집 (제안된 방법 테스트용)
      * 
@@ -1248,6 +1335,7 @@ public class AdminController {
             entity = builder.build();
             
             strategyDescriptionRepository.save(entity);
+            publicResponseCache.invalidate(PublicResponseCache.STRATEGY_DESCRIPTIONS);
             
             result.put("success", true);
             result.put("message", String.format("전략 설명 %s 수정 완료", strategyCode));
@@ -1285,17 +1373,6 @@ public class AdminController {
         private Double prizePerPerson;   // 인당당첨금 (억 단위, 선택적)
     }
     
-    /**
-     * CSV 값 이스케이프 (쉼표, 따옴표, 줄바꿈 포함 시)
-     */
-    private String escapeCsvValue(String value) {
-        if (value == null) return "";
-        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
-        }
-        return value;
-    }
-    
     /**
      * 전략 설명 CSV 다운로드
      * 
@@ -1309,82 +1386,40 @@ public class AdminController {
      * 
      * 배열 필드(features, algorithm, scenarios, notes)는 파이프(|)로 구분됩니다.
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/strategy-descriptions/export-csv")
-    public ResponseEntity<byte[]> exportStrategyDescriptionsCsv() {
-        try {
-            log.info("관리자 요청: 전략 설명 CSV 다운로드 시작");
-            
-            List<StrategyDescriptionEntity> entities = strategyDescriptionRepository.findAll();
-            
-            log.info("CSV 다운로드: 총 {}개 전략 설명", entities.size());
-            
-            // CSV 생성
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            // BOM 추가 (Excel에서 UTF-8 인식)
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            // 헤더 작성
-            writer.println("strategyCode,title,shortDescription,description,features,algorithm,scenarios,notes,contentHash");
-            
-            // 데이터 작성
-            for (StrategyDescriptionEntity entity : entities) {
-                try {
-                    // JSON 배열을 파이프(|)로 구분된 문자열로 변환
-                    List<String> features = objectMapper.readValue(entity.getFeatures(), new TypeReference<List<String>>() {});
-                    List<String> algorithm = objectMapper.readValue(entity.getAlgorithm(), new TypeReference<List<String>>() {});
-                    List<String> scenarios = objectMapper.readValue(entity.getScenarios(), new TypeReference<List<String>>() {});
+    public ResponseEntity<StreamingResponseBody> exportStrategyDescriptionsCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: 전략 설명 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        TypeReference<List<String>> listType = new TypeReference<>() {};
+        return csvStreamingExporter.export("strategy_descriptions",
+                "strategyCode,title,shortDescription,description,features,algorithm,scenarios,notes,contentHash",
+                strategyDescriptionRepository::streamAllByOrderByStrategyCodeAsc,
+                (entity, row) -> {
+                    // JSON 배열을 파이프(|)로 구분된 문자열로 변환 (변환 실패 시 해당 행 건너뜀)
+                    List<String> features = objectMapper.readValue(entity.getFeatures(), listType);
+                    List<String> algorithm = objectMapper.readValue(entity.getAlgorithm(), listType);
+                    List<String> scenarios = objectMapper.readValue(entity.getScenarios(), listType);
                     List<String> notes = entity.getNotes() != null && !entity.getNotes().isEmpty() 
-                        ? objectMapper.readValue(entity.getNotes(), new TypeReference<List<String>>() {})
-                        : new ArrayList<>();
-                    
-                    String featuresStr = String.join("|", features);
-                    String algorithmStr = String.join("|", algorithm);
-                    String scenariosStr = String.join("|", scenarios);
-                    String notesStr = notes.isEmpty() ? "" : String.join("|", notes);
+                        ? objectMapper.readValue(entity.getNotes(), listType)
+                        : List.of();
                     
-                    String contentHashStr = entity.getContentHash() != null ? entity.getContentHash() : "";
-                    writer.printf("%s,%s,%s,%s,%s,%s,%s,%s,%s%n",
-                        escapeCsvValue(entity.getStrategyCode()),
-                        escapeCsvValue(entity.getTitle()),
-                        escapeCsvValue(entity.getShortDescription()),
-                        escapeCsvValue(entity.getDescription()),
-                        escapeCsvValue(featuresStr),
-                        escapeCsvValue(algorithmStr),
-                        escapeCsvValue(scenariosStr),
-                        escapeCsvValue(notesStr),
-                        escapeCsvValue(contentHashStr));
-                } catch (Exception e) {
-                    log.error("전략 설명 CSV 변환 실패: {}", entity.getStrategyCode(), e);
-                }
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            // 응답 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("strategy_descriptions_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: 전략 설명 CSV 다운로드 완료 - {}개 전략, {} bytes", entities.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: 전략 설명 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+                    row.add(entity.getStrategyCode())
+                        .add(entity.getTitle())
+                        .add(entity.getShortDescription())
+                        .add(entity.getDescription())
+                        .add(String.join("|", features))
+                        .add(String.join("|", algorithm))
+                        .add(String.join("|", scenarios))
+                        .add(String.join("|", notes))
+                        .add(entity.getContentHash());
+                },
+                gzip);
     }
     
     /**
@@ -1565,6 +1600,10 @@ public class AdminController {
                 }
             }
             
+            if (savedCount + updatedCount > 0) {
+                publicResponseCache.invalidate(PublicResponseCache.STRATEGY_DESCRIPTIONS);
+            }
+            
             String message = String.format("CSV 업로드 완료: 신규 %d개, 업데이트 %d개, 스킵 %d개, 오류 %d개", 
                     savedCount, updatedCount, skippedCount, errorCount);
             
@@ -1770,68 +1809,30 @@ public class AdminController {
      * id,message,orderIndex
      * 1,"별들의 계시가 모두 전달되었습니다. 내일 다시 당신의 운명을 확인하세요.",1
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/destiny-limit-messages/export-csv")
-    public ResponseEntity<byte[]> exportDestinyLimitMessagesCsv() {
-        try {
-            log.info("관리자 요청: 경고 메시지 CSV 다운로드 시작");
-            
-            List<DestinyLimitMessageEntity> messages = destinyLimitMessageRepository.findAllByOrderByOrderIndexAsc();
-            
-            log.info("CSV 다운로드: DB에서 조회된 경고 메시지 개수 = {}", messages.size());
-            
-            // CSV 생성
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            // BOM 추가
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            // 헤더 작성
-            writer.println("id,message,orderIndex");
-            
-            // 데이터 작성
-            int dataRowCount = 0;
-            for (DestinyLimitMessageEntity msg : messages) {
-                if (msg == null) {
-                    log.warn("CSV 다운로드: null 메시지 엔티티 발견, 건너뜀");
-                    continue;
-                }
-                String message = msg.getMessage();
-                if (message == null || message.trim().isEmpty()) {
-                    log.warn("CSV 다운로드: 메시지가 null이거나 비어있음 (id={}), 건너뜀", msg.getId());
-                    continue;
-                }
-                String escapedMessage = escapeCsvValue(message);
-                writer.printf("%d,%s,%d%n", msg.getId(), escapedMessage, msg.getOrderIndex());
-                dataRowCount++;
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            // 응답 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("destiny_limit_messages_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: 경고 메시지 CSV 다운로드 완료 - DB 조회: {}개, 실제 CSV 행: {}개, 파일 크기: {} bytes", 
-                    messages.size(), dataRowCount, csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: 경고 메시지 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportDestinyLimitMessagesCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: 경고 메시지 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        return csvStreamingExporter.export("destiny_limit_messages",
+                "id,message,orderIndex",
+                destinyLimitMessageRepository::streamAllByOrderByOrderIndexAsc,
+                (msg, row) -> {
+                    String message = msg.getMessage();
+                    if (message == null || message.trim().isEmpty()) {
+                        log.warn("CSV 다운로드: 메시지가 null이거나 비어있음 (id={}), 건너뜀", msg.getId());
+                        return;
+                    }
+                    row.add(msg.getId())
+                        .add(message)
+                        .add(msg.getOrderIndex());
+                },
+                gzip);
     }
     
     /**
@@ -1845,20 +1846,38 @@ public class AdminController {
      * 
      * 주의:
      * - id가 있으면 업데이트, 없으면 신규 생성
-     * - 기존 데이터는 모두 삭제 후 업로드된 데이터로 교체 (전체 교체 모드)
+     * - 업로드 결과는 전체 교체와 같지만, 내용이 바뀐 행만 추가/수정/삭제함 (CSV에 없는 기존 행은 삭제)
      * 
      * @param file CSV 파일
      * @return 업로드 결과
      */
     @PostMapping("/destiny-limit-messages/import-csv")
-    @Transactional
     public ResponseEntity<Map<String, Object>> importDestinyLimitMessagesCsv(
             @RequestParam("file") MultipartFile file) {
+        return importContentCsv(file, CsvImportDescriptors.DESTINY_LIMIT_MESSAGE, "경고 메시지", () -> {});
+    }
+    
+    /**
+     * 미션 콘텐츠 CSV 업로드 공통 처리
+     * 
+     * 파일 검증 후 변경분만 반영하고 (기존 행과 내용 해시 비교 후 추가/수정/삭제 배치 실행),
+     * 변경이 있을 때만 onChanged(선택 인덱스 재구성 등)를 실행합니다.
+     * 
+     * @param file CSV 파일
+     * @param descriptor 테이블 정의
+     * @param label 로그/응답 메시지에 쓰는 콘텐츠 이름 (예: "A 멘트")
+     * @param onChanged 변경이 있을 때 실행할 후처리
+     * @return 업로드 결과
+     */
+    private ResponseEntity<Map<String, Object>> importContentCsv(MultipartFile file,
+                                                                 CsvImportDescriptor descriptor,
+                                                                 String label,
+                                                                 Runnable onChanged) {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            log.info("관리자 요청: 경고 메시지 CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
-                    file.getOriginalFilename(), file.getSize());
+            log.info("관리자 요청: {} CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
+                    label, file.getOriginalFilename(), file.getSize());
             
             // 1. 파일 검증
             if (file.isEmpty()) {
@@ -1867,119 +1886,42 @@ public class AdminController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
             }
             
-            if (!file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
+            if (file.getOriginalFilename() == null || !file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
                 result.put("success", false);
                 result.put("message", "CSV 파일만 업로드 가능합니다.");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
             }
             
-            // 2. 기존 데이터 모두 삭제 (전체 교체 모드)
-            destinyLimitMessageRepository.deleteAll();
-            
-            // 3. CSV 파싱 및 저장
-            int savedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            List<DestinyLimitMessageEntity> entitiesToSave = new ArrayList<>();
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    // BOM 제거
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    // 빈 줄 건너뛰기
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    // 헤더 건너뛰기
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (line.toLowerCase().contains("id") && line.toLowerCase().contains("message")) {
-                            continue;
-                        }
-                    }
-                    
-                    // CSV 파싱
-                    List<String> columns = parseCsvLine(line, ",");
-                    if (columns.size() < 2) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 2개 필요, 실제: %d개)", lineNumber, columns.size()));
-                        continue;
-                    }
-                    
-                    try {
-                        String message = columns.get(1).trim();
-                        if (message.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: 메시지가 비어있습니다", lineNumber));
-                            continue;
-                        }
-                        
-                        int orderIndex = columns.size() >= 3 && !columns.get(2).trim().isEmpty() 
-                                ? Integer.parseInt(columns.get(2).trim()) 
-                                : savedCount + 1;
-                        
-                        // a/b 문구 분리 시도 (예: "별들의 계시가 모두 전달되었습니다. 내일 다시 당신의 운명을 확인하세요.")
-                        String messagePartA = null;
-                        String messagePartB = null;
-                        String[] parts = message.split("[.。]\\s+", 2);
-                        if (parts.length >= 2) {
-                            messagePartA = parts[0].trim();
-                            messagePartB = parts[1].trim();
-                        } else if (parts.length == 1) {
-                            // 마침표가 없는 경우 전체를 a 문구로
-                            messagePartA = parts[0].trim();
-                        }
-                        
-                        DestinyLimitMessageEntity entity = DestinyLimitMessageEntity.builder()
-                                .message(message)
-                                .messagePartA(messagePartA)
-                                .messagePartB(messagePartB)
-                                .orderIndex(orderIndex)
-                                .build();
-                        
-                        entitiesToSave.add(entity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
-                    }
-                }
-            }
+            // 2. 변경분만 반영
+            CsvContentImporter.ImportResult importResult = csvContentImporter.importCsv(descriptor, file.getInputStream());
             
-            // 4. 모든 엔티티 저장
-            for (DestinyLimitMessageEntity entity : entitiesToSave) {
-                destinyLimitMessageRepository.save(entity);
+            // 3. 후처리 (변경이 있을 때만)
+            if (importResult.hasChanges()) {
+                onChanged.run();
             }
-            
-            // 일련번호는 API 응답에서 DB 내용을 기반으로 자동 계산되므로 여기서는 저장만 수행
+            int savedCount = importResult.savedCount();
+            int errorCount = importResult.errors().size();
             
             result.put("success", true);
-            result.put("message", String.format("경고 메시지 %d개 저장 완료", savedCount));
+            result.put("message", String.format("%s %d개 저장 완료 (추가 %d, 수정 %d, 삭제 %d, 변경 없음 %d)",
+                    label, savedCount, importResult.insertedCount(), importResult.updatedCount(),
+                    importResult.deletedCount(), importResult.unchangedCount()));
             result.put("savedCount", savedCount);
+            result.put("insertedCount", importResult.insertedCount());
+            result.put("updatedCount", importResult.updatedCount());
+            result.put("deletedCount", importResult.deletedCount());
+            result.put("unchangedCount", importResult.unchangedCount());
             result.put("errorCount", errorCount);
-            if (!errors.isEmpty()) {
-                result.put("errors", errors);
+            if (errorCount > 0) {
+                result.put("errors", importResult.errors());
             }
             
-            log.info("관리자 요청: 경고 메시지 CSV 업로드 완료 - 저장: {}개, 오류: {}개", savedCount, errorCount);
+            log.info("관리자 요청: {} CSV 업로드 완료 - 저장: {}개, 오류: {}개", label, savedCount, errorCount);
             
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            log.error("관리자 요청: 경고 메시지 CSV 업로드 실패", e);
+            log.error("관리자 요청: {} CSV 업로드 실패", label, e);
             
             result.put("success", false);
             result.put("message", "CSV 업로드 실패: " + e.getMessage());
@@ -2220,63 +2162,29 @@ public class AdminController {
      * CSV 형식:
      * id,category,theme,tone,placeHint,timeHint,text,weight
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/mission-templates/export-csv")
-    public ResponseEntity<byte[]> exportMissionTemplatesCsv() {
-        try {
-            log.info("관리자 요청: 미션 템플릿 CSV 다운로드 시작");
-            
-            List<MissionTemplateEntity> templates = missionTemplateRepository.findAll();
-            
-            log.info("CSV 다운로드: 총 {}개 미션 템플릿", templates.size());
-            
-            // CSV 생성
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            // BOM 추가 (Excel에서 UTF-8 인식)
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            // 헤더 작성
-            writer.println("id,category,theme,tone,placeHint,timeHint,text,weight");
-            
-            // 데이터 작성
-            for (MissionTemplateEntity template : templates) {
-                writer.printf("%d,%s,%s,%s,%s,%s,%s,%d%n",
-                    template.getId() != null ? template.getId() : "",
-                    escapeCsvValue(template.getCategory()),
-                    escapeCsvValue(template.getTheme()),
-                    escapeCsvValue(template.getTone()),
-                    template.getPlaceHint() != null ? escapeCsvValue(template.getPlaceHint()) : "",
-                    template.getTimeHint() != null ? escapeCsvValue(template.getTimeHint()) : "",
-                    escapeCsvValue(template.getText()),
-                    template.getWeight() != null ? template.getWeight() : 1);
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            // 응답 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("mission_templates_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: 미션 템플릿 CSV 다운로드 완료 - {}개 템플릿, {} bytes", templates.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: 미션 템플릿 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportMissionTemplatesCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: 미션 템플릿 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        return csvStreamingExporter.export("mission_templates",
+                "id,category,theme,tone,placeHint,timeHint,text,weight",
+                missionTemplateRepository::streamAllByOrderByIdAsc,
+                (template, row) -> row
+                        .add(template.getId())
+                        .add(template.getCategory())
+                        .add(template.getTheme())
+                        .add(template.getTone())
+                        .add(template.getPlaceHint())
+                        .add(template.getTimeHint())
+                        .add(template.getText())
+                        .add(template.getWeight() != null ? template.getWeight() : 1),
+                gzip);
     }
     
     /**
@@ -2289,143 +2197,15 @@ public class AdminController {
      * 
      * 주의:
      * - id가 있으면 업데이트, 없으면 신규 생성
-     * - 기존 데이터는 모두 삭제 후 업로드된 데이터로 교체 (전체 교체 모드)
+     * - 업로드 결과는 전체 교체와 같지만, 내용이 바뀐 행만 추가/수정/삭제함 (CSV에 없는 기존 행은 삭제)
      * 
      * @param file CSV 파일
      * @return 업로드 결과
      */
     @PostMapping("/mission-templates/import-csv")
-    @Transactional
     public ResponseEntity<Map<String, Object>> importMissionTemplatesCsv(
             @RequestParam("file") MultipartFile file) {
-        Map<String, Object> result = new HashMap<>();
-        
-        try {
-            log.info("관리자 요청: 미션 템플릿 CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
-                    file.getOriginalFilename(), file.getSize());
-            
-            // 1. 파일 검증
-            if (file.isEmpty()) {
-                result.put("success", false);
-                result.put("message", "파일이 비어있습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            if (!file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
-                result.put("success", false);
-                result.put("message", "CSV 파일만 업로드 가능합니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            // 2. 기존 데이터 모두 삭제 (전체 교체 모드)
-            missionTemplateRepository.deleteAll();
-            
-            // 3. CSV 파싱 및 저장
-            int savedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            List<MissionTemplateEntity> entitiesToSave = new ArrayList<>();
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    // BOM 제거
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    // 빈 줄 건너뛰기
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    // 헤더 건너뛰기
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (line.toLowerCase().contains("id") && line.toLowerCase().contains("category")) {
-                            continue;
-                        }
-                    }
-                    
-                    // CSV 파싱
-                    List<String> columns = parseCsvLine(line, ",");
-                    if (columns.size() < 4) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 4개 필요, 실제: %d개)", lineNumber, columns.size()));
-                        continue;
-                    }
-                    
-                    try {
-                        String category = columns.size() > 1 ? columns.get(1).trim() : "";
-                        String theme = columns.size() > 2 ? columns.get(2).trim() : "";
-                        String tone = columns.size() > 3 ? columns.get(3).trim() : "";
-                        String placeHint = columns.size() > 4 && !columns.get(4).trim().isEmpty() ? columns.get(4).trim() : null;
-                        String timeHint = columns.size() > 5 && !columns.get(5).trim().isEmpty() ? columns.get(5).trim() : null;
-                        String text = columns.size() > 6 ? columns.get(6).trim() : "";
-                        Integer weight = columns.size() > 7 && !columns.get(7).trim().isEmpty() 
-                                ? Integer.parseInt(columns.get(7).trim()) 
-                                : 1;
-                        
-                        // 필수 필드 검증
-                        if (category.isEmpty() || theme.isEmpty() || tone.isEmpty() || text.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: 필수 필드가 비어있습니다", lineNumber));
-                            continue;
-                        }
-                        
-                        MissionTemplateEntity entity = MissionTemplateEntity.builder()
-                                .category(category)
-                                .theme(theme)
-                                .tone(tone)
-                                .placeHint(placeHint)
-                                .timeHint(timeHint)
-                                .text(text)
-                                .weight(weight)
-                                .build();
-                        
-                        entitiesToSave.add(entity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
-                    }
-                }
-            }
-            
-            // 4. 모든 엔티티 저장
-            for (MissionTemplateEntity entity : entitiesToSave) {
-                missionTemplateRepository.save(entity);
-            }
-            
-            result.put("success", true);
-            result.put("message", String.format("미션 템플릿 %d개 저장 완료", savedCount));
-            result.put("savedCount", savedCount);
-            result.put("errorCount", errorCount);
-            if (!errors.isEmpty()) {
-                result.put("errors", errors);
-            }
-            
-            log.info("관리자 요청: 미션 템플릿 CSV 업로드 완료 - 저장: {}개, 오류: {}개", savedCount, errorCount);
-            
-            return ResponseEntity.ok(result);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: 미션 템플릿 CSV 업로드 실패", e);
-            
-            result.put("success", false);
-            result.put("message", "CSV 업로드 실패: " + e.getMessage());
-            result.put("error", e.getClass().getSimpleName());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
-        }
+        return importContentCsv(file, CsvImportDescriptors.MISSION_TEMPLATE, "미션 템플릿", missionTemplateIndex::reload);
     }
     
     /**
@@ -2595,6 +2375,7 @@ public class AdminController {
             }
             
             systemOptionRepository.save(entity);
+            publicResponseCache.invalidate(PublicResponseCache.SYSTEM_OPTIONS);
             
             result.put("success", true);
             result.put("message", String.format("시스템 옵션 %s 수정 완료", key));
@@ -2616,61 +2397,43 @@ public class AdminController {
         }
     }
     
-    // ==================== A/B/C 멘트 관리 API ====================
+    // ==================== 금지 표현 사전 관리 API ====================
     
     /**
-     * A 멘트 목록 조회
+     * 금지 표현 목록 조회
      * 
-     * GET /api/v1/admin/mission-phrase-a
+     * GET /api/v1/admin/forbidden-phrases
      * 
-     * @param page 페이지 번호 (기본값: 0)
-     * @param size 페이지 크기 (기본값: 100)
-     * @return A 멘트 목록
+     * @return 금지 표현 목록
      */
-    @GetMapping("/mission-phrase-a")
-    public ResponseEntity<Map<String, Object>> getMissionPhraseA(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "100") int size) {
+    @GetMapping("/forbidden-phrases")
+    public ResponseEntity<Map<String, Object>> getForbiddenPhrases() {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            log.info("관리자 요청: A 멘트 목록 조회 - page={}, size={}", page, size);
-            
-            List<MissionPhraseAEntity> allPhrases = missionPhraseARepository.findAll();
-            
-            int total = allPhrases.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
-            List<MissionPhraseAEntity> pagedPhrases = start < total ? allPhrases.subList(start, end) : new ArrayList<>();
+            log.info("관리자 요청: 금지 표현 목록 조회");
             
-            List<Map<String, Object>> phraseList = pagedPhrases.stream().map(phrase -> {
-                Map<String, Object> phraseData = new HashMap<>();
-                phraseData.put("id", phrase.getId());
-                phraseData.put("text", phrase.getText());
-                phraseData.put("strategyTags", phrase.getStrategyTags());
-                phraseData.put("comboTags", phrase.getComboTags());
-                phraseData.put("zodiacTags", phrase.getZodiacTags());
-                phraseData.put("toneTags", phrase.getToneTags());
-                phraseData.put("weightBase", phrase.getWeightBase());
-                phraseData.put("createdAt", phrase.getCreatedAt() != null ? phrase.getCreatedAt().toString() : null);
-                phraseData.put("updatedAt", phrase.getUpdatedAt() != null ? phrase.getUpdatedAt().toString() : null);
-                return phraseData;
-            }).collect(Collectors.toList());
+            List<Map<String, Object>> data = new ArrayList<>();
+            for (ForbiddenPhraseEntity entity : forbiddenPhraseRepository.findAllByOrderByIdAsc()) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("id", entity.getId());
+                item.put("phrase", entity.getPhrase());
+                item.put("createdAt", entity.getCreatedAt());
+                data.add(item);
+            }
             
             result.put("success", true);
-            result.put("data", phraseList);
-            result.put("total", total);
-            result.put("page", page);
-            result.put("size", size);
-            result.put("totalPages", (total + size - 1) / size);
+            result.put("data", data);
+            result.put("count", data.size());
+            result.put("activeCount", forbiddenPhraseDetector.getForbiddenPhrases().size());
             
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            log.error("관리자 요청: A 멘트 목록 조회 실패", e);
+            log.error("관리자 요청: 금지 표현 목록 조회 실패", e);
             
             result.put("success", false);
-            result.put("message", "A 멘트 목록 조회 실패: " + e.getMessage());
+            result.put("message", "금지 표현 목록 조회 실패: " + e.getMessage());
             result.put("error", e.getClass().getSimpleName());
             
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
@@ -2678,213 +2441,222 @@ public class AdminController {
     }
     
     /**
-     * A 멘트 CSV 다운로드
+     * 금지 표현 추가 (여러 개 가능, 이미 있는 표현은 건너뜀)
      * 
-     * GET /api/v1/admin/mission-phrase-a/export-csv
-     * 
-     * CSV 형식: id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base
+     * POST /api/v1/admin/forbidden-phrases
      * 
-     * @return CSV 파일 다운로드
+     * @param request { "phrases": ["표현1", "표현2", ...] }
+     * @return 추가 결과
      */
-    @GetMapping("/mission-phrase-a/export-csv")
-    public ResponseEntity<byte[]> exportMissionPhraseACsv() {
+    @PostMapping("/forbidden-phrases")
+    public ResponseEntity<Map<String, Object>> addForbiddenPhrases(@RequestBody Map<String, Object> request) {
+        Map<String, Object> result = new HashMap<>();
+        
         try {
-            log.info("관리자 요청: A 멘트 CSV 다운로드 시작");
-            
-            List<MissionPhraseAEntity> phrases = missionPhraseARepository.findAll();
-            
-            log.info("CSV 다운로드: 총 {}개 A 멘트", phrases.size());
+            if (!(request.get("phrases") instanceof List<?> requested) || requested.isEmpty()) {
+                result.put("success", false);
+                result.put("message", "추가할 표현 목록(phrases)은 필수입니다.");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+            }
             
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
+            log.info("관리자 요청: 금지 표현 추가 - {}개", requested.size());
             
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
+            Set<String> phrases = new LinkedHashSet<>();
+            for (Object value : requested) {
+                if (value != null && !value.toString().isBlank()) {
+                    phrases.add(value.toString().trim());
+                }
+            }
             
-            writer.println("id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base");
+            List<ForbiddenPhraseEntity> toSave = new ArrayList<>();
+            for (String phrase : phrases) {
+                if (phrase.length() > 200) {
+                    result.put("success", false);
+                    result.put("message", "표현은 200자 이하여야 합니다: " + phrase.substring(0, 20) + "...");
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+                }
+                if (!forbiddenPhraseRepository.existsByPhrase(phrase)) {
+                    toSave.add(ForbiddenPhraseEntity.builder().phrase(phrase).build());
+                }
+            }
+            forbiddenPhraseRepository.saveAll(toSave);
             
-            for (MissionPhraseAEntity phrase : phrases) {
-                writer.printf("%d,%s,%s,%s,%s,%s,%d%n",
-                    phrase.getId() != null ? phrase.getId() : "",
-                    escapeCsvValue(phrase.getText()),
-                    escapeCsvValue(phrase.getStrategyTags() != null ? phrase.getStrategyTags() : ""),
-                    escapeCsvValue(phrase.getComboTags() != null ? phrase.getComboTags() : ""),
-                    escapeCsvValue(phrase.getZodiacTags() != null ? phrase.getZodiacTags() : ""),
-                    escapeCsvValue(phrase.getToneTags() != null ? phrase.getToneTags() : ""),
-                    phrase.getWeightBase() != null ? phrase.getWeightBase() : 1);
+            // 변경이 있을 때만 오토마톤 재구성
+            if (!toSave.isEmpty()) {
+                forbiddenPhraseDetector.reload();
             }
             
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
+            result.put("success", true);
+            result.put("message", String.format("금지 표현 %d개 추가 완료 (중복 %d개 건너뜀)",
+                    toSave.size(), phrases.size() - toSave.size()));
+            result.put("addedCount", toSave.size());
+            result.put("skippedCount", phrases.size() - toSave.size());
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("mission_phrase_a_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
+            log.info("관리자 요청: 금지 표현 추가 완료 - 추가: {}개", toSave.size());
             
-            log.info("관리자 요청: A 멘트 CSV 다운로드 완료 - {}개, {} bytes", phrases.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
+            return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            log.error("관리자 요청: A 멘트 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            log.error("관리자 요청: 금지 표현 추가 실패", e);
+            
+            result.put("success", false);
+            result.put("message", "금지 표현 추가 실패: " + e.getMessage());
+            result.put("error", e.getClass().getSimpleName());
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
         }
     }
     
     /**
-     * A 멘트 CSV 업로드
-     * 
-     * POST /api/v1/admin/mission-phrase-a/import-csv
+     * 금지 표현 삭제
      * 
-     * CSV 형식: id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base
-     * 
-     * 주의: 전체 교체 모드 (기존 데이터 모두 삭제 후 업로드된 데이터로 교체)
+     * DELETE /api/v1/admin/forbidden-phrases/{id}
      * 
-     * @param file CSV 파일
-     * @return 업로드 결과
+     * @param id 금지 표현 ID
+     * @return 삭제 결과
      */
-    @PostMapping("/mission-phrase-a/import-csv")
-    @Transactional
-    public ResponseEntity<Map<String, Object>> importMissionPhraseACsv(
-            @RequestParam("file") MultipartFile file) {
+    @DeleteMapping("/forbidden-phrases/{id}")
+    public ResponseEntity<Map<String, Object>> deleteForbiddenPhrase(@PathVariable Long id) {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            log.info("관리자 요청: A 멘트 CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
-                    file.getOriginalFilename(), file.getSize());
+            log.info("관리자 요청: 금지 표현 삭제 - id: {}", id);
             
-            if (file.isEmpty()) {
+            if (!forbiddenPhraseRepository.existsById(id)) {
                 result.put("success", false);
-                result.put("message", "파일이 비어있습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+                result.put("message", "금지 표현을 찾을 수 없습니다: " + id);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
             }
             
-            if (!file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
-                result.put("success", false);
-                result.put("message", "CSV 파일만 업로드 가능합니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
+            forbiddenPhraseRepository.deleteById(id);
+            forbiddenPhraseDetector.reload();
             
-            missionPhraseARepository.deleteAll();
+            result.put("success", true);
+            result.put("message", "금지 표현 삭제 완료");
             
-            int savedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            List<MissionPhraseAEntity> entitiesToSave = new ArrayList<>();
+            return ResponseEntity.ok(result);
             
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (line.toLowerCase().contains("id") && line.toLowerCase().contains("text")) {
-                            continue;
-                        }
-                    }
-                    
-                    List<String> columns = parseCsvLine(line, ",");
-                    if (columns.size() < 2) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 2개 필요, 실제: %d개)", lineNumber, columns.size()));
-                        continue;
-                    }
-                    
-                    try {
-                        String text = columns.size() > 1 ? columns.get(1).trim() : "";
-                        String strategyTags = columns.size() > 2 && !columns.get(2).trim().isEmpty() ? columns.get(2).trim() : null;
-                        String comboTags = columns.size() > 3 && !columns.get(3).trim().isEmpty() ? columns.get(3).trim() : null;
-                        String zodiacTags = columns.size() > 4 && !columns.get(4).trim().isEmpty() ? columns.get(4).trim() : null;
-                        String toneTags = columns.size() > 5 && !columns.get(5).trim().isEmpty() ? columns.get(5).trim() : null;
-                        Integer weightBase = 1;
-                        if (columns.size() > 6 && !columns.get(6).trim().isEmpty()) {
-                            String weightStr = columns.get(6).trim();
-                            try {
-                                // 소수점 값도 처리 (예: 0.8 -> 1, 1.0 -> 1)
-                                if (weightStr.contains(".")) {
-                                    double weightDouble = Double.parseDouble(weightStr);
-                                    weightBase = (int) Math.round(weightDouble);
-                                } else {
-                                    weightBase = Integer.parseInt(weightStr);
-                                }
-                            } catch (NumberFormatException e) {
-                                // 파싱 실패 시 기본값 1 사용
-                                weightBase = 1;
-                            }
-                        }
-                        
-                        if (text.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: text는 필수 필드입니다", lineNumber));
-                            continue;
-                        }
-                        
-                        MissionPhraseAEntity entity = MissionPhraseAEntity.builder()
-                                .text(text)
-                                .strategyTags(strategyTags)
-                                .comboTags(comboTags)
-                                .zodiacTags(zodiacTags)
-                                .toneTags(toneTags)
-                                .weightBase(weightBase)
-                                .build();
-                        
-                        entitiesToSave.add(entity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
-                    }
-                }
-            }
+        } catch (Exception e) {
+            log.error("관리자 요청: 금지 표현 삭제 실패", e);
             
-            for (MissionPhraseAEntity entity : entitiesToSave) {
-                missionPhraseARepository.save(entity);
-            }
+            result.put("success", false);
+            result.put("message", "금지 표현 삭제 실패: " + e.getMessage());
+            result.put("error", e.getClass().getSimpleName());
             
-            result.put("success", true);
-            result.put("message", String.format("A 멘트 %d개 저장 완료", savedCount));
-            result.put("savedCount", savedCount);
-            result.put("errorCount", errorCount);
-            if (!errors.isEmpty()) {
-                result.put("errors", errors);
-            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        }
+    }
+    
+    // ==================== A/B/C 멘트 관리 API ====================
+    
+    /**
+     * A 멘트 목록 조회
+     * 
+     * GET /api/v1/admin/mission-phrase-a
+     * 
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 100)
+     * @return A 멘트 목록
+     */
+    @GetMapping("/mission-phrase-a")
+    public ResponseEntity<Map<String, Object>> getMissionPhraseA(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        Map<String, Object> result = new HashMap<>();
+        
+        try {
+            log.info("관리자 요청: A 멘트 목록 조회 - page={}, size={}", page, size);
+            
+            List<MissionPhraseAEntity> allPhrases = missionPhraseARepository.findAll();
             
-            log.info("관리자 요청: A 멘트 CSV 업로드 완료 - 저장: {}개, 오류: {}개", savedCount, errorCount);
+            int total = allPhrases.size();
+            int start = page * size;
+            int end = Math.min(start + size, total);
+            List<MissionPhraseAEntity> pagedPhrases = start < total ? allPhrases.subList(start, end) : new ArrayList<>();
+            
+            List<Map<String, Object>> phraseList = pagedPhrases.stream().map(phrase -> {
+                Map<String, Object> phraseData = new HashMap<>();
+                phraseData.put("id", phrase.getId());
+                phraseData.put("text", phrase.getText());
+                phraseData.put("strategyTags", phrase.getStrategyTags());
+                phraseData.put("comboTags", phrase.getComboTags());
+                phraseData.put("zodiacTags", phrase.getZodiacTags());
+                phraseData.put("toneTags", phrase.getToneTags());
+                phraseData.put("weightBase", phrase.getWeightBase());
+                phraseData.put("createdAt", phrase.getCreatedAt() != null ? phrase.getCreatedAt().toString() : null);
+                phraseData.put("updatedAt", phrase.getUpdatedAt() != null ? phrase.getUpdatedAt().toString() : null);
+                return phraseData;
+            }).collect(Collectors.toList());
+            
+            result.put("success", true);
+            result.put("data", phraseList);
+            result.put("total", total);
+            result.put("page", page);
+            result.put("size", size);
+            result.put("totalPages", (total + size - 1) / size);
             
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            log.error("관리자 요청: A 멘트 CSV 업로드 실패", e);
+            log.error("관리자 요청: A 멘트 목록 조회 실패", e);
             
             result.put("success", false);
-            result.put("message", "CSV 업로드 실패: " + e.getMessage());
+            result.put("message", "A 멘트 목록 조회 실패: " + e.getMessage());
             result.put("error", e.getClass().getSimpleName());
             
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
         }
     }
     
+    /**
+     * A 멘트 CSV 다운로드
+     * 
+     * GET /api/v1/admin/mission-phrase-a/export-csv
+     * 
+     * CSV 형식: id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base
+     * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
+     * @return CSV 파일 다운로드
+     */
+    @GetMapping("/mission-phrase-a/export-csv")
+    public ResponseEntity<StreamingResponseBody> exportMissionPhraseACsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: A 멘트 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        return csvStreamingExporter.export("mission_phrase_a",
+                "id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base",
+                missionPhraseARepository::streamAllByOrderByIdAsc,
+                (phrase, row) -> row
+                        .add(phrase.getId())
+                        .add(phrase.getText())
+                        .add(phrase.getStrategyTags())
+                        .add(phrase.getComboTags())
+                        .add(phrase.getZodiacTags())
+                        .add(phrase.getToneTags())
+                        .add(phrase.getWeightBase() != null ? phrase.getWeightBase() : 1),
+                gzip);
+    }
+    
+    /**
+     * A 멘트 CSV 업로드
+     * 
+     * POST /api/v1/admin/mission-phrase-a/import-csv
+     * 
+     * CSV 형식: id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base
+     * 
+     * 주의: 전체 교체 결과 (CSV에 없는 기존 행은 삭제, 내용이 바뀐 행만 반영)
+     * 
+     * @param file CSV 파일
+     * @return 업로드 결과
+     */
+    @PostMapping("/mission-phrase-a/import-csv")
+    public ResponseEntity<Map<String, Object>> importMissionPhraseACsv(
+            @RequestParam("file") MultipartFile file) {
+        return importContentCsv(file, CsvImportDescriptors.MISSION_PHRASE_A, "A 멘트", phraseIndex::rebuild);
+    }
+    
     /**
      * B 멘트 목록 조회
      * 
@@ -2951,57 +2723,28 @@ public class AdminController {
      * 
      * CSV 형식: id,text,place_hint,color_hint,align_tags,avoid_tags,weight_base
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/mission-phrase-b/export-csv")
-    public ResponseEntity<byte[]> exportMissionPhraseBCsv() {
-        try {
-            log.info("관리자 요청: B 멘트 CSV 다운로드 시작");
-            
-            List<MissionPhraseBEntity> phrases = missionPhraseBRepository.findAll();
-            
-            log.info("CSV 다운로드: 총 {}개 B 멘트", phrases.size());
-            
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            writer.println("id,text,place_hint,color_hint,align_tags,avoid_tags,weight_base");
-            
-            for (MissionPhraseBEntity phrase : phrases) {
-                writer.printf("%d,%s,%s,%s,%s,%s,%d%n",
-                    phrase.getId() != null ? phrase.getId() : "",
-                    escapeCsvValue(phrase.getText()),
-                    escapeCsvValue(phrase.getPlaceHint() != null ? phrase.getPlaceHint() : ""),
-                    escapeCsvValue(phrase.getColorHint() != null ? phrase.getColorHint() : ""),
-                    escapeCsvValue(phrase.getAlignTags() != null ? phrase.getAlignTags() : ""),
-                    escapeCsvValue(phrase.getAvoidTags() != null ? phrase.getAvoidTags() : ""),
-                    phrase.getWeightBase() != null ? phrase.getWeightBase() : 1);
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("mission_phrase_b_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: B 멘트 CSV 다운로드 완료 - {}개, {} bytes", phrases.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: B 멘트 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportMissionPhraseBCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: B 멘트 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        return csvStreamingExporter.export("mission_phrase_b",
+                "id,text,place_hint,color_hint,align_tags,avoid_tags,weight_base",
+                missionPhraseBRepository::streamAllByOrderByIdAsc,
+                (phrase, row) -> row
+                        .add(phrase.getId())
+                        .add(phrase.getText())
+                        .add(phrase.getPlaceHint())
+                        .add(phrase.getColorHint())
+                        .add(phrase.getAlignTags())
+                        .add(phrase.getAvoidTags())
+                        .add(phrase.getWeightBase() != null ? phrase.getWeightBase() : 1),
+                gzip);
     }
     
     /**
@@ -3011,145 +2754,15 @@ public class AdminController {
      * 
      * CSV 형식: id,text,place_hint,color_hint,align_tags,avoid_tags,weight_base
      * 
-     * 주의: 전체 교체 모드 (기존 데이터 모두 삭제 후 업로드된 데이터로 교체)
+     * 주의: 전체 교체 결과 (CSV에 없는 기존 행은 삭제, 내용이 바뀐 행만 반영)
      * 
      * @param file CSV 파일
      * @return 업로드 결과
      */
     @PostMapping("/mission-phrase-b/import-csv")
-    @Transactional
     public ResponseEntity<Map<String, Object>> importMissionPhraseBCsv(
             @RequestParam("file") MultipartFile file) {
-        Map<String, Object> result = new HashMap<>();
-        
-        try {
-            log.info("관리자 요청: B 멘트 CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
-                    file.getOriginalFilename(), file.getSize());
-            
-            if (file.isEmpty()) {
-                result.put("success", false);
-                result.put("message", "파일이 비어있습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            if (!file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
-                result.put("success", false);
-                result.put("message", "CSV 파일만 업로드 가능합니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            missionPhraseBRepository.deleteAll();
-            
-            int savedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            List<MissionPhraseBEntity> entitiesToSave = new ArrayList<>();
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (line.toLowerCase().contains("id") && line.toLowerCase().contains("text")) {
-                            continue;
-                        }
-                    }
-                    
-                    List<String> columns = parseCsvLine(line, ",");
-                    if (columns.size() < 2) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 2개 필요, 실제: %d개)", lineNumber, columns.size()));
-                        continue;
-                    }
-                    
-                    try {
-                        String text = columns.size() > 1 ? columns.get(1).trim() : "";
-                        String placeHint = columns.size() > 2 && !columns.get(2).trim().isEmpty() ? columns.get(2).trim() : null;
-                        String colorHint = columns.size() > 3 && !columns.get(3).trim().isEmpty() ? columns.get(3).trim() : null;
-                        String alignTags = columns.size() > 4 && !columns.get(4).trim().isEmpty() ? columns.get(4).trim() : null;
-                        String avoidTags = columns.size() > 5 && !columns.get(5).trim().isEmpty() ? columns.get(5).trim() : null;
-                        Integer weightBase = 1;
-                        if (columns.size() > 6 && !columns.get(6).trim().isEmpty()) {
-                            String weightStr = columns.get(6).trim();
-                            try {
-                                // 소수점 값도 처리 (예: 0.8 -> 1, 1.0 -> 1)
-                                if (weightStr.contains(".")) {
-                                    double weightDouble = Double.parseDouble(weightStr);
-                                    weightBase = (int) Math.round(weightDouble);
-                                } else {
-                                    weightBase = Integer.parseInt(weightStr);
-                                }
-                            } catch (NumberFormatException e) {
-                                // 파싱 실패 시 기본값 1 사용
-                                weightBase = 1;
-                            }
-                        }
-                        
-                        if (text.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: text는 필수 필드입니다", lineNumber));
-                            continue;
-                        }
-                        
-                        MissionPhraseBEntity entity = MissionPhraseBEntity.builder()
-                                .text(text)
-                                .placeHint(placeHint)
-                                .colorHint(colorHint)
-                                .alignTags(alignTags)
-                                .avoidTags(avoidTags)
-                                .weightBase(weightBase)
-                                .build();
-                        
-                        entitiesToSave.add(entity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
-                    }
-                }
-            }
-            
-            for (MissionPhraseBEntity entity : entitiesToSave) {
-                missionPhraseBRepository.save(entity);
-            }
-            
-            result.put("success", true);
-            result.put("message", String.format("B 멘트 %d개 저장 완료", savedCount));
-            result.put("savedCount", savedCount);
-            result.put("errorCount", errorCount);
-            if (!errors.isEmpty()) {
-                result.put("errors", errors);
-            }
-            
-            log.info("관리자 요청: B 멘트 CSV 업로드 완료 - 저장: {}개, 오류: {}개", savedCount, errorCount);
-            
-            return ResponseEntity.ok(result);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: B 멘트 CSV 업로드 실패", e);
-            
-            result.put("success", false);
-            result.put("message", "CSV 업로드 실패: " + e.getMessage());
-            result.put("error", e.getClass().getSimpleName());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
-        }
+        return importContentCsv(file, CsvImportDescriptors.MISSION_PHRASE_B, "B 멘트", phraseIndex::rebuild);
     }
     
     /**
@@ -3215,54 +2828,25 @@ public class AdminController {
      * 
      * CSV 형식: id,text,tone_tags,weight_base
      * 
+     * 테이블 전체를 메모리에 올리지 않고 DB 커서에서 바로 스트리밍합니다.
+     * 
+     * @param gzip gzip 압축 여부 (기본값: false, true면 .csv.gz)
      * @return CSV 파일 다운로드
      */
     @GetMapping("/mission-phrase-c/export-csv")
-    public ResponseEntity<byte[]> exportMissionPhraseCCsv() {
-        try {
-            log.info("관리자 요청: C 멘트 CSV 다운로드 시작");
-            
-            List<MissionPhraseCEntity> phrases = missionPhraseCRepository.findAll();
-            
-            log.info("CSV 다운로드: 총 {}개 C 멘트", phrases.size());
-            
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PrintWriter writer = new PrintWriter(baos, true, StandardCharsets.UTF_8);
-            
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            
-            writer.println("id,text,tone_tags,weight_base");
-            
-            for (MissionPhraseCEntity phrase : phrases) {
-                writer.printf("%d,%s,%s,%d%n",
-                    phrase.getId() != null ? phrase.getId() : "",
-                    escapeCsvValue(phrase.getText()),
-                    escapeCsvValue(phrase.getToneTags() != null ? phrase.getToneTags() : ""),
-                    phrase.getWeightBase() != null ? phrase.getWeightBase() : 1);
-            }
-            
-            writer.flush();
-            byte[] csvBytes = baos.toByteArray();
-            writer.close();
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-            headers.setContentDispositionFormData("attachment", 
-                    String.format("mission_phrase_c_%s.csv", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            headers.setContentLength(csvBytes.length);
-            
-            log.info("관리자 요청: C 멘트 CSV 다운로드 완료 - {}개, {} bytes", phrases.size(), csvBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvBytes);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: C 멘트 CSV 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportMissionPhraseCCsv(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("관리자 요청: C 멘트 CSV 다운로드 시작 (gzip={})", gzip);
+        
+        return csvStreamingExporter.export("mission_phrase_c",
+                "id,text,tone_tags,weight_base",
+                missionPhraseCRepository::streamAllByOrderByIdAsc,
+                (phrase, row) -> row
+                        .add(phrase.getId())
+                        .add(phrase.getText())
+                        .add(phrase.getToneTags())
+                        .add(phrase.getWeightBase() != null ? phrase.getWeightBase() : 1),
+                gzip);
     }
     
     /**
@@ -3272,139 +2856,15 @@ public class AdminController {
      * 
      * CSV 형식: id,text,tone_tags,weight_base
      * 
-     * 주의: 전체 교체 모드 (기존 데이터 모두 삭제 후 업로드된 데이터로 교체)
+     * 주의: 전체 교체 결과 (CSV에 없는 기존 행은 삭제, 내용이 바뀐 행만 반영)
      * 
      * @param file CSV 파일
      * @return 업로드 결과
      */
     @PostMapping("/mission-phrase-c/import-csv")
-    @Transactional
     public ResponseEntity<Map<String, Object>> importMissionPhraseCCsv(
             @RequestParam("file") MultipartFile file) {
-        Map<String, Object> result = new HashMap<>();
-        
-        try {
-            log.info("관리자 요청: C 멘트 CSV 업로드 시작 - 파일명: {}, 크기: {} bytes", 
-                    file.getOriginalFilename(), file.getSize());
-            
-            if (file.isEmpty()) {
-                result.put("success", false);
-                result.put("message", "파일이 비어있습니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            if (!file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
-                result.put("success", false);
-                result.put("message", "CSV 파일만 업로드 가능합니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
-            }
-            
-            missionPhraseCRepository.deleteAll();
-            
-            int savedCount = 0;
-            int errorCount = 0;
-            List<String> errors = new ArrayList<>();
-            List<MissionPhraseCEntity> entitiesToSave = new ArrayList<>();
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-                
-                String line;
-                int lineNumber = 0;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    
-                    if (lineNumber == 1 && line.startsWith("\uFEFF")) {
-                        line = line.substring(1);
-                    }
-                    
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-                    
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        if (line.toLowerCase().contains("id") && line.toLowerCase().contains("text")) {
-                            continue;
-                        }
-                    }
-                    
-                    List<String> columns = parseCsvLine(line, ",");
-                    if (columns.size() < 2) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 2개 필요, 실제: %d개)", lineNumber, columns.size()));
-                        continue;
-                    }
-                    
-                    try {
-                        String text = columns.size() > 1 ? columns.get(1).trim() : "";
-                        String toneTags = columns.size() > 2 && !columns.get(2).trim().isEmpty() ? columns.get(2).trim() : null;
-                        Integer weightBase = 1;
-                        if (columns.size() > 3 && !columns.get(3).trim().isEmpty()) {
-                            String weightStr = columns.get(3).trim();
-                            try {
-                                // 소수점 값도 처리 (예: 0.8 -> 1, 1.0 -> 1)
-                                if (weightStr.contains(".")) {
-                                    double weightDouble = Double.parseDouble(weightStr);
-                                    weightBase = (int) Math.round(weightDouble);
-                                } else {
-                                    weightBase = Integer.parseInt(weightStr);
-                                }
-                            } catch (NumberFormatException e) {
-                                // 파싱 실패 시 기본값 1 사용
-                                weightBase = 1;
-                            }
-                        }
-                        
-                        if (text.isEmpty()) {
-                            errorCount++;
-                            errors.add(String.format("라인 %d: text는 필수 필드입니다", lineNumber));
-                            continue;
-                        }
-                        
-                        MissionPhraseCEntity entity = MissionPhraseCEntity.builder()
-                                .text(text)
-                                .toneTags(toneTags)
-                                .weightBase(weightBase)
-                                .build();
-                        
-                        entitiesToSave.add(entity);
-                        savedCount++;
-                        
-                    } catch (Exception e) {
-                        errorCount++;
-                        errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
-                    }
-                }
-            }
-            
-            for (MissionPhraseCEntity entity : entitiesToSave) {
-                missionPhraseCRepository.save(entity);
-            }
-            
-            result.put("success", true);
-            result.put("message", String.format("C 멘트 %d개 저장 완료", savedCount));
-            result.put("savedCount", savedCount);
-            result.put("errorCount", errorCount);
-            if (!errors.isEmpty()) {
-                result.put("errors", errors);
-            }
-            
-            log.info("관리자 요청: C 멘트 CSV 업로드 완료 - 저장: {}개, 오류: {}개", savedCount, errorCount);
-            
-            return ResponseEntity.ok(result);
-            
-        } catch (Exception e) {
-            log.error("관리자 요청: C 멘트 CSV 업로드 실패", e);
-            
-            result.put("success", false);
-            result.put("message", "CSV 업로드 실패: " + e.getMessage());
-            result.put("error", e.getClass().getSimpleName());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
-        }
+        return importContentCsv(file, CsvImportDescriptors.MISSION_PHRASE_C, "C 멘트", phraseIndex::rebuild);
     }
     
 }
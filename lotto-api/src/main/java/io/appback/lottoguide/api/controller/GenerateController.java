@@ -2,6 +2,7 @@ package io.appback.lottoguide.api.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.api.cache.PublicResponseCache;
 import io.appback.lottoguide.api.dto.GenerateRequest;
 import io.appback.lottoguide.api.dto.GenerateResponse;
 import io.appback.lottoguide.application.usecase.GenerateUseCase;
@@ -13,6 +14,7 @@ import io.appback.lottoguide.infra.persistence.entity.StrategyDescriptionEntity;
 import io.appback.lottoguide.infra.persistence.repository.StrategyDescriptionRepository;
 import io.appback.lottoguide.infra.persistence.repository.SystemOptionRepository;
 import io.appback.lottoguide.infra.persistence.entity.SystemOptionEntity;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +38,7 @@ public class GenerateController {
     private final StrategyDescriptionRepository strategyDescriptionRepository;
     private final SystemOptionRepository systemOptionRepository;
     private final ObjectMapper objectMapper;
+    private final PublicResponseCache publicResponseCache;
     
     /**
      * 번호 생성
@@ -84,84 +87,76 @@ public class GenerateController {
      * GET /api/v1/generate/strategy-descriptions
      * 
      * 모든 전략 설명을 조회합니다.
+     * 응답은 관리자가 수정할 때까지 직렬화된 상태로 캐시되며, ETag가 같으면 304를 반환합니다.
      * 
      * @return 전략 설명 목록
      */
     @GetMapping("/strategy-descriptions")
-    public ResponseEntity<Map<String, Object>> getStrategyDescriptions() {
-        Map<String, Object> result = new HashMap<>();
-        
+    public ResponseEntity<?> getStrategyDescriptions(HttpServletRequest request) {
         try {
-            List<StrategyDescriptionEntity> entities = strategyDescriptionRepository.findAll();
-            
-            Map<String, Map<String, Object>> descriptions = entities.stream()
-                    .collect(Collectors.toMap(
-                            StrategyDescriptionEntity::getStrategyCode,
-                            entity -> {
-                                Map<String, Object> desc = new HashMap<>();
-                                desc.put("title", entity.getTitle());
-                                desc.put("shortDescription", entity.getShortDescription());
-                                desc.put("description", entity.getDescription());
-                                try {
-                                    desc.put("features", objectMapper.readValue(entity.getFeatures(), new TypeReference<List<String>>() {}));
-                                    desc.put("algorithm", objectMapper.readValue(entity.getAlgorithm(), new TypeReference<List<String>>() {}));
-                                    desc.put("scenarios", objectMapper.readValue(entity.getScenarios(), new TypeReference<List<String>>() {}));
-                                    if (entity.getNotes() != null && !entity.getNotes().isEmpty()) {
-                                        desc.put("notes", objectMapper.readValue(entity.getNotes(), new TypeReference<List<String>>() {}));
-                                    }
-                                } catch (Exception e) {
-                                    // JSON 파싱 실패 시 빈 리스트 반환
-                                    desc.put("features", List.of());
-                                    desc.put("algorithm", List.of());
-                                    desc.put("scenarios", List.of());
-                                }
-                                return desc;
-                            }
-                    ));
-            
-            result.put("success", true);
-            result.put("data", descriptions);
-            
-            return ResponseEntity.ok(result);
-            
+            return publicResponseCache.respond(PublicResponseCache.STRATEGY_DESCRIPTIONS, request,
+                    this::loadStrategyDescriptions);
         } catch (Exception e) {
+            Map<String, Object> result = new HashMap<>();
             result.put("success", false);
             result.put("message", "전략 설명 조회 실패: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
         }
     }
     
+    /**
+     * 전략 설명 응답 본문 생성 (캐시 버전마다 한 번)
+     */
+    private Map<String, Object> loadStrategyDescriptions() {
+        List<StrategyDescriptionEntity> entities = strategyDescriptionRepository.findAll();
+        
+        Map<String, Map<String, Object>> descriptions = entities.stream()
+                .collect(Collectors.toMap(
+                        StrategyDescriptionEntity::getStrategyCode,
+                        entity -> {
+                            Map<String, Object> desc = new HashMap<>();
+                            desc.put("title", entity.getTitle());
+                            desc.put("shortDescription", entity.getShortDescription());
+                            desc.put("description", entity.getDescription());
+                            try {
+                                desc.put("features", objectMapper.readValue(entity.getFeatures(), new TypeReference<List<String>>() {}));
+                                desc.put("algorithm", objectMapper.readValue(entity.getAlgorithm(), new TypeReference<List<String>>() {}));
+                                desc.put("scenarios", objectMapper.readValue(entity.getScenarios(), new TypeReference<List<String>>() {}));
+                                if (entity.getNotes() != null && !entity.getNotes().isEmpty()) {
+                                    desc.put("notes", objectMapper.readValue(entity.getNotes(), new TypeReference<List<String>>() {}));
+                                }
+                            } catch (Exception e) {
+                                // JSON 파싱 실패 시 빈 리스트 반환
+                                desc.put("features", List.of());
+                                desc.put("algorithm", List.of());
+                                desc.put("scenarios", List.of());
+                            }
+                            return desc;
+                        }
+                ));
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("data", descriptions);
+        return result;
+    }
+    
     /**
      * 공개 시스템 옵션 조회 (인증 불필요, 일련번호 포함)
      * 
      * GET /api/v1/generate/system-options
      * 
+     * 응답과 일련번호는 옵션이 수정될 때까지 캐시되며, ETag가 같으면 304를 반환합니다.
+     * 
      * @return 모든 시스템 옵션 및 일련번호
      */
     @GetMapping("/system-options")
-    public ResponseEntity<Map<String, Object>> getPublicSystemOptions() {
-        Map<String, Object> result = new HashMap<>();
-        
+    public ResponseEntity<?> getPublicSystemOptions(HttpServletRequest request) {
         try {
-            List<SystemOptionEntity> options = systemOptionRepository.findAll();
-            
-            // 옵션을 key-value 맵으로 변환 (정렬하여 일관된 해시 생성)
-            Map<String, String> optionsMap = new java.util.TreeMap<>();
-            for (SystemOptionEntity option : options) {
-                optionsMap.put(option.getOptionKey(), option.getOptionValue() != null ? option.getOptionValue() : "");
-            }
-            
-            // 일련번호 생성 (모든 옵션 내용 기반 해시)
-            String serialNumber = generateSystemOptionsHash(optionsMap);
-            
-            result.put("success", true);
-            result.put("data", optionsMap);
-            result.put("count", optionsMap.size());
-            result.put("serialNumber", serialNumber);
-            
-            return ResponseEntity.ok(result);
-            
+            return publicResponseCache.respond(PublicResponseCache.SYSTEM_OPTIONS, request,
+                    this::loadPublicSystemOptions);
         } catch (Exception e) {
+            Map<String, Object> result = new HashMap<>();
             result.put("success", false);
             result.put("message", "시스템 옵션 조회 실패: " + e.getMessage());
             
@@ -169,6 +164,32 @@ public class GenerateController {
         }
     }
     
+    /**
+     * 시스템 옵션 응답 본문 생성 (캐시 버전마다 한 번)
+     */
+    private Map<String, Object> loadPublicSystemOptions() {
+        List<SystemOptionEntity> options = systemOptionRepository.findAll();
+        
+        // 옵션을 key-value 맵으로 변환 (정렬하여 일관된 해시 생성, 서버 내부용 옵션 제외)
+        Map<String, String> optionsMap = new java.util.TreeMap<>();
+        for (SystemOptionEntity option : options) {
+            if (SystemOptionEntity.isInternalKey(option.getOptionKey())) {
+                continue;
+            }
+            optionsMap.put(option.getOptionKey(), option.getOptionValue() != null ? option.getOptionValue() : "");
+        }
+        
+        // 일련번호 생성 (모든 옵션 내용 기반 해시)
+        String serialNumber = generateSystemOptionsHash(optionsMap);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("data", optionsMap);
+        result.put("count", optionsMap.size());
+        result.put("serialNumber", serialNumber);
+        return result;
+    }
+    
     /**
      * 시스템 옵션 일련번호 생성 (전략 설명의 contentHash와 동일한 방식)
      * 모든 옵션의 key-value를 정렬하여 결합한 후 SHA-256 해시 생성
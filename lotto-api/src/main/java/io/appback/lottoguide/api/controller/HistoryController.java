@@ -25,25 +25,38 @@ public class HistoryController {
     
     private final HistoryUseCase historyUseCase;
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     /**
      * 히스토리 조회 (페이징)
      * GET /api/v1/history?page=0&size=10
+     * GET /api/v1/history?cursor=&size=10 (커서 페이징)
+     * 
+     * cursor 파라미터가 있으면 커서 페이징을 사용합니다 (빈 값이면 첫 페이지).
+     * 다음 페이지는 응답의 nextCursor를 그대로 다시 보내면 되며, 마지막 페이지면 nextCursor가 null입니다.
+     * 커서 페이징 응답에는 전체 개수(totalElements/totalPages)가 없습니다.
      * 
      * @param userId 사용자 ID (필수)
      * @param page 페이지 번호 (기본값: 0)
      * @param size 페이지 크기 (기본값: 10)
+     * @param cursor 커서 (선택적)
      * @return 페이징된 히스토리
      */
     @GetMapping
     public ResponseEntity<HistoryResponse> getHistory(
             @RequestHeader("X-User-Id") Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
         
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
+        if (cursor != null) {
+            return getHistoryByCursor(userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        }
+        
         // UseCase 실행
         GeneratedSetRepositoryPort.PagedResult<GeneratedSetRepositoryPort.GeneratedSetInfo> result =
             historyUseCase.execute(userId, page, size);
@@ -64,6 +77,27 @@ public class HistoryController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
     
+    /**
+     * 히스토리 조회 (커서 페이징)
+     * 잘못된 커서는 IllegalArgumentException으로 400 응답
+     */
+    private ResponseEntity<HistoryResponse> getHistoryByCursor(Long userId, String cursor, int size) {
+        GeneratedSetRepositoryPort.CursorResult<GeneratedSetRepositoryPort.GeneratedSetInfo> result =
+            historyUseCase.executeByCursor(userId, cursor, size);
+        
+        List<HistoryResponse.HistoryItemDto> items = result.content().stream()
+            .map(this::toHistoryItemDto)
+            .collect(Collectors.toList());
+        
+        HistoryResponse response = HistoryResponse.builder()
+            .content(items)
+            .size(result.size())
+            .nextCursor(result.nextCursor())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+    
     /**
      * GeneratedSetInfo를 HistoryItemDto로 변환
      */
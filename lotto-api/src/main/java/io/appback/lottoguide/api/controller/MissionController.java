@@ -1,16 +1,23 @@
 package io.appback.lottoguide.api.controller;
 
+import io.appback.lottoguide.api.dto.MissionBatchRequest;
+import io.appback.lottoguide.api.dto.MissionBatchResponse;
 import io.appback.lottoguide.api.dto.MissionRequest;
 import io.appback.lottoguide.api.dto.MissionResponse;
 import io.appback.lottoguide.application.usecase.MissionUseCase;
+import io.appback.lottoguide.domain.exception.LlmResponseRejectedException;
 import io.appback.lottoguide.domain.generator.model.Strategy;
 import io.appback.lottoguide.domain.mission.model.Mission;
 import io.appback.lottoguide.domain.mission.model.Tone;
+import io.appback.lottoguide.domain.mission.phrase.RecentPhraseStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -23,17 +30,27 @@ import java.util.List;
 @Slf4j
 public class MissionController {
     
+    private static final int MAX_BATCH_SIZE = 20;  // 한 번에 생성 가능한 최대 세트 수
+    
     private final MissionUseCase missionUseCase;
     
     /**
      * 미션 생성
      * POST /api/v1/mission
      * 
+     * 최근 멘트 중복 방지는 X-User-Id 또는 X-Device-Id 헤더 기준으로 서버에서 기록하여 처리합니다.
+     * (요청 본문의 제외 목록은 더 이상 받지 않음)
+     * 
      * @param request 미션 생성 요청
+     * @param userId 사용자 ID (선택적)
+     * @param deviceId 기기 ID (선택적, 비로그인 사용자)
      * @return 생성된 미션
      */
     @PostMapping
-    public ResponseEntity<?> createMission(@RequestBody MissionRequest request) {
+    public ResponseEntity<?> createMission(
+            @RequestBody MissionRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId,
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceId) {
         try {
             // A/B/C 시스템: strategy와 numbers가 필수
             if (request.getStrategy() == null || request.getNumbers() == null || request.getNumbers().size() != 6) {
@@ -54,29 +71,17 @@ public class MissionController {
             Tone tone = request.getTone() != null ? request.getTone() : Tone.LIGHT;
             
             // UseCase 실행 (생년월일은 별자리 계산에만 사용되며 저장되지 않음)
-            // 제외 목록: 프론트엔드 로컬 스토리지에서 가져온 히스토리
+            // 중복 방지: 서버 측 최근 기록 (헤더)
             Mission mission = missionUseCase.execute(
                 strategy, 
                 request.getNumbers(), 
                 tone, 
                 request.getBirthDate(),
-                request.getExcludePhraseAIds(),
-                request.getExcludePhraseBIds()
+                RecentPhraseStore.historyKey(userId, deviceId)
             );
             
             // Domain 모델을 DTO로 변환
-            // 멘트 ID는 프론트엔드에서 히스토리 저장용으로 사용
-            MissionResponse response = MissionResponse.builder()
-                .missionText(mission.getMissionText())
-                .tokenUsage(mission.getTokenUsage())
-                .costEstimate(mission.getCostEstimate())
-                .zodiacSign(mission.getZodiacSign())  // 별자리 정보 포함
-                .phraseAId(mission.getPhraseAId())  // 프론트엔드 히스토리 저장용
-                .phraseBId(mission.getPhraseBId())  // 프론트엔드 히스토리 저장용
-                .phraseCId(mission.getPhraseCId())  // 프론트엔드 히스토리 저장용
-                .build();
-            
-            return ResponseEntity.status(HttpStatus.OK).body(response);
+            return ResponseEntity.status(HttpStatus.OK).body(toResponse(mission));
         } catch (IllegalArgumentException e) {
             // 잘못된 파라미터
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -88,4 +93,112 @@ public class MissionController {
                 .body(java.util.Map.of("error", "미션 생성 중 오류가 발생했습니다.", "message", e.getMessage()));
         }
     }
+    
+    /**
+     * 미션 일괄 생성 (한 번의 생성 결과에 포함된 모든 세트)
+     * POST /api/v1/mission/batch
+     * 
+     * 세트마다 POST /api/v1/mission을 호출하는 대신 한 번에 요청합니다.
+     * 묶음 안에서는 A/B 멘트가 반복되지 않습니다.
+     * 
+     * @param request 미션 일괄 생성 요청
+     * @param userId 사용자 ID (선택적)
+     * @param deviceId 기기 ID (선택적, 비로그인 사용자)
+     * @return 세트 순서대로 생성된 미션 목록
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createMissions(
+            @RequestBody MissionBatchRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId,
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceId) {
+        try {
+            List<List<Integer>> numberSets = request.getNumberSets();
+            if (request.getStrategy() == null || numberSets == null || numberSets.isEmpty()
+                    || numberSets.size() > MAX_BATCH_SIZE
+                    || numberSets.stream().anyMatch(numbers -> numbers == null || numbers.size() != 6)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(java.util.Map.of("error", "잘못된 요청입니다.", 
+                        "message", String.format("strategy와 numberSets(1~%d개, 각 6개 번호)는 필수입니다.", MAX_BATCH_SIZE)));
+            }
+            
+            Strategy strategy;
+            try {
+                strategy = Strategy.valueOf(request.getStrategy());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(java.util.Map.of("error", "잘못된 전략입니다.", "message", e.getMessage()));
+            }
+            
+            Tone tone = request.getTone() != null ? request.getTone() : Tone.LIGHT;
+            
+            List<Mission> missions = missionUseCase.executeBatch(
+                strategy,
+                numberSets,
+                tone,
+                request.getBirthDate(),
+                RecentPhraseStore.historyKey(userId, deviceId)
+            );
+            
+            MissionBatchResponse response = MissionBatchResponse.builder()
+                .missions(missions.stream().map(this::toResponse).toList())
+                .build();
+            
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(java.util.Map.of("error", "잘못된 요청입니다.", "message", e.getMessage()));
+        } catch (Exception e) {
+            log.error("미션 일괄 생성 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(java.util.Map.of("error", "미션 생성 중 오류가 발생했습니다.", "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * LLM 미션 스트리밍 생성 (Server-Sent Events)
+     * POST /api/v1/mission/stream
+     * 
+     * 이벤트:
+     * - token: 정제하고 금지 표현을 가린 텍스트 조각 (이어 붙이면 전체 미션)
+     * - done: 생성 완료 (data 없음)
+     * - error: 응답이 유효하지 않은 경우 등으로 중단 (data = 사유). 이미 받은 token은 버려야 합니다.
+     * 
+     * @param request 미션 생성 요청 (explainTags, tone, birthDate 사용)
+     * @return SSE 스트림
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamMission(@RequestBody MissionRequest request) {
+        Tone tone = request.getTone() != null ? request.getTone() : Tone.LIGHT;
+        
+        return missionUseCase.streamMission(request.getExplainTags(), tone, request.getBirthDate())
+            .map(chunk -> ServerSentEvent.builder(chunk).event("token").build())
+            .concatWith(Flux.just(ServerSentEvent.<String>builder().event("done").build()))
+            .onErrorResume(e -> {
+                String message;
+                if (e instanceof LlmResponseRejectedException) {
+                    log.warn("LLM 미션 스트림 중단: {}", e.getMessage());
+                    message = e.getMessage();
+                } else {
+                    log.error("LLM 미션 스트리밍 중 오류 발생", e);
+                    message = "미션 생성 중 오류가 발생했습니다.";
+                }
+                return Flux.just(ServerSentEvent.builder(message).event("error").build());
+            });
+    }
+    
+    /**
+     * Domain 모델을 DTO로 변환
+     * 멘트 ID는 프론트엔드에서 히스토리 저장용으로 사용
+     */
+    private MissionResponse toResponse(Mission mission) {
+        return MissionResponse.builder()
+            .missionText(mission.getMissionText())
+            .tokenUsage(mission.getTokenUsage())
+            .costEstimate(mission.getCostEstimate())
+            .zodiacSign(mission.getZodiacSign())  // 별자리 정보 포함
+            .phraseAId(mission.getPhraseAId())  // 프론트엔드 히스토리 저장용
+            .phraseBId(mission.getPhraseBId())  // 프론트엔드 히스토리 저장용
+            .phraseCId(mission.getPhraseCId())  // 프론트엔드 히스토리 저장용
+            .build();
+    }
 }
@@ -1,18 +1,14 @@
 package io.appback.lottoguide.api.controller;
 
+import io.appback.lottoguide.api.cache.IndexHtmlCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.io.IOException;
-import java.time.ZonedDateTime;
 
 /**
  * SPA(Single Page Application) 라우팅을 위한 Fallback Controller
@@ -23,6 +19,9 @@ import java.time.ZonedDateTime;
  * 
  * Context Path: /lotto
  * 
+ * index.html은 IndexHtmlCache가 메모리에 보관한 바이트(미리 압축된 br/gzip 포함)로 응답하며,
+ * ETag로 재검증하여 바뀌지 않았으면 304를 반환합니다.
+ * 
  * 주의: API 경로(/api/**)는 제외되어야 하며, RestController가 처리합니다.
  */
 @Controller
@@ -30,6 +29,12 @@ public class SpaRedirectController {
     
     private static final Logger log = LoggerFactory.getLogger(SpaRedirectController.class);
     
+    private final IndexHtmlCache indexHtmlCache;
+    
+    public SpaRedirectController(IndexHtmlCache indexHtmlCache) {
+        this.indexHtmlCache = indexHtmlCache;
+    }
+    
     /**
      * SPA 라우팅을 위한 fallback 핸들러
      * 
@@ -38,37 +43,17 @@ public class SpaRedirectController {
      */
     @RequestMapping({
         "/",
+        "/index.html",
         "/generate",
         "/deep-generate",
         "/history",
         "/admin"
     })
-    public ResponseEntity<Resource> redirect(jakarta.servlet.http.HttpServletRequest request) {
-        log.info("✅ [SpaRedirectController] SPA 라우팅 요청 처리 시작 - URI: {}, Method: {}", request.getRequestURI(), request.getMethod());
+    public ResponseEntity<byte[]> redirect(jakarta.servlet.http.HttpServletRequest request) {
+        log.debug("[SpaRedirectController] SPA 라우팅 요청 - URI: {}, Method: {}", request.getRequestURI(), request.getMethod());
         
         try {
-            Resource resource = new ClassPathResource("static/index.html");
-            if (!resource.exists()) {
-                log.error("❌ [SpaRedirectController] index.html 파일을 찾을 수 없음: static/index.html");
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-            }
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.TEXT_HTML);
-            // 브라우저 캐시 완전 차단
-            headers.setCacheControl("no-cache, no-store, must-revalidate, max-age=0");
-            headers.setPragma("no-cache");
-            headers.setExpires(ZonedDateTime.now().minusYears(1)); // 과거 시간으로 설정하여 캐시 무효화
-            
-            long contentLength = resource.contentLength();
-            if (contentLength > 0) {
-                headers.setContentLength(contentLength);
-            }
-            
-            log.info("✅ [SpaRedirectController] index.html 반환 - 크기: {} bytes", contentLength);
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            return indexHtmlCache.respond(request);
         } catch (IOException e) {
             log.error("❌ [SpaRedirectController] index.html 읽기 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -42,6 +42,11 @@ public class HistoryResponse {
      */
     private Integer totalPages;
     
+    /**
+     * 다음 페이지 커서 (커서 페이징 요청일 때만, 마지막 페이지면 null)
+     */
+    private String nextCursor;
+    
     /**
      * 히스토리 아이템 DTO
      */
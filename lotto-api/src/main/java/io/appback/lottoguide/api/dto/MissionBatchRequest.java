@@ -0,0 +1,44 @@
+package io.appback.lottoguide.api.dto;
+
+import io.appback.lottoguide.domain.mission.model.Tone;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 미션 일괄 생성 요청 DTO
+ * 
+ * 한 번의 번호 생성 결과(여러 세트)에 대한 미션을 한 번에 요청
+ * 주의: birthDate는 별자리 계산에만 사용되며 저장되지 않음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionBatchRequest {
+    
+    /**
+     * 생성 전략 (모든 세트 공통)
+     */
+    private String strategy;
+    
+    /**
+     * 번호 조합 목록 (각 6개)
+     */
+    private List<List<Integer>> numberSets;
+    
+    /**
+     * 톤
+     */
+    private Tone tone;
+    
+    /**
+     * 생년월일 (선택적)
+     * 별자리 계산에만 사용되며 저장되지 않음
+     */
+    private LocalDate birthDate;
+}
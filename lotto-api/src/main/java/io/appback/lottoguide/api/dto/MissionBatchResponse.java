@@ -0,0 +1,23 @@
+package io.appback.lottoguide.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 미션 일괄 생성 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionBatchResponse {
+    
+    /**
+     * 미션 목록 (요청의 numberSets 순서와 동일)
+     */
+    private List<MissionResponse> missions;
+}
@@ -30,16 +30,6 @@ public class MissionRequest {
      */
     private List<Integer> numbers;
     
-    /**
-     * 제외할 A 멘트 ID 목록 (로컬 스토리지에서 가져온 히스토리)
-     */
-    private List<Long> excludePhraseAIds;
-    
-    /**
-     * 제외할 B 멘트 ID 목록 (로컬 스토리지에서 가져온 히스토리)
-     */
-    private List<Long> excludePhraseBIds;
-    
     /**
      * Explain Tags (문자열 리스트) - 하위 호환성 유지
      */
@@ -0,0 +1,75 @@
+package io.appback.lottoguide.api.export;
+
+/**
+ * CSV 한 줄 작성기 (재사용)
+ *
+ * 내보내기 동안 하나의 인스턴스를 모든 행에 재사용하여 행마다 문자열 포맷/버퍼 할당을 하지 않습니다.
+ * 값을 하나도 추가하지 않은 행은 출력되지 않습니다 (행 건너뛰기).
+ */
+public final class CsvRow {
+
+    private final StringBuilder buffer = new StringBuilder(256);
+    private int columnCount;
+
+    /**
+     * 문자열 값 추가 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸기, null은 빈 값)
+     */
+    public CsvRow add(String value) {
+        separator();
+        if (value == null) {
+            return this;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        } else {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * 숫자/기타 값 추가 (null은 빈 값)
+     */
+    public CsvRow add(Object value) {
+        if (value == null || value instanceof String) {
+            return add((String) value);
+        }
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    public CsvRow add(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    boolean isEmpty() {
+        return columnCount == 0;
+    }
+
+    void clear() {
+        buffer.setLength(0);
+        columnCount = 0;
+    }
+
+    CharSequence content() {
+        return buffer;
+    }
+
+    private void separator() {
+        if (columnCount++ > 0) {
+            buffer.append(',');
+        }
+    }
+}
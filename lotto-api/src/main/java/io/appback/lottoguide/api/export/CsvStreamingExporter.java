@@ -0,0 +1,144 @@
+package io.appback.lottoguide.api.export;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 관리자 CSV 내보내기 공통 (스트리밍)
+ *
+ * 전체 테이블을 List로 읽어 byte[]로 만드는 대신,
+ * DB 커서(JPA Stream)에서 한 행씩 읽어 바로 응답 스트림에 씁니다.
+ * 쓴 엔티티는 영속성 컨텍스트에서 분리하므로 테이블 크기와 무관하게 메모리 사용량이 일정합니다.
+ *
+ * - UTF-8 BOM 포함 (Excel 호환, 기존 형식 유지)
+ * - gzip=true면 .csv.gz로 압축하여 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CsvStreamingExporter {
+
+    private static final MediaType CSV_MEDIA_TYPE = MediaType.parseMediaType("text/csv; charset=UTF-8");
+    private static final MediaType GZIP_MEDIA_TYPE = MediaType.parseMediaType("application/gzip");
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 행 작성 함수
+     */
+    @FunctionalInterface
+    public interface RowWriter<T> {
+        /**
+         * @param item 엔티티
+         * @param row 재사용되는 행 작성기 (값을 추가하지 않으면 해당 행은 건너뜀)
+         */
+        void write(T item, CsvRow row) throws Exception;
+    }
+
+    /**
+     * CSV 스트리밍 다운로드 응답 생성
+     *
+     * @param fileBaseName 파일명 접두어 (예: "lotto_draws" -> lotto_draws_20260101.csv)
+     * @param header 헤더 줄
+     * @param rows 행 스트림 공급자 (읽기 전용 트랜잭션 안에서 호출됨)
+     * @param rowWriter 행 작성 함수
+     * @param gzip gzip 압축 여부
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String fileBaseName,
+                                                            String header,
+                                                            Supplier<Stream<T>> rows,
+                                                            RowWriter<T> rowWriter,
+                                                            boolean gzip) {
+        String fileName = String.format("%s_%s.csv%s", fileBaseName,
+                LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")), gzip ? ".gz" : "");
+
+        StreamingResponseBody body = outputStream -> {
+            long startTime = System.currentTimeMillis();
+            long rowCount = writeCsv(outputStream, header, rows, rowWriter, gzip);
+            log.info("관리자 요청: CSV 스트리밍 다운로드 완료 - {}, {}행, {}ms",
+                    fileName, rowCount, System.currentTimeMillis() - startTime);
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(gzip ? GZIP_MEDIA_TYPE : CSV_MEDIA_TYPE);
+        headers.setContentDispositionFormData("attachment", fileName);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    private <T> long writeCsv(OutputStream outputStream, String header, Supplier<Stream<T>> rows,
+                              RowWriter<T> rowWriter, boolean gzip) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, WRITE_BUFFER_SIZE) : outputStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        target.write(UTF8_BOM);
+        writer.write(header);
+        writer.write('\n');
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Long rowCount;
+        try {
+            rowCount = transactionTemplate.execute(status -> {
+                CsvRow row = new CsvRow();
+                long count = 0;
+                try (Stream<T> stream = rows.get()) {
+                    for (T item : (Iterable<T>) stream::iterator) {
+                        row.clear();
+                        try {
+                            rowWriter.write(item, row);
+                        } catch (Exception e) {
+                            log.error("CSV 행 변환 실패, 건너뜀: {}", e.getMessage());
+                            row.clear();
+                        }
+                        if (!row.isEmpty()) {
+                            writer.append(row.content()).write('\n');
+                            count++;
+                        }
+                        // 쓴 엔티티는 1차 캐시에서 분리 (메모리 일정 유지)
+                        entityManager.detach(item);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        return rowCount != null ? rowCount : 0;
+    }
+}
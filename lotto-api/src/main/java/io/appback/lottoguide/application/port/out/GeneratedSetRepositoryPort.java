@@ -13,6 +13,9 @@ public interface GeneratedSetRepositoryPort {
     
     /**
      * 생성된 세트 저장
+     * 
+     * 반환한 ID는 바로 사용할 수 있지만, 구현에 따라 DB 반영은 비동기일 수 있습니다
+     * (저장 직후 조회에서 잠시 보이지 않을 수 있음).
      * @param userId 사용자 ID
      * @param generatedSets 생성된 세트 리스트
      * @return 저장된 세트 ID
@@ -29,6 +32,15 @@ public interface GeneratedSetRepositoryPort {
      */
     PagedResult<GeneratedSetInfo> findByUserId(Long userId, int page, int size);
     
+    /**
+     * 사용자별 생성된 세트 조회 (키셋 페이징, 최신순)
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    CursorResult<GeneratedSetInfo> findByUserIdAfter(Long userId, String cursor, int size);
+    
     /**
      * 생성된 세트 정보
      */
@@ -50,4 +62,14 @@ public interface GeneratedSetRepositoryPort {
         long totalElements,
         int totalPages
     ) {}
+    
+    /**
+     * 커서 페이징 결과
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    record CursorResult<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+    ) {}
 }
@@ -1,5 +1,7 @@
 package io.appback.lottoguide.application.port.out;
 
+import reactor.core.publisher.Flux;
+
 /**
  * LLM Client Port (Outbound)
  * Infrastructure 레이어에서 구현
@@ -13,6 +15,15 @@ public interface LlmClientPort {
      */
     LlmResponse generateMission(String prompt);
     
+    /**
+     * LLM을 통한 미션 생성 (스트리밍)
+     * 정제하고 금지 표현을 가린 텍스트 조각을 도착하는 대로 내보냅니다.
+     * 응답이 유효하지 않으면 LlmResponseRejectedException으로 스트림이 종료됩니다.
+     * @param prompt 프롬프트
+     * @return 텍스트 조각 스트림
+     */
+    Flux<String> streamMission(String prompt);
+    
     /**
      * LLM 응답 결과
      */
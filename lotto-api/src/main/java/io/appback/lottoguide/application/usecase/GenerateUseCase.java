@@ -5,7 +5,13 @@ import io.appback.lottoguide.domain.generator.engine.GeneratorEngine;
 import io.appback.lottoguide.domain.generator.explain.ExplainTagBuilder;
 import io.appback.lottoguide.domain.generator.model.*;
 import io.appback.lottoguide.domain.generator.preset.Preset;
+import io.appback.lottoguide.infra.monitoring.RequestTimings;
 import io.appback.lottoguide.infra.refresh.DrawRefreshService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +30,9 @@ import java.util.stream.Collectors;
  * 
  * Lazy Refresh: 요청 시 데이터 갱신 필요 여부를 확인하고,
  * 필요 시 백그라운드로 갱신을 수행합니다.
+ * 
+ * 단계별 소요 시간(metrics/generate/explain/save/ai-delay)은 RequestTimings로 보고되어
+ * Server-Timing 응답 헤더에 실립니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,11 +46,13 @@ public class GenerateUseCase {
     private final GeneratedSetRepositoryPort generatedSetRepositoryPort;
     private final DrawRefreshService drawRefreshService;
     private final io.appback.lottoguide.infra.refresh.PatternStatisticsCache patternStatisticsCache;
+    private final MeterRegistry meterRegistry;
     
     // AI 대기 시간 처리를 위한 스레드 풀 설정
     private static final int MAX_CONCURRENT_AI_REQUESTS = 20; // 최대 동시 처리 수
     private static final int QUEUE_CAPACITY = 10; // 대기 큐 크기
     private static final ThreadPoolExecutor aiDelayExecutor;
+    private static final AtomicLong aiDelayRejected = new AtomicLong();
     
     // 동시 요청 그룹화를 위한 시간 윈도우 (밀리초)
     // 같은 시간 윈도우에 들어온 요청들은 같은 대기 시간을 가짐
@@ -72,6 +84,7 @@ public class GenerateUseCase {
                 @Override
                 public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
                     // 큐가 가득 차면 즉시 거부 (사용자에게 메시지 전달)
+                    aiDelayRejected.incrementAndGet();
                     throw new AiServiceBusyException(
                         "현재 이용하는 사용자가 많아 지금은 사용할 수 없습니다. 잠시 후 다시 시도해주세요."
                     );
@@ -80,6 +93,18 @@ public class GenerateUseCase {
         );
     }
     
+    /**
+     * AI 대기 스레드 풀 메트릭 등록
+     * executor.active / executor.queued / executor.pool.size 등과 거부 횟수(executor.rejected)를 name=ai_delay로 노출
+     */
+    @PostConstruct
+    void bindExecutorMetrics() {
+        new ExecutorServiceMetrics(aiDelayExecutor, "ai_delay", Tags.empty()).bindTo(meterRegistry);
+        FunctionCounter.builder("executor.rejected", aiDelayRejected, AtomicLong::get)
+            .tag("name", "ai_delay")
+            .register(meterRegistry);
+    }
+    
     /**
      * 번호 생성 실행
      * @param strategy 생성 전략
@@ -103,7 +128,9 @@ public class GenerateUseCase {
         // 1. 메트릭 데이터 조회 (데이터가 없으면 빈 리스트로 랜덤 생성)
         List<Preset.NumberMetrics> metricsList;
         if (dataLoaded) {
+            long metricsStart = RequestTimings.start();
             metricsList = getMetrics(windowSize);
+            RequestTimings.stop("metrics", metricsStart);
         } else {
             log.warn("추첨 데이터 없음, 랜덤 생성 모드로 전환");
             metricsList = List.of(); // 빈 메트릭으로 랜덤 생성
@@ -113,11 +140,14 @@ public class GenerateUseCase {
         // 모든 AI 전략 (AI_로 시작하는 전략)에 동일한 대기 시간 적용
         if (strategy.name().startsWith("AI_")) {
             // 2-1. 계산 로직 즉시 실행 (빠르게 완료)
+            long generateStart = RequestTimings.start();
             List<GeneratedSet> generatedSets = generatorEngine.generate(
                 strategy, constraints, count, windowSize, metricsList, null, patternStatisticsCache
             );
+            RequestTimings.stop("generate", generateStart);
             
             // Explain Tags 생성
+            long explainStart = RequestTimings.start();
             List<GeneratedSet> setsWithTags = new ArrayList<>();
             for (GeneratedSet set : generatedSets) {
                 List<ExplainTag> tags = explainTagBuilder.buildTags(set, windowSize);
@@ -132,10 +162,12 @@ public class GenerateUseCase {
                 setsWithTags.add(setWithTags);
             }
             final List<GeneratedSet> finalGeneratedSets = setsWithTags;
+            RequestTimings.stop("explain", explainStart);
             
             // Member인 경우 DB 저장
             final Long finalSetId;
             if (userId != null) {
+                long saveStart = RequestTimings.start();
                 finalSetId = generatedSetRepositoryPort.save(
                     userId,
                     finalGeneratedSets,
@@ -143,6 +175,7 @@ public class GenerateUseCase {
                     null, // strategyParamsJson (나중에 구현)
                     null  // constraintsJson (나중에 구현)
                 );
+                RequestTimings.stop("save", saveStart);
             } else {
                 finalSetId = null;
             }
@@ -152,6 +185,7 @@ public class GenerateUseCase {
             long delay = getDelayForTimeWindow();
             log.info("AI 시뮬레이션 전략: 계산 완료, {}ms 대기 후 응답...", delay);
             
+            long delayStart = RequestTimings.start();
             try {
                 // CompletableFuture를 사용하여 비동기 대기 (메인 스레드 블로킹 없음)
                 // 스레드 풀이 가득 차면 RejectedExecutionHandler에서 AiServiceBusyException 발생
@@ -169,7 +203,9 @@ public class GenerateUseCase {
                 
                 // 대기 완료 후 결과 반환 (비동기이지만 동기적으로 기다림)
                 // 타임아웃 설정: 최대 10초 (정상 대기 시간 3-5초 + 여유)
-                return future.get(10, TimeUnit.SECONDS);
+                GenerateResult delayed = future.get(10, TimeUnit.SECONDS);
+                RequestTimings.stop("ai-delay", delayStart);
+                return delayed;
             } catch (AiServiceBusyException e) {
                 // 서비스 사용량 초과 예외는 그대로 전파
                 log.warn("AI 서비스 사용량 초과: {}", e.getMessage());
@@ -188,11 +224,14 @@ public class GenerateUseCase {
         // 3. 일반 전략: 즉시 처리
         // Pattern Matcher의 경우 캐시된 패턴 통계를 사용 (과거 당첨 데이터 직접 전달 불필요)
         // 패턴 통계는 PatternStatisticsCache에서 캐싱되어 있음
+        long generateStart = RequestTimings.start();
         List<GeneratedSet> generatedSets = generatorEngine.generate(
             strategy, constraints, count, windowSize, metricsList, null, patternStatisticsCache
         );
+        RequestTimings.stop("generate", generateStart);
         
         // 4. Explain Tags 생성
+        long explainStart = RequestTimings.start();
         List<GeneratedSet> setsWithTags = new ArrayList<>();
         for (GeneratedSet set : generatedSets) {
             List<ExplainTag> tags = explainTagBuilder.buildTags(set, windowSize);
@@ -207,10 +246,12 @@ public class GenerateUseCase {
             setsWithTags.add(setWithTags);
         }
         generatedSets = setsWithTags;
+        RequestTimings.stop("explain", explainStart);
         
         // 5. Member인 경우 DB 저장
         Long setId = null;
         if (userId != null) {
+            long saveStart = RequestTimings.start();
             setId = generatedSetRepositoryPort.save(
                 userId,
                 generatedSets,
@@ -218,6 +259,7 @@ public class GenerateUseCase {
                 null, // strategyParamsJson (나중에 구현)
                 null  // constraintsJson (나중에 구현)
             );
+            RequestTimings.stop("save", saveStart);
         }
         
         return new GenerateResult(generatedSets, setId);
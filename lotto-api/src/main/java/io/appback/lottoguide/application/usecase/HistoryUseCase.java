@@ -29,6 +29,20 @@ public class HistoryUseCase {
         return generatedSetRepositoryPort.findByUserId(userId, page, size);
     }
     
+    /**
+     * 사용자 히스토리 조회 (커서 페이징)
+     * 페이지가 깊어져도 OFFSET 없이 인덱스에서 바로 이어서 읽습니다.
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 커서 페이징 결과
+     */
+    public GeneratedSetRepositoryPort.CursorResult<GeneratedSetRepositoryPort.GeneratedSetInfo> executeByCursor(
+            Long userId, String cursor, int size) {
+        
+        return generatedSetRepositoryPort.findByUserIdAfter(userId, cursor, size);
+    }
+    
     /**
      * 사용자 히스토리 전체 조회 (최신순)
      */
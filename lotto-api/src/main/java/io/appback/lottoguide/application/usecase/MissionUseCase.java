@@ -1,17 +1,24 @@
 package io.appback.lottoguide.application.usecase;
 
+import io.appback.lottoguide.application.port.out.LlmClientPort;
+import io.appback.lottoguide.domain.generator.model.ExplainTag;
 import io.appback.lottoguide.domain.generator.model.Strategy;
 import io.appback.lottoguide.domain.mission.model.Mission;
 import io.appback.lottoguide.domain.mission.model.Tone;
 import io.appback.lottoguide.domain.mission.phrase.PhraseSelector;
 import io.appback.lottoguide.domain.mission.phrase.SelectedPhrases;
+import io.appback.lottoguide.domain.mission.policy.MissionPolicy;
+import io.appback.lottoguide.domain.mission.prompt.PromptBuilder;
 import io.appback.lottoguide.domain.mission.zodiac.ZodiacCalculator;
+import io.appback.lottoguide.infra.monitoring.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,6 +34,9 @@ public class MissionUseCase {
     
     private final PhraseSelector phraseSelector;
     private final ZodiacCalculator zodiacCalculator;
+    private final PromptBuilder promptBuilder;
+    private final LlmClientPort llmClientPort;
+    private final MissionPolicy missionPolicy;
     
     /**
      * 미션 생성 실행 (A/B/C 멘트 조합)
@@ -35,12 +45,11 @@ public class MissionUseCase {
      * @param numbers 생성된 6개 번호
      * @param tone 톤
      * @param birthDate 생년월일 (선택적, 별자리 계산에만 사용)
-     * @param excludePhraseAIds 제외할 A 멘트 ID 목록 (프론트엔드 히스토리)
-     * @param excludePhraseBIds 제외할 B 멘트 ID 목록 (프론트엔드 히스토리)
+     * @param historyKey 최근 멘트 기록 키 (사용자/기기, null이면 서버 기록 사용 안 함)
      * @return 생성된 미션
      */
     public Mission execute(Strategy strategy, List<Integer> numbers, Tone tone, LocalDate birthDate,
-                          List<Long> excludePhraseAIds, List<Long> excludePhraseBIds) {
+                          String historyKey) {
         // 1. 생년월일로부터 별자리 계산 (저장하지 않음)
         String zodiacSign = null;
         if (birthDate != null) {
@@ -48,14 +57,75 @@ public class MissionUseCase {
             log.debug("생년월일로부터 별자리 계산: {} -> {}", birthDate, zodiacSign);
         }
         
-        // 2. A/B/C 멘트 선택 (제외 목록 적용)
-        SelectedPhrases phrases = phraseSelector.selectPhrases(strategy, numbers, zodiacSign,
-                                                               excludePhraseAIds, excludePhraseBIds);
+        // 2. A/B/C 멘트 선택 (서버 측 최근 기록 적용)
+        long phraseStart = RequestTimings.start();
+        SelectedPhrases phrases = phraseSelector.selectPhrases(strategy, numbers, zodiacSign, historyKey);
+        RequestTimings.stop("phrase", phraseStart);
         
-        // 3. 전체 메시지 조합
-        String missionText = phrases.getFullMessage();
+        // 3. Mission 객체 생성
+        return toMission(phrases, tone, zodiacSign);
+    }
+    
+    /**
+     * 미션 일괄 생성 (한 번의 생성 결과에 포함된 모든 번호 조합)
+     * 
+     * 별자리 계산과 멘트 인덱스 조회는 한 번만 하고, 묶음 안에서는 A/B 멘트가 반복되지 않습니다.
+     * 
+     * @param strategy 사용자가 선택한 생성 전략
+     * @param numberSets 번호 조합 목록 (각 6개)
+     * @param tone 톤
+     * @param birthDate 생년월일 (선택적, 별자리 계산에만 사용)
+     * @param historyKey 최근 멘트 기록 키 (사용자/기기, null이면 서버 기록 사용 안 함)
+     * @return 번호 조합 순서대로 생성된 미션
+     */
+    public List<Mission> executeBatch(Strategy strategy, List<List<Integer>> numberSets, Tone tone, LocalDate birthDate,
+                                      String historyKey) {
+        String zodiacSign = birthDate != null ? zodiacCalculator.calculateZodiac(birthDate) : null;
+        
+        long phraseStart = RequestTimings.start();
+        List<SelectedPhrases> phrases = phraseSelector.selectPhrasesBatch(strategy, numberSets, zodiacSign, historyKey);
+        RequestTimings.stop("phrase", phraseStart);
+        
+        List<Mission> missions = new ArrayList<>(phrases.size());
+        for (SelectedPhrases selected : phrases) {
+            missions.add(toMission(selected, tone, zodiacSign));
+        }
+        return missions;
+    }
+    
+    /**
+     * LLM 미션 스트리밍 생성
+     * 
+     * 정제하고 금지 표현을 가린 텍스트 조각을 도착하는 대로 내보내며,
+     * 응답이 유효하지 않으면 LlmResponseRejectedException으로 종료됩니다.
+     * 
+     * @param explainTags Explain Tags (알 수 없는 값은 무시)
+     * @param tone 톤
+     * @param birthDate 생년월일 (선택적, 별자리 계산에만 사용)
+     * @return 미션 텍스트 조각 스트림
+     */
+    public Flux<String> streamMission(List<String> explainTags, Tone tone, LocalDate birthDate) {
+        String zodiacSign = birthDate != null ? zodiacCalculator.calculateZodiac(birthDate) : null;
+        
+        List<ExplainTag> tags = new ArrayList<>();
+        if (explainTags != null) {
+            for (String tag : explainTags) {
+                try {
+                    tags.add(ExplainTag.valueOf(tag));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    log.debug("알 수 없는 Explain Tag 무시: {}", tag);
+                }
+            }
+        }
+        
+        return llmClientPort.streamMission(promptBuilder.build(tags, tone, zodiacSign));
+    }
+    
+    private Mission toMission(SelectedPhrases phrases, Tone tone, String zodiacSign) {
+        // 전체 메시지 조합 (금지 표현은 가림)
+        String missionText = missionPolicy.redact(phrases.getFullMessage());
         
-        // 4. Mission 객체 생성 (별자리 정보는 응답에만 포함, DB 저장 안 함)
+        // Mission 객체 생성 (별자리 정보는 응답에만 포함, DB 저장 안 함)
         return Mission.builder()
             .missionText(missionText)
             .tone(tone)
@@ -76,12 +146,9 @@ public class MissionUseCase {
      * @param strategy 사용자가 선택한 생성 전략
      * @param numbers 생성된 6개 번호
      * @param tone 톤
-     * @param excludePhraseAIds 제외할 A 멘트 ID 목록
-     * @param excludePhraseBIds 제외할 B 멘트 ID 목록
      * @return 생성된 미션
      */
-    public Mission execute(Strategy strategy, List<Integer> numbers, Tone tone,
-                          List<Long> excludePhraseAIds, List<Long> excludePhraseBIds) {
-        return execute(strategy, numbers, tone, null, excludePhraseAIds, excludePhraseBIds);
+    public Mission execute(Strategy strategy, List<Integer> numbers, Tone tone) {
+        return execute(strategy, numbers, tone, null, null);
     }
 }
@@ -6,7 +6,6 @@ import io.appback.lottoguide.infra.llm.SimpleLlmClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * 애플리케이션 설정
@@ -20,15 +19,6 @@ public class AppConfig {
     @Value("${llm.simple.placeholder-message:LLM 서비스는 준비 중 입니다.}")
     private String placeholderMessage;
     
-    /**
-     * RestTemplate Bean 등록
-     * 외부 API 호출용
-     */
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-    
     /**
      * LlmClient Bean 등록
      * 프로토타입에서는 SimpleLlmClient 사용
@@ -0,0 +1,88 @@
+package io.appback.lottoguide.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API HTTP 클라이언트 설정
+ *
+ * 동행복권 API 호출용 WebClient (Reactor Netty 기반)
+ * - 커넥션 풀 크기 제한 (keep-alive 소켓 재사용)
+ * - gzip 압축 응답 자동 해제
+ * - connect/read 타임아웃
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${external.dhlottery.http.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${external.dhlottery.http.pending-acquire-max-count:64}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${external.dhlottery.http.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${external.dhlottery.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${external.dhlottery.http.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${external.dhlottery.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${external.dhlottery.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${external.dhlottery.http.max-in-memory-size-kb:10240}")
+    private int maxInMemorySizeKb;
+
+    /**
+     * 동행복권 API 전용 커넥션 풀
+     * 애플리케이션 종료 시 풀에 남은 소켓을 정리
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider dhLotteryConnectionProvider() {
+        return ConnectionProvider.builder("dhlottery")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+    }
+
+    /**
+     * 동행복권 API 호출용 WebClient
+     *
+     * 전체 리스트 API(srchLtEpsd=all)는 응답이 크기 때문에 메모리 버퍼 한도를 늘려둡니다.
+     * 응답 본문 압축 해제를 Netty가 처리하므로 Accept-Encoding은 gzip/deflate만 요청해야 합니다.
+     */
+    @Bean
+    public WebClient dhLotteryWebClient(
+            @Qualifier("dhLotteryConnectionProvider") ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .followRedirect(true)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                // 요청 단위 read 타임아웃 (풀에서 쉬고 있는 keep-alive 소켓에는 적용되지 않음)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySizeKb * 1024))
+                .build();
+    }
+}
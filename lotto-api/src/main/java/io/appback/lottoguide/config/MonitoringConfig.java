@@ -0,0 +1,97 @@
+package io.appback.lottoguide.config;
+
+import io.appback.lottoguide.infra.monitoring.DbStatementCounter;
+import io.appback.lottoguide.infra.monitoring.DbStatementMetricsInterceptor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 애플리케이션 메트릭 설정 (/actuator/prometheus)
+ *
+ * - app.features.monitoring-enabled=false이면 번호 생성/멘트 선택/DB 호출 수 등 애플리케이션 메트릭을 등록하지 않음
+ *   (등록되지 않은 Meter는 no-op이므로 요청 경로 비용 없음)
+ * - 지연 시간 Meter는 히스토그램 버킷을 내보내 Prometheus에서 histogram_quantile로 전략별 p50/p99를 계산
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MonitoringConfig implements WebMvcConfigurer {
+
+    /** monitoring-enabled로 켜고 끄는 Meter 이름 접두사 */
+    private static final List<String> APP_METER_PREFIXES = List.of(
+        "generator.", "phrase.", "pattern_statistics.", "ingestion.", "http.db.");
+
+    /** 히스토그램 버킷을 내보낼 Meter */
+    private static final Set<String> HISTOGRAM_METERS = Set.of(
+        "generator.generate", "generator.preset.stage", "phrase.select", "http.db.statements");
+
+    private final FeatureFlags featureFlags;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * static: MeterRegistry를 주입받는 이 설정 클래스보다 먼저 만들어져야 하므로 (순환 참조 방지)
+     */
+    @Bean
+    public static MeterRegistryCustomizer<MeterRegistry> applicationMeterFilters(FeatureFlags featureFlags) {
+        return registry -> registry.config()
+            .meterFilter(new MeterFilter() {
+                @Override
+                @NonNull
+                public MeterFilterReply accept(@NonNull Meter.Id id) {
+                    if (!featureFlags.isMonitoringEnabled() && isApplicationMeter(id)) {
+                        return MeterFilterReply.DENY;
+                    }
+                    return MeterFilterReply.NEUTRAL;
+                }
+
+                @Override
+                public DistributionStatisticConfig configure(@NonNull Meter.Id id,
+                                                             @NonNull DistributionStatisticConfig config) {
+                    if (HISTOGRAM_METERS.contains(id.getName())) {
+                        return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                    }
+                    return config;
+                }
+            });
+    }
+
+    /**
+     * JPA SQL 실행 수 집계기 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer dbStatementCounterCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new DbStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        if (featureFlags.isMonitoringEnabled()) {
+            registry.addInterceptor(new DbStatementMetricsInterceptor(meterRegistry))
+                .addPathPatterns("/api/**");
+        }
+    }
+
+    private static boolean isApplicationMeter(Meter.Id id) {
+        String name = id.getName();
+        if (name.startsWith("executor") && "ai_delay".equals(id.getTag("name"))) {
+            return true;
+        }
+        return APP_METER_PREFIXES.stream().anyMatch(name::startsWith);
+    }
+}
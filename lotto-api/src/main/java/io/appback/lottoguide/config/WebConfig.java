@@ -1,12 +1,21 @@
 package io.appback.lottoguide.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * 웹 설정 - SPA 라우팅 지원
+ *
+ * /assets/** 는 Vite가 파일명에 내용 해시를 넣은 번들이므로 1년 immutable로 캐시하고,
+ * 빌드 시 함께 만든 .br/.gz 파일을 Accept-Encoding에 따라 골라 보냅니다 (요청마다 압축하지 않음).
+ * index.html은 SpaRedirectController(IndexHtmlCache)가 ETag와 함께 응답합니다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,21 +24,19 @@ public class WebConfig implements WebMvcConfigurer {
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
         // 정적 리소스만 처리 (API 경로는 제외)
         // Context path가 /lotto이므로 /assets/**만 지정하면 Spring이 자동으로 /lotto/assets/**로 매핑
+        // 해시된 파일명은 내용이 바뀌면 이름도 바뀌므로 재검증 없이 1년 캐시
         registry.addResourceHandler("/assets/**")
                 .addResourceLocations("classpath:/static/assets/")
-                .setCachePeriod(3600);
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
         
         // Context path가 /lotto이므로 /build-info.json, /vite.svg만 지정하면 Spring이 자동으로 /lotto/build-info.json, /lotto/vite.svg로 매핑
         registry.addResourceHandler("/build-info.json", "/vite.svg")
                 .addResourceLocations("classpath:/static/")
                 .setCachePeriod(0);
         
-        // index.html 명시적 서빙 (API 경로 제외)
-        // Context path가 /lotto이므로 /index.html만 지정하면 Spring이 자동으로 /lotto/index.html로 매핑
-        registry.addResourceHandler("/index.html")
-                .addResourceLocations("classpath:/static/index.html")
-                .setCachePeriod(0);
-        
-        // 나머지 SPA 라우팅(/)은 SpaRedirectController가 처리
+        // index.html 및 나머지 SPA 라우팅(/)은 SpaRedirectController가 처리
     }
 }
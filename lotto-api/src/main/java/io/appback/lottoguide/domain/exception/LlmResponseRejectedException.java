@@ -0,0 +1,11 @@
+package io.appback.lottoguide.domain.exception;
+
+/**
+ * LLM 응답이 정책 검사(금지 표현, 최소 길이 등)를 통과하지 못했을 때 발생하는 예외
+ */
+public class LlmResponseRejectedException extends RuntimeException {
+    
+    public LlmResponseRejectedException(String message) {
+        super(message);
+    }
+}
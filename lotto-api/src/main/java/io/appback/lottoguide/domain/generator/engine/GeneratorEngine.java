@@ -3,28 +3,41 @@ package io.appback.lottoguide.domain.generator.engine;
 import io.appback.lottoguide.domain.generator.model.*;
 import io.appback.lottoguide.domain.generator.preset.*;
 import io.appback.lottoguide.domain.generator.preset.util.PatternAnalyzer;
+import io.appback.lottoguide.infra.monitoring.RequestTimings;
+import io.appback.lottoguide.infra.monitoring.jfr.PresetSimulationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * 번호 생성 엔진
  * Preset 선택, Constraints 적용, Diversity 필터링을 수행
+ *
+ * 전략별 생성 시간은 generator.generate{strategy}, AI Preset 내부 단계 시간은
+ * generator.preset.stage{strategy,stage}로 기록합니다 (히스토그램은 MonitoringConfig에서 설정).
  */
 @Component
 public class GeneratorEngine {
     
     private final CandidateSelector candidateSelector;
     private final DiversityFilter diversityFilter;
+    private final MeterRegistry meterRegistry;
+    /** 전략별 Preset 단계 Timer (요청마다 Timer 조회를 반복하지 않도록 보관) */
+    private final Map<Strategy, StageTimer> stageTimers = new ConcurrentHashMap<>();
     
-    public GeneratorEngine() {
+    public GeneratorEngine(MeterRegistry meterRegistry) {
         this.candidateSelector = new CandidateSelector();
         this.diversityFilter = new DiversityFilter();
+        this.meterRegistry = meterRegistry;
     }
     
     /**
@@ -54,6 +67,10 @@ public class GeneratorEngine {
             List<List<Integer>> pastDrawNumbers,
             io.appback.lottoguide.infra.refresh.PatternStatisticsCache patternStatisticsCache) {
         
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PresetSimulationEvent event = new PresetSimulationEvent();
+        event.begin();
+        
         // 1. Preset 선택
         Preset preset = selectPreset(strategy);
         
@@ -122,6 +139,13 @@ public class GeneratorEngine {
         // 4. 중복 제거
         rawSets = diversityFilter.removeDuplicates(rawSets);
         
+        if (event.shouldCommit()) {
+            event.strategy = strategy.name();
+            event.requestedSets = count;
+            event.samples = (long) count * preset.sampleCount();
+            event.commit();
+        }
+        
         // 5. GeneratedSet 객체 생성
         List<GeneratedSet> generatedSets = new ArrayList<>();
         for (int i = 0; i < rawSets.size(); i++) {
@@ -135,6 +159,7 @@ public class GeneratorEngine {
             generatedSets.add(set);
         }
         
+        sample.stop(meterRegistry.timer("generator.generate", "strategy", strategy.name()));
         return generatedSets;
     }
     
@@ -149,10 +174,26 @@ public class GeneratorEngine {
             case WHEELING_SYSTEM -> new WheelingSystemPreset();
             case WEIGHTED_RANDOM -> new WeightedRandomPreset();
             case PATTERN_MATCHER -> new PatternMatcherPreset();
-            case AI_SIMULATION -> new AiSimulationPreset();
-            case AI_PATTERN_REASONER -> new AiPatternReasonerPreset();
-            case AI_DECISION_FILTER -> new AiDecisionFilterPreset();
-            case AI_WEIGHT_EVOLUTION -> new AiWeightEvolutionPreset();
+            case AI_SIMULATION -> new AiSimulationPreset(stageTimer(strategy));
+            case AI_PATTERN_REASONER -> new AiPatternReasonerPreset(stageTimer(strategy));
+            case AI_DECISION_FILTER -> new AiDecisionFilterPreset(stageTimer(strategy));
+            case AI_WEIGHT_EVOLUTION -> new AiWeightEvolutionPreset(stageTimer(strategy));
         };
     }
+    
+    /**
+     * 전략별 Preset 단계 시간 기록기 (Micrometer Timer + 요청 단위 RequestTimings)
+     */
+    private StageTimer stageTimer(Strategy strategy) {
+        return stageTimers.computeIfAbsent(strategy, s -> {
+            Map<String, Timer> timers = new ConcurrentHashMap<>();
+            return (stage, nanos) -> {
+                timers.computeIfAbsent(stage, st -> meterRegistry.timer("generator.preset.stage",
+                        "strategy", s.name(), "stage", st))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+                // 요청 단위 Server-Timing에도 같은 단계로 누적
+                RequestTimings.add(stage, nanos);
+            };
+        });
+    }
 }
@@ -3,6 +3,10 @@ package io.appback.lottoguide.domain.generator.model;
 /**
  * Explain Tag enum
  * 생성된 번호 세트의 특성을 설명하는 태그
+ * 
+ * ordinal이 generated_numbers.tags_mask 비트로 저장되므로 새 태그는 맨 뒤에 추가하고 순서를 바꾸지 마세요.
+ * 순서를 바꾸거나 중간 상수를 지우면 이미 저장된 tags_mask가 다른 태그로 읽힙니다.
+ * V008__pack_generated_numbers.sql도 이 선언 순서(ordinal)를 직접 적어 두고 변환합니다.
  */
 public enum ExplainTag {
     /**
@@ -19,6 +19,21 @@ public class AiDecisionFilterPreset implements Preset {
     
     // 최대 시도 횟수
     private static final int MAX_ATTEMPTS = 1000;
+
+    private final StageTimer stageTimer;
+    
+    public AiDecisionFilterPreset() {
+        this(StageTimer.NOOP);
+    }
+    
+    public AiDecisionFilterPreset(StageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+    }
+    
+    @Override
+    public int sampleCount() {
+        return CANDIDATE_COUNT;
+    }
     
     @Override
     public List<Integer> generate(Constraints constraints, Integer windowSize, List<NumberMetrics> metricsList) {
@@ -37,6 +52,7 @@ public class AiDecisionFilterPreset implements Preset {
         // 3. 여러 후보 조합 생성
         List<List<Integer>> candidates = new ArrayList<>();
         Random random = new Random();
+        long simulateStart = System.nanoTime();
         
         for (int i = 0; i < CANDIDATE_COUNT; i++) {
             List<Integer> combination;
@@ -57,21 +73,28 @@ public class AiDecisionFilterPreset implements Preset {
         }
         
         // 4. AI 판단 필터링: 극단값 조합 제거
+        long scoreStart = System.nanoTime();
+        stageTimer.record(StageTimer.SIMULATE, scoreStart - simulateStart);
         List<List<Integer>> filtered = candidates.stream()
                 .filter(this::isValidCombination)
                 .collect(Collectors.toList());
+        long selectStart = System.nanoTime();
+        stageTimer.record(StageTimer.SCORE, selectStart - scoreStart);
         
         // 5. 필터링된 조합이 없으면 기본 랜덤
+        List<Integer> selected;
         if (filtered.isEmpty()) {
             Collections.shuffle(candidatePool);
-            return candidatePool.stream()
+            selected = candidatePool.stream()
                     .limit(6)
                     .sorted()
                     .collect(Collectors.toList());
+        } else {
+            // 6. 필터링된 조합 중 랜덤 선택
+            selected = filtered.get(random.nextInt(filtered.size()));
         }
-        
-        // 6. 필터링된 조합 중 랜덤 선택
-        return filtered.get(random.nextInt(filtered.size()));
+        stageTimer.record(StageTimer.SELECT, System.nanoTime() - selectStart);
+        return selected;
     }
     
     /**
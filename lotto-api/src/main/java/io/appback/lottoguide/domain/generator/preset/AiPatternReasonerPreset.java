@@ -23,6 +23,21 @@ public class AiPatternReasonerPreset implements Preset {
     
     // 생성 후보 개수
     private static final int CANDIDATE_COUNT = 200;
+
+    private final StageTimer stageTimer;
+    
+    public AiPatternReasonerPreset() {
+        this(StageTimer.NOOP);
+    }
+    
+    public AiPatternReasonerPreset(StageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+    }
+    
+    @Override
+    public int sampleCount() {
+        return CANDIDATE_COUNT;
+    }
     
     @Override
     public List<Integer> generate(Constraints constraints, Integer windowSize, List<NumberMetrics> metricsList) {
@@ -61,8 +76,11 @@ public class AiPatternReasonerPreset implements Preset {
         // 4. 여러 후보 조합 생성 및 패턴 일치도 평가
         List<ScoredCombination> scoredCombinations = new ArrayList<>();
         Random random = new Random();
+        long simulateNanos = 0;
+        long scoreNanos = 0;
         
         for (int i = 0; i < CANDIDATE_COUNT; i++) {
+            long simulateStart = System.nanoTime();
             List<Integer> combination;
             
             // 다양한 방법으로 조합 생성
@@ -79,29 +97,38 @@ public class AiPatternReasonerPreset implements Preset {
             }
             
             // 5. 패턴 일치도 점수 계산
+            long scoreStart = System.nanoTime();
+            simulateNanos += scoreStart - simulateStart;
             double patternScore = calculatePatternScore(combination, statistics);
             
             // 패턴 일치도가 임계값 이상인 경우만 추가
             if (patternScore >= PATTERN_THRESHOLD) {
                 scoredCombinations.add(new ScoredCombination(combination, patternScore));
             }
+            scoreNanos += System.nanoTime() - scoreStart;
         }
+        stageTimer.record(StageTimer.SIMULATE, simulateNanos);
+        stageTimer.record(StageTimer.SCORE, scoreNanos);
         
         // 6. 패턴 일치도 기준 정렬
+        long selectStart = System.nanoTime();
         scoredCombinations.sort((a, b) -> Double.compare(b.score, a.score));
         
         // 7. 상위 조합 중 랜덤 선택
+        List<Integer> selected;
         if (scoredCombinations.isEmpty()) {
             // 패턴 일치 조합이 없으면 기본 랜덤
             Collections.shuffle(candidatePool);
-            return candidatePool.stream()
+            selected = candidatePool.stream()
                     .limit(6)
                     .sorted()
                     .collect(Collectors.toList());
+        } else {
+            int topIndex = random.nextInt(Math.min(10, scoredCombinations.size()));
+            selected = scoredCombinations.get(topIndex).combination;
         }
-        
-        int topIndex = random.nextInt(Math.min(10, scoredCombinations.size()));
-        return scoredCombinations.get(topIndex).combination;
+        stageTimer.record(StageTimer.SELECT, System.nanoTime() - selectStart);
+        return selected;
     }
     
     /**
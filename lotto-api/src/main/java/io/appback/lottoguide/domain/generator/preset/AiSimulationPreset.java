@@ -20,6 +20,21 @@ public class AiSimulationPreset implements Preset {
     
     // 상위 선별 개수
     private static final int TOP_SELECTION_COUNT = 50;
+
+    private final StageTimer stageTimer;
+    
+    public AiSimulationPreset() {
+        this(StageTimer.NOOP);
+    }
+    
+    public AiSimulationPreset(StageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+    }
+    
+    @Override
+    public int sampleCount() {
+        return SIMULATION_COUNT;
+    }
     
     @Override
     public List<Integer> generate(Constraints constraints, Integer windowSize, List<NumberMetrics> metricsList) {
@@ -58,8 +73,11 @@ public class AiSimulationPreset implements Preset {
         // 4. 시뮬레이션: 여러 조합 생성
         List<ScoredCombination> scoredCombinations = new ArrayList<>();
         Random random = new Random();
+        long simulateNanos = 0;
+        long scoreNanos = 0;
         
         for (int i = 0; i < SIMULATION_COUNT; i++) {
+            long simulateStart = System.nanoTime();
             List<Integer> combination;
             
             // 다양한 방법으로 조합 생성 (다양성 확보)
@@ -89,16 +107,25 @@ public class AiSimulationPreset implements Preset {
             }
             
             // 5. 다차원 평가 점수 계산
+            long scoreStart = System.nanoTime();
+            simulateNanos += scoreStart - simulateStart;
             double score = calculateScore(combination, statistics, metricsList);
             scoredCombinations.add(new ScoredCombination(combination, score));
+            scoreNanos += System.nanoTime() - scoreStart;
         }
         
         // 6. 점수 기준 정렬하여 상위 조합 선별
+        long selectStart = System.nanoTime();
         scoredCombinations.sort((a, b) -> Double.compare(b.score, a.score));
         
         // 7. 상위 조합 중 랜덤 선택 (최상위만 선택하지 않고 다양성 확보)
         int topIndex = random.nextInt(Math.min(TOP_SELECTION_COUNT, scoredCombinations.size()));
-        return scoredCombinations.get(topIndex).combination;
+        List<Integer> selected = scoredCombinations.get(topIndex).combination;
+        
+        stageTimer.record(StageTimer.SIMULATE, simulateNanos);
+        stageTimer.record(StageTimer.SCORE, scoreNanos);
+        stageTimer.record(StageTimer.SELECT, System.nanoTime() - selectStart);
+        return selected;
     }
     
     /**
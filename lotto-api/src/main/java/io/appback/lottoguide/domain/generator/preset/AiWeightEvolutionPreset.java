@@ -20,6 +20,21 @@ public class AiWeightEvolutionPreset implements Preset {
     
     // 상위 선별 개수
     private static final int TOP_SELECTION_COUNT = 30;
+
+    private final StageTimer stageTimer;
+    
+    public AiWeightEvolutionPreset() {
+        this(StageTimer.NOOP);
+    }
+    
+    public AiWeightEvolutionPreset(StageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+    }
+    
+    @Override
+    public int sampleCount() {
+        return SIMULATION_COUNT;
+    }
     
     @Override
     public List<Integer> generate(Constraints constraints, Integer windowSize, List<NumberMetrics> metricsList) {
@@ -63,8 +78,11 @@ public class AiWeightEvolutionPreset implements Preset {
         // 5. 시뮬레이션: 여러 조합 생성
         List<ScoredCombination> scoredCombinations = new ArrayList<>();
         Random random = new Random();
+        long simulateNanos = 0;
+        long scoreNanos = 0;
         
         for (int i = 0; i < SIMULATION_COUNT; i++) {
+            long simulateStart = System.nanoTime();
             List<Integer> combination;
             
             // 적응형 가중치를 사용하여 조합 생성
@@ -81,16 +99,25 @@ public class AiWeightEvolutionPreset implements Preset {
             }
             
             // 6. 다차원 평가 점수 계산
+            long scoreStart = System.nanoTime();
+            simulateNanos += scoreStart - simulateStart;
             double score = calculateScore(combination, statistics, metricsList);
             scoredCombinations.add(new ScoredCombination(combination, score));
+            scoreNanos += System.nanoTime() - scoreStart;
         }
         
         // 7. 점수 기준 정렬하여 상위 조합 선별
+        long selectStart = System.nanoTime();
         scoredCombinations.sort((a, b) -> Double.compare(b.score, a.score));
         
         // 8. 상위 조합 중 랜덤 선택
         int topIndex = random.nextInt(Math.min(TOP_SELECTION_COUNT, scoredCombinations.size()));
-        return scoredCombinations.get(topIndex).combination;
+        List<Integer> selected = scoredCombinations.get(topIndex).combination;
+        
+        stageTimer.record(StageTimer.SIMULATE, simulateNanos);
+        stageTimer.record(StageTimer.SCORE, scoreNanos);
+        stageTimer.record(StageTimer.SELECT, System.nanoTime() - selectStart);
+        return selected;
     }
     
     /**
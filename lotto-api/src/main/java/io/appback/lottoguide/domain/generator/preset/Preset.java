@@ -19,6 +19,14 @@ public interface Preset {
      */
     List<Integer> generate(Constraints constraints, Integer windowSize, List<NumberMetrics> metricsList);
     
+    /**
+     * 세트 하나를 만들 때 평가하는 후보 조합 수 (프로파일링 이벤트용)
+     * 후보를 여러 개 만들어 고르는 시뮬레이션형 Preset만 재정의합니다.
+     */
+    default int sampleCount() {
+        return 1;
+    }
+    
     /**
      * 번호 메트릭 데이터 (Domain 레이어에서 사용)
      */
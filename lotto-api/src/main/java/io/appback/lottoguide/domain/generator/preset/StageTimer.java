@@ -0,0 +1,23 @@
+package io.appback.lottoguide.domain.generator.preset;
+
+/**
+ * Preset 내부 단계별 소요 시간 기록
+ *
+ * 시뮬레이션형 Preset이 generate 한 번에 단계(simulate/score/select)별 누적 시간을 넘깁니다.
+ * GeneratorEngine이 전략별 Timer에 연결하며, 직접 생성한 Preset은 NOOP을 사용합니다.
+ */
+@FunctionalInterface
+public interface StageTimer {
+
+    String SIMULATE = "simulate";
+    String SCORE = "score";
+    String SELECT = "select";
+
+    StageTimer NOOP = (stage, nanos) -> { };
+
+    /**
+     * @param stage 단계 이름
+     * @param nanos 소요 시간 (나노초)
+     */
+    void record(String stage, long nanos);
+}
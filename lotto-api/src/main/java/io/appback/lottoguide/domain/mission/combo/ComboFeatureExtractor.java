@@ -17,6 +17,42 @@ import java.util.Set;
 @Slf4j
 public class ComboFeatureExtractor {
     
+    /**
+     * 특성 그룹별 태그 (extractComboTags는 그룹마다 정확히 하나씩 선택)
+     */
+    private static final List<List<ComboTag>> TAG_GROUPS = List.of(
+        List.of(ComboTag.ODD_HEAVY, ComboTag.EVEN_HEAVY, ComboTag.ODD_EVEN_BALANCED),
+        List.of(ComboTag.SUM_HIGH, ComboTag.SUM_LOW, ComboTag.SUM_MID),
+        List.of(ComboTag.CONSECUTIVE, ComboTag.NO_CONSECUTIVE),
+        List.of(ComboTag.LOW_HEAVY, ComboTag.MID_HEAVY, ComboTag.HIGH_HEAVY, ComboTag.MIXED),
+        List.of(ComboTag.END_DIGIT_VARIED, ComboTag.END_DIGIT_CONCENTRATED)
+    );
+    
+    /**
+     * extractComboTags가 반환할 수 있는 모든 태그 조합
+     * (그룹별 1개씩 조합 144가지 + 번호가 6개가 아닐 때의 빈 집합)
+     * 
+     * @return 가능한 ComboTag 집합 목록
+     */
+    public static List<Set<ComboTag>> allComboSignatures() {
+        List<Set<ComboTag>> signatures = new ArrayList<>();
+        signatures.add(Set.of());
+        collectSignatures(0, new ArrayList<>(), signatures);
+        return signatures;
+    }
+    
+    private static void collectSignatures(int group, List<ComboTag> current, List<Set<ComboTag>> signatures) {
+        if (group == TAG_GROUPS.size()) {
+            signatures.add(Set.copyOf(current));
+            return;
+        }
+        for (ComboTag tag : TAG_GROUPS.get(group)) {
+            current.add(tag);
+            collectSignatures(group + 1, current, signatures);
+            current.remove(current.size() - 1);
+        }
+    }
+    
     /**
      * 번호 리스트에서 조합 특성 태그 추출
      * 
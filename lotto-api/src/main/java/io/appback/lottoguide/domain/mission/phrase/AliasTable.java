@@ -0,0 +1,90 @@
+package io.appback.lottoguide.domain.mission.phrase;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치 랜덤 선택용 별칭 테이블 (Vose's alias method)
+ *
+ * 구성 O(n), 선택 O(1). 멘트/템플릿 인덱스 재구성 시 한 번 만들고 요청마다 재사용합니다.
+ * 선택 확률은 누적 가중치 방식(weight / totalWeight)과 같습니다.
+ */
+public final class AliasTable {
+
+    private final int[] members;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param members 선택 대상 (배열 인덱스)
+     * @param weights members와 같은 순서의 가중치 (합이 0이면 균등 선택)
+     */
+    public AliasTable(int[] members, int[] weights) {
+        int n = members.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("선택 대상이 없습니다");
+        }
+        this.members = members;
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        long totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += Math.max(weight, 0);
+        }
+
+        double[] scaled = new double[n];
+        for (int i = 0; i < n; i++) {
+            scaled[i] = totalWeight > 0 ? Math.max(weights[i], 0) * (double) n / totalWeight : 1.0;
+        }
+
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // 부동소수점 오차로 남은 항목은 확률 1
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    /**
+     * 가중치 랜덤 선택
+     *
+     * @return 선택된 배열 인덱스
+     */
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(members.length);
+        return members[random.nextDouble() < probability[column] ? column : alias[column]];
+    }
+
+    int size() {
+        return members.length;
+    }
+
+    int[] members() {
+        return members;
+    }
+}
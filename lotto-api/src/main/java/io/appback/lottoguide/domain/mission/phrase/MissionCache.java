@@ -0,0 +1,182 @@
+package io.appback.lottoguide.domain.mission.phrase;
+
+import io.appback.lottoguide.domain.generator.model.Strategy;
+import io.appback.lottoguide.domain.mission.tag.ZodiacTag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 미션 멘트 캐시 (app.features.mission-cache-enabled)
+ *
+ * (전략, 조합 태그, 별자리) 키마다 미리 조합한 A/B/C 멘트를 작은 풀로 보관하고
+ * 요청에는 라운드로빈으로 꺼내 줍니다. 꺼낸 칸은 백그라운드 스레드 하나가 새 조합으로 다시 채우므로
+ * 같은 키의 요청도 매번 다른 멘트를 받습니다.
+ *
+ * - 키 수는 max-keys로 제한 (오래 쓰지 않은 키부터 제거)
+ * - 멘트 인덱스가 재구성되면 이전 스냅샷으로 만든 풀은 버리고 새로 채움
+ * - 제외 대상과 겹치는 항목은 건너뛰고, 쓸 항목이 없으면 미스로 처리 (호출자가 직접 선택)
+ * - 적중/미스는 mission.cache.requests{result=hit|miss} 메트릭으로 기록
+ */
+@Component
+@Slf4j
+public class MissionCache {
+
+    private final int poolSize;
+    private final int maxKeys;
+    private final Counter hits;
+    private final Counter misses;
+    private final ThreadPoolExecutor refillExecutor;
+    private final LinkedHashMap<Key, Pool> pools;
+
+    public MissionCache(MeterRegistry meterRegistry,
+                        @Value("${app.mission-cache.pool-size:8}") int poolSize,
+                        @Value("${app.mission-cache.max-keys:2000}") int maxKeys) {
+        this.poolSize = Math.max(1, poolSize);
+        this.maxKeys = Math.max(1, maxKeys);
+        this.hits = Counter.builder("mission.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("mission.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.pools = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Pool> eldest) {
+                return size() > MissionCache.this.maxKeys;
+            }
+        };
+        // 채우기 작업은 풀 단위로 한 번만 대기하므로 큐는 키 수만큼이면 충분
+        this.refillExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.maxKeys), runnable -> {
+                Thread thread = new Thread(runnable, "mission-cache-refill");
+                thread.setDaemon(true);
+                return thread;
+            });
+        meterRegistry.gauge("mission.cache.keys", this, MissionCache::keyCount);
+    }
+
+    /**
+     * 캐시 키
+     * 멘트는 톤과 무관하게 선택되므로 톤은 키에 포함하지 않습니다.
+     *
+     * @param strategy 전략 (null 허용)
+     * @param comboMask 조합 태그 비트마스크
+     * @param zodiac 별자리 (null = 없음)
+     */
+    record Key(Strategy strategy, long comboMask, ZodiacTag zodiac) {}
+
+    /**
+     * 풀에서 멘트 조합 꺼내기
+     *
+     * @param key 캐시 키
+     * @param snapshot 현재 멘트 인덱스 스냅샷
+     * @param usable 사용 가능 여부 (제외 대상 검사)
+     * @param generator 새 조합 생성 함수 (백그라운드 채우기용, 제외 조건 없이 생성)
+     * @return 꺼낸 조합 (없으면 null)
+     */
+    PhraseSelection take(Key key, PhraseIndex.Snapshot snapshot,
+                         Predicate<PhraseSelection> usable, Supplier<PhraseSelection> generator) {
+        Pool pool;
+        synchronized (pools) {
+            pool = pools.get(key);
+            if (pool == null || pool.snapshot != snapshot) {
+                pool = new Pool(snapshot, generator, poolSize);
+                pools.put(key, pool);
+            }
+        }
+
+        PhraseSelection selection = pool.take(usable);
+        if (selection != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        scheduleRefill(pool);
+        return selection;
+    }
+
+    private void scheduleRefill(Pool pool) {
+        if (!pool.refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(pool::refill);
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 다음 요청 때 다시 시도
+            pool.refillScheduled.set(false);
+        }
+    }
+
+    int keyCount() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refillExecutor.shutdownNow();
+    }
+
+    /**
+     * 키 하나의 멘트 풀
+     */
+    private static final class Pool {
+
+        private final PhraseIndex.Snapshot snapshot;
+        private final Supplier<PhraseSelection> generator;
+        private final AtomicReferenceArray<PhraseSelection> slots;
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+        Pool(PhraseIndex.Snapshot snapshot, Supplier<PhraseSelection> generator, int size) {
+            this.snapshot = snapshot;
+            this.generator = generator;
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        /**
+         * 라운드로빈으로 사용 가능한 항목 하나를 꺼냄 (꺼낸 칸은 비워짐)
+         */
+        PhraseSelection take(Predicate<PhraseSelection> usable) {
+            int size = slots.length();
+            for (int attempt = 0; attempt < size; attempt++) {
+                int slot = Math.floorMod(cursor.getAndIncrement(), size);
+                PhraseSelection selection = slots.get(slot);
+                if (selection != null && usable.test(selection) && slots.compareAndSet(slot, selection, null)) {
+                    return selection;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 빈 칸 채우기 (백그라운드 스레드)
+         */
+        void refill() {
+            try {
+                for (int slot = 0; slot < slots.length(); slot++) {
+                    if (slots.get(slot) == null) {
+                        slots.compareAndSet(slot, null, generator.get());
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("미션 캐시 채우기 실패: {}", e.getMessage());
+            } finally {
+                refillScheduled.set(false);
+            }
+        }
+    }
+}
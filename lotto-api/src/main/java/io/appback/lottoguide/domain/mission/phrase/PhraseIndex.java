@@ -0,0 +1,583 @@
+package io.appback.lottoguide.domain.mission.phrase;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.domain.generator.model.Strategy;
+import io.appback.lottoguide.domain.mission.combo.ComboFeatureExtractor;
+import io.appback.lottoguide.domain.mission.tag.ComboTag;
+import io.appback.lottoguide.domain.mission.tag.ZodiacTag;
+import io.appback.lottoguide.infra.monitoring.jfr.CacheRebuildEvent;
+import io.appback.lottoguide.infra.persistence.entity.MissionPhraseAEntity;
+import io.appback.lottoguide.infra.persistence.entity.MissionPhraseBEntity;
+import io.appback.lottoguide.infra.persistence.entity.MissionPhraseCEntity;
+import io.appback.lottoguide.infra.persistence.repository.MissionPhraseARepository;
+import io.appback.lottoguide.infra.persistence.repository.MissionPhraseBRepository;
+import io.appback.lottoguide.infra.persistence.repository.MissionPhraseCRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A/B/C 멘트 인메모리 인덱스
+ *
+ * 멘트 테이블을 한 번 읽어 요청 경로에서 쓰기 좋은 형태로 미리 컴파일합니다.
+ * - 전략/조합/별자리 태그: enum ordinal 비트마스크
+ * - A×B 호환성: A마다 호환되는 B 집합(BitSet)과 그 가중치 별칭 테이블
+ * - C 및 B 전체: 가중치 별칭 테이블
+ * - A 후보표: (전략, 조합 태그 조합, 별자리) 키마다 점수 상위 10% 후보와 별칭 테이블
+ *
+ * 애플리케이션 시작 시, 그리고 관리자 멘트 CSV 업로드 후 재구성합니다.
+ * 재구성은 새 스냅샷을 만든 뒤 참조만 교체하므로 요청은 항상 일관된 스냅샷을 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PhraseIndex {
+
+    private final MissionPhraseARepository phraseARepository;
+    private final MissionPhraseBRepository phraseBRepository;
+    private final MissionPhraseCRepository phraseCRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 지금 구성)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+            if (current == null) {
+                throw new IllegalStateException("멘트 인덱스를 구성할 수 없습니다");
+            }
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 멘트를 다시 읽어 인덱스 재구성
+     * 실패하면 이전 스냅샷을 유지합니다.
+     *
+     * @return 성공 여부
+     */
+    public synchronized boolean rebuild() {
+        long startTime = System.currentTimeMillis();
+        CacheRebuildEvent event = new CacheRebuildEvent();
+        event.begin();
+        try {
+            Snapshot built = build(phraseARepository.findAll(), phraseBRepository.findAll(), phraseCRepository.findAll());
+            snapshot = built;
+            event.entries = built.aCount() + built.bCount() + built.cCount();
+            event.success = true;
+            log.info("멘트 인덱스 구성 완료: A {}개, B {}개, C {}개, A×B 호환 {}쌍, A 후보표 {}키({}종), {}ms",
+                built.aCount(), built.bCount(), built.cCount(), built.compatiblePairCount(),
+                built.aCandidateKeyCount(), built.distinctACandidateCount(),
+                System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            log.error("멘트 인덱스 구성 실패 (이전 인덱스 유지): {}", e.getMessage(), e);
+            return false;
+        } finally {
+            if (event.shouldCommit()) {
+                event.cache = "phrase_index";
+                event.commit();
+            }
+        }
+    }
+
+    private Snapshot build(List<MissionPhraseAEntity> phrasesA,
+                           List<MissionPhraseBEntity> phrasesB,
+                           List<MissionPhraseCEntity> phrasesC) {
+        // A/B 호환성 비교용 태그 사전 (A의 전략/조합/별자리 태그, B의 align/avoid 태그 문자열)
+        Map<String, Integer> vocabulary = new HashMap<>();
+
+        int aCount = phrasesA.size();
+        long[] aIds = new long[aCount];
+        String[] aTexts = new String[aCount];
+        int[] aWeights = new int[aCount];
+        long[] aStrategyMasks = new long[aCount];
+        long[] aComboMasks = new long[aCount];
+        int[] aComboTagCounts = new int[aCount];
+        long[] aZodiacMasks = new long[aCount];
+        BitSet[] aMoods = new BitSet[aCount];
+
+        for (int i = 0; i < aCount; i++) {
+            MissionPhraseAEntity phrase = phrasesA.get(i);
+            Set<String> strategyTags = parseJsonArray(phrase.getStrategyTags());
+            Set<String> comboTags = parseJsonArray(phrase.getComboTags());
+            Set<String> zodiacTags = parseJsonArray(phrase.getZodiacTags());
+
+            aIds[i] = phrase.getId();
+            aTexts[i] = phrase.getText();
+            aWeights[i] = weightOf(phrase.getWeightBase());
+            aStrategyMasks[i] = enumMask(Strategy.class, strategyTags);
+            aComboMasks[i] = enumMask(ComboTag.class, comboTags);
+            aComboTagCounts[i] = comboTags.size();
+            aZodiacMasks[i] = enumMask(ZodiacTag.class, zodiacTags);
+
+            BitSet mood = new BitSet();
+            addTags(mood, vocabulary, strategyTags);
+            addTags(mood, vocabulary, comboTags);
+            addTags(mood, vocabulary, zodiacTags);
+            aMoods[i] = mood;
+        }
+
+        int bCount = phrasesB.size();
+        long[] bIds = new long[bCount];
+        String[] bTexts = new String[bCount];
+        int[] bWeights = new int[bCount];
+        BitSet[] bAlign = new BitSet[bCount];
+        BitSet[] bAvoid = new BitSet[bCount];
+
+        for (int j = 0; j < bCount; j++) {
+            MissionPhraseBEntity phrase = phrasesB.get(j);
+            bIds[j] = phrase.getId();
+            bTexts[j] = phrase.getText();
+            bWeights[j] = weightOf(phrase.getWeightBase());
+            bAlign[j] = new BitSet();
+            bAvoid[j] = new BitSet();
+            addTags(bAlign[j], vocabulary, parseJsonArray(phrase.getAlignTags()));
+            addTags(bAvoid[j], vocabulary, parseJsonArray(phrase.getAvoidTags()));
+        }
+
+        // A×B 호환성 행렬: alignTags 중 하나 이상이 A 태그와 일치하고, avoidTags는 하나도 일치하지 않음
+        BitSet[] compatibleB = new BitSet[aCount];
+        AliasTable[] compatibleBAlias = new AliasTable[aCount];
+        long compatiblePairs = 0;
+        for (int i = 0; i < aCount; i++) {
+            BitSet row = new BitSet(bCount);
+            for (int j = 0; j < bCount; j++) {
+                if (bAlign[j].intersects(aMoods[i]) && !bAvoid[j].intersects(aMoods[i])) {
+                    row.set(j);
+                }
+            }
+            compatibleB[i] = row;
+            compatiblePairs += row.cardinality();
+            if (!row.isEmpty()) {
+                int[] members = row.stream().toArray();
+                compatibleBAlias[i] = new AliasTable(members, pick(bWeights, members));
+            }
+        }
+
+        int cCount = phrasesC.size();
+        long[] cIds = new long[cCount];
+        String[] cTexts = new String[cCount];
+        int[] cWeights = new int[cCount];
+        for (int k = 0; k < cCount; k++) {
+            MissionPhraseCEntity phrase = phrasesC.get(k);
+            cIds[k] = phrase.getId();
+            cTexts[k] = phrase.getText();
+            cWeights[k] = weightOf(phrase.getWeightBase());
+        }
+
+        Snapshot built = new Snapshot(aIds, aTexts, aWeights, aStrategyMasks, aComboMasks, aComboTagCounts, aZodiacMasks,
+            compatibleB, compatibleBAlias, compatiblePairs,
+            bIds, bTexts, bWeights, bCount > 0 ? new AliasTable(range(bCount), bWeights) : null,
+            cIds, cTexts, cCount > 0 ? new AliasTable(range(cCount), cWeights) : null);
+        built.precomputeACandidates(ComboFeatureExtractor.allComboSignatures());
+        return built;
+    }
+
+    private static int weightOf(Integer weightBase) {
+        return weightBase != null ? weightBase : 1;
+    }
+
+    private static int[] range(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static int[] pick(int[] values, int[] indices) {
+        int[] picked = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            picked[i] = values[indices[i]];
+        }
+        return picked;
+    }
+
+    private static void addTags(BitSet target, Map<String, Integer> vocabulary, Set<String> tags) {
+        for (String tag : tags) {
+            target.set(vocabulary.computeIfAbsent(tag, key -> vocabulary.size()));
+        }
+    }
+
+    /**
+     * 태그 문자열을 enum ordinal 비트마스크로 변환 (알 수 없는 태그는 무시)
+     */
+    private static <E extends Enum<E>> long enumMask(Class<E> type, Collection<String> tags) {
+        long mask = 0L;
+        for (String tag : tags) {
+            try {
+                mask |= 1L << Enum.valueOf(type, tag).ordinal();
+            } catch (IllegalArgumentException e) {
+                // 해당 enum에 없는 태그
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * enum 집합을 비트마스크로 변환
+     */
+    static long enumMask(Collection<? extends Enum<?>> values) {
+        long mask = 0L;
+        for (Enum<?> value : values) {
+            mask |= 1L << value.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * JSON 배열 파싱
+     */
+    private Set<String> parseJsonArray(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            List<String> list = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+            Set<String> tags = new LinkedHashSet<>(list);
+            tags.remove(null);
+            return tags;
+        } catch (Exception e) {
+            log.warn("JSON 배열 파싱 실패: {}", json, e);
+            return Set.of();
+        }
+    }
+
+    private static final int STRATEGY_SLOTS = Strategy.values().length + 1;  // + 전략 없음
+    private static final int ZODIAC_SLOTS = ZodiacTag.values().length + 1;   // + 별자리 없음
+
+    /**
+     * 미리 계산된 A 후보
+     *
+     * @param members 점수 상위 10% A 인덱스 (점수 내림차순, 동점은 findAll 순서)
+     * @param alias members의 가중치 별칭 테이블
+     */
+    record ACandidates(int[] members, AliasTable alias) {}
+
+    /**
+     * 후보 목록 내용 비교용 키 (같은 목록 공유)
+     */
+    private record CandidateListKey(int[] members) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CandidateListKey key && Arrays.equals(members, key.members);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(members);
+        }
+    }
+
+    /**
+     * 읽기 전용 멘트 인덱스 스냅샷
+     * 배열 인덱스는 각 테이블의 findAll() 순서입니다.
+     */
+    public static final class Snapshot {
+
+        private final long[] aIds;
+        private final String[] aTexts;
+        private final int[] aWeights;
+        private final long[] aStrategyMasks;
+        private final long[] aComboMasks;
+        private final int[] aComboTagCounts;
+        private final long[] aZodiacMasks;
+        private final BitSet[] compatibleB;
+        private final AliasTable[] compatibleBAlias;
+        private final long compatiblePairCount;
+        private final Map<Long, Integer> aIndexById;
+
+        private final long[] bIds;
+        private final String[] bTexts;
+        private final int[] bWeights;
+        private final AliasTable bAlias;
+        private final Map<Long, Integer> bIndexById;
+
+        private final long[] cIds;
+        private final String[] cTexts;
+        private final AliasTable cAlias;
+
+        // A 후보표 (스냅샷 공개 전에 한 번 채움)
+        private Map<Long, Integer> comboSignatureIndex = Map.of();
+        private ACandidates[] aCandidateTable = new ACandidates[0];
+        private int distinctACandidateCount;
+
+        private Snapshot(long[] aIds, String[] aTexts, int[] aWeights, long[] aStrategyMasks, long[] aComboMasks,
+                         int[] aComboTagCounts, long[] aZodiacMasks, BitSet[] compatibleB,
+                         AliasTable[] compatibleBAlias, long compatiblePairCount,
+                         long[] bIds, String[] bTexts, int[] bWeights, AliasTable bAlias,
+                         long[] cIds, String[] cTexts, AliasTable cAlias) {
+            this.aIds = aIds;
+            this.aTexts = aTexts;
+            this.aWeights = aWeights;
+            this.aStrategyMasks = aStrategyMasks;
+            this.aComboMasks = aComboMasks;
+            this.aComboTagCounts = aComboTagCounts;
+            this.aZodiacMasks = aZodiacMasks;
+            this.compatibleB = compatibleB;
+            this.compatibleBAlias = compatibleBAlias;
+            this.compatiblePairCount = compatiblePairCount;
+            this.aIndexById = indexById(aIds);
+            this.bIds = bIds;
+            this.bTexts = bTexts;
+            this.bWeights = bWeights;
+            this.bAlias = bAlias;
+            this.bIndexById = indexById(bIds);
+            this.cIds = cIds;
+            this.cTexts = cTexts;
+            this.cAlias = cAlias;
+        }
+
+        private static Map<Long, Integer> indexById(long[] ids) {
+            Map<Long, Integer> index = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                index.put(ids[i], i);
+            }
+            return index;
+        }
+
+        private static BitSet indicesOf(Map<Long, Integer> indexById, long[] ids) {
+            BitSet indices = new BitSet();
+            for (long id : ids) {
+                Integer index = indexById.get(id);
+                if (index != null) {
+                    indices.set(index);
+                }
+            }
+            return indices;
+        }
+
+        /**
+         * A 후보표 생성
+         *
+         * A 점수는 (전략, 조합 태그, 별자리)에만 의존하므로 가능한 모든 키에 대해
+         * 점수 상위 10% 후보(점수 내림차순, 동점은 findAll 순서)와 별칭 테이블을 미리 만듭니다.
+         * 내용이 같은 후보 목록은 하나의 인스턴스를 공유합니다.
+         */
+        private void precomputeACandidates(List<Set<ComboTag>> comboSignatures) {
+            int signatureCount = comboSignatures.size();
+            Map<Long, Integer> signatureIndex = new HashMap<>(signatureCount * 2);
+            long[] comboMasks = new long[signatureCount];
+            for (int s = 0; s < signatureCount; s++) {
+                comboMasks[s] = enumMask(comboSignatures.get(s));
+                signatureIndex.put(comboMasks[s], s);
+            }
+
+            int keyCount = STRATEGY_SLOTS * signatureCount * ZODIAC_SLOTS;
+            ACandidates[] table = new ACandidates[keyCount];
+            if (aIds.length > 0) {
+                int[][] ranked = new int[keyCount][];
+                IntStream.range(0, keyCount).parallel().forEach(key -> {
+                    int zodiacSlot = key % ZODIAC_SLOTS;
+                    int signature = (key / ZODIAC_SLOTS) % signatureCount;
+                    int strategySlot = key / (ZODIAC_SLOTS * signatureCount);
+                    ranked[key] = rankTopA(slotMask(strategySlot, STRATEGY_SLOTS), comboMasks[signature],
+                        slotMask(zodiacSlot, ZODIAC_SLOTS));
+                });
+
+                Map<CandidateListKey, ACandidates> distinct = new HashMap<>();
+                for (int key = 0; key < keyCount; key++) {
+                    table[key] = distinct.computeIfAbsent(new CandidateListKey(ranked[key]),
+                        list -> new ACandidates(list.members(), new AliasTable(list.members(), pick(aWeights, list.members()))));
+                }
+                distinctACandidateCount = distinct.size();
+            }
+            this.comboSignatureIndex = signatureIndex;
+            this.aCandidateTable = table;
+        }
+
+        /**
+         * 전체 A 중 점수 상위 10% (점수 내림차순, 동점은 인덱스 오름차순)
+         *
+         * 키가 수만 개이므로 전체 정렬 대신 크기 topCount의 최소 힙(루트 = 현재 후보 중 가장 낮은 순위)을
+         * 기본형 배열로 유지합니다. O(n log k), 키마다 할당은 결과 크기만큼입니다.
+         */
+        private int[] rankTopA(long strategyMask, long comboMask, long zodiacMask) {
+            int n = aIds.length;
+            int topCount = Math.max(1, n / 10);
+            int[] heap = new int[topCount];
+            double[] heapScores = new double[topCount];
+            int size = 0;
+            for (int i = 0; i < n; i++) {
+                double score = scoreA(i, strategyMask, comboMask, zodiacMask);
+                if (size < topCount) {
+                    heap[size] = i;
+                    heapScores[size] = score;
+                    siftUp(heap, heapScores, size++);
+                } else if (ranksAbove(score, i, heapScores[0], heap[0])) {
+                    heap[0] = i;
+                    heapScores[0] = score;
+                    siftDown(heap, heapScores, 0, size);
+                }
+            }
+            // 힙 정렬: 가장 낮은 순위를 차례로 뒤로 보내면 앞에서부터 순위순이 됨
+            for (int end = size - 1; end > 0; end--) {
+                swap(heap, heapScores, 0, end);
+                siftDown(heap, heapScores, 0, end);
+            }
+            return heap;
+        }
+
+        private static boolean ranksAbove(double score, int phrase, double otherScore, int otherPhrase) {
+            int byScore = Double.compare(score, otherScore);
+            return byScore != 0 ? byScore > 0 : phrase < otherPhrase;
+        }
+
+        private static void siftUp(int[] heap, double[] scores, int child) {
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (!ranksAbove(scores[parent], heap[parent], scores[child], heap[child])) {
+                    return;
+                }
+                swap(heap, scores, parent, child);
+                child = parent;
+            }
+        }
+
+        private static void siftDown(int[] heap, double[] scores, int parent, int size) {
+            while (true) {
+                int lowest = parent;
+                int left = 2 * parent + 1;
+                int right = left + 1;
+                if (left < size && ranksAbove(scores[lowest], heap[lowest], scores[left], heap[left])) {
+                    lowest = left;
+                }
+                if (right < size && ranksAbove(scores[lowest], heap[lowest], scores[right], heap[right])) {
+                    lowest = right;
+                }
+                if (lowest == parent) {
+                    return;
+                }
+                swap(heap, scores, parent, lowest);
+                parent = lowest;
+            }
+        }
+
+        private static void swap(int[] heap, double[] scores, int i, int j) {
+            int phrase = heap[i];
+            heap[i] = heap[j];
+            heap[j] = phrase;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+
+        private static long slotMask(int slot, int slotCount) {
+            // 마지막 슬롯은 "없음" (전략 없음 / 별자리 없음)
+            return slot == slotCount - 1 ? 0L : 1L << slot;
+        }
+
+        /**
+         * A 멘트 점수
+         * ScoreA = 0.65*(strategy+combo match) + 0.25*(zodiac match) + 0.10*(random variety)
+         */
+        double scoreA(int phrase, long strategyMask, long comboMask, long zodiacMask) {
+            double score = 0.0;
+
+            // ① 번호 조합/전략 매칭 점수 (65%)
+            double strategyComboScore = 0.0;
+            if ((aStrategyMasks[phrase] & strategyMask) != 0) {
+                strategyComboScore += 0.4;  // 전략 일치
+            }
+
+            int comboMatchCount = Long.bitCount(aComboMasks[phrase] & comboMask);
+            if (comboMatchCount > 0) {
+                strategyComboScore += 0.6 * (comboMatchCount / (double) Math.max(aComboTagCounts[phrase], 1));  // 조합 특성 일치
+            }
+
+            score += 0.65 * strategyComboScore;
+
+            // ② 별자리 매칭 점수 (25%)
+            if ((aZodiacMasks[phrase] & zodiacMask) != 0) {
+                score += 0.25;
+            }
+
+            // ③ 순수 랜덤 다양성 점수 (10%)
+            score += 0.10 * aWeights[phrase] / 10.0;
+
+            return score;
+        }
+
+        /**
+         * 미리 계산된 A 후보 조회
+         *
+         * @param strategy 전략 (null 허용)
+         * @param comboMask 조합 태그 비트마스크
+         * @param zodiac 별자리 (null = 없음)
+         * @return 후보 (A가 없거나 알 수 없는 조합 태그면 null)
+         */
+        ACandidates aCandidates(Strategy strategy, long comboMask, ZodiacTag zodiac) {
+            Integer signature = comboSignatureIndex.get(comboMask);
+            if (signature == null || aCandidateTable.length == 0) {
+                return null;
+            }
+            int strategySlot = strategy != null ? strategy.ordinal() : STRATEGY_SLOTS - 1;
+            int zodiacSlot = zodiac != null ? zodiac.ordinal() : ZODIAC_SLOTS - 1;
+            return aCandidateTable[(strategySlot * comboSignatureIndex.size() + signature) * ZODIAC_SLOTS + zodiacSlot];
+        }
+
+        int aCandidateKeyCount() { return aCandidateTable.length; }
+        int distinctACandidateCount() { return distinctACandidateCount; }
+
+        int aCount() { return aIds.length; }
+        int bCount() { return bIds.length; }
+        int cCount() { return cIds.length; }
+        long compatiblePairCount() { return compatiblePairCount; }
+
+        long aId(int i) { return aIds[i]; }
+        String aText(int i) { return aTexts[i]; }
+        int aWeight(int i) { return aWeights[i]; }
+        long aStrategyMask(int i) { return aStrategyMasks[i]; }
+        long aComboMask(int i) { return aComboMasks[i]; }
+        int aComboTagCount(int i) { return aComboTagCounts[i]; }
+        long aZodiacMask(int i) { return aZodiacMasks[i]; }
+
+        /** A와 호환되는 B 인덱스 집합 (수정 금지) */
+        BitSet compatibleB(int aIndex) { return compatibleB[aIndex]; }
+        /** A와 호환되는 B 가중치 별칭 테이블 (호환 B가 없으면 null) */
+        AliasTable compatibleBAlias(int aIndex) { return compatibleBAlias[aIndex]; }
+
+        long bId(int j) { return bIds[j]; }
+        String bText(int j) { return bTexts[j]; }
+        int bWeight(int j) { return bWeights[j]; }
+        AliasTable bAlias() { return bAlias; }
+
+        long cId(int k) { return cIds[k]; }
+        String cText(int k) { return cTexts[k]; }
+        AliasTable cAlias() { return cAlias; }
+
+        /** A 멘트 ID 목록 -> 배열 인덱스 집합 (인덱스에 없는 ID는 무시) */
+        BitSet aIndicesOf(long[] ids) { return indicesOf(aIndexById, ids); }
+        /** B 멘트 ID 목록 -> 배열 인덱스 집합 (인덱스에 없는 ID는 무시) */
+        BitSet bIndicesOf(long[] ids) { return indicesOf(bIndexById, ids); }
+    }
+}
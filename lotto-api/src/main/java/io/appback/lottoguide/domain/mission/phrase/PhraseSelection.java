@@ -0,0 +1,11 @@
+package io.appback.lottoguide.domain.mission.phrase;
+
+/**
+ * 선택된 A/B/C 멘트의 스냅샷 배열 인덱스
+ *
+ * @param phraseA A 멘트 인덱스
+ * @param phraseB B 멘트 인덱스
+ * @param phraseC C 멘트 인덱스
+ */
+record PhraseSelection(int phraseA, int phraseB, int phraseC) {
+}
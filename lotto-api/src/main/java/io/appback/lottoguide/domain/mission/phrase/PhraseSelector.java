@@ -1,26 +1,26 @@
 package io.appback.lottoguide.domain.mission.phrase;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.config.FeatureFlags;
 import io.appback.lottoguide.domain.generator.model.Strategy;
 import io.appback.lottoguide.domain.mission.combo.ComboFeatureExtractor;
-import io.appback.lottoguide.domain.mission.tag.AlignTag;
 import io.appback.lottoguide.domain.mission.tag.ComboTag;
-import io.appback.lottoguide.domain.mission.tag.ToneTag;
 import io.appback.lottoguide.domain.mission.tag.ZodiacTag;
-import io.appback.lottoguide.infra.persistence.entity.MissionPhraseAEntity;
-import io.appback.lottoguide.infra.persistence.entity.MissionPhraseBEntity;
-import io.appback.lottoguide.infra.persistence.entity.MissionPhraseCEntity;
-import io.appback.lottoguide.infra.persistence.repository.MissionPhraseARepository;
-import io.appback.lottoguide.infra.persistence.repository.MissionPhraseBRepository;
-import io.appback.lottoguide.infra.persistence.repository.MissionPhraseCRepository;
+import io.appback.lottoguide.infra.monitoring.jfr.PhraseSelectionEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.random.RandomGenerator;
 
 /**
  * A/B/C 멘트 선택 서비스
@@ -29,319 +29,364 @@ import java.util.stream.Collectors;
  * - A: 번호 조합/전략 65%, 별자리 25%, 랜덤 10%
  * - B: A에 종속, alignTags/avoidTags 기반 필터링
  * - C: 완전 랜덤
+ * 
+ * 멘트는 {@link PhraseIndex}의 미리 컴파일된 스냅샷에서 선택합니다 (요청 경로에서 DB 조회/JSON 파싱 없음).
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PhraseSelector {
     
-    private final MissionPhraseARepository phraseARepository;
-    private final MissionPhraseBRepository phraseBRepository;
-    private final MissionPhraseCRepository phraseCRepository;
+    private final PhraseIndex phraseIndex;
     private final ComboFeatureExtractor comboFeatureExtractor;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecentPhraseStore recentPhraseStore;
+    private final MissionCache missionCache;
+    private final FeatureFlags featureFlags;
+    private final MeterRegistry meterRegistry;
     
-    // 중복 방지 설정 (프론트엔드에서 관리)
+    // 중복 방지 설정 (기록 키가 있으면 서버 측 최근 기록으로 적용)
     private static final int A_DUPLICATE_DAYS = 7;  // 최근 7일 동안 A 중복 최소화
     private static final int B_DUPLICATE_COUNT = 5;  // 최근 5회 동안 B 중복 강력 회피
     
     /**
      * A/B/C 멘트 선택
      * 
+     * 기록 키가 있으면 서버에 저장된 최근 기록으로 중복을 피합니다
+     * (최근 A_DUPLICATE_DAYS일 동안의 A, 최근 B_DUPLICATE_COUNT회의 B).
+     * 
      * @param strategy 사용자가 선택한 생성 전략
      * @param numbers 생성된 6개 번호
      * @param zodiacSign 별자리 (선택적)
-     * @param excludePhraseAIds 제외할 A 멘트 ID 목록 (프론트엔드 히스토리)
-     * @param excludePhraseBIds 제외할 B 멘트 ID 목록 (프론트엔드 히스토리)
+     * @param historyKey 최근 기록 키 (사용자/기기, null이면 서버 기록 사용 안 함)
      * @return 선택된 A/B/C 멘트 (ID 포함)
      */
     public SelectedPhrases selectPhrases(Strategy strategy, List<Integer> numbers, String zodiacSign,
-                                         List<Long> excludePhraseAIds, List<Long> excludePhraseBIds) {
-        // 1. 번호 조합 특성 추출
+                                         String historyKey) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PhraseSelectionEvent event = new PhraseSelectionEvent();
+        event.begin();
+        PhraseIndex.Snapshot index = phraseIndex.current();
+        int today = (int) LocalDate.now().toEpochDay();
+        ZodiacTag zodiac = zodiacTag(zodiacSign);
+        
+        // 제외 대상 (서버 최근 기록)
+        RecentPhraseStore.RecentPhrases recent = recentPhrases(historyKey, today);
+        BitSet excludedA = index.aIndicesOf(recent.phraseAIds());
+        BitSet excludedB = index.bIndicesOf(recent.phraseBIds());
+        
+        PhraseSelection selection = selectOne(index, strategy, numbers, zodiac, excludedA, excludedB);
+        if (historyKey != null) {
+            recentPhraseStore.record(historyKey, index.aId(selection.phraseA()), index.bId(selection.phraseB()), today);
+        }
+        
+        // 결과 반환 (ID 포함하여 프론트엔드에서 히스토리 저장)
+        SelectedPhrases result = toSelectedPhrases(index, selection);
+        sample.stop(meterRegistry.timer("phrase.select", "mode", "single"));
+        commit(event, "single", 1);
+        return result;
+    }
+    
+    /**
+     * 여러 번호 조합의 A/B/C 멘트 일괄 선택
+     * 
+     * 하나의 멘트 인덱스 스냅샷과 한 번 계산한 제외 대상을 공유하고,
+     * 앞에서 고른 A/B를 뒤 조합의 제외 대상에 추가하여 묶음 안에서 A/B가 반복되지 않게 합니다.
+     * (멘트 수가 묶음 크기보다 적으면 기존 규칙대로 제외 목록을 무시하고 선택)
+     * 
+     * @param strategy 사용자가 선택한 생성 전략
+     * @param numberSets 번호 조합 목록 (각 6개)
+     * @param zodiacSign 별자리 (선택적)
+     * @param historyKey 최근 기록 키 (사용자/기기, null이면 서버 기록 사용 안 함)
+     * @return 번호 조합 순서대로 선택된 멘트
+     */
+    public List<SelectedPhrases> selectPhrasesBatch(Strategy strategy, List<List<Integer>> numberSets, String zodiacSign,
+                                                    String historyKey) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PhraseSelectionEvent event = new PhraseSelectionEvent();
+        event.begin();
+        PhraseIndex.Snapshot index = phraseIndex.current();
+        int today = (int) LocalDate.now().toEpochDay();
+        ZodiacTag zodiac = zodiacTag(zodiacSign);
+        
+        RecentPhraseStore.RecentPhrases recent = recentPhrases(historyKey, today);
+        BitSet excludedA = index.aIndicesOf(recent.phraseAIds());
+        BitSet excludedB = index.bIndicesOf(recent.phraseBIds());
+        
+        List<SelectedPhrases> results = new ArrayList<>(numberSets.size());
+        for (List<Integer> numbers : numberSets) {
+            PhraseSelection selection = selectOne(index, strategy, numbers, zodiac, excludedA, excludedB);
+            
+            // 묶음 안 반복 방지
+            excludedA.set(selection.phraseA());
+            excludedB.set(selection.phraseB());
+            
+            if (historyKey != null) {
+                recentPhraseStore.record(historyKey, index.aId(selection.phraseA()), index.bId(selection.phraseB()), today);
+            }
+            results.add(toSelectedPhrases(index, selection));
+        }
+        sample.stop(meterRegistry.timer("phrase.select", "mode", "batch"));
+        commit(event, "batch", numberSets.size());
+        return results;
+    }
+    
+    /**
+     * JFR 멘트 선택 이벤트 기록 (녹화 중일 때만 필드 채움)
+     */
+    private static void commit(PhraseSelectionEvent event, String mode, int sets) {
+        if (event.shouldCommit()) {
+            event.mode = mode;
+            event.sets = sets;
+            event.commit();
+        }
+    }
+    
+    private RecentPhraseStore.RecentPhrases recentPhrases(String historyKey, int today) {
+        return historyKey != null
+            ? recentPhraseStore.recent(historyKey, today - A_DUPLICATE_DAYS + 1, B_DUPLICATE_COUNT)
+            : RecentPhraseStore.RecentPhrases.EMPTY;
+    }
+    
+    /**
+     * 번호 조합 하나의 A/B/C 선택
+     * (미션 캐시가 켜져 있으면 미리 조합된 풀에서 먼저 꺼냄)
+     */
+    private PhraseSelection selectOne(PhraseIndex.Snapshot index, Strategy strategy, List<Integer> numbers,
+                                      ZodiacTag zodiac, BitSet excludedA, BitSet excludedB) {
+        // 번호 조합 특성 추출
         Set<ComboTag> comboTags = comboFeatureExtractor.extractComboTags(numbers);
+        long comboMask = PhraseIndex.enumMask(comboTags);
         
-        // 2. A 선택 (제외 목록 적용)
-        MissionPhraseAEntity phraseA = selectPhraseA(strategy, comboTags, zodiacSign, excludePhraseAIds);
+        PhraseSelection selection = null;
+        if (featureFlags.isMissionCacheEnabled()) {
+            selection = missionCache.take(new MissionCache.Key(strategy, comboMask, zodiac), index,
+                candidate -> !excludedA.get(candidate.phraseA()) && !excludedB.get(candidate.phraseB()),
+                () -> select(index, ThreadLocalRandom.current(), strategy, comboMask, zodiac, new BitSet(), new BitSet()));
+        }
+        if (selection == null) {
+            selection = select(index, ThreadLocalRandom.current(), strategy, comboMask, zodiac, excludedA, excludedB);
+        }
+        return selection;
+    }
+    
+    /**
+     * A/B/C 멘트 선택 (제외 목록 적용)
+     */
+    private PhraseSelection select(PhraseIndex.Snapshot index, RandomGenerator random, Strategy strategy,
+                                   long comboMask, ZodiacTag zodiac, BitSet excludedA, BitSet excludedB) {
+        // A 선택
+        int phraseA = selectPhraseA(index, random, strategy, comboMask, zodiac, excludedA);
         
-        // 3. B 선택 (A에 종속, 제외 목록 적용)
-        MissionPhraseBEntity phraseB = selectPhraseB(phraseA, excludePhraseBIds);
+        // B 선택 (A에 종속)
+        int phraseB = selectPhraseB(index, random, phraseA, excludedB);
         
-        // 4. C 선택 (완전 랜덤)
-        MissionPhraseCEntity phraseC = selectPhraseC();
+        // C 선택 (완전 랜덤)
+        int phraseC = selectPhraseC(index, random);
         
-        // 5. 결과 반환 (ID 포함하여 프론트엔드에서 히스토리 저장)
+        return new PhraseSelection(phraseA, phraseB, phraseC);
+    }
+    
+    private SelectedPhrases toSelectedPhrases(PhraseIndex.Snapshot index, PhraseSelection selection) {
         return SelectedPhrases.builder()
-            .phraseA(phraseA.getText())
-            .phraseB(phraseB.getText())
-            .phraseC(phraseC.getText())
-            .phraseAId(phraseA.getId())
-            .phraseBId(phraseB.getId())
-            .phraseCId(phraseC.getId())
+            .phraseA(index.aText(selection.phraseA()))
+            .phraseB(index.bText(selection.phraseB()))
+            .phraseC(index.cText(selection.phraseC()))
+            .phraseAId(index.aId(selection.phraseA()))
+            .phraseBId(index.bId(selection.phraseB()))
+            .phraseCId(index.cId(selection.phraseC()))
             .build();
     }
     
     /**
      * A 멘트 선택
      * 가중치: 번호 조합/전략 65%, 별자리 25%, 랜덤 10%
+     * 
+     * 점수 상위 10% 후보는 인덱스 구성 시 (전략, 조합 태그, 별자리) 키별로 미리 계산되어 있으므로
+     * 제외 목록이 없으면 조회 한 번과 O(1) 가중치 선택으로 끝납니다.
+     * 
+     * @return A 멘트 인덱스
      */
-    private MissionPhraseAEntity selectPhraseA(Strategy strategy, Set<ComboTag> comboTags, String zodiacSign,
-                                               List<Long> excludePhraseAIds) {
-        List<MissionPhraseAEntity> allPhrases = phraseARepository.findAll();
-        
-        if (allPhrases.isEmpty()) {
+    private int selectPhraseA(PhraseIndex.Snapshot index, RandomGenerator random, Strategy strategy,
+                              long comboMask, ZodiacTag zodiac, BitSet excluded) {
+        int total = index.aCount();
+        if (total == 0) {
             throw new IllegalStateException("A 멘트가 없습니다");
         }
         
-        // 제외할 A 멘트 ID 집합 (프론트엔드 히스토리)
-        Set<Long> excludeSet = excludePhraseAIds != null ? new HashSet<>(excludePhraseAIds) : new HashSet<>();
-        
-        // 각 후보에 점수 부여 (제외 목록 제외)
-        List<ScoredPhraseA> scoredPhrases = allPhrases.stream()
-            .filter(phrase -> !excludeSet.contains(phrase.getId()))  // 제외 목록 필터링
-            .map(phrase -> {
-                double score = calculatePhraseAScore(phrase, strategy, comboTags, zodiacSign);
-                return new ScoredPhraseA(phrase, score);
-            })
-            .sorted((a, b) -> Double.compare(b.score, a.score))  // 내림차순
-            .collect(Collectors.toList());
+        int remaining = total - excluded.cardinality();
         
         // 제외 목록으로 인해 후보가 없으면 제외 목록 무시하고 선택
-        if (scoredPhrases.isEmpty()) {
+        if (remaining == 0) {
             log.warn("제외 목록으로 인해 A 멘트 후보가 없어 제외 목록을 무시하고 선택합니다.");
-            scoredPhrases = allPhrases.stream()
-                .map(phrase -> {
-                    double score = calculatePhraseAScore(phrase, strategy, comboTags, zodiacSign);
-                    return new ScoredPhraseA(phrase, score);
-                })
-                .sorted((a, b) -> Double.compare(b.score, a.score))
-                .collect(Collectors.toList());
+            excluded = new BitSet();  // 호출자의 제외 집합은 변경하지 않음
+            remaining = total;
         }
         
-        // 상위 10% 후보 중에서 가중치 랜덤 선택
-        int topCount = Math.max(1, scoredPhrases.size() / 10);
-        List<ScoredPhraseA> topCandidates = scoredPhrases.subList(0, Math.min(topCount, scoredPhrases.size()));
+        PhraseIndex.ACandidates precomputed = index.aCandidates(strategy, comboMask, zodiac);
+        if (precomputed != null) {
+            if (excluded.isEmpty()) {
+                return precomputed.alias().sample(random);
+            }
+            
+            // 남은 후보 기준 상위 10%는 미리 계산된 순위에서 제외 항목만 건너뛴 앞부분과 같음
+            int topCount = Math.max(1, remaining / 10);
+            int[] top = new int[topCount];
+            int topSize = 0;
+            long totalWeight = 0;
+            for (int member : precomputed.members()) {
+                if (!excluded.get(member)) {
+                    top[topSize++] = member;
+                    totalWeight += index.aWeight(member);
+                    if (topSize == topCount) {
+                        return selectByWeight(random, top, topSize, totalWeight, index::aWeight);
+                    }
+                }
+            }
+            // 제외 항목이 상위 후보 대부분을 차지하면 전체 점수 계산으로 진행
+        }
         
-        return selectPhraseAByWeight(topCandidates.stream()
-            .map(sp -> sp.phrase)
-            .collect(Collectors.toList()));
+        return selectPhraseAByScore(index, random, strategy, comboMask, zodiac, excluded, remaining);
     }
     
     /**
-     * A 멘트 점수 계산
-     * ScoreA = 0.65*(strategy+combo match) + 0.25*(zodiac match) + 0.10*(random variety)
+     * A 멘트 선택 (전체 후보 점수 계산)
+     * 미리 계산된 후보로 충분하지 않을 때만 사용
      */
-    private double calculatePhraseAScore(MissionPhraseAEntity phrase, Strategy strategy, 
-                                         Set<ComboTag> comboTags, String zodiacSign) {
-        double score = 0.0;
-        
-        // ① 번호 조합/전략 매칭 점수 (65%)
-        Set<String> strategyTags = parseJsonArray(phrase.getStrategyTags());
-        Set<String> phraseComboTags = parseJsonArray(phrase.getComboTags());
-        
-        double strategyComboScore = 0.0;
-        if (strategyTags.contains(strategy.name())) {
-            strategyComboScore += 0.4;  // 전략 일치
+    private int selectPhraseAByScore(PhraseIndex.Snapshot index, RandomGenerator random, Strategy strategy,
+                                     long comboMask, ZodiacTag zodiac, BitSet excluded, int candidateCount) {
+        int total = index.aCount();
+        int[] candidates = new int[candidateCount];
+        int c = 0;
+        for (int i = excluded.nextClearBit(0); i < total; i = excluded.nextClearBit(i + 1)) {
+            candidates[c++] = i;
         }
         
-        long comboMatchCount = phraseComboTags.stream()
-            .filter(tag -> comboTags.stream().anyMatch(ct -> ct.name().equals(tag)))
-            .count();
-        if (comboMatchCount > 0) {
-            strategyComboScore += 0.6 * (comboMatchCount / (double) Math.max(phraseComboTags.size(), 1));  // 조합 특성 일치
+        // 각 후보에 점수 부여
+        long strategyMask = strategy != null ? 1L << strategy.ordinal() : 0L;
+        long zodiacMask = zodiac != null ? 1L << zodiac.ordinal() : 0L;
+        double[] scores = new double[candidateCount];
+        for (c = 0; c < candidateCount; c++) {
+            scores[c] = index.scoreA(candidates[c], strategyMask, comboMask, zodiacMask);
         }
         
-        score += 0.65 * strategyComboScore;
-        
-        // ② 별자리 매칭 점수 (25%)
-        if (zodiacSign != null && !zodiacSign.isEmpty()) {
-            Set<String> zodiacTags = parseJsonArray(phrase.getZodiacTags());
-            String zodiacCode = zodiacToCode(zodiacSign);
-            if (zodiacTags.contains(zodiacCode)) {
-                score += 0.25;
+        // 상위 10% 후보 중에서 가중치 랜덤 선택
+        // (점수 내림차순 안정 정렬 후 앞에서 topCount개와 같은 집합: 기준 점수 초과 전부 + 기준 점수 동점은 앞에서부터)
+        int topCount = Math.max(1, candidateCount / 10);
+        double[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        double threshold = sorted[candidateCount - topCount];
+        int aboveThreshold = candidateCount - topCount;
+        while (aboveThreshold < candidateCount && sorted[aboveThreshold] == threshold) {
+            aboveThreshold++;
+        }
+        int tieSlots = topCount - (candidateCount - aboveThreshold);
+        
+        int[] top = new int[topCount];
+        int topSize = 0;
+        long totalWeight = 0;
+        for (c = 0; c < candidateCount && topSize < topCount; c++) {
+            boolean selected = scores[c] > threshold;
+            if (!selected && scores[c] == threshold && tieSlots > 0) {
+                tieSlots--;
+                selected = true;
+            }
+            if (selected) {
+                top[topSize++] = candidates[c];
+                totalWeight += index.aWeight(candidates[c]);
             }
         }
         
-        // ③ 순수 랜덤 다양성 점수 (10%)
-        score += 0.10 * (phrase.getWeightBase() != null ? phrase.getWeightBase() : 1) / 10.0;
-        
-        return score;
+        return selectByWeight(random, top, topSize, totalWeight, index::aWeight);
     }
     
     /**
      * B 멘트 선택 (A에 종속)
+     * 
+     * @return B 멘트 인덱스
      */
-    private MissionPhraseBEntity selectPhraseB(MissionPhraseAEntity phraseA, List<Long> excludePhraseBIds) {
-        List<MissionPhraseBEntity> allPhrases = phraseBRepository.findAll();
-        
-        if (allPhrases.isEmpty()) {
+    private int selectPhraseB(PhraseIndex.Snapshot index, RandomGenerator random, int phraseA,
+                              BitSet excluded) {
+        if (index.bCount() == 0) {
             throw new IllegalStateException("B 멘트가 없습니다");
         }
         
-        // A의 태그에서 alignTags 추출 (A의 분위기)
-        Set<String> aTags = new HashSet<>();
-        aTags.addAll(parseJsonArray(phraseA.getComboTags()));
-        aTags.addAll(parseJsonArray(phraseA.getStrategyTags()));
-        aTags.addAll(parseJsonArray(phraseA.getZodiacTags()));
+        // A와 호환되는 B (alignTags 일치, avoidTags 충돌 없음)
+        AliasTable compatibleAlias = index.compatibleBAlias(phraseA);
         
-        // 제외할 B 멘트 ID 집합 (프론트엔드 히스토리)
-        Set<Long> excludeSet = excludePhraseBIds != null ? new HashSet<>(excludePhraseBIds) : new HashSet<>();
+        // 호환되는 B가 없으면 전체에서 선택
+        if (compatibleAlias == null) {
+            return index.bAlias().sample(random);
+        }
         
-        // B 후보 필터링 (제외 목록 적용)
-        List<MissionPhraseBEntity> candidates = allPhrases.stream()
-            .filter(phraseB -> !excludeSet.contains(phraseB.getId()))  // 제외 목록 필터링
-            .filter(phraseB -> {
-                // alignTags와 A의 태그가 일치하는지 확인
-                Set<String> alignTags = parseJsonArray(phraseB.getAlignTags());
-                boolean hasMatch = alignTags.stream().anyMatch(aTags::contains);
-                
-                // avoidTags와 A의 태그가 충돌하는지 확인
-                Set<String> avoidTags = parseJsonArray(phraseB.getAvoidTags());
-                boolean hasConflict = avoidTags.stream().anyMatch(aTags::contains);
-                
-                return hasMatch && !hasConflict;
-            })
-            .collect(Collectors.toList());
+        if (!excluded.intersects(index.compatibleB(phraseA))) {
+            return compatibleAlias.sample(random);
+        }
         
-        // 필터링 결과가 없으면 제외 목록만 무시하고 다시 시도
-        if (candidates.isEmpty()) {
-            log.warn("제외 목록으로 인해 B 멘트 후보가 없어 제외 목록을 무시하고 선택합니다.");
-            candidates = allPhrases.stream()
-                .filter(phraseB -> {
-                    Set<String> alignTags = parseJsonArray(phraseB.getAlignTags());
-                    boolean hasMatch = alignTags.stream().anyMatch(aTags::contains);
-                    Set<String> avoidTags = parseJsonArray(phraseB.getAvoidTags());
-                    boolean hasConflict = avoidTags.stream().anyMatch(aTags::contains);
-                    return hasMatch && !hasConflict;
-                })
-                .collect(Collectors.toList());
+        // 제외 목록과 겹치면 남은 호환 후보에서 선택
+        int[] members = compatibleAlias.members();
+        int[] candidates = new int[members.length];
+        int candidateCount = 0;
+        long totalWeight = 0;
+        for (int member : members) {
+            if (!excluded.get(member)) {
+                candidates[candidateCount++] = member;
+                totalWeight += index.bWeight(member);
+            }
         }
         
-        // 여전히 없으면 전체에서 선택
-        if (candidates.isEmpty()) {
-            candidates = allPhrases;
+        // 필터링 결과가 없으면 제외 목록만 무시하고 다시 시도
+        if (candidateCount == 0) {
+            log.warn("제외 목록으로 인해 B 멘트 후보가 없어 제외 목록을 무시하고 선택합니다.");
+            return compatibleAlias.sample(random);
         }
         
-        return selectPhraseBByWeight(candidates);
+        return selectByWeight(random, candidates, candidateCount, totalWeight, index::bWeight);
     }
     
     /**
      * C 멘트 선택 (완전 랜덤)
+     * 
+     * @return C 멘트 인덱스
      */
-    private MissionPhraseCEntity selectPhraseC() {
-        List<MissionPhraseCEntity> allPhrases = phraseCRepository.findAll();
-        
-        if (allPhrases.isEmpty()) {
+    private int selectPhraseC(PhraseIndex.Snapshot index, RandomGenerator random) {
+        if (index.cCount() == 0) {
             throw new IllegalStateException("C 멘트가 없습니다");
         }
         
-        return selectPhraseCByWeight(allPhrases);
+        return index.cAlias().sample(random);
     }
     
     /**
-     * 가중치 기반 랜덤 선택 (MissionPhraseAEntity)
+     * 가중치 기반 랜덤 선택 (요청마다 달라지는 후보 집합용, O(후보 수))
      */
-    private MissionPhraseAEntity selectPhraseAByWeight(List<MissionPhraseAEntity> items) {
-        if (items.isEmpty()) {
-            return null;
-        }
-        
-        if (items.size() == 1) {
-            return items.get(0);
-        }
-        
-        Random random = new Random();
-        int totalWeight = items.stream()
-            .mapToInt(item -> item.getWeightBase() != null ? item.getWeightBase() : 1)
-            .sum();
-        
-        int randomValue = random.nextInt(totalWeight);
-        int currentWeight = 0;
-        
-        for (MissionPhraseAEntity item : items) {
-            currentWeight += item.getWeightBase() != null ? item.getWeightBase() : 1;
-            if (randomValue < currentWeight) {
-                return item;
-            }
-        }
-        
-        return items.get(items.size() - 1);
-    }
-    
-    /**
-     * 가중치 기반 랜덤 선택 (MissionPhraseBEntity)
-     */
-    private MissionPhraseBEntity selectPhraseBByWeight(List<MissionPhraseBEntity> items) {
-        if (items.isEmpty()) {
-            return null;
-        }
-        
-        if (items.size() == 1) {
-            return items.get(0);
+    private int selectByWeight(RandomGenerator random, int[] items, int size, long totalWeight,
+                               IntUnaryOperator weightOf) {
+        if (size == 1 || totalWeight <= 0) {
+            return items[size == 1 ? 0 : random.nextInt(size)];
         }
         
-        Random random = new Random();
-        int totalWeight = items.stream()
-            .mapToInt(item -> item.getWeightBase() != null ? item.getWeightBase() : 1)
-            .sum();
-        
-        int randomValue = random.nextInt(totalWeight);
-        int currentWeight = 0;
+        long randomValue = random.nextLong(totalWeight);
+        long currentWeight = 0;
         
-        for (MissionPhraseBEntity item : items) {
-            currentWeight += item.getWeightBase() != null ? item.getWeightBase() : 1;
+        for (int i = 0; i < size; i++) {
+            currentWeight += weightOf.applyAsInt(items[i]);
             if (randomValue < currentWeight) {
-                return item;
+                return items[i];
             }
         }
         
-        return items.get(items.size() - 1);
+        return items[size - 1];
     }
     
     /**
-     * 가중치 기반 랜덤 선택 (MissionPhraseCEntity)
+     * 별자리 이름을 별자리 태그로 변환 (없거나 알 수 없으면 null)
      */
-    private MissionPhraseCEntity selectPhraseCByWeight(List<MissionPhraseCEntity> items) {
-        if (items.isEmpty()) {
+    private ZodiacTag zodiacTag(String zodiacSign) {
+        if (zodiacSign == null || zodiacSign.isEmpty()) {
             return null;
         }
-        
-        if (items.size() == 1) {
-            return items.get(0);
-        }
-        
-        Random random = new Random();
-        int totalWeight = items.stream()
-            .mapToInt(item -> item.getWeightBase() != null ? item.getWeightBase() : 1)
-            .sum();
-        
-        int randomValue = random.nextInt(totalWeight);
-        int currentWeight = 0;
-        
-        for (MissionPhraseCEntity item : items) {
-            currentWeight += item.getWeightBase() != null ? item.getWeightBase() : 1;
-            if (randomValue < currentWeight) {
-                return item;
-            }
-        }
-        
-        return items.get(items.size() - 1);
-    }
-    
-    /**
-     * JSON 배열 파싱
-     */
-    private Set<String> parseJsonArray(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return Set.of();
-        }
-        
-        try {
-            List<String> list = objectMapper.readValue(json, new TypeReference<List<String>>() {});
-            return new HashSet<>(list);
-        } catch (Exception e) {
-            log.warn("JSON 배열 파싱 실패: {}", json, e);
-            return Set.of();
-        }
+        String code = zodiacToCode(zodiacSign);
+        return code != null ? ZodiacTag.valueOf(code) : null;
     }
     
     /**
@@ -364,18 +409,4 @@ public class PhraseSelector {
             default -> null;
         };
     }
-    
-    
-    /**
-     * 점수가 부여된 A 멘트
-     */
-    private static class ScoredPhraseA {
-        final MissionPhraseAEntity phrase;
-        final double score;
-        
-        ScoredPhraseA(MissionPhraseAEntity phrase, double score) {
-            this.phrase = phrase;
-            this.score = score;
-        }
-    }
 }
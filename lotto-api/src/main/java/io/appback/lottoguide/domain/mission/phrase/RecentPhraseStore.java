@@ -0,0 +1,299 @@
+package io.appback.lottoguide.domain.mission.phrase;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자/기기별 최근 멘트 기록 (서버 측 중복 방지용)
+ *
+ * 키(사용자 ID 또는 기기 ID)마다 고정 크기 원시 배열 링 버퍼를 두고,
+ * 전체는 메모리 상한으로 계산한 최대 키 수의 LRU로 관리합니다 (오래 쓰지 않은 키부터 제거).
+ *
+ * persist-file을 지정하면 주기적으로, 그리고 종료 시 파일로 저장하고 기동 시 다시 읽습니다.
+ * 저장은 선택 기능이므로 파일 오류는 로그만 남기고 메모리 기록으로 계속 동작합니다.
+ */
+@Component
+@Slf4j
+public class RecentPhraseStore {
+
+    private static final int FILE_MAGIC = 0x4C47_5248;  // "LGRH"
+    private static final int FILE_VERSION = 1;
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Value("${app.mission-history.a-capacity:32}")
+    private int aCapacity;
+
+    @Value("${app.mission-history.b-capacity:8}")
+    private int bCapacity;
+
+    @Value("${app.mission-history.max-memory-mb:32}")
+    private int maxMemoryMb;
+
+    @Value("${app.mission-history.persist-file:}")
+    private String persistFile;
+
+    private int maxKeys;
+    private LinkedHashMap<String, History> histories;
+
+    @PostConstruct
+    void init() {
+        maxKeys = (int) Math.max(1, Math.min(Integer.MAX_VALUE,
+            (long) maxMemoryMb * 1024 * 1024 / estimatedBytesPerKey()));
+        histories = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, History> eldest) {
+                return size() > maxKeys;
+            }
+        };
+        log.info("최근 멘트 기록: 최대 {}키 (메모리 상한 {}MB, A {}개/B {}개 링 버퍼)",
+            maxKeys, maxMemoryMb, aCapacity, bCapacity);
+        load();
+    }
+
+    /**
+     * 사용자 ID / 기기 ID로 기록 키 생성 (둘 다 없으면 null)
+     */
+    public static String historyKey(Long userId, String deviceId) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        if (deviceId != null && !deviceId.isBlank()) {
+            String trimmed = deviceId.trim();
+            return "d:" + (trimmed.length() > MAX_KEY_LENGTH ? trimmed.substring(0, MAX_KEY_LENGTH) : trimmed);
+        }
+        return null;
+    }
+
+    /**
+     * 최근 멘트 조회
+     *
+     * @param key 기록 키
+     * @param sinceEpochDay 이 날짜(epoch day) 이후에 나온 A만 포함
+     * @param bCount 최근 B 개수
+     */
+    public RecentPhrases recent(String key, int sinceEpochDay, int bCount) {
+        History history;
+        synchronized (this) {
+            history = histories.get(key);
+        }
+        if (history == null) {
+            return RecentPhrases.EMPTY;
+        }
+        return history.recent(sinceEpochDay, bCount);
+    }
+
+    /**
+     * 선택된 멘트 기록
+     */
+    public void record(String key, long phraseAId, long phraseBId, int epochDay) {
+        History history;
+        synchronized (this) {
+            history = histories.computeIfAbsent(key, k -> new History(aCapacity, bCapacity));
+        }
+        history.record(phraseAId, phraseBId, epochDay);
+    }
+
+    /**
+     * 파일로 저장 (persist-file 설정 시)
+     */
+    @Scheduled(fixedDelayString = "${app.mission-history.persist-interval-ms:600000}",
+               initialDelayString = "${app.mission-history.persist-interval-ms:600000}")
+    public void persist() {
+        if (persistFile == null || persistFile.isBlank()) {
+            return;
+        }
+        List<Map.Entry<String, History>> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(histories.entrySet());
+        }
+
+        Path target = Paths.get(persistFile).toAbsolutePath().normalize();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(entries.size());
+                // LRU 순서(오래된 것부터)로 저장하여 다시 읽을 때 순서 유지
+                for (Map.Entry<String, History> entry : entries) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("최근 멘트 기록 저장: {}키 -> {}", entries.size(), target);
+        } catch (IOException e) {
+            log.warn("최근 멘트 기록 저장 실패: file={}, error={}", target, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        persist();
+    }
+
+    private void load() {
+        if (persistFile == null || persistFile.isBlank()) {
+            return;
+        }
+        Path source = Paths.get(persistFile).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(source)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                log.warn("최근 멘트 기록 파일 형식이 달라 무시합니다: {}", source);
+                return;
+            }
+            int count = in.readInt();
+            synchronized (this) {
+                for (int i = 0; i < count; i++) {
+                    String key = in.readUTF();
+                    History history = new History(aCapacity, bCapacity);
+                    history.readFrom(in);
+                    histories.put(key, history);
+                }
+            }
+            log.info("최근 멘트 기록 로드: {}키 (파일 {}키)", histories.size(), count);
+        } catch (IOException e) {
+            log.warn("최근 멘트 기록 로드 실패, 빈 기록으로 시작: file={}, error={}", source, e.getMessage());
+        }
+    }
+
+    /**
+     * 키당 대략적인 메모리 (링 버퍼 배열 + 객체/맵 엔트리/키 문자열)
+     */
+    private long estimatedBytesPerKey() {
+        return 160L + aCapacity * 12L + bCapacity * 8L;
+    }
+
+    /**
+     * 최근 멘트 ID
+     *
+     * @param phraseAIds 기간 내 A 멘트 ID
+     * @param phraseBIds 최근 B 멘트 ID
+     */
+    public record RecentPhrases(long[] phraseAIds, long[] phraseBIds) {
+        static final RecentPhrases EMPTY = new RecentPhrases(new long[0], new long[0]);
+    }
+
+    /**
+     * 키 하나의 링 버퍼
+     */
+    private static final class History {
+
+        private final long[] aIds;
+        private final int[] aDays;
+        private int aSize;
+        private int aNext;
+
+        private final long[] bIds;
+        private int bSize;
+        private int bNext;
+
+        History(int aCapacity, int bCapacity) {
+            this.aIds = new long[aCapacity];
+            this.aDays = new int[aCapacity];
+            this.bIds = new long[bCapacity];
+        }
+
+        synchronized void record(long phraseAId, long phraseBId, int epochDay) {
+            addA(phraseAId, epochDay);
+            addB(phraseBId);
+        }
+
+        synchronized RecentPhrases recent(int sinceEpochDay, int bCount) {
+            long[] a = new long[aSize];
+            int aFound = 0;
+            for (int i = 0; i < aSize; i++) {
+                if (aDays[i] >= sinceEpochDay) {
+                    a[aFound++] = aIds[i];
+                }
+            }
+
+            int bFound = Math.min(bCount, bSize);
+            long[] b = new long[bFound];
+            for (int i = 0; i < bFound; i++) {
+                b[i] = bIds[Math.floorMod(bNext - 1 - i, bIds.length)];
+            }
+            return new RecentPhrases(aFound == aSize ? a : Arrays.copyOf(a, aFound), b);
+        }
+
+        private void addA(long phraseAId, int epochDay) {
+            if (aIds.length == 0) {
+                return;
+            }
+            aIds[aNext] = phraseAId;
+            aDays[aNext] = epochDay;
+            aNext = (aNext + 1) % aIds.length;
+            aSize = Math.min(aSize + 1, aIds.length);
+        }
+
+        private void addB(long phraseBId) {
+            if (bIds.length == 0) {
+                return;
+            }
+            bIds[bNext] = phraseBId;
+            bNext = (bNext + 1) % bIds.length;
+            bSize = Math.min(bSize + 1, bIds.length);
+        }
+
+        /**
+         * 오래된 것부터 기록
+         */
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeShort(aSize);
+            for (int i = 0; i < aSize; i++) {
+                int slot = Math.floorMod(aNext - aSize + i, aIds.length);
+                out.writeLong(aIds[slot]);
+                out.writeInt(aDays[slot]);
+            }
+            out.writeShort(bSize);
+            for (int i = 0; i < bSize; i++) {
+                out.writeLong(bIds[Math.floorMod(bNext - bSize + i, bIds.length)]);
+            }
+        }
+
+        /**
+         * 저장된 순서대로 다시 추가 (용량이 줄었으면 최근 것만 남음)
+         */
+        synchronized void readFrom(DataInputStream in) throws IOException {
+            int aCount = in.readUnsignedShort();
+            for (int i = 0; i < aCount; i++) {
+                long id = in.readLong();
+                addA(id, in.readInt());
+            }
+            int bCount = in.readUnsignedShort();
+            for (int i = 0; i < bCount; i++) {
+                addB(in.readLong());
+            }
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package io.appback.lottoguide.domain.mission.policy;
 
+import io.appback.lottoguide.infra.persistence.repository.ForbiddenPhraseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -9,12 +14,20 @@ import java.util.List;
  * 금지된 표현 감지기
  * 확률/보장 관련 표현을 차단
  * 
- * 현재는 LLM 통합 전 단계이므로 기본 구조만 구현
+ * 금지 표현 사전(forbidden_phrase 테이블, 관리자 편집)으로 Aho–Corasick 오토마톤을 만들어
+ * 사전 크기와 무관하게 텍스트를 한 번만 훑어 검사합니다.
+ * 사전이 바뀌면 새 오토마톤을 만든 뒤 참조만 교체하므로 검사 중인 요청에는 영향이 없습니다.
+ * DB를 읽기 전(또는 읽기 실패 시)에는 기본 표현 목록을 사용합니다.
  */
 @Component
+@RequiredArgsConstructor
+@Slf4j
 public class ForbiddenPhraseDetector {
     
-    private static final List<String> FORBIDDEN_PHRASES = Arrays.asList(
+    /**
+     * 기본 금지 표현 (사전 테이블 초기 데이터)
+     */
+    public static final List<String> DEFAULT_PHRASES = Arrays.asList(
         "보장",
         "확실",
         "확률 증가",
@@ -25,6 +38,33 @@ public class ForbiddenPhraseDetector {
         "확실히"
     );
     
+    private final ForbiddenPhraseRepository forbiddenPhraseRepository;
+    
+    private volatile PhraseAutomaton automaton = new PhraseAutomaton(DEFAULT_PHRASES);
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+    
+    /**
+     * 사전 테이블에서 오토마톤 재구성
+     * 실패하면 이전 오토마톤을 유지합니다.
+     * 
+     * @return 성공 여부
+     */
+    public synchronized boolean reload() {
+        try {
+            PhraseAutomaton built = new PhraseAutomaton(forbiddenPhraseRepository.findAllPhrases());
+            automaton = built;
+            log.info("금지 표현 사전 로드 완료: {}개", built.size());
+            return true;
+        } catch (Exception e) {
+            log.error("금지 표현 사전 로드 실패 (이전 사전 유지): {}", e.getMessage(), e);
+            return false;
+        }
+    }
+    
     /**
      * 금지된 표현이 포함되어 있는지 확인
      * @param text 검사할 텍스트
@@ -34,22 +74,33 @@ public class ForbiddenPhraseDetector {
         if (text == null || text.trim().isEmpty()) {
             return false;
         }
-        
-        String lowerText = text.toLowerCase();
-        
-        for (String phrase : FORBIDDEN_PHRASES) {
-            if (lowerText.contains(phrase.toLowerCase())) {
-                return true;
-            }
+        return automaton.containsAny(text);
+    }
+    
+    /**
+     * 금지된 표현 일치 구간 검색 (가리기용)
+     * @param text 검사할 텍스트
+     * @return 일치 구간 목록 (끝 위치 순, 겹치는 구간 포함)
+     */
+    public List<PhraseAutomaton.Match> findForbiddenPhrases(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
         }
-        
-        return false;
+        return automaton.findAll(text);
+    }
+    
+    /**
+     * 가장 긴 금지 표현의 길이
+     * 스트리밍 검사 시 이 길이보다 1 짧은 만큼만 보류하면 토큰 경계에 걸친 표현도 감지할 수 있습니다.
+     */
+    public int getMaxPhraseLength() {
+        return automaton.maxPhraseLength();
     }
     
     /**
      * 금지된 표현 목록 반환
      */
     public List<String> getForbiddenPhrases() {
-        return FORBIDDEN_PHRASES;
+        return automaton.phrases();
     }
 }
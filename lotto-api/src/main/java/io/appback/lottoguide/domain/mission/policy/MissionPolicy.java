@@ -1,30 +1,80 @@
 package io.appback.lottoguide.domain.mission.policy;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Mission 정책 검증
  * 
- * 현재는 LLM 통합 전 단계이므로 기본 구조만 구현
+ * 빈 텍스트는 거부하고, 금지 표현은 거부 대신 가린 텍스트로 바꿉니다 (redact).
+ * - 멘트 조합 미션: MissionUseCase에서 조합한 문장을 가림
+ * - LLM 미션: LlmClientAdapter에서 응답을 가리고, 비어 있으면 템플릿 미션으로 대체
+ * - LLM 스트리밍: StreamingResponseFilter가 토큰마다 redactInto로 가림
  */
 @Component
+@RequiredArgsConstructor
 public class MissionPolicy {
     
+    private static final char REDACTION_MASK = '*';
+    
+    private final ForbiddenPhraseDetector forbiddenPhraseDetector;
+    
     /**
      * 미션 텍스트 정책 검증
+     * 금지 표현은 redact로 가리므로 위반으로 보지 않습니다.
      * @param missionText 미션 텍스트
      * @return 정책 위반 여부 (true: 위반, false: 정상)
      */
     public boolean violatesPolicy(String missionText) {
-        if (missionText == null || missionText.trim().isEmpty()) {
-            return true;
+        return missionText == null || missionText.trim().isEmpty();
+    }
+    
+    /**
+     * 금지 표현 가리기
+     * 일치한 구간(겹치는 구간 포함)의 글자를 모두 마스크 문자로 바꿉니다.
+     * @param missionText 미션 텍스트
+     * @return 가린 텍스트 (금지 표현이 없으면 원문 그대로)
+     */
+    public String redact(String missionText) {
+        if (missionText == null || missionText.isEmpty()) {
+            return missionText;
+        }
+        StringBuilder redacted = new StringBuilder(missionText);
+        if (redactInto(missionText, 0, redacted) == 0) {
+            return missionText;
         }
-        
-        // TODO: LLM 통합 시 실제 정책 검증 로직 구현
-        // - 확률/보장 관련 표현 차단
-        // - 금지된 의미론 검사
-        
-        return false;
+        return redacted.toString();
+    }
+    
+    /**
+     * 금지 표현 가리기 (스트리밍용)
+     * 원문을 from 위치부터 검사하고, 일치 구간을 같은 위치의 target 글자에 마스크 문자로 씁니다.
+     * 검사는 항상 원문으로 하므로 이미 가린 구간과 겹치는 금지 표현도 감지합니다.
+     * @param source 원문 (target과 길이, 위치가 같아야 함)
+     * @param from 검사 시작 위치
+     * @param target 가린 텍스트를 쓸 버퍼
+     * @return 일치한 금지 표현 수
+     */
+    public int redactInto(CharSequence source, int from, StringBuilder target) {
+        List<PhraseAutomaton.Match> matches =
+            forbiddenPhraseDetector.findForbiddenPhrases(source.subSequence(from, source.length()).toString());
+        for (PhraseAutomaton.Match match : matches) {
+            for (int i = from + match.start(); i < from + match.end(); i++) {
+                if (!Character.isWhitespace(target.charAt(i))) {
+                    target.setCharAt(i, REDACTION_MASK);
+                }
+            }
+        }
+        return matches.size();
+    }
+    
+    /**
+     * 가장 긴 금지 표현의 길이 (스트리밍 보류 길이 계산용)
+     */
+    public int getMaxPhraseLength() {
+        return forbiddenPhraseDetector.getMaxPhraseLength();
     }
     
     /**
@@ -0,0 +1,211 @@
+package io.appback.lottoguide.domain.mission.policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 금지 표현 검색용 Aho–Corasick 오토마톤 (불변, 스레드 안전)
+ *
+ * 사전 크기와 무관하게 텍스트를 한 번만 훑어 모든 일치 구간을 찾습니다.
+ * 대소문자는 글자 단위 소문자 변환으로 무시하므로 일치 구간의 위치는 원문 인덱스와 같습니다.
+ *
+ * 상태별 전이는 정렬된 char 배열 + 이진 탐색으로 저장하고 (한글처럼 글자 종류가 많아도 메모리가 작음),
+ * 실패 링크는 검색 중에 따라가며, 겹치는 일치는 사전 링크로 바로 찾습니다.
+ */
+public final class PhraseAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final String[] phrases;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    /** 이 상태에서 끝나는 표현 번호 (-1 = 없음) */
+    private final int[] output;
+    /** 실패 링크를 따라가며 처음 만나는 출력 상태 (-1 = 없음) */
+    private final int[] dictionaryLink;
+    private final int maxPhraseLength;
+
+    /**
+     * 일치 구간
+     *
+     * @param start 시작 인덱스 (포함)
+     * @param end 끝 인덱스 (제외)
+     * @param phrase 일치한 사전 표현 (소문자)
+     */
+    public record Match(int start, int end, String phrase) {}
+
+    /**
+     * @param dictionary 금지 표현 목록 (null/공백은 무시, 중복 제거)
+     */
+    public PhraseAutomaton(Collection<String> dictionary) {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String phrase : dictionary) {
+            if (phrase != null && !phrase.isBlank()) {
+                unique.add(lowerCase(phrase.trim()));
+            }
+        }
+        this.phrases = unique.toArray(new String[0]);
+
+        int capacity = 1;
+        int longest = 0;
+        for (String phrase : phrases) {
+            capacity += phrase.length();
+            longest = Math.max(longest, phrase.length());
+        }
+        this.maxPhraseLength = longest;
+
+        // 1. 트라이 구성 (구성 중 자식 검색은 (상태, 글자) 해시로)
+        Map<Long, Integer> edges = new HashMap<>(capacity * 2);
+        List<StringBuilder> keys = new ArrayList<>(capacity);
+        List<List<Integer>> targets = new ArrayList<>(capacity);
+        keys.add(new StringBuilder());
+        targets.add(new ArrayList<>());
+        int[] out = new int[capacity];
+        Arrays.fill(out, -1);
+
+        for (int p = 0; p < phrases.length; p++) {
+            int state = ROOT;
+            for (int i = 0; i < phrases[p].length(); i++) {
+                char c = phrases[p].charAt(i);
+                long edge = ((long) state << 16) | c;
+                Integer next = edges.get(edge);
+                if (next == null) {
+                    next = keys.size();
+                    edges.put(edge, next);
+                    keys.get(state).append(c);
+                    targets.get(state).add(next);
+                    keys.add(new StringBuilder());
+                    targets.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            out[state] = p;
+        }
+
+        int stateCount = keys.size();
+        this.edgeChars = new char[stateCount][];
+        this.edgeTargets = new int[stateCount][];
+        for (int s = 0; s < stateCount; s++) {
+            sortEdges(s, keys.get(s), targets.get(s));
+        }
+        this.output = Arrays.copyOf(out, stateCount);
+
+        // 2. 실패 링크 / 사전 링크 (BFS)
+        this.failure = new int[stateCount];
+        this.dictionaryLink = new int[stateCount];
+        Arrays.fill(dictionaryLink, -1);
+        int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int e = 0; e < edgeChars[state].length; e++) {
+                char c = edgeChars[state][e];
+                int child = edgeTargets[state][e];
+                int fallback = failure[state];
+                int next;
+                while ((next = transition(fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 ? next : ROOT;
+                int link = failure[child];
+                dictionaryLink[child] = output[link] >= 0 ? link : dictionaryLink[link];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * 금지 표현 포함 여부 (첫 일치에서 종료)
+     */
+    public boolean containsAny(CharSequence text) {
+        if (phrases.length == 0 || text == null) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            if (output[state] >= 0 || dictionaryLink[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 일치 구간 (끝 위치 순, 겹치는 구간 포함)
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        if (phrases.length == 0 || text == null) {
+            return matches;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            for (int s = output[state] >= 0 ? state : dictionaryLink[state]; s >= 0; s = dictionaryLink[s]) {
+                String phrase = phrases[output[s]];
+                matches.add(new Match(i + 1 - phrase.length(), i + 1, phrase));
+            }
+        }
+        return matches;
+    }
+
+    public List<String> phrases() {
+        return List.of(phrases);
+    }
+
+    public int size() {
+        return phrases.length;
+    }
+
+    public int maxPhraseLength() {
+        return maxPhraseLength;
+    }
+
+    private int step(int state, char c) {
+        int next;
+        while ((next = transition(state, c)) < 0 && state != ROOT) {
+            state = failure[state];
+        }
+        return next >= 0 ? next : ROOT;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    private void sortEdges(int state, StringBuilder chars, List<Integer> children) {
+        Integer[] order = new Integer[chars.length()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Character.compare(chars.charAt(a), chars.charAt(b)));
+        edgeChars[state] = new char[order.length];
+        edgeTargets[state] = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            edgeChars[state][i] = chars.charAt(order[i]);
+            edgeTargets[state][i] = children.get(order[i]);
+        }
+    }
+
+    private static String lowerCase(String phrase) {
+        StringBuilder lower = new StringBuilder(phrase.length());
+        for (int i = 0; i < phrase.length(); i++) {
+            lower.append(Character.toLowerCase(phrase.charAt(i)));
+        }
+        return lower.toString();
+    }
+}
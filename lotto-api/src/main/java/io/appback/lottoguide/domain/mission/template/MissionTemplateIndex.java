@@ -0,0 +1,200 @@
+package io.appback.lottoguide.domain.mission.template;
+
+import io.appback.lottoguide.domain.mission.model.MissionTemplate;
+import io.appback.lottoguide.domain.mission.phrase.AliasTable;
+import io.appback.lottoguide.infra.persistence.entity.MissionTemplateEntity;
+import io.appback.lottoguide.infra.persistence.repository.MissionTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 미션 템플릿 인메모리 인덱스
+ *
+ * 템플릿 테이블을 한 번 읽어 카테고리/카테고리 그룹/테마별로 나누고,
+ * 각 묶음마다 별칭 테이블을 미리 만들어 두어 선택 시 SQL 없이 O(1)로 뽑습니다.
+ * - 카테고리 (예: ZODIAC_LEO): weight 가중치
+ * - 카테고리 그룹 (ZODIAC_, ELEMENT_, NUM_PATTERN_): weight 가중치
+ * - 테마: 균등 랜덤 (기존 ORDER BY RANDOM() 대체)
+ *
+ * 애플리케이션 시작 시, 그리고 관리자 템플릿 CSV 업로드 후 다시 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionTemplateIndex {
+
+    /**
+     * 카테고리 그룹 접두어
+     */
+    public static final String ZODIAC_PREFIX = "ZODIAC_";
+    public static final String ELEMENT_PREFIX = "ELEMENT_";
+    public static final String NUM_PATTERN_PREFIX = "NUM_PATTERN_";
+
+    private static final List<String> CATEGORY_GROUPS = List.of(ZODIAC_PREFIX, ELEMENT_PREFIX, NUM_PATTERN_PREFIX);
+
+    private final MissionTemplateRepository templateRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 템플릿을 다시 읽어 인덱스 재구성
+     * 실패하면 이전 인덱스를 유지합니다.
+     *
+     * @return 성공 여부
+     */
+    public synchronized boolean reload() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Snapshot built = new Snapshot(templateRepository.findAll());
+            snapshot = built;
+            log.info("미션 템플릿 인덱스 구성 완료: 템플릿 {}개, 카테고리 {}개, 테마 {}개, {}ms",
+                built.templates.length, built.byCategory.size(), built.byTheme.size(),
+                System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            log.error("미션 템플릿 인덱스 구성 실패 (이전 인덱스 유지): {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 카테고리에서 가중치 랜덤 선택 (예: ZODIAC_LEO, 없으면 null)
+     */
+    public MissionTemplate pickByCategory(String category) {
+        Snapshot current = current();
+        return current.pick(current.byCategory.get(category));
+    }
+
+    /**
+     * 카테고리 그룹에서 가중치 랜덤 선택 (ZODIAC_PREFIX, ELEMENT_PREFIX, NUM_PATTERN_PREFIX)
+     */
+    public MissionTemplate pickByCategoryGroup(String prefix) {
+        Snapshot current = current();
+        return current.pick(current.byGroup.get(prefix));
+    }
+
+    /**
+     * 테마에서 균등 랜덤 선택 (해당 테마가 없으면 null)
+     */
+    public MissionTemplate pickByTheme(String theme) {
+        Snapshot current = current();
+        return current.pick(current.byTheme.get(theme));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+            if (current == null) {
+                throw new IllegalStateException("미션 템플릿 인덱스를 구성할 수 없습니다");
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 읽기 전용 템플릿 인덱스 스냅샷
+     */
+    private static final class Snapshot {
+
+        private final TemplateData[] templates;
+        private final Map<String, AliasTable> byCategory;
+        private final Map<String, AliasTable> byGroup;
+        private final Map<String, AliasTable> byTheme;
+
+        Snapshot(List<MissionTemplateEntity> entities) {
+            int count = entities.size();
+            templates = new TemplateData[count];
+            int[] weights = new int[count];
+            Map<String, List<Integer>> categoryMembers = new HashMap<>();
+            Map<String, List<Integer>> groupMembers = new HashMap<>();
+            Map<String, List<Integer>> themeMembers = new HashMap<>();
+
+            for (int i = 0; i < count; i++) {
+                MissionTemplateEntity entity = entities.get(i);
+                templates[i] = new TemplateData(entity.getText(), entity.getCategory(), entity.getTheme(),
+                    entity.getTone(), entity.getPlaceHint(), entity.getTimeHint());
+                weights[i] = entity.getWeight() != null ? entity.getWeight() : 1;
+
+                String category = entity.getCategory();
+                if (category != null) {
+                    categoryMembers.computeIfAbsent(category, key -> new ArrayList<>()).add(i);
+                    for (String prefix : CATEGORY_GROUPS) {
+                        if (category.startsWith(prefix)) {
+                            groupMembers.computeIfAbsent(prefix, key -> new ArrayList<>()).add(i);
+                        }
+                    }
+                }
+                if (entity.getTheme() != null) {
+                    themeMembers.computeIfAbsent(entity.getTheme(), key -> new ArrayList<>()).add(i);
+                }
+            }
+
+            int[] uniform = new int[count];
+            Arrays.fill(uniform, 1);
+            byCategory = aliasTables(categoryMembers, weights);
+            byGroup = aliasTables(groupMembers, weights);
+            byTheme = aliasTables(themeMembers, uniform);
+        }
+
+        private static Map<String, AliasTable> aliasTables(Map<String, List<Integer>> members, int[] weights) {
+            Map<String, AliasTable> tables = new HashMap<>(members.size() * 2);
+            for (Map.Entry<String, List<Integer>> entry : members.entrySet()) {
+                int[] indices = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                int[] memberWeights = new int[indices.length];
+                for (int i = 0; i < indices.length; i++) {
+                    memberWeights[i] = weights[indices[i]];
+                }
+                tables.put(entry.getKey(), new AliasTable(indices, memberWeights));
+            }
+            return tables;
+        }
+
+        /**
+         * 별칭 테이블에서 하나 선택 (묶음이 없으면 null)
+         */
+        MissionTemplate pick(AliasTable table) {
+            if (table == null) {
+                return null;
+            }
+            return templates[table.sample(ThreadLocalRandom.current())].toMissionTemplate();
+        }
+    }
+
+    /**
+     * 템플릿 내용 (요청마다 새 MissionTemplate으로 복사하여 반환)
+     */
+    private record TemplateData(String text, String category, String theme, String tone,
+                                String placeHint, String timeHint) {
+        MissionTemplate toMissionTemplate() {
+            return MissionTemplate.builder()
+                .text(text)
+                .category(category)
+                .theme(theme)
+                .tone(tone)
+                .placeHint(placeHint)
+                .timeHint(timeHint)
+                .build();
+        }
+    }
+}
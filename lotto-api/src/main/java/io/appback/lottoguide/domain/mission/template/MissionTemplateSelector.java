@@ -1,28 +1,29 @@
 package io.appback.lottoguide.domain.mission.template;
 
 import io.appback.lottoguide.domain.mission.model.MissionTemplate;
-import io.appback.lottoguide.infra.persistence.entity.MissionTemplateEntity;
-import io.appback.lottoguide.infra.persistence.repository.MissionTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 미션 템플릿 선택 서비스
  * 별자리, 원소, 숫자 패턴 기반으로 템플릿 선택
+ * 선택은 MissionTemplateIndex(인메모리)에서 하며 DB를 조회하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MissionTemplateSelector {
     
-    private final MissionTemplateRepository templateRepository;
-    private final Random random = new Random();
+    /**
+     * 카테고리 그룹에서 찾지 못했을 때 차례로 시도하는 테마
+     */
+    private static final List<String> FALLBACK_THEMES = List.of("ELEMENT", "NUM_PATTERN");
+    
+    private final MissionTemplateIndex templateIndex;
     
     /**
      * 템플릿 선택
@@ -31,6 +32,7 @@ public class MissionTemplateSelector {
      * 1. 생년월일이 있으면 별자리 템플릿 우선
      * 2. 없으면 원소 템플릿 랜덤
      * 3. 숫자 패턴 템플릿으로 보조 문장 추가 가능
+     * 4. 그래도 없으면 원소/숫자 패턴 테마의 템플릿
      * 
      * @param zodiacSign 별자리 (선택적)
      * @param explainTags Explain Tags (숫자 패턴 분석용)
@@ -39,33 +41,38 @@ public class MissionTemplateSelector {
     public MissionTemplate selectTemplate(String zodiacSign, List<String> explainTags) {
         // 1. 별자리가 있으면 별자리 템플릿 우선
         if (zodiacSign != null && !zodiacSign.isEmpty()) {
-            String category = "ZODIAC_" + zodiacToCategoryCode(zodiacSign);
-            List<MissionTemplateEntity> zodiacTemplates = templateRepository.findByCategoryOrderByWeightDesc(category);
-            
-            if (!zodiacTemplates.isEmpty()) {
-                MissionTemplateEntity selected = selectByWeight(zodiacTemplates);
+            MissionTemplate selected = templateIndex.pickByCategory(
+                MissionTemplateIndex.ZODIAC_PREFIX + zodiacToCategoryCode(zodiacSign));
+            if (selected != null) {
                 log.debug("별자리 템플릿 선택: {} -> {}", zodiacSign, selected.getCategory());
-                return toMissionTemplate(selected);
+                return selected;
             }
         }
         
         // 2. 별자리 템플릿이 없으면 원소 템플릿 랜덤
-        List<MissionTemplateEntity> elementTemplates = templateRepository.findElementTemplates();
-        if (!elementTemplates.isEmpty()) {
-            MissionTemplateEntity selected = selectByWeight(elementTemplates);
-            log.debug("원소 템플릿 선택: {}", selected.getCategory());
-            return toMissionTemplate(selected);
+        MissionTemplate element = templateIndex.pickByCategoryGroup(MissionTemplateIndex.ELEMENT_PREFIX);
+        if (element != null) {
+            log.debug("원소 템플릿 선택: {}", element.getCategory());
+            return element;
         }
         
         // 3. 원소 템플릿도 없으면 숫자 패턴 템플릿
-        List<MissionTemplateEntity> patternTemplates = templateRepository.findNumberPatternTemplates();
-        if (!patternTemplates.isEmpty()) {
-            MissionTemplateEntity selected = selectByWeight(patternTemplates);
-            log.debug("숫자 패턴 템플릿 선택: {}", selected.getCategory());
-            return toMissionTemplate(selected);
+        MissionTemplate pattern = templateIndex.pickByCategoryGroup(MissionTemplateIndex.NUM_PATTERN_PREFIX);
+        if (pattern != null) {
+            log.debug("숫자 패턴 템플릿 선택: {}", pattern.getCategory());
+            return pattern;
+        }
+        
+        // 4. 카테고리 접두어 규칙을 따르지 않는 템플릿(관리자 CSV로 추가된 카테고리 등)은 테마로 선택
+        for (String theme : FALLBACK_THEMES) {
+            Optional<MissionTemplate> themed = selectByTheme(theme);
+            if (themed.isPresent()) {
+                log.debug("테마 템플릿 선택: {} -> {}", theme, themed.get().getCategory());
+                return themed.get();
+            }
         }
         
-        // 4. 모든 템플릿이 없으면 기본 메시지
+        // 5. 모든 템플릿이 없으면 기본 메시지
         log.warn("템플릿이 없어 기본 메시지 반환");
         return MissionTemplate.builder()
             .text("오늘의 조언은 재미로만 가볍게 가져가 주세요. 마음이 끌리는 쪽이 정답일 때도 있거든요.")
@@ -74,6 +81,16 @@ public class MissionTemplateSelector {
             .build();
     }
     
+    /**
+     * 테마별 랜덤 템플릿 선택 (균등 랜덤, 기존 ORDER BY RANDOM() 조회 대체)
+     * 
+     * @param theme 테마
+     * @return 선택된 템플릿 (해당 테마가 없으면 empty)
+     */
+    public Optional<MissionTemplate> selectByTheme(String theme) {
+        return Optional.ofNullable(templateIndex.pickByTheme(theme));
+    }
+    
     /**
      * 별자리 이름을 카테고리 코드로 변환
      */
@@ -94,50 +111,4 @@ public class MissionTemplateSelector {
             default -> "UNKNOWN";
         };
     }
-    
-    /**
-     * 가중치 기반 선택
-     */
-    private MissionTemplateEntity selectByWeight(List<MissionTemplateEntity> templates) {
-        if (templates.isEmpty()) {
-            return null;
-        }
-        
-        if (templates.size() == 1) {
-            return templates.get(0);
-        }
-        
-        // 가중치 합계 계산
-        int totalWeight = templates.stream()
-            .mapToInt(t -> t.getWeight() != null ? t.getWeight() : 1)
-            .sum();
-        
-        // 랜덤 선택
-        int randomValue = random.nextInt(totalWeight);
-        int currentWeight = 0;
-        
-        for (MissionTemplateEntity template : templates) {
-            currentWeight += template.getWeight() != null ? template.getWeight() : 1;
-            if (randomValue < currentWeight) {
-                return template;
-            }
-        }
-        
-        // 마지막 템플릿 반환 (이론적으로 도달하지 않음)
-        return templates.get(templates.size() - 1);
-    }
-    
-    /**
-     * Entity를 Domain 모델로 변환
-     */
-    private MissionTemplate toMissionTemplate(MissionTemplateEntity entity) {
-        return MissionTemplate.builder()
-            .text(entity.getText())
-            .category(entity.getCategory())
-            .theme(entity.getTheme())
-            .tone(entity.getTone())
-            .placeHint(entity.getPlaceHint())
-            .timeHint(entity.getTimeHint())
-            .build();
-    }
 }
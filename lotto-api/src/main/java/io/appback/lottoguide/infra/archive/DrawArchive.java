@@ -0,0 +1,362 @@
+package io.appback.lottoguide.infra.archive;
+
+import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 추첨 결과 바이너리 아카이브 (LGDA 형식)
+ *
+ * CSV보다 작고 파싱 없이 바로 읽을 수 있는 고정 길이 레코드 형식입니다.
+ * 파일을 그대로 메모리 매핑하여 회차 단위로 직접 조회할 수 있습니다.
+ *
+ * 레이아웃 (Big-endian):
+ * <pre>
+ * [헤더 32 bytes]
+ *   0  magic        4  "LGDA"
+ *   4  version      2
+ *   6  recordSize   2  (= 40)
+ *   8  recordCount  4
+ *  12  minDrawNo    4
+ *  16  maxDrawNo    4
+ *  20  createdAt    8  (epoch seconds)
+ *  28  reserved     4
+ * [레코드 40 bytes × recordCount] (회차 오름차순)
+ *   0  drawNo          4
+ *   4  drawDate        4  (epoch day)
+ *   8  numbers         8  (당첨 번호 6개 비트마스크, bit n = 번호 n)
+ *  16  bonus           1
+ *  17  flags           1  (bit0 totalPrize, bit1 winnerCount, bit2 prizePerPerson 존재 여부)
+ *  18  reserved        2
+ *  20  totalPrize      8  (double, 억 단위)
+ *  28  prizePerPerson  8  (double, 억 단위)
+ *  36  winnerCount     4
+ * [트레일러 8 bytes]
+ *   0  crc32           8  (헤더 + 레코드 전체)
+ * </pre>
+ */
+public final class DrawArchive {
+
+    public static final String FILE_EXTENSION = ".lgda";
+    public static final String CONTENT_TYPE = "application/x-lotto-draw-archive";
+
+    static final int MAGIC = 0x4C474441; // "LGDA"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 40;
+    static final int TRAILER_SIZE = 8;
+
+    private static final int FLAG_TOTAL_PRIZE = 1;
+    private static final int FLAG_WINNER_COUNT = 1 << 1;
+    private static final int FLAG_PRIZE_PER_PERSON = 1 << 2;
+
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int minDrawNo;
+    private final int maxDrawNo;
+    private final Instant createdAt;
+
+    private DrawArchive(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+        this.recordCount = buffer.getInt(8);
+        this.minDrawNo = buffer.getInt(12);
+        this.maxDrawNo = buffer.getInt(16);
+        this.createdAt = Instant.ofEpochSecond(buffer.getLong(20));
+    }
+
+    /**
+     * 아카이브 파일을 메모리 매핑하여 열기
+     */
+    public static DrawArchive map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 바이트 배열에서 아카이브 열기 (업로드 파일, 클래스패스 리소스 등)
+     */
+    public static DrawArchive wrap(byte[] bytes) {
+        return wrap(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * 버퍼에서 아카이브 열기 (헤더와 체크섬 검증)
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 체크섬이 일치하지 않는 경우
+     */
+    public static DrawArchive wrap(ByteBuffer source) {
+        ByteBuffer buffer = source.slice().order(ByteOrder.BIG_ENDIAN);
+        int size = buffer.remaining();
+        if (size < HEADER_SIZE + TRAILER_SIZE) {
+            throw new IllegalArgumentException("아카이브 크기가 너무 작습니다: " + size + " bytes");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("LGDA 아카이브가 아닙니다 (magic 불일치)");
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 아카이브 버전입니다: " + version);
+        }
+        short recordSize = buffer.getShort(6);
+        if (recordSize != RECORD_SIZE) {
+            throw new IllegalArgumentException("레코드 크기가 올바르지 않습니다: " + recordSize);
+        }
+        int recordCount = buffer.getInt(8);
+        long expectedSize = HEADER_SIZE + (long) recordCount * RECORD_SIZE + TRAILER_SIZE;
+        if (recordCount < 0 || expectedSize != size) {
+            throw new IllegalArgumentException(
+                String.format("아카이브 크기가 레코드 수와 맞지 않습니다: 레코드=%d, 크기=%d", recordCount, size));
+        }
+        long storedCrc = buffer.getLong(size - TRAILER_SIZE);
+        if (storedCrc != crc32(buffer, size - TRAILER_SIZE)) {
+            throw new IllegalArgumentException("아카이브 체크섬이 일치하지 않습니다 (파일 손상)");
+        }
+        return new DrawArchive(buffer);
+    }
+
+    /**
+     * 추첨 결과를 아카이브로 기록 (회차 오름차순 정렬 후 기록)
+     *
+     * @return 기록한 바이트 수
+     */
+    public static long write(List<DrawEntity> draws, OutputStream out) throws IOException {
+        List<DrawEntity> sorted = new ArrayList<>(draws);
+        sorted.sort(Comparator.comparing(DrawEntity::getDrawNo));
+        return write(sorted.iterator(), sorted.size(),
+            sorted.isEmpty() ? 0 : sorted.get(0).getDrawNo(),
+            sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1).getDrawNo(),
+            out);
+    }
+
+    /**
+     * 회차 오름차순 추첨 결과를 한 레코드씩 스트림에 기록 (전체를 메모리에 올리지 않음)
+     *
+     * 헤더에 레코드 수와 회차 범위가 먼저 들어가므로 호출 측이 미리 알고 있어야 하며,
+     * 실제 기록한 레코드와 맞지 않으면 IllegalStateException을 던집니다 (체크섬은 기록하면서 계산).
+     *
+     * @return 기록한 바이트 수
+     */
+    public static long write(Iterator<DrawEntity> draws, int recordCount, int minDrawNo, int maxDrawNo,
+                             OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putShort((short) RECORD_SIZE);
+        header.putInt(recordCount);
+        header.putInt(minDrawNo);
+        header.putInt(maxDrawNo);
+        header.putLong(Instant.now().getEpochSecond());
+        header.putInt(0);
+        writeChunk(header, crc, out);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+        int written = 0;
+        int previousDrawNo = Integer.MIN_VALUE;
+        while (draws.hasNext()) {
+            DrawEntity draw = draws.next();
+            if (draw.getDrawNo() <= previousDrawNo) {
+                throw new IllegalStateException("회차 오름차순이 아닙니다: " + previousDrawNo + " -> " + draw.getDrawNo());
+            }
+            previousDrawNo = draw.getDrawNo();
+
+            int flags = 0;
+            if (draw.getTotalPrize() != null) flags |= FLAG_TOTAL_PRIZE;
+            if (draw.getWinnerCount() != null) flags |= FLAG_WINNER_COUNT;
+            if (draw.getPrizePerPerson() != null) flags |= FLAG_PRIZE_PER_PERSON;
+
+            record.clear();
+            record.putInt(draw.getDrawNo());
+            record.putInt((int) draw.getDrawDate().toEpochDay());
+            record.putLong(toMask(draw.getN1(), draw.getN2(), draw.getN3(),
+                draw.getN4(), draw.getN5(), draw.getN6()));
+            record.put(draw.getBonus().byteValue());
+            record.put((byte) flags);
+            record.putShort((short) 0);
+            record.putDouble(draw.getTotalPrize() != null ? draw.getTotalPrize() : 0.0);
+            record.putDouble(draw.getPrizePerPerson() != null ? draw.getPrizePerPerson() : 0.0);
+            record.putInt(draw.getWinnerCount() != null ? draw.getWinnerCount() : 0);
+            writeChunk(record, crc, out);
+            written++;
+        }
+        if (written != recordCount) {
+            throw new IllegalStateException(
+                String.format("기록한 레코드 수가 헤더와 다릅니다: 헤더=%d, 기록=%d", recordCount, written));
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        trailer.putLong(crc.getValue());
+        out.write(trailer.array());
+        return HEADER_SIZE + (long) recordCount * RECORD_SIZE + TRAILER_SIZE;
+    }
+
+    /**
+     * 추첨 결과를 아카이브 바이트 배열로 변환
+     */
+    public static byte[] toBytes(List<DrawEntity> draws) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_SIZE + draws.size() * RECORD_SIZE + TRAILER_SIZE);
+        try {
+            write(draws, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeChunk(ByteBuffer chunk, CRC32 crc, OutputStream out) throws IOException {
+        crc.update(chunk.array(), 0, chunk.position());
+        out.write(chunk.array(), 0, chunk.position());
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public int getMinDrawNo() {
+        return minDrawNo;
+    }
+
+    public int getMaxDrawNo() {
+        return maxDrawNo;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * index번째 레코드의 회차 번호 (엔티티 생성 없이 직접 읽기)
+     */
+    public int drawNoAt(int index) {
+        return buffer.getInt(offset(index));
+    }
+
+    /**
+     * index번째 레코드를 엔티티로 변환
+     */
+    public DrawEntity get(int index) {
+        int base = offset(index);
+        int[] numbers = fromMask(buffer.getLong(base + 8));
+        int flags = buffer.get(base + 17);
+        return DrawEntity.builder()
+            .drawNo(buffer.getInt(base))
+            .drawDate(LocalDate.ofEpochDay(buffer.getInt(base + 4)))
+            .n1(numbers[0])
+            .n2(numbers[1])
+            .n3(numbers[2])
+            .n4(numbers[3])
+            .n5(numbers[4])
+            .n6(numbers[5])
+            .bonus((int) buffer.get(base + 16))
+            .totalPrize((flags & FLAG_TOTAL_PRIZE) != 0 ? buffer.getDouble(base + 20) : null)
+            .prizePerPerson((flags & FLAG_PRIZE_PER_PERSON) != 0 ? buffer.getDouble(base + 28) : null)
+            .winnerCount((flags & FLAG_WINNER_COUNT) != 0 ? buffer.getInt(base + 36) : null)
+            .build();
+    }
+
+    /**
+     * 회차 번호로 레코드 조회 (회차 오름차순이므로 이진 탐색)
+     */
+    public Optional<DrawEntity> findByDrawNo(int drawNo) {
+        if (recordCount == 0 || drawNo < minDrawNo || drawNo > maxDrawNo) {
+            return Optional.empty();
+        }
+        // 회차가 연속이면 바로 위치 계산
+        int guess = drawNo - minDrawNo;
+        if (guess < recordCount && drawNoAt(guess) == drawNo) {
+            return Optional.of(get(guess));
+        }
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midDrawNo = drawNoAt(mid);
+            if (midDrawNo < drawNo) {
+                low = mid + 1;
+            } else if (midDrawNo > drawNo) {
+                high = mid - 1;
+            } else {
+                return Optional.of(get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 전체 레코드를 엔티티 목록으로 변환
+     */
+    public List<DrawEntity> toEntities() {
+        List<DrawEntity> draws = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            draws.add(get(i));
+        }
+        return draws;
+    }
+
+    /**
+     * 당첨 번호 6개를 비트마스크로 변환 (bit n = 번호 n)
+     */
+    static long toMask(int... numbers) {
+        long mask = 0L;
+        for (int number : numbers) {
+            if (number < 1 || number > 45) {
+                throw new IllegalArgumentException("번호는 1~45 범위여야 합니다: " + number);
+            }
+            mask |= 1L << number;
+        }
+        if (Long.bitCount(mask) != numbers.length) {
+            throw new IllegalArgumentException("중복된 번호가 있습니다: " + Arrays.toString(numbers));
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 오름차순 번호 배열로 변환
+     */
+    static int[] fromMask(long mask) {
+        int[] numbers = new int[Long.bitCount(mask)];
+        int i = 0;
+        long remaining = mask;
+        while (remaining != 0) {
+            numbers[i++] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        if (numbers.length != 6) {
+            throw new IllegalArgumentException("당첨 번호 비트마스크가 올바르지 않습니다: " + Long.toHexString(mask));
+        }
+        return numbers;
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("레코드 인덱스 범위 초과: " + index);
+        }
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private static long crc32(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer view = buffer.duplicate();
+        view.position(0).limit(length);
+        crc.update(view);
+        return crc.getValue();
+    }
+}
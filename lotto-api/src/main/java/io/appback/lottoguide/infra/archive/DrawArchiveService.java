@@ -0,0 +1,142 @@
+package io.appback.lottoguide.infra.archive;
+
+import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
+import io.appback.lottoguide.infra.persistence.repository.DrawRepository;
+import io.appback.lottoguide.infra.refresh.DrawRefreshService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 추첨 결과 바이너리 아카이브 내보내기/가져오기
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DrawArchiveService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO lotto_draw (draw_no, draw_date, n1, n2, n3, n4, n5, n6, bonus,
+                                total_prize, winner_count, prize_per_person, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final DrawRepository drawRepository;
+    private final DrawRefreshService drawRefreshService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * DB의 전체 추첨 결과를 아카이브로 스트림에 기록
+     *
+     * DB 커서에서 한 회차씩 읽어 바로 기록하므로 전체 아카이브를 메모리에 만들지 않습니다.
+     * 헤더의 레코드 수/회차 범위와 본문이 같은 스냅샷을 보도록 REPEATABLE_READ로 읽습니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportArchive(OutputStream out) throws IOException {
+        int count = (int) drawRepository.count();
+        int minDrawNo = drawRepository.findMinDrawNo().orElse(0);
+        int maxDrawNo = drawRepository.findMaxDrawNo().orElse(0);
+
+        long bytes;
+        try (Stream<DrawEntity> draws = drawRepository.streamAllByOrderByDrawNoAsc()) {
+            Iterator<DrawEntity> iterator = draws.iterator();
+            // 기록한 엔티티는 1차 캐시에서 분리 (메모리 일정 유지)
+            bytes = DrawArchive.write(new Iterator<>() {
+                private DrawEntity previous;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public DrawEntity next() {
+                    if (previous != null) {
+                        entityManager.detach(previous);
+                    }
+                    previous = iterator.next();
+                    return previous;
+                }
+            }, count, minDrawNo, maxDrawNo, out);
+        }
+        log.info("추첨 결과 아카이브 생성: {}개 회차, {} bytes", count, bytes);
+        return bytes;
+    }
+
+    /**
+     * 아카이브의 추첨 결과를 DB에 저장 (이미 있는 회차는 건너뜀)
+     *
+     * 회차 번호가 직접 할당되는 엔티티라 saveAll은 행마다 SELECT 후 INSERT(merge)를 하므로,
+     * 새 회차만 골라 JDBC 배치 INSERT로 저장합니다.
+     */
+    @Transactional
+    public ImportResult importArchive(DrawArchive archive) {
+        Set<Integer> existingDrawNos = drawRepository.findAllDrawNos();
+
+        List<DrawEntity> newDraws = new ArrayList<>();
+        int skippedCount = 0;
+        for (int i = 0; i < archive.size(); i++) {
+            // 이미 있는 회차는 엔티티로 변환하지 않고 회차 번호만 확인
+            if (existingDrawNos.contains(archive.drawNoAt(i))) {
+                skippedCount++;
+                continue;
+            }
+            newDraws.add(archive.get(i));
+        }
+
+        if (!newDraws.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, newDraws, BATCH_SIZE, (ps, draw) -> {
+                ps.setInt(1, draw.getDrawNo());
+                ps.setDate(2, Date.valueOf(draw.getDrawDate()));
+                ps.setInt(3, draw.getN1());
+                ps.setInt(4, draw.getN2());
+                ps.setInt(5, draw.getN3());
+                ps.setInt(6, draw.getN4());
+                ps.setInt(7, draw.getN5());
+                ps.setInt(8, draw.getN6());
+                ps.setInt(9, draw.getBonus());
+                ps.setObject(10, draw.getTotalPrize(), Types.DOUBLE);
+                ps.setObject(11, draw.getWinnerCount(), Types.INTEGER);
+                ps.setObject(12, draw.getPrizePerPerson(), Types.DOUBLE);
+                ps.setTimestamp(13, now);
+            });
+            drawRefreshService.clearCache();
+        }
+
+        log.info("추첨 결과 아카이브 가져오기 완료: 저장 {}개, 건너뜀 {}개 (아카이브 회차 {}~{})",
+            newDraws.size(), skippedCount, archive.getMinDrawNo(), archive.getMaxDrawNo());
+        return new ImportResult(newDraws.size(), skippedCount, archive.getMinDrawNo(), archive.getMaxDrawNo());
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    public record ImportResult(
+        int savedCount,      // 저장된 회차 수
+        int skippedCount,    // 이미 존재하여 건너뛴 회차 수
+        int minDrawNo,       // 아카이브 최소 회차
+        int maxDrawNo        // 아카이브 최대 회차
+    ) {}
+}
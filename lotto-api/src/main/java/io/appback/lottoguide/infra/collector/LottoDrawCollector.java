@@ -2,20 +2,27 @@ package io.appback.lottoguide.infra.collector;
 
 import io.appback.lottoguide.infra.external.DonghaengLottoApiClient;
 import io.appback.lottoguide.infra.external.dto.DrawApiResponse;
+import io.appback.lottoguide.infra.monitoring.jfr.IngestionBatchEvent;
 import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
 import io.appback.lottoguide.infra.persistence.repository.DrawRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 로또 추첨 데이터 수집기
  * 
  * 특징:
- * - 1회차부터 지정된 회차까지 순차적으로 수집
+ * - 1회차부터 지정된 회차까지 구간 단위로 수집 (구간 안의 회차는 동시 조회)
  * - 이미 저장된 회차는 자동으로 스킵
  * - HTML 응답 등 실패한 회차는 건너뛰고 계속 진행
  * - 재실행 시 실패한 회차만 다시 시도 가능
@@ -31,6 +38,11 @@ public class LottoDrawCollector {
     
     private final DrawRepository drawRepository;
     private final DonghaengLottoApiClient apiClient;
+    private final MeterRegistry meterRegistry;
+    
+    // 한 번에 동시 조회할 회차 구간 크기
+    @Value("${external.dhlottery.bulk.window-size:8}")
+    private int bulkWindowSize;
     
     /**
      * 지정된 범위의 회차를 수집하여 DB에 저장
@@ -53,40 +65,60 @@ public class LottoDrawCollector {
         }
         
         log.info("회차 수집 시작: {}회차 ~ {}회차", from, to);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        IngestionBatchEvent event = new IngestionBatchEvent();
+        event.begin();
         
         int success = 0;
         int skip = 0;
         int fail = 0;
         
-        for (int drawNo = from; drawNo <= to; drawNo++) {
+        final int windowSize = Math.max(1, bulkWindowSize);
+        for (int windowStart = from; windowStart <= to; windowStart += windowSize) {
+            int windowEnd = Math.min(to, windowStart + windowSize - 1);
+            
             // 이미 저장된 회차는 스킵
-            if (drawRepository.existsByDrawNo(drawNo)) {
-                skip++;
-                if (drawNo % 100 == 0) {
-                    log.debug("회차 {} 이미 저장됨 (스킵)", drawNo);
+            List<Integer> targetDrawNos = new ArrayList<>();
+            for (int drawNo = windowStart; drawNo <= windowEnd; drawNo++) {
+                if (drawRepository.existsByDrawNo(drawNo)) {
+                    skip++;
+                    if (drawNo % 100 == 0) {
+                        log.debug("회차 {} 이미 저장됨 (스킵)", drawNo);
+                    }
+                    continue;
                 }
+                targetDrawNos.add(drawNo);
+            }
+            if (targetDrawNos.isEmpty()) {
                 continue;
             }
             
-            // 회차 데이터 수집 시도
-            boolean saved = fetchAndSave(drawNo);
-            if (saved) {
-                success++;
-                // 진행 상황 로깅 (100회차마다)
-                if (success % 100 == 0) {
-                    log.info("수집 진행: {}회차까지 저장 완료 (성공: {}개, 스킵: {}개, 실패: {}개)", 
-                            drawNo, success, skip, fail);
-                }
-            } else {
-                fail++;
-                if (fail % 10 == 0) {
-                    log.warn("수집 실패 누적: {}회차까지 실패 {}개", drawNo, fail);
+            // 구간 내 회차 동시 조회 (DonghaengLottoApiClient가 HTML 감지, 재시도 처리)
+            Map<Integer, DrawApiResponse> fetched = apiClient.fetchDrawBatch(targetDrawNos);
+            
+            for (Integer drawNo : targetDrawNos) {
+                // 회차 데이터 저장 시도
+                boolean saved = save(drawNo, fetched.get(drawNo));
+                if (saved) {
+                    success++;
+                    // 진행 상황 로깅 (100회차마다)
+                    if (success % 100 == 0) {
+                        log.info("수집 진행: {}회차까지 저장 완료 (성공: {}개, 스킵: {}개, 실패: {}개)", 
+                                drawNo, success, skip, fail);
+                    }
+                } else {
+                    fail++;
+                    if (fail % 10 == 0) {
+                        log.warn("수집 실패 누적: {}회차까지 실패 {}개", drawNo, fail);
+                    }
                 }
             }
             
-            // Rate limiting (API 부하 방지)
-            if (drawNo < to) {
-                sleepSilently(200); // 200ms 대기
+            // Rate limiting (API 부하 방지, 구간 사이에만 대기)
+            if (windowEnd < to) {
+                if (!sleepSilently(200)) {
+                    break;
+                }
             }
         }
         
@@ -102,28 +134,36 @@ public class LottoDrawCollector {
         log.info("회차 수집 완료: 범위={}~{}, 성공={}개, 스킵={}개, 실패={}개, 총={}개", 
                 from, to, success, skip, fail, result.getTotal());
         
+        // 수집 처리량 (DrawCsvBulkLoader와 같은 메트릭, source=api)
+        meterRegistry.counter("ingestion.rows", "source", "api", "result", "inserted").increment(success);
+        meterRegistry.counter("ingestion.rows", "source", "api", "result", "skipped").increment(skip);
+        meterRegistry.counter("ingestion.rows", "source", "api", "result", "error").increment(fail);
+        sample.stop(meterRegistry.timer("ingestion.duration", "source", "api"));
+        if (event.shouldCommit()) {
+            event.source = "api";
+            event.inserted = success;
+            event.skipped = skip;
+            event.failed = fail;
+            event.commit();
+        }
+        
         return result;
     }
     
     /**
-     * 특정 회차를 외부 API에서 가져와서 DB에 저장
+     * 외부 API에서 가져온 회차를 검증 후 DB에 저장
      * 
      * @param drawNo 회차 번호
+     * @param apiResponse API 응답 (조회 실패 시 null)
      * @return 저장 성공 여부
      */
-    private boolean fetchAndSave(int drawNo) {
+    private boolean save(int drawNo, DrawApiResponse apiResponse) {
         try {
-            // 외부 API에서 데이터 가져오기
-            // DonghaengLottoApiClient는 이미 HTML 감지, 재시도 로직이 포함되어 있음
-            var apiResponseOpt = apiClient.fetchDraw(drawNo);
-            
-            if (apiResponseOpt.isEmpty()) {
+            if (apiResponse == null) {
                 log.debug("회차 {} 수집 실패: API 응답 없음", drawNo);
                 return false;
             }
             
-            DrawApiResponse apiResponse = apiResponseOpt.get();
-            
             // 응답 검증
             if (!apiResponse.isSuccess()) {
                 log.debug("회차 {} 수집 실패: API 응답 실패 (returnValue={})", 
@@ -176,13 +216,17 @@ public class LottoDrawCollector {
     
     /**
      * 안전한 대기 (InterruptedException 처리)
+     * 
+     * @return 인터럽트 없이 대기를 마쳤는지 여부
      */
-    private static void sleepSilently(long ms) {
+    private static boolean sleepSilently(long ms) {
         try {
             Thread.sleep(ms);
+            return true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.warn("수집 중단: 인터럽트 발생");
+            return false;
         }
     }
     
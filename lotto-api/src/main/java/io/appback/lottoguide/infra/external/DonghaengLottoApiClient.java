@@ -4,21 +4,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.appback.lottoguide.infra.external.dto.DrawApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 동행복권 API Client
@@ -30,6 +36,8 @@ import java.util.Optional;
  * 2. API가 HTML을 반환하는 경우, 엔드포인트가 변경되었거나 접근이 차단된 것일 수 있습니다.
  * 3. 모든 API 호출은 실패 가능성을 고려하여 Optional로 반환하며, 예외는 내부에서 처리합니다.
  * 4. 외부 API 실패 시 랜덤 생성 모드로 폴백됩니다.
+ * 5. HTTP 호출은 풀링된 WebClient(Reactor Netty)로 수행되며, 동시 조회 시 소켓을 공유합니다.
+ * 6. 성공한 응답은 로컬 디스크 캐시에 보관하고, 이후 조회 시 외부 호출 없이 재사용합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -39,18 +47,33 @@ public class DonghaengLottoApiClient {
     // 동행복권 API 엔드포인트
     // HAR 분석 결과: 브라우저는 selectPstLt645Info.do를 사용하여 정상적으로 JSON을 받음
     // 기존 common.do 엔드포인트는 HTML을 반환할 수 있으므로, 브라우저가 사용하는 엔드포인트로 변경
-    private static final String BASE_URL = "https://www.dhlottery.co.kr/common.do"; // 기존 엔드포인트 (개별 회차 조회용)
-    private static final String LIST_API_URL = "https://www.dhlottery.co.kr/lt645/selectPstLt645Info.do"; // 전체 리스트 조회용 (HAR에서 확인된 엔드포인트)
-    private static final String MAIN_PAGE_URL = "https://www.dhlottery.co.kr/";
-    private static final String GAME_RESULT_PAGE_URL = "https://www.dhlottery.co.kr/lt645/result"; // HAR에서 확인된 실제 Referer
+    // 호스트는 external.dhlottery.base-url로 바꿀 수 있음 (로컬 스텁 서버 테스트용)
+    private static final String BASE_PATH = "/common.do"; // 기존 엔드포인트 (개별 회차 조회용)
+    private static final String LIST_API_PATH = "/lt645/selectPstLt645Info.do"; // 전체 리스트 조회용 (HAR에서 확인된 엔드포인트)
+    private static final String MAIN_PAGE_PATH = "/";
+    private static final String GAME_RESULT_PAGE_PATH = "/lt645/result"; // HAR에서 확인된 실제 Referer
     private static final int MAX_RETRY = 3;
     private static final long RETRY_DELAY_MS = 1000; // 1초
     
-    private final RestTemplate restTemplate;
+    private final WebClient dhLotteryWebClient;
     private final ObjectMapper objectMapper;
+    private final DrawResponseCache responseCache;
     
-    // 쿠키 저장 (세션 관리용)
-    private String sessionCookies = null;
+    @Value("${external.dhlottery.base-url:https://www.dhlottery.co.kr}")
+    private String baseUrl = "https://www.dhlottery.co.kr";
+    
+    // 여러 회차 일괄 조회 시 최대 동시 요청 수
+    @Value("${external.dhlottery.bulk.concurrency:4}")
+    private int bulkConcurrency = 4;
+    
+    // 전체 리스트 응답 캐시 키 (srchLtEpsd=all)
+    private static final String LIST_PAGE_ALL = "all";
+    
+    // 쿠키 저장 (세션 관리용, 동시 조회 시에도 안전)
+    private final SessionCookieJar cookieJar = new SessionCookieJar();
+    
+    // 진행 중인 세션 쿠키 획득 작업 (동시 요청이 같은 획득 작업을 공유)
+    private final AtomicReference<Mono<Void>> sessionInitInFlight = new AtomicReference<>();
     
     // 기본 엔드포인트 차단 여부 (한 번 차단되면 바로 폴백으로 이동)
     private volatile boolean isBaseEndpointBlocked = false;
@@ -60,102 +83,98 @@ public class DonghaengLottoApiClient {
      * 
      * 중요: 단순히 메인 페이지만 접속하면 API 권한이 활성화되지 않을 수 있습니다.
      * 실제 당첨 번호 조회 페이지로 접속하여 세션을 활성화해야 합니다.
+     * 
+     * 여러 회차 조회가 동시에 시작되어도 쿠키 획득은 한 번만 수행됩니다.
      */
-    private void ensureSessionCookies() {
-        if (sessionCookies != null) {
-            return; // 이미 쿠키가 있으면 재사용
+    private Mono<Void> ensureSessionCookies() {
+        if (!cookieJar.isEmpty()) {
+            return Mono.empty(); // 이미 쿠키가 있으면 재사용
         }
         
-        try {
-            log.debug("동행복권 당첨 번호 조회 페이지 접속하여 세션 쿠키 획득 시도");
-            
-            // 1단계: 메인 페이지 접속 (첫 방문자처럼)
-            HttpHeaders mainHeaders = createBrowserHeaders();
-            ResponseEntity<String> mainResponse = restTemplate.exchange(
-                URI.create(MAIN_PAGE_URL),
-                HttpMethod.GET,
-                new HttpEntity<>(mainHeaders),
-                String.class
-            );
-            
-            // 메인 페이지에서 쿠키 획득
-            List<String> mainCookies = extractCookies(mainResponse.getHeaders().get("Set-Cookie"));
-            if (!mainCookies.isEmpty()) {
-                sessionCookies = String.join("; ", mainCookies);
-                log.debug("메인 페이지에서 쿠키 획득: {}", sessionCookies.length() > 50 
-                    ? sessionCookies.substring(0, 50) + "..." 
-                    : sessionCookies);
-            }
-            
-            Thread.sleep(300); // 자연스러운 브라우저 동작 모방
-            
-            // 2단계: 실제 당첨 번호 조회 페이지 접속 시도 (HAR 분석 결과: lt645/result 사용)
-            // 참고: 이 페이지가 302 리다이렉트를 반환할 수 있으므로, 리다이렉트 후 응답도 확인
-            try {
-                HttpHeaders resultHeaders = createBrowserHeaders();
-                resultHeaders.set("Referer", MAIN_PAGE_URL); // 메인 페이지에서 온 것처럼
-                
-                ResponseEntity<String> resultResponse = restTemplate.exchange(
-                    URI.create(GAME_RESULT_PAGE_URL),
-                    HttpMethod.GET,
-                    new HttpEntity<>(resultHeaders),
-                    String.class
-                );
-                
-                // HTTP 상태 코드 확인 (302 리다이렉트인 경우도 처리)
-                if (resultResponse.getStatusCode().is3xxRedirection()) {
-                    String location = resultResponse.getHeaders().getFirst("Location");
-                    log.debug("당첨 번호 조회 페이지가 리다이렉트됨: Location={}", location);
+        Mono<Void> inFlight = sessionInitInFlight.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
+        
+        Mono<Void> created = acquireSessionCookies()
+            .doFinally(signal -> sessionInitInFlight.set(null))
+            .cache();
+        if (sessionInitInFlight.compareAndSet(null, created)) {
+            return created;
+        }
+        Mono<Void> other = sessionInitInFlight.get();
+        return other != null ? other : Mono.empty();
+    }
+    
+    /**
+     * 세션 쿠키 획득 절차
+     * 1단계: 메인 페이지 접속 (첫 방문자처럼)
+     * 2단계: 당첨 번호 조회 페이지 접속 (HAR 분석 결과: lt645/result 사용)
+     */
+    private Mono<Void> acquireSessionCookies() {
+        log.debug("동행복권 당첨 번호 조회 페이지 접속하여 세션 쿠키 획득 시도");
+        
+        Mono<Void> mainPage = Mono.defer(() -> get(baseUrl + MAIN_PAGE_PATH, createBrowserHeaders()))
+            .doOnNext(mainResponse -> {
+                // 메인 페이지에서 쿠키 획득
+                if (cookieJar.store(mainResponse.getHeaders().get(HttpHeaders.SET_COOKIE))) {
+                    log.debug("메인 페이지에서 쿠키 획득: {}", abbreviate(cookieJar.toHeaderValue(), 50));
                 }
-                
-                // 당첨 번호 조회 페이지에서 추가 쿠키 획득 (리다이렉트 후에도 쿠키는 있을 수 있음)
-                List<String> resultCookies = extractCookies(resultResponse.getHeaders().get("Set-Cookie"));
-                if (!resultCookies.isEmpty()) {
-                    // 기존 쿠키와 병합
-                    List<String> allCookies = new ArrayList<>(mainCookies);
-                    for (String cookie : resultCookies) {
-                        // 중복 제거 (같은 이름의 쿠키는 최신 것으로 교체)
-                        String cookieName = cookie.split("=")[0];
-                        allCookies.removeIf(c -> c.startsWith(cookieName + "="));
-                        allCookies.add(cookie);
-                    }
-                    sessionCookies = String.join("; ", allCookies);
-                    log.info("세션 쿠키 획득 성공 (당첨 번호 조회 페이지): {}", sessionCookies.length() > 100 
-                        ? sessionCookies.substring(0, 100) + "..." 
-                        : sessionCookies);
-                } else if (sessionCookies != null) {
-                    log.info("세션 쿠키 유지 (당첨 번호 조회 페이지에서 추가 쿠키 없음): {}", sessionCookies.length() > 100 
-                        ? sessionCookies.substring(0, 100) + "..." 
-                        : sessionCookies);
+            })
+            .then();
+        
+        // 참고: 이 페이지가 리다이렉트될 수 있으나 WebClient가 리다이렉트를 따라가므로 최종 응답의 쿠키를 사용
+        Mono<Void> resultPage = Mono.defer(() -> {
+                HttpHeaders resultHeaders = createBrowserHeaders();
+                resultHeaders.set("Referer", baseUrl + MAIN_PAGE_PATH); // 메인 페이지에서 온 것처럼
+                return get(baseUrl + GAME_RESULT_PAGE_PATH, resultHeaders);
+            })
+            .doOnNext(resultResponse -> {
+                // 당첨 번호 조회 페이지에서 추가 쿠키 획득 (같은 이름의 쿠키는 최신 것으로 교체)
+                if (cookieJar.store(resultResponse.getHeaders().get(HttpHeaders.SET_COOKIE))) {
+                    log.info("세션 쿠키 획득 성공 (당첨 번호 조회 페이지): {}", abbreviate(cookieJar.toHeaderValue(), 100));
+                } else if (!cookieJar.isEmpty()) {
+                    log.info("세션 쿠키 유지 (당첨 번호 조회 페이지에서 추가 쿠키 없음): {}", abbreviate(cookieJar.toHeaderValue(), 100));
                 }
-            } catch (Exception e) {
-                log.debug("당첨 번호 조회 페이지 접속 실패 (리다이렉트 또는 기타 오류), 메인 페이지 쿠키만 사용: {}", e.getMessage());
+            })
+            .then()
+            .onErrorResume(e -> {
                 // 메인 페이지 쿠키만으로도 시도 가능
-            }
-            
-            // 쿠키 획득 후 잠시 대기 (자연스러운 브라우저 동작 모방)
-            Thread.sleep(500);
-            
-        } catch (Exception e) {
-            log.warn("세션 쿠키 획득 실패, 쿠키 없이 시도: {}", e.getMessage());
-        }
+                log.debug("당첨 번호 조회 페이지 접속 실패 (리다이렉트 또는 기타 오류), 메인 페이지 쿠키만 사용: {}", e.getMessage());
+                return Mono.empty();
+            });
+        
+        return mainPage
+            .then(Mono.delay(Duration.ofMillis(300))) // 자연스러운 브라우저 동작 모방
+            .then(resultPage)
+            .then(Mono.delay(Duration.ofMillis(500))) // 쿠키 획득 후 잠시 대기
+            .then()
+            .onErrorResume(e -> {
+                log.warn("세션 쿠키 획득 실패, 쿠키 없이 시도: {}", e.getMessage());
+                return Mono.empty();
+            });
     }
     
     /**
-     * Set-Cookie 헤더에서 쿠키 이름=값만 추출
+     * 공통 GET 요청 (풀링된 커넥션 사용, Non-blocking)
+     * 4xx/5xx 응답은 WebClientResponseException으로 전파됩니다.
      */
-    private List<String> extractCookies(List<String> setCookieHeaders) {
-        List<String> cookieValues = new ArrayList<>();
-        if (setCookieHeaders != null && !setCookieHeaders.isEmpty()) {
-            for (String setCookie : setCookieHeaders) {
-                // Set-Cookie 형식: "JSESSIONID=xxx; Path=/; HttpOnly" -> "JSESSIONID=xxx"만 추출
-                String cookieValue = setCookie.split(";")[0].trim();
-                if (!cookieValue.isEmpty()) {
-                    cookieValues.add(cookieValue);
-                }
-            }
+    private Mono<ResponseEntity<String>> get(String url, HttpHeaders headers) {
+        return dhLotteryWebClient.get()
+            .uri(URI.create(url))
+            .headers(h -> h.addAll(headers))
+            .retrieve()
+            .toEntity(String.class);
+    }
+    
+    /**
+     * 로그 출력용 문자열 축약
+     */
+    private static String abbreviate(String value, int maxLength) {
+        if (value == null) {
+            return "없음";
         }
-        return cookieValues;
+        return value.length() > maxLength ? value.substring(0, maxLength) + "..." : value;
     }
     
     /**
@@ -173,8 +192,8 @@ public class DonghaengLottoApiClient {
         // Accept-Language
         headers.set("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7");
         
-        // Accept-Encoding
-        headers.set("Accept-Encoding", "gzip, deflate, br, zstd");
+        // Accept-Encoding (압축 해제는 Netty가 처리하므로 지원 가능한 방식만 요청)
+        headers.set("Accept-Encoding", "gzip, deflate");
         
         // Connection
         headers.set("Connection", "keep-alive");
@@ -192,8 +211,9 @@ public class DonghaengLottoApiClient {
         headers.set("Upgrade-Insecure-Requests", "1");
         
         // 쿠키가 있으면 추가
-        if (sessionCookies != null) {
-            headers.set("Cookie", sessionCookies);
+        String cookieHeader = cookieJar.toHeaderValue();
+        if (cookieHeader != null) {
+            headers.set("Cookie", cookieHeader);
         }
         
         return headers;
@@ -214,10 +234,10 @@ public class DonghaengLottoApiClient {
         // 2. Referer (필수) - 정밀 일치 필요: 실제 브라우저가 사용하는 정확한 주소
         // HAR 분석 결과: 브라우저는 https://www.dhlottery.co.kr/lt645/result를 Referer로 사용
         // 이 값이 없거나 틀리면 서버가 HTML을 반환할 수 있습니다
-        headers.set("Referer", "https://www.dhlottery.co.kr/lt645/result");
+        headers.set("Referer", baseUrl + GAME_RESULT_PAGE_PATH);
         
         // 3. Host (추가) - 서버가 요청을 정확히 라우팅하도록
-        headers.set("Host", "www.dhlottery.co.kr");
+        headers.set("Host", URI.create(baseUrl).getAuthority());
         
         // 4. Accept (권장 형식) - 동행복권 API 특성상 이 형식이 필요
         headers.set("Accept", "application/json, text/javascript, */*; q=0.01");
@@ -229,14 +249,14 @@ public class DonghaengLottoApiClient {
         headers.set("Accept-Language", "ko,en-US;q=0.9,en;q=0.8,ko-KR;q=0.7");
         
         // 7. Accept-Encoding (HAR 분석 결과: 브라우저는 gzip, deflate, br 사용)
-        // 주의: Java에서 br(Brotli) 지원은 추가 라이브러리 필요, zstd는 제거
-        headers.set("Accept-Encoding", "gzip, deflate, br");
+        // 주의: Netty 압축 해제기는 br(Brotli)을 추가 라이브러리 없이 지원하지 않으므로 gzip, deflate만 요청
+        headers.set("Accept-Encoding", "gzip, deflate");
         
         // 8. Connection
         headers.set("Connection", "keep-alive");
         
         // 9. Origin
-        headers.set("Origin", "https://www.dhlottery.co.kr");
+        headers.set("Origin", baseUrl);
         
         // 10. Sec-Fetch 헤더 (최신 브라우저)
         headers.set("Sec-Fetch-Dest", "empty");
@@ -245,11 +265,10 @@ public class DonghaengLottoApiClient {
         
         // 11. 쿠키 (세션 쿠키) - DHJSESSIONID 등
         // 중요: 쿠키 값이 "DHJSESSIONID=..." 형태여야 함
-        if (sessionCookies != null && !sessionCookies.isEmpty()) {
-            headers.set("Cookie", sessionCookies);
-            log.debug("API 호출에 쿠키 포함: {}", sessionCookies.length() > 50 
-                ? sessionCookies.substring(0, 50) + "..." 
-                : sessionCookies);
+        String cookieHeader = cookieJar.toHeaderValue();
+        if (cookieHeader != null && !cookieHeader.isEmpty()) {
+            headers.set("Cookie", cookieHeader);
+            log.debug("API 호출에 쿠키 포함: {}", abbreviate(cookieHeader, 50));
         } else {
             log.warn("쿠키가 없습니다. API 호출이 실패할 수 있습니다.");
         }
@@ -258,7 +277,31 @@ public class DonghaengLottoApiClient {
     }
     
     /**
-     * 특정 회차의 추첨 결과 조회
+     * 특정 회차의 추첨 결과 조회 (동기)
+     * 
+     * 배치/관리자 스레드에서 사용하는 블로킹 버전입니다.
+     * 요청 스레드를 점유하지 않아야 하는 경우 {@link #fetchDrawAsync(int)}를 사용하세요.
+     * 
+     * @param drawNo 회차 번호
+     * @return 추첨 결과 (Optional) - 실패 시 empty 반환
+     */
+    public Optional<DrawApiResponse> fetchDraw(int drawNo) {
+        try {
+            Optional<DrawApiResponse> result = fetchDrawAsync(drawNo).block();
+            return result != null ? result : Optional.empty();
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || e.getCause() instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                log.warn("동행복권 API 호출 중 인터럽트: drawNo={}", drawNo);
+            } else {
+                log.error("동행복권 API 호출 중 예상치 못한 예외: drawNo={}, error={}", drawNo, e.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * 특정 회차의 추첨 결과 조회 (Non-blocking)
      * 
      * HAR 분석 결과 반영:
      * - 브라우저는 Referer를 https://www.dhlottery.co.kr/lt645/result로 사용
@@ -271,222 +314,305 @@ public class DonghaengLottoApiClient {
      * 3. JSON 파싱 실패 -> 응답 형식 변경 -> Optional.empty()
      * 4. returnValue != "success" -> API 오류 -> Optional.empty()
      * 
+     * 여러 회차를 동시에 조회해도 커넥션 풀의 keep-alive 소켓을 공유하며,
+     * 재시도 대기도 타이머로 처리하므로 호출 스레드를 블로킹하지 않습니다.
+     * 
+     * 외부 호출 전에 로컬 응답 캐시({@link DrawResponseCache})를 먼저 확인합니다.
+     * 
      * @param drawNo 회차 번호
-     * @return 추첨 결과 (Optional) - 실패 시 empty 반환
+     * @return 추첨 결과 (Optional) - 실패 시 empty, 에러 신호는 발생하지 않음
      */
-    public Optional<DrawApiResponse> fetchDraw(int drawNo) {
+    public Mono<Optional<DrawApiResponse>> fetchDrawAsync(int drawNo) {
         if (drawNo < 1) {
             log.warn("잘못된 회차 번호: {}", drawNo);
-            return Optional.empty();
+            return Mono.just(Optional.empty());
         }
         
-        // 세션 쿠키 획득 (처음 호출 시 또는 쿠키가 없을 때만)
-        ensureSessionCookies();
-        
-        // 기본 엔드포인트가 차단되어 있으면 바로 폴백으로 이동
-        if (isBaseEndpointBlocked) {
-            log.debug("기본 엔드포인트 차단됨, 바로 폴백 엔드포인트로 이동: drawNo={}", drawNo);
-            return fetchDrawFromListApi(drawNo);
+        return Mono.fromCallable(() -> findInResponseCache(drawNo))
+            .subscribeOn(Schedulers.boundedElastic()) // 디스크 I/O
+            .flatMap(cached -> cached.isPresent()
+                ? Mono.just(cached)
+                : fetchDrawFromNetwork(drawNo))
+            .onErrorResume(e -> {
+                // 예상치 못한 예외: 로깅 후 실패 처리 (스택 트레이스 없이 메시지만)
+                log.error("동행복권 API 호출 중 예상치 못한 예외: drawNo={}, error={}", drawNo, e.getMessage());
+                return Mono.just(Optional.empty());
+            });
+    }
+    
+    /**
+     * 로컬 응답 캐시에서 회차 조회
+     * 
+     * 1. 현재 파서 버전의 파싱 결과
+     * 2. 회차별 원본 응답 재파싱
+     * 3. 보관된 전체 리스트 응답에서 검색
+     */
+    private Optional<DrawApiResponse> findInResponseCache(int drawNo) {
+        if (!responseCache.isEnabled()) {
+            return Optional.empty();
         }
         
-        String url = String.format("%s?method=getLottoNumber&drwNo=%d", BASE_URL, drawNo);
+        Optional<DrawApiResponse> parsed = responseCache.findParsed(drawNo);
+        if (parsed.isPresent()) {
+            log.debug("응답 캐시 적중 (파싱 결과): drawNo={}", drawNo);
+            return parsed;
+        }
         
-        for (int attempt = 1; attempt <= MAX_RETRY; attempt++) {
-            try {
-                // 매 시도마다 헤더를 새로 생성 (쿠키는 재사용)
-                HttpHeaders headers = createApiHeaders();
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                
-                log.debug("동행복권 API 호출 시도 {}/{}: drawNo={}, url={}", attempt, MAX_RETRY, drawNo, url);
-                
-                // 디버깅: 실제 전송되는 헤더 로그 출력
-                log.info("동행복권 API 호출 헤더 (시도 {}): User-Agent={}, Referer={}, Accept={}, Origin={}, Cookie={}", 
-                    attempt,
-                    headers.getFirst("User-Agent") != null ? headers.getFirst("User-Agent").substring(0, Math.min(50, headers.getFirst("User-Agent").length())) + "..." : "없음",
-                    headers.getFirst("Referer"),
-                    headers.getFirst("Accept"),
-                    headers.getFirst("Origin"),
-                    headers.getFirst("Cookie") != null ? (headers.getFirst("Cookie").length() > 50 
-                        ? headers.getFirst("Cookie").substring(0, 50) + "..." 
-                        : headers.getFirst("Cookie")) : "없음"
-                );
-                
-                ResponseEntity<String> response = restTemplate.exchange(
-                    URI.create(url), 
-                    HttpMethod.GET, 
-                    entity, 
-                    String.class
-                );
-                
-                // HTTP 상태 코드 확인
-                if (response.getStatusCode() != HttpStatus.OK) {
-                    log.warn("동행복권 API HTTP 상태 코드 오류: status={}, drawNo={}, attempt={}/{}", 
-                        response.getStatusCode(), drawNo, attempt, MAX_RETRY);
-                    if (attempt < MAX_RETRY) {
-                        Thread.sleep(RETRY_DELAY_MS * attempt);
-                        continue;
-                    }
-                    return Optional.empty();
-                }
-                
-                // 응답 헤더 확인 (리다이렉트 여부 확인)
-                String contentType = response.getHeaders().getFirst("Content-Type");
-                String location = response.getHeaders().getFirst("Location");
-                List<String> setCookies = response.getHeaders().get("Set-Cookie");
-                log.info("동행복권 API 응답 헤더: Status={}, Content-Type={}, Location={}, Set-Cookie={}", 
-                    response.getStatusCode(),
-                    contentType,
-                    location != null ? location : "없음",
-                    setCookies != null && !setCookies.isEmpty() ? setCookies.size() + "개" : "없음"
-                );
-                
-                // Set-Cookie가 있으면 쿠키 업데이트
-                if (setCookies != null && !setCookies.isEmpty()) {
-                    List<String> newCookies = extractCookies(setCookies);
-                    if (!newCookies.isEmpty()) {
-                        // 기존 쿠키와 병합
-                        List<String> allCookies = new ArrayList<>();
-                        if (sessionCookies != null && !sessionCookies.isEmpty()) {
-                            String[] existingCookies = sessionCookies.split("; ");
-                            for (String cookie : existingCookies) {
-                                allCookies.add(cookie.trim());
-                            }
-                        }
-                        for (String cookie : newCookies) {
-                            // 중복 제거
-                            String cookieName = cookie.split("=")[0];
-                            allCookies.removeIf(c -> c.startsWith(cookieName + "="));
-                            allCookies.add(cookie);
-                        }
-                        sessionCookies = String.join("; ", allCookies);
-                        log.info("응답에서 새 쿠키 획득 및 업데이트: {}", sessionCookies.length() > 100 
-                            ? sessionCookies.substring(0, 100) + "..." 
-                            : sessionCookies);
-                    }
-                }
-                
-                String responseBody = response.getBody();
-                
-                // 응답 본문 확인
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    log.warn("동행복권 API 응답 본문이 비어있음: drawNo={}, attempt={}/{}", drawNo, attempt, MAX_RETRY);
-                    if (attempt < MAX_RETRY) {
-                        Thread.sleep(RETRY_DELAY_MS * attempt);
-                        continue;
-                    }
-                    return Optional.empty();
-                }
-                
-                // HTML 응답 체크 (JSON이 아닌 경우)
-                // 동행복권 API가 HTML을 반환하는 경우: API 변경, 회차 없음, 접근 차단 등
-                if (responseBody.trim().startsWith("<")) {
-                    // 기본 엔드포인트가 차단되었음을 표시 (이후 호출 시 바로 폴백으로 이동)
-                    isBaseEndpointBlocked = true;
-                    
-                    // HTML 응답을 받은 경우: HAR 분석 결과, selectPstLt645Info.do 엔드포인트로 폴백 시도
-                    // 이 엔드포인트는 전체 리스트를 반환하므로, 특정 회차를 필터링하여 찾음
-                    // 주의: selectPstLt645Info.do는 당첨금 정보를 포함하지 않을 수 있음
-                    log.debug("기본 엔드포인트 HTML 응답, 폴백 엔드포인트로 전환: drawNo={}", drawNo);
-                    Optional<DrawApiResponse> fallbackResult = fetchDrawFromListApi(drawNo);
-                    if (fallbackResult.isPresent()) {
-                        // 폴백 API는 당첨금 정보가 없을 수 있으므로 확인
-                        DrawApiResponse result = fallbackResult.get();
-                        if (result.getFirstWinamnt() == null && result.getFirstPrzwnerCo() == null) {
-                            log.warn("폴백 엔드포인트에서 당첨금 정보 없음: drawNo={} (selectPstLt645Info.do는 당첨금 정보를 포함하지 않을 수 있음)", drawNo);
-                        }
-                        log.debug("폴백 엔드포인트에서 회차 조회 성공: drawNo={}", drawNo);
-                        return fallbackResult;
-                    }
-                    log.warn("폴백 엔드포인트에서도 회차를 찾을 수 없음: drawNo={}", drawNo);
-                    return Optional.empty();
-                }
-                
-                // JSON 형식 확인
-                String trimmedBody = responseBody.trim();
-                if (!trimmedBody.startsWith("{") && !trimmedBody.startsWith("[")) {
-                    log.warn("동행복권 API 응답이 JSON 형식이 아님: drawNo={}, responsePreview={}, attempt={}/{}", 
-                        drawNo, 
-                        trimmedBody.length() > 200 ? trimmedBody.substring(0, 200) : trimmedBody,
-                        attempt, MAX_RETRY);
-                    return Optional.empty();
-                }
-                
-                // JSON 파싱 시도
-                DrawApiResponse apiResponse;
-                try {
-                    apiResponse = objectMapper.readValue(responseBody, DrawApiResponse.class);
-                } catch (com.fasterxml.jackson.core.JsonParseException e) {
-                    log.warn("동행복권 API JSON 파싱 실패: drawNo={}, error={}, responsePreview={}, attempt={}/{}", 
-                        drawNo, e.getMessage(),
-                        responseBody.length() > 200 ? responseBody.substring(0, 200) : responseBody,
-                        attempt, MAX_RETRY);
-                    return Optional.empty();
-                } catch (Exception e) {
-                    log.warn("동행복권 API 응답 파싱 중 예외: drawNo={}, error={}, attempt={}/{}", 
-                        drawNo, e.getMessage(), attempt, MAX_RETRY);
-                    return Optional.empty();
-                }
-                
-                // API 응답 검증
-                if (apiResponse == null) {
-                    log.warn("동행복권 API 응답이 null: drawNo={}, attempt={}/{}", drawNo, attempt, MAX_RETRY);
-                    return Optional.empty();
-                }
-                
-                // returnValue 확인
-                if (!apiResponse.isSuccess()) {
-                    log.warn("동행복권 API 응답 실패: returnValue={}, drawNo={}, attempt={}/{}", 
-                        apiResponse.getReturnValue(), drawNo, attempt, MAX_RETRY);
-                    return Optional.empty();
-                }
-                
-                // 회차 번호 일치 확인
-                if (apiResponse.getDrwNo() == null || !apiResponse.getDrwNo().equals(drawNo)) {
-                    log.warn("동행복권 API 응답 회차 번호 불일치: 요청={}, 응답={}, attempt={}/{}", 
-                        drawNo, apiResponse.getDrwNo(), attempt, MAX_RETRY);
-                    return Optional.empty();
+        Optional<DrawApiResponse> reparsed = responseCache.findDrawBody(drawNo)
+            .flatMap(body -> parseDrawResponse(drawNo, 0, body));
+        if (reparsed.isEmpty()) {
+            reparsed = responseCache.findListBody(LIST_PAGE_ALL)
+                .flatMap(body -> findDrawInListResponse(drawNo, body));
+        }
+        reparsed.ifPresent(response -> {
+            log.debug("응답 캐시 적중 (원본 재파싱): drawNo={}", drawNo);
+            responseCache.storeParsed(response);
+        });
+        return reparsed;
+    }
+    
+    /**
+     * 특정 회차의 로컬 응답 캐시 삭제
+     * 
+     * 강제 갱신(forceUpdate, 관리자 단건 조회) 시 호출하여 다음 조회가 외부 API로 가도록 합니다.
+     */
+    public void evictCachedDraw(int drawNo) {
+        responseCache.evict(drawNo);
+    }
+    
+    /**
+     * 외부 API로 회차 조회
+     */
+    private Mono<Optional<DrawApiResponse>> fetchDrawFromNetwork(int drawNo) {
+        // 세션 쿠키 획득 (처음 호출 시 또는 쿠키가 없을 때만)
+        return ensureSessionCookies()
+            .then(Mono.defer(() -> {
+                // 기본 엔드포인트가 차단되어 있으면 바로 폴백으로 이동
+                if (isBaseEndpointBlocked) {
+                    log.debug("기본 엔드포인트 차단됨, 바로 폴백 엔드포인트로 이동: drawNo={}", drawNo);
+                    return fetchDrawFromListApi(drawNo);
                 }
-                
-                log.info("동행복권 API 호출 성공: drawNo={}, drawDate={}", 
-                    apiResponse.getDrwNo(), apiResponse.getDrwNoDate());
-                
-                return Optional.of(apiResponse);
-                
-            } catch (RestClientException e) {
+                return fetchDrawFromBaseEndpoint(drawNo, 1);
+            }));
+    }
+    
+    /**
+     * 여러 회차를 동시에 조회 (Non-blocking)
+     * 
+     * 동시 요청 수는 concurrency로 제한되며, 실패한 회차는 결과에서 제외됩니다.
+     * 
+     * @param drawNos 조회할 회차 번호 목록
+     * @param concurrency 최대 동시 요청 수
+     * @return 조회에 성공한 추첨 결과 (완료 순서)
+     */
+    public Flux<DrawApiResponse> fetchDrawsAsync(Collection<Integer> drawNos, int concurrency) {
+        return Flux.fromIterable(drawNos)
+            .flatMap(this::fetchDrawAsync, Math.max(1, concurrency))
+            .flatMap(Mono::justOrEmpty);
+    }
+    
+    /**
+     * 여러 회차를 동시에 조회 (동기)
+     * 
+     * 배치/관리자 스레드에서 사용하는 블로킹 버전입니다.
+     * 동시 요청 수는 external.dhlottery.bulk.concurrency로 제한되며,
+     * 세션 쿠키 획득은 한 번만 수행되고 커넥션 풀의 소켓을 공유합니다.
+     * 
+     * @param drawNos 조회할 회차 번호 목록
+     * @return 회차 번호별 추첨 결과 (실패한 회차는 포함되지 않음)
+     */
+    public Map<Integer, DrawApiResponse> fetchDrawBatch(Collection<Integer> drawNos) {
+        if (drawNos.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<Integer, DrawApiResponse> result = fetchDrawsAsync(drawNos, bulkConcurrency)
+                .collectMap(DrawApiResponse::getDrwNo)
+                .block();
+            return result != null ? result : Map.of();
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || e.getCause() instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                log.warn("동행복권 API 일괄 조회 중 인터럽트: drawNos={}", drawNos.size());
+            } else {
+                log.error("동행복권 API 일괄 조회 중 예상치 못한 예외: drawNos={}, error={}", drawNos.size(), e.getMessage());
+            }
+            return Map.of();
+        }
+    }
+    
+    /**
+     * 기본 엔드포인트(common.do)로 회차 조회 (재시도 포함)
+     */
+    private Mono<Optional<DrawApiResponse>> fetchDrawFromBaseEndpoint(int drawNo, int attempt) {
+        String url = String.format("%s%s?method=getLottoNumber&drwNo=%d", baseUrl, BASE_PATH, drawNo);
+        
+        // 매 시도마다 헤더를 새로 생성 (쿠키는 재사용)
+        HttpHeaders headers = createApiHeaders();
+        
+        log.debug("동행복권 API 호출 시도 {}/{}: drawNo={}, url={}", attempt, MAX_RETRY, drawNo, url);
+        
+        // 디버깅: 실제 전송되는 헤더 로그 출력
+        log.info("동행복권 API 호출 헤더 (시도 {}): User-Agent={}, Referer={}, Accept={}, Origin={}, Cookie={}", 
+            attempt,
+            abbreviate(headers.getFirst("User-Agent"), 50),
+            headers.getFirst("Referer"),
+            headers.getFirst("Accept"),
+            headers.getFirst("Origin"),
+            abbreviate(headers.getFirst("Cookie"), 50)
+        );
+        
+        return get(url, headers)
+            .flatMap(response -> handleBaseEndpointResponse(drawNo, attempt, response))
+            .onErrorResume(WebClientException.class, e -> {
                 // 네트워크 오류: 재시도 가능
                 log.warn("동행복권 API 호출 중 네트워크 오류 (시도 {}/{}): drawNo={}, error={}", 
                     attempt, MAX_RETRY, drawNo, e.getMessage());
-                
-                if (attempt < MAX_RETRY) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS * attempt);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("동행복권 API 재시도 중단: drawNo={}", drawNo);
-                        return Optional.empty();
+                return retryOrGiveUp(drawNo, attempt);
+            });
+    }
+    
+    /**
+     * 재시도 대기 후 다음 시도, 최대 재시도 횟수를 넘으면 실패 처리
+     */
+    private Mono<Optional<DrawApiResponse>> retryOrGiveUp(int drawNo, int attempt) {
+        if (attempt < MAX_RETRY) {
+            return Mono.delay(Duration.ofMillis(RETRY_DELAY_MS * attempt))
+                .then(Mono.defer(() -> fetchDrawFromBaseEndpoint(drawNo, attempt + 1)));
+        }
+        // 모든 재시도 실패
+        log.error("동행복권 API 호출 최종 실패: drawNo={}, 최대 재시도 횟수 초과", drawNo);
+        return Mono.just(Optional.empty());
+    }
+    
+    /**
+     * 기본 엔드포인트 응답 검증 및 파싱
+     */
+    private Mono<Optional<DrawApiResponse>> handleBaseEndpointResponse(int drawNo, int attempt,
+                                                                      ResponseEntity<String> response) {
+        // HTTP 상태 코드 확인
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.warn("동행복권 API HTTP 상태 코드 오류: status={}, drawNo={}, attempt={}/{}", 
+                response.getStatusCode(), drawNo, attempt, MAX_RETRY);
+            return retryOrGiveUp(drawNo, attempt);
+        }
+        
+        // 응답 헤더 확인 (리다이렉트 여부 확인)
+        String contentType = response.getHeaders().getFirst("Content-Type");
+        String location = response.getHeaders().getFirst("Location");
+        List<String> setCookies = response.getHeaders().get(HttpHeaders.SET_COOKIE);
+        log.info("동행복권 API 응답 헤더: Status={}, Content-Type={}, Location={}, Set-Cookie={}", 
+            response.getStatusCode(),
+            contentType,
+            location != null ? location : "없음",
+            setCookies != null && !setCookies.isEmpty() ? setCookies.size() + "개" : "없음"
+        );
+        
+        // Set-Cookie가 있으면 쿠키 업데이트 (기존 쿠키와 병합)
+        if (cookieJar.store(setCookies)) {
+            log.info("응답에서 새 쿠키 획득 및 업데이트: {}", abbreviate(cookieJar.toHeaderValue(), 100));
+        }
+        
+        String responseBody = response.getBody();
+        
+        // 응답 본문 확인
+        if (responseBody == null || responseBody.trim().isEmpty()) {
+            log.warn("동행복권 API 응답 본문이 비어있음: drawNo={}, attempt={}/{}", drawNo, attempt, MAX_RETRY);
+            return retryOrGiveUp(drawNo, attempt);
+        }
+        
+        // HTML 응답 체크 (JSON이 아닌 경우)
+        // 동행복권 API가 HTML을 반환하는 경우: API 변경, 회차 없음, 접근 차단 등
+        if (responseBody.trim().startsWith("<")) {
+            // 기본 엔드포인트가 차단되었음을 표시 (이후 호출 시 바로 폴백으로 이동)
+            isBaseEndpointBlocked = true;
+            
+            // HTML 응답을 받은 경우: HAR 분석 결과, selectPstLt645Info.do 엔드포인트로 폴백 시도
+            // 이 엔드포인트는 전체 리스트를 반환하므로, 특정 회차를 필터링하여 찾음
+            // 주의: selectPstLt645Info.do는 당첨금 정보를 포함하지 않을 수 있음
+            log.debug("기본 엔드포인트 HTML 응답, 폴백 엔드포인트로 전환: drawNo={}", drawNo);
+            return fetchDrawFromListApi(drawNo).map(fallbackResult -> {
+                if (fallbackResult.isPresent()) {
+                    // 폴백 API는 당첨금 정보가 없을 수 있으므로 확인
+                    DrawApiResponse result = fallbackResult.get();
+                    if (result.getFirstWinamnt() == null && result.getFirstPrzwnerCo() == null) {
+                        log.warn("폴백 엔드포인트에서 당첨금 정보 없음: drawNo={} (selectPstLt645Info.do는 당첨금 정보를 포함하지 않을 수 있음)", drawNo);
                     }
-                    continue;
+                    log.debug("폴백 엔드포인트에서 회차 조회 성공: drawNo={}", drawNo);
+                } else {
+                    log.warn("폴백 엔드포인트에서도 회차를 찾을 수 없음: drawNo={}", drawNo);
                 }
-                return Optional.empty();
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("동행복권 API 호출 중 인터럽트: drawNo={}", drawNo);
-                return Optional.empty();
-                
-            } catch (Exception e) {
-                // 예상치 못한 예외: 로깅 후 실패 처리 (스택 트레이스 없이 메시지만)
-                log.error("동행복권 API 호출 중 예상치 못한 예외 (시도 {}/{}): drawNo={}, error={}", 
-                    attempt, MAX_RETRY, drawNo, e.getMessage());
-                
-                // 예상치 못한 예외는 재시도하지 않음
-                return Optional.empty();
-            }
+                return fallbackResult;
+            });
         }
         
-        // 모든 재시도 실패
-        log.error("동행복권 API 호출 최종 실패: drawNo={}, 최대 재시도 횟수 초과", drawNo);
-        return Optional.empty();
+        Optional<DrawApiResponse> parsed = parseDrawResponse(drawNo, attempt, responseBody);
+        if (parsed.isEmpty()) {
+            return Mono.just(parsed);
+        }
+        // 발표된 회차 결과는 변하지 않으므로 원본과 파싱 결과를 로컬 캐시에 보관
+        return Mono.fromRunnable(() -> {
+                responseCache.storeDrawBody(drawNo, responseBody);
+                responseCache.storeParsed(parsed.get());
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .thenReturn(parsed);
+    }
+    
+    /**
+     * 기본 엔드포인트 JSON 응답 파싱 및 검증
+     */
+    private Optional<DrawApiResponse> parseDrawResponse(int drawNo, int attempt, String responseBody) {
+        // JSON 형식 확인
+        String trimmedBody = responseBody.trim();
+        if (!trimmedBody.startsWith("{") && !trimmedBody.startsWith("[")) {
+            log.warn("동행복권 API 응답이 JSON 형식이 아님: drawNo={}, responsePreview={}, attempt={}/{}", 
+                drawNo, 
+                trimmedBody.length() > 200 ? trimmedBody.substring(0, 200) : trimmedBody,
+                attempt, MAX_RETRY);
+            return Optional.empty();
+        }
+        
+        // JSON 파싱 시도
+        DrawApiResponse apiResponse;
+        try {
+            apiResponse = objectMapper.readValue(responseBody, DrawApiResponse.class);
+        } catch (com.fasterxml.jackson.core.JsonParseException e) {
+            log.warn("동행복권 API JSON 파싱 실패: drawNo={}, error={}, responsePreview={}, attempt={}/{}", 
+                drawNo, e.getMessage(),
+                responseBody.length() > 200 ? responseBody.substring(0, 200) : responseBody,
+                attempt, MAX_RETRY);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("동행복권 API 응답 파싱 중 예외: drawNo={}, error={}, attempt={}/{}", 
+                drawNo, e.getMessage(), attempt, MAX_RETRY);
+            return Optional.empty();
+        }
+        
+        // API 응답 검증
+        if (apiResponse == null) {
+            log.warn("동행복권 API 응답이 null: drawNo={}, attempt={}/{}", drawNo, attempt, MAX_RETRY);
+            return Optional.empty();
+        }
+        
+        // returnValue 확인
+        if (!apiResponse.isSuccess()) {
+            log.warn("동행복권 API 응답 실패: returnValue={}, drawNo={}, attempt={}/{}", 
+                apiResponse.getReturnValue(), drawNo, attempt, MAX_RETRY);
+            return Optional.empty();
+        }
+        
+        // 회차 번호 일치 확인
+        if (apiResponse.getDrwNo() == null || !apiResponse.getDrwNo().equals(drawNo)) {
+            log.warn("동행복권 API 응답 회차 번호 불일치: 요청={}, 응답={}, attempt={}/{}", 
+                drawNo, apiResponse.getDrwNo(), attempt, MAX_RETRY);
+            return Optional.empty();
+        }
+        
+        log.info("동행복권 API 호출 성공: drawNo={}, drawDate={}", 
+            apiResponse.getDrwNo(), apiResponse.getDrwNoDate());
+        
+        return Optional.of(apiResponse);
     }
     
     /**
@@ -497,112 +623,117 @@ public class DonghaengLottoApiClient {
      * @param drawNo 회차 번호
      * @return 추첨 결과 (Optional) - 실패 시 empty 반환
      */
-    private Optional<DrawApiResponse> fetchDrawFromListApi(int drawNo) {
+    private Mono<Optional<DrawApiResponse>> fetchDrawFromListApi(int drawNo) {
+        log.debug("전체 리스트 API로 회차 조회 시도: drawNo={}", drawNo);
+        
+        String url = String.format("%s%s?srchLtEpsd=all", baseUrl, LIST_API_PATH);
+        
+        return Mono.defer(() -> get(url, createApiHeaders()))
+            .publishOn(Schedulers.boundedElastic()) // 큰 JSON 파싱 및 캐시 저장
+            .map(response -> {
+                if (response.getStatusCode() != HttpStatus.OK) {
+                    log.warn("전체 리스트 API HTTP 상태 코드 오류: status={}, drawNo={}", 
+                        response.getStatusCode(), drawNo);
+                    return Optional.<DrawApiResponse>empty();
+                }
+                
+                String responseBody = response.getBody();
+                if (responseBody == null || responseBody.trim().isEmpty()) {
+                    log.warn("전체 리스트 API 응답 본문이 비어있음: drawNo={}", drawNo);
+                    return Optional.<DrawApiResponse>empty();
+                }
+                
+                Optional<DrawApiResponse> result = findDrawInListResponse(drawNo, responseBody);
+                if (result.isPresent()) {
+                    // 요청한 회차가 포함된 최신 리스트로 교체 보관
+                    responseCache.storeListBody(LIST_PAGE_ALL, responseBody);
+                    responseCache.storeParsed(result.get());
+                }
+                return result;
+            })
+            .onErrorResume(e -> {
+                log.warn("전체 리스트 API 호출 실패: drawNo={}, error={}", drawNo, e.getMessage());
+                return Mono.just(Optional.empty());
+            });
+    }
+    
+    /**
+     * 전체 리스트 API 응답에서 특정 회차 추출
+     */
+    private Optional<DrawApiResponse> findDrawInListResponse(int drawNo, String responseBody) {
         try {
-            log.debug("전체 리스트 API로 회차 조회 시도: drawNo={}", drawNo);
+            // JSON 구조: {"resultCode":null,"resultMessage":null,"data":{"list":[...]}}
+            @SuppressWarnings("unchecked")
+            java.util.Map<String, Object> jsonMap = objectMapper.readValue(responseBody, java.util.Map.class);
             
-            String url = String.format("%s?srchLtEpsd=all", LIST_API_URL);
-            HttpHeaders headers = createApiHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                URI.create(url),
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-            
-            if (response.getStatusCode() != HttpStatus.OK) {
-                log.warn("전체 리스트 API HTTP 상태 코드 오류: status={}, drawNo={}", 
-                    response.getStatusCode(), drawNo);
+            @SuppressWarnings("unchecked")
+            java.util.Map<String, Object> data = (java.util.Map<String, Object>) jsonMap.get("data");
+            if (data == null) {
+                log.warn("전체 리스트 API 응답에 data 필드가 없음: drawNo={}", drawNo);
                 return Optional.empty();
             }
             
-            String responseBody = response.getBody();
-            if (responseBody == null || responseBody.trim().isEmpty()) {
-                log.warn("전체 리스트 API 응답 본문이 비어있음: drawNo={}", drawNo);
+            @SuppressWarnings("unchecked")
+            java.util.List<java.util.Map<String, Object>> list = 
+                (java.util.List<java.util.Map<String, Object>>) data.get("list");
+            if (list == null || list.isEmpty()) {
+                log.warn("전체 리스트 API 응답에 list가 비어있음: drawNo={}", drawNo);
                 return Optional.empty();
             }
             
-            // JSON 파싱
-            try {
-                // JSON 구조: {"resultCode":null,"resultMessage":null,"data":{"list":[...]}}
-                @SuppressWarnings("unchecked")
-                java.util.Map<String, Object> jsonMap = objectMapper.readValue(responseBody, java.util.Map.class);
-                
-                @SuppressWarnings("unchecked")
-                java.util.Map<String, Object> data = (java.util.Map<String, Object>) jsonMap.get("data");
-                if (data == null) {
-                    log.warn("전체 리스트 API 응답에 data 필드가 없음: drawNo={}", drawNo);
-                    return Optional.empty();
-                }
-                
-                @SuppressWarnings("unchecked")
-                java.util.List<java.util.Map<String, Object>> list = 
-                    (java.util.List<java.util.Map<String, Object>>) data.get("list");
-                if (list == null || list.isEmpty()) {
-                    log.warn("전체 리스트 API 응답에 list가 비어있음: drawNo={}", drawNo);
-                    return Optional.empty();
-                }
-                
-                // 특정 회차 찾기
-                // 필드명: ltEpsd (회차), tm1WnNo~tm6WnNo (당첨번호), bnsWnNo (보너스), ltRflYmd (추첨일)
-                for (java.util.Map<String, Object> item : list) {
-                    Object ltEpsdObj = item.get("ltEpsd");
-                    if (ltEpsdObj != null) {
-                        int itemDrawNo = ((Number) ltEpsdObj).intValue();
-                        if (itemDrawNo == drawNo) {
-                            // 날짜 형식 변환: "20021207" -> "2002-12-07"
-                            String ltRflYmd = (String) item.get("ltRflYmd");
-                            String formattedDate = formatDate(ltRflYmd);
-                            
-                            // API 응답 필드 확인 (디버깅용)
-                            log.debug("API 응답 필드 확인 (drawNo={}): {}", drawNo, item.keySet());
-                            
-                            // DrawApiResponse로 변환
-                            // selectPstLt645Info.do API 필드명: rnk1WnAmt (1등 당첨금액), rnk1WnNope (1등 당첨인원)
-                            Long firstWinamnt = getLongValue(item, "rnk1WnAmt");
-                            Integer firstPrzwnerCo = getIntValue(item, "rnk1WnNope");
-                            Long totSellamnt = getLongValue(item, "rlvtEpsdSumNtslAmt"); // 해당 회차 판매금액
-                            
-                            log.debug("당첨금 필드 확인 (drawNo={}): rnk1WnAmt={}, rnk1WnNope={}, rlvtEpsdSumNtslAmt={}", 
-                                drawNo, firstWinamnt, firstPrzwnerCo, totSellamnt);
-                            
-                            DrawApiResponse apiResponse = DrawApiResponse.builder()
-                                .returnValue("success")
-                                .drwNo(itemDrawNo)
-                                .drwNoDate(formattedDate)
-                                .drwtNo1(getIntValue(item, "tm1WnNo"))
-                                .drwtNo2(getIntValue(item, "tm2WnNo"))
-                                .drwtNo3(getIntValue(item, "tm3WnNo"))
-                                .drwtNo4(getIntValue(item, "tm4WnNo"))
-                                .drwtNo5(getIntValue(item, "tm5WnNo"))
-                                .drwtNo6(getIntValue(item, "tm6WnNo"))
-                                .bnusNo(getIntValue(item, "bnsWnNo"))
-                                .firstWinamnt(firstWinamnt)
-                                .firstPrzwnerCo(firstPrzwnerCo)
-                                .totSellamnt(totSellamnt)
-                                .build();
-                            
-                            log.info("전체 리스트 API에서 회차 조회 성공: drawNo={}, drawDate={}, firstWinamnt={}, firstPrzwnerCo={}, totalPrize={}, prizePerPerson={}", 
-                                apiResponse.getDrwNo(), apiResponse.getDrwNoDate(), 
-                                firstWinamnt, firstPrzwnerCo, 
-                                apiResponse.getTotalPrize(), apiResponse.getPrizePerPerson());
-                            return Optional.of(apiResponse);
-                        }
+            // 특정 회차 찾기
+            // 필드명: ltEpsd (회차), tm1WnNo~tm6WnNo (당첨번호), bnsWnNo (보너스), ltRflYmd (추첨일)
+            for (java.util.Map<String, Object> item : list) {
+                Object ltEpsdObj = item.get("ltEpsd");
+                if (ltEpsdObj != null) {
+                    int itemDrawNo = ((Number) ltEpsdObj).intValue();
+                    if (itemDrawNo == drawNo) {
+                        // 날짜 형식 변환: "20021207" -> "2002-12-07"
+                        String ltRflYmd = (String) item.get("ltRflYmd");
+                        String formattedDate = formatDate(ltRflYmd);
+                        
+                        // API 응답 필드 확인 (디버깅용)
+                        log.debug("API 응답 필드 확인 (drawNo={}): {}", drawNo, item.keySet());
+                        
+                        // DrawApiResponse로 변환
+                        // selectPstLt645Info.do API 필드명: rnk1WnAmt (1등 당첨금액), rnk1WnNope (1등 당첨인원)
+                        Long firstWinamnt = getLongValue(item, "rnk1WnAmt");
+                        Integer firstPrzwnerCo = getIntValue(item, "rnk1WnNope");
+                        Long totSellamnt = getLongValue(item, "rlvtEpsdSumNtslAmt"); // 해당 회차 판매금액
+                        
+                        log.debug("당첨금 필드 확인 (drawNo={}): rnk1WnAmt={}, rnk1WnNope={}, rlvtEpsdSumNtslAmt={}", 
+                            drawNo, firstWinamnt, firstPrzwnerCo, totSellamnt);
+                        
+                        DrawApiResponse apiResponse = DrawApiResponse.builder()
+                            .returnValue("success")
+                            .drwNo(itemDrawNo)
+                            .drwNoDate(formattedDate)
+                            .drwtNo1(getIntValue(item, "tm1WnNo"))
+                            .drwtNo2(getIntValue(item, "tm2WnNo"))
+                            .drwtNo3(getIntValue(item, "tm3WnNo"))
+                            .drwtNo4(getIntValue(item, "tm4WnNo"))
+                            .drwtNo5(getIntValue(item, "tm5WnNo"))
+                            .drwtNo6(getIntValue(item, "tm6WnNo"))
+                            .bnusNo(getIntValue(item, "bnsWnNo"))
+                            .firstWinamnt(firstWinamnt)
+                            .firstPrzwnerCo(firstPrzwnerCo)
+                            .totSellamnt(totSellamnt)
+                            .build();
+                        
+                        log.info("전체 리스트 API에서 회차 조회 성공: drawNo={}, drawDate={}, firstWinamnt={}, firstPrzwnerCo={}, totalPrize={}, prizePerPerson={}", 
+                            apiResponse.getDrwNo(), apiResponse.getDrwNoDate(), 
+                            firstWinamnt, firstPrzwnerCo, 
+                            apiResponse.getTotalPrize(), apiResponse.getPrizePerPerson());
+                        return Optional.of(apiResponse);
                     }
                 }
-                
-                log.warn("전체 리스트에서 회차를 찾을 수 없음: drawNo={}", drawNo);
-                return Optional.empty();
-                
-            } catch (Exception e) {
-                log.warn("전체 리스트 API JSON 파싱 실패: drawNo={}, error={}", drawNo, e.getMessage());
-                return Optional.empty();
             }
             
+            log.warn("전체 리스트에서 회차를 찾을 수 없음: drawNo={}", drawNo);
+            return Optional.empty();
+            
         } catch (Exception e) {
-            log.warn("전체 리스트 API 호출 실패: drawNo={}, error={}", drawNo, e.getMessage());
+            log.warn("전체 리스트 API JSON 파싱 실패: drawNo={}, error={}", drawNo, e.getMessage());
             return Optional.empty();
         }
     }
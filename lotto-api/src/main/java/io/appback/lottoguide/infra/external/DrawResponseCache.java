@@ -0,0 +1,298 @@
+package io.appback.lottoguide.infra.external;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.appback.lottoguide.infra.external.dto.DrawApiResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 동행복권 응답 로컬 디스크 캐시 (Content-addressed)
+ *
+ * 발표된 회차의 추첨 결과는 변하지 않으므로, 한 번 받은 원본 응답을 디스크에 보관하고
+ * 이후 재수집/재파싱/테스트 환경 재현 시 외부 호출 없이 재사용합니다.
+ *
+ * 디렉토리 구조:
+ * - blobs/{sha256}          : 원본 응답 본문 (내용 해시로 저장, 동일 본문은 한 번만 저장)
+ * - draws/{drawNo}.ref      : 회차별 원본 응답(common.do) 해시와 길이
+ * - lists/{page}.ref        : 전체 리스트 응답(selectPstLt645Info.do) 해시와 길이
+ * - parsed/{drawNo}.json    : 파싱 결과 (파서 버전, 당첨금 포함 여부, 저장 시각 포함)
+ *
+ * 파싱 로직을 고친 경우 PARSER_VERSION을 올리면 기존 파싱 결과는 무시되고
+ * 보관된 원본 응답으로 다시 파싱합니다 (외부 호출 없음).
+ *
+ * 성공한 응답만 저장합니다. 미발표 회차/차단 응답(HTML)은 시간이 지나면 바뀌므로 저장하지 않습니다.
+ * 당첨금 정보(firstWinamnt/firstPrzwnerCo)가 빠진 파싱 결과와 전체 리스트 응답은
+ * 나중에 채워질 수 있으므로 partial-ttl-hours 동안만 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DrawResponseCache {
+
+    /**
+     * 파싱 결과 형식 버전 (파서 수정 시 증가)
+     */
+    public static final int PARSER_VERSION = 1;
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String DRAW_REF_DIR = "draws";
+    private static final String LIST_REF_DIR = "lists";
+    private static final String PARSED_DIR = "parsed";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${external.dhlottery.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${external.dhlottery.cache.dir:./data/dhlottery-cache}")
+    private String cacheDir;
+
+    @Value("${external.dhlottery.cache.partial-ttl-hours:24}")
+    private long partialTtlHours;
+
+    private Path root;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            log.info("동행복권 응답 캐시 비활성화");
+            return;
+        }
+        root = Paths.get(cacheDir).toAbsolutePath().normalize();
+        try {
+            for (String dir : new String[]{BLOB_DIR, DRAW_REF_DIR, LIST_REF_DIR, PARSED_DIR}) {
+                Files.createDirectories(root.resolve(dir));
+            }
+            log.info("동행복권 응답 캐시 디렉토리: {}", root);
+        } catch (IOException e) {
+            // 캐시는 선택 기능이므로 디렉토리를 만들 수 없으면 비활성화하고 계속 진행
+            log.warn("동행복권 응답 캐시 디렉토리 생성 실패, 캐시 비활성화: dir={}, error={}", root, e.getMessage());
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 회차별 파싱 결과 조회 (현재 파서 버전과 일치하는 경우만)
+     */
+    public Optional<DrawApiResponse> findParsed(int drawNo) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path path = root.resolve(PARSED_DIR).resolve(drawNo + ".json");
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(path.toFile());
+            if (node.path("parserVersion").asInt(-1) != PARSER_VERSION) {
+                log.debug("파싱 캐시 버전 불일치, 원본에서 재파싱 필요: drawNo={}", drawNo);
+                return Optional.empty();
+            }
+            DrawApiResponse response = objectMapper.treeToValue(node.path("draw"), DrawApiResponse.class);
+            if (response == null || !response.isSuccess() || response.getDrwNo() != drawNo) {
+                return Optional.empty();
+            }
+            // 당첨금 없는 결과는 TTL이 지나면 다시 조회 (storedAt이 없는 이전 형식은 만료로 간주)
+            if (!hasPrizeInfo(response) && isExpired(node.path("storedAt").asLong(0))) {
+                log.debug("당첨금 없는 파싱 캐시 만료, 다시 조회 필요: drawNo={}", drawNo);
+                return Optional.empty();
+            }
+            return Optional.of(response);
+        } catch (IOException e) {
+            log.warn("파싱 캐시 읽기 실패: drawNo={}, error={}", drawNo, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회차별 파싱 결과 저장
+     */
+    public void storeParsed(DrawApiResponse response) {
+        if (!enabled || response == null || !response.isSuccess()) {
+            return;
+        }
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("parserVersion", PARSER_VERSION);
+            node.put("complete", hasPrizeInfo(response));
+            node.put("storedAt", System.currentTimeMillis());
+            node.set("draw", objectMapper.valueToTree(response));
+            writeAtomically(root.resolve(PARSED_DIR).resolve(response.getDrwNo() + ".json"),
+                objectMapper.writeValueAsBytes(node));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("파싱 캐시 저장 실패: drawNo={}, error={}", response.getDrwNo(), e.getMessage());
+        }
+    }
+
+    /**
+     * 회차별 원본 응답(common.do) 조회
+     */
+    public Optional<String> findDrawBody(int drawNo) {
+        return readRef(DRAW_REF_DIR, String.valueOf(drawNo));
+    }
+
+    /**
+     * 회차별 원본 응답(common.do) 저장
+     */
+    public void storeDrawBody(int drawNo, String body) {
+        writeRef(DRAW_REF_DIR, String.valueOf(drawNo), body);
+    }
+
+    /**
+     * 전체 리스트 원본 응답 조회
+     *
+     * 리스트는 새 회차 발표와 당첨금 확정에 따라 바뀌므로 partial-ttl-hours 안에 보관된 것만 사용합니다.
+     *
+     * @param page 리스트 페이지 식별자 (예: "all")
+     */
+    public Optional<String> findListBody(String page) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Path refPath = root.resolve(LIST_REF_DIR).resolve(page + ".ref");
+            if (Files.isRegularFile(refPath) && isExpired(Files.getLastModifiedTime(refPath).toMillis())) {
+                log.debug("전체 리스트 캐시 만료: page={}", page);
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return readRef(LIST_REF_DIR, page);
+    }
+
+    /**
+     * 전체 리스트 원본 응답 저장 (새 회차가 발표되면 최신 응답으로 교체됨)
+     */
+    public void storeListBody(String page, String body) {
+        writeRef(LIST_REF_DIR, page, body);
+    }
+
+    /**
+     * 특정 회차의 캐시 삭제 (강제 갱신 시 사용)
+     *
+     * 원본 참조와 파싱 결과, 그리고 해당 회차가 들어 있는 전체 리스트 참조를 삭제합니다.
+     * 리스트는 다음 폴백 조회 때 최신 응답으로 다시 보관되며, blob은 다른 참조가 있을 수 있어 유지합니다.
+     */
+    public void evict(int drawNo) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(root.resolve(DRAW_REF_DIR).resolve(drawNo + ".ref"));
+            Files.deleteIfExists(root.resolve(PARSED_DIR).resolve(drawNo + ".json"));
+            try (var lists = Files.newDirectoryStream(root.resolve(LIST_REF_DIR), "*.ref")) {
+                for (Path listRef : lists) {
+                    Files.deleteIfExists(listRef);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("응답 캐시 삭제 실패: drawNo={}, error={}", drawNo, e.getMessage());
+        }
+    }
+
+    private Optional<String> readRef(String dir, String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path refPath = root.resolve(dir).resolve(key + ".ref");
+        if (!Files.isRegularFile(refPath)) {
+            return Optional.empty();
+        }
+        try {
+            // 참조 형식: "{sha256} {length}" (해시는 저장 시 계산한 값을 그대로 사용)
+            String[] ref = Files.readString(refPath, StandardCharsets.US_ASCII).trim().split(" ");
+            String hash = ref[0];
+            Path blobPath = root.resolve(BLOB_DIR).resolve(hash);
+            if (!Files.isRegularFile(blobPath)) {
+                log.debug("응답 캐시 blob 없음: {}/{} -> {}", dir, key, hash);
+                return Optional.empty();
+            }
+            byte[] bytes = Files.readAllBytes(blobPath);
+            // 길이 검증 (쓰다 만 파일은 사용하지 않음, blob은 원자적으로 이동되므로 재해시 불필요)
+            if (ref.length > 1 && bytes.length != Long.parseLong(ref[1])) {
+                log.warn("응답 캐시 blob 길이 불일치, 무시: {}/{}", dir, key);
+                return Optional.empty();
+            }
+            return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+        } catch (IOException | NumberFormatException e) {
+            log.warn("응답 캐시 읽기 실패: {}/{}, error={}", dir, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRef(String dir, String key, String body) {
+        if (!enabled || body == null || body.isBlank()) {
+            return;
+        }
+        try {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            Path blobPath = root.resolve(BLOB_DIR).resolve(hash);
+            if (!Files.exists(blobPath)) {
+                writeAtomically(blobPath, bytes);
+            }
+            writeAtomically(root.resolve(dir).resolve(key + ".ref"),
+                (hash + " " + bytes.length).getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            log.warn("응답 캐시 저장 실패: {}/{}, error={}", dir, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 당첨금 정보 포함 여부 (전체 리스트 폴백 파싱은 당첨금이 빠질 수 있음)
+     */
+    private static boolean hasPrizeInfo(DrawApiResponse response) {
+        return response.getFirstWinamnt() != null && response.getFirstPrzwnerCo() != null;
+    }
+
+    private boolean isExpired(long storedAtMillis) {
+        return System.currentTimeMillis() - storedAtMillis > partialTtlHours * 3_600_000L;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이동 (동시 쓰기/중단 시에도 반쯤 쓰인 파일이 보이지 않도록)
+     */
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, bytes);
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.appback.lottoguide.infra.external;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 세션 쿠키 저장소 (Thread-safe)
+ *
+ * 여러 회차 조회가 동시에 진행되어도 쿠키가 꼬이지 않도록
+ * 모든 접근을 하나의 모니터로 직렬화합니다.
+ *
+ * - 같은 이름의 쿠키는 최신 값으로 교체
+ * - 삽입 순서 유지 (브라우저가 보내는 순서와 동일하게 전송)
+ */
+public class SessionCookieJar {
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    /**
+     * Set-Cookie 헤더 값들을 저장
+     *
+     * @param setCookieHeaders Set-Cookie 헤더 목록 (null 허용)
+     * @return 새로 저장되거나 변경된 쿠키가 있으면 true
+     */
+    public synchronized boolean store(List<String> setCookieHeaders) {
+        if (setCookieHeaders == null || setCookieHeaders.isEmpty()) {
+            return false;
+        }
+
+        boolean changed = false;
+        for (String setCookie : setCookieHeaders) {
+            // Set-Cookie 형식: "JSESSIONID=xxx; Path=/; HttpOnly" -> "JSESSIONID=xxx"만 추출
+            String pair = setCookie.split(";")[0].trim();
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            String name = pair.substring(0, eq);
+            String value = pair.substring(eq + 1);
+            if (!value.equals(cookies.get(name))) {
+                // 같은 이름의 쿠키는 최신 것으로 교체 (순서도 뒤로 이동)
+                cookies.remove(name);
+                cookies.put(name, value);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Cookie 요청 헤더 값 생성 ("a=1; b=2")
+     *
+     * @return 쿠키 헤더 값, 저장된 쿠키가 없으면 null
+     */
+    public synchronized String toHeaderValue() {
+        if (cookies.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner("; ");
+        cookies.forEach((name, value) -> joiner.add(name + "=" + value));
+        return joiner.toString();
+    }
+
+    /**
+     * 저장된 쿠키가 없는지 확인
+     */
+    public synchronized boolean isEmpty() {
+        return cookies.isEmpty();
+    }
+
+    /**
+     * 모든 쿠키 삭제 (세션 재획득 시)
+     */
+    public synchronized void clear() {
+        cookies.clear();
+    }
+}
@@ -0,0 +1,114 @@
+package io.appback.lottoguide.infra.llm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * LLM 일일 예산 집계 (app.features.llm-budget-cap-enabled)
+ *
+ * 날짜, 토큰 수, 비용(마이크로 달러)을 하나의 불변 값으로 묶어 AtomicReference에 CAS로 교체하므로
+ * 호출 경로에 잠금이 없고, 날짜가 바뀌는 순간에도 사용량이 전날 집계와 함께 사라지지 않습니다.
+ * (날짜 초기화와 사용량 누적이 한 번의 교체로 일어남)
+ *
+ * 상한은 호출 전에 검사하고 사용량은 응답 후에 더하므로,
+ * 동시에 진행 중인 호출만큼은 상한을 조금 넘을 수 있습니다.
+ */
+@Component
+@Slf4j
+public class LlmBudgetAccountant {
+
+    private static final double MICROS_PER_DOLLAR = 1_000_000d;
+
+    private final long dailyTokenCap;
+    private final long dailyCostCapMicros;
+
+    private final AtomicReference<Usage> usage = new AtomicReference<>(Usage.empty(LocalDate.now().toEpochDay()));
+
+    public LlmBudgetAccountant(@Value("${llm.gateway.daily-token-cap:0}") long dailyTokenCap,
+                               @Value("${llm.gateway.daily-cost-cap:0}") double dailyCostCap) {
+        this.dailyTokenCap = dailyTokenCap;
+        this.dailyCostCapMicros = Math.round(dailyCostCap * MICROS_PER_DOLLAR);
+    }
+
+    /**
+     * 오늘 예산이 남아 있는지 확인 (상한이 0 이하이면 해당 항목은 무제한)
+     */
+    public boolean hasBudget() {
+        Usage today = current();
+        if (dailyTokenCap > 0 && today.tokens() >= dailyTokenCap) {
+            return false;
+        }
+        return dailyCostCapMicros <= 0 || today.costMicros() < dailyCostCapMicros;
+    }
+
+    /**
+     * 사용량 기록
+     *
+     * @param tokenUsage 사용 토큰 수 (null 허용)
+     * @param costEstimate 예상 비용 USD (null 허용)
+     */
+    public void record(Integer tokenUsage, Double costEstimate) {
+        long tokens = tokenUsage != null && tokenUsage > 0 ? tokenUsage : 0;
+        long costMicros = costEstimate != null && costEstimate > 0 ? Math.round(costEstimate * MICROS_PER_DOLLAR) : 0;
+        if (tokens == 0 && costMicros == 0) {
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        Usage previous = usage.getAndUpdate(current -> current.on(today).plus(tokens, costMicros));
+        logRollOver(previous, today);
+    }
+
+    public long getTokensUsed() {
+        return current().tokens();
+    }
+
+    public double getCostUsed() {
+        return current().costMicros() / MICROS_PER_DOLLAR;
+    }
+
+    /**
+     * 오늘 집계 (날짜가 바뀌었으면 0으로 초기화한 값으로 교체)
+     */
+    private Usage current() {
+        long today = LocalDate.now().toEpochDay();
+        Usage current = usage.get();
+        if (current.day() == today) {
+            return current;
+        }
+        Usage previous = usage.getAndUpdate(value -> value.on(today));
+        logRollOver(previous, today);
+        return usage.get();
+    }
+
+    private static void logRollOver(Usage previous, long today) {
+        if (previous.day() != today) {
+            log.info("LLM 일일 예산 초기화: 전날 토큰 {}, 비용 ${}",
+                previous.tokens(), previous.costMicros() / MICROS_PER_DOLLAR);
+        }
+    }
+
+    /**
+     * 하루치 사용량 (불변)
+     */
+    private record Usage(long day, long tokens, long costMicros) {
+
+        static Usage empty(long day) {
+            return new Usage(day, 0, 0);
+        }
+
+        /**
+         * 지정한 날짜의 집계 (다른 날짜면 0부터 다시 시작)
+         */
+        Usage on(long today) {
+            return day == today ? this : empty(today);
+        }
+
+        Usage plus(long addTokens, long addCostMicros) {
+            return new Usage(day, tokens + addTokens, costMicros + addCostMicros);
+        }
+    }
+}
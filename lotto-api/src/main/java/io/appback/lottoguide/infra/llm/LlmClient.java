@@ -1,5 +1,7 @@
 package io.appback.lottoguide.infra.llm;
 
+import reactor.core.publisher.Flux;
+
 /**
  * LLM Client 인터페이스
  * 
@@ -15,6 +17,17 @@ public interface LlmClient {
      */
     LlmResponse generateMission(String prompt);
     
+    /**
+     * LLM을 통한 미션 생성 (스트리밍)
+     * 토큰이 도착하는 대로 내보냅니다.
+     * 스트리밍을 지원하지 않는 Provider는 완성된 응답을 한 번에 내보냅니다.
+     * @param prompt 프롬프트
+     * @return 토큰 스트림
+     */
+    default Flux<String> streamMission(String prompt) {
+        return Flux.defer(() -> Flux.just(generateMission(prompt).text()));
+    }
+    
     /**
      * LLM 응답 결과
      */
@@ -0,0 +1,222 @@
+package io.appback.lottoguide.infra.llm;
+
+import io.appback.lottoguide.config.FeatureFlags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 게이트웨이
+ *
+ * LlmClient(Provider) 앞에서 다음을 처리합니다.
+ * - 응답 캐시 (app.features.llm-cache-enabled): 정규화한 프롬프트 기준, TTL + 최대 개수 제한
+ *   (ConcurrentHashMap으로 잠금 없이 조회하고, 최대 개수를 넘으면 먼저 들어온 키부터 제거)
+ * - 동일 프롬프트 합치기: 같은 프롬프트가 처리 중이면 Provider를 다시 부르지 않고 그 결과를 함께 받음
+ * - 예산 상한 (app.features.llm-budget-cap-enabled): 일일 상한에 도달하면 Provider를 부르지 않고
+ *   빈 결과를 반환하여 호출자가 템플릿 미션으로 대체하도록 함
+ *
+ * 스트리밍 호출은 캐시와 예산 상한만 적용합니다 (토큰을 바로 내보내야 하므로 합치지 않음).
+ *
+ * 결과는 llm.gateway.requests{result=cache_hit|coalesced|provider|shed} 메트릭으로 기록합니다.
+ */
+@Component
+@Slf4j
+public class LlmGateway {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final LlmClient llmClient;
+    private final FeatureFlags featureFlags;
+    private final LlmBudgetAccountant budgetAccountant;
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+
+    private final ConcurrentHashMap<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    // 캐시 키 입력 순서 (키마다 하나, 최대 개수 초과 시 앞에서부터 제거)
+    private final ConcurrentLinkedQueue<String> cacheOrder = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, CompletableFuture<LlmClient.LlmResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter coalesced;
+    private final Counter providerCalls;
+    private final Counter shed;
+
+    public LlmGateway(LlmClient llmClient,
+                      FeatureFlags featureFlags,
+                      LlmBudgetAccountant budgetAccountant,
+                      MeterRegistry meterRegistry,
+                      @Value("${llm.gateway.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+                      @Value("${llm.gateway.cache-max-entries:10000}") int cacheMaxEntries) {
+        this.llmClient = llmClient;
+        this.featureFlags = featureFlags;
+        this.budgetAccountant = budgetAccountant;
+        this.cacheTtlNanos = cacheTtlSeconds * 1_000_000_000L;
+        this.cacheMaxEntries = Math.max(1, cacheMaxEntries);
+        this.cacheHits = Counter.builder("llm.gateway.requests").tag("result", "cache_hit").register(meterRegistry);
+        this.coalesced = Counter.builder("llm.gateway.requests").tag("result", "coalesced").register(meterRegistry);
+        this.providerCalls = Counter.builder("llm.gateway.requests").tag("result", "provider").register(meterRegistry);
+        this.shed = Counter.builder("llm.gateway.requests").tag("result", "shed").register(meterRegistry);
+    }
+
+    /**
+     * 미션 생성
+     *
+     * @param prompt 프롬프트
+     * @return LLM 응답 (예산 상한 도달 시 empty)
+     */
+    public Optional<LlmClient.LlmResponse> generateMission(String prompt) {
+        String key = normalize(prompt);
+
+        LlmClient.LlmResponse cached = getCached(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<LlmClient.LlmResponse> call = new CompletableFuture<>();
+        CompletableFuture<LlmClient.LlmResponse> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return Optional.ofNullable(await(existing));
+        }
+
+        try {
+            LlmClient.LlmResponse response = callProvider(key, prompt);
+            call.complete(response);
+            return Optional.ofNullable(response);
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 미션 생성 (스트리밍)
+     *
+     * 캐시 적중 시 저장된 전체 응답을 한 번에 내보내고, 예산 상한 도달 시 빈 스트림을 반환합니다.
+     * 끝까지 받은 응답만 캐시합니다. Provider 스트림은 토큰 수를 알려주지 않으므로 응답 글자 수로 토큰 사용량을 근사합니다.
+     *
+     * @param prompt 프롬프트
+     * @return 토큰 스트림 (예산 상한 도달 시 empty)
+     */
+    public Flux<String> streamMission(String prompt) {
+        return Flux.defer(() -> {
+            String key = normalize(prompt);
+
+            LlmClient.LlmResponse cached = getCached(key);
+            if (cached != null) {
+                cacheHits.increment();
+                return Flux.just(cached.text());
+            }
+            if (isOverBudget()) {
+                return Flux.empty();
+            }
+
+            providerCalls.increment();
+            StringBuilder text = new StringBuilder();
+            return llmClient.streamMission(prompt)
+                .doOnNext(text::append)
+                .doOnComplete(() -> putCached(key, new LlmClient.LlmResponse(text.toString(), text.length(), null)))
+                // 중간에 끊긴 스트림도 받은 만큼은 사용량에 포함
+                .doFinally(signal -> budgetAccountant.record(text.length(), null));
+        });
+    }
+
+    /**
+     * Provider 호출 (합치기 대표 요청만 실행)
+     *
+     * @return 응답 (예산 상한 도달 시 null)
+     */
+    private LlmClient.LlmResponse callProvider(String key, String prompt) {
+        if (isOverBudget()) {
+            return null;
+        }
+
+        providerCalls.increment();
+        LlmClient.LlmResponse response = llmClient.generateMission(prompt);
+        budgetAccountant.record(response.tokenUsage(), response.costEstimate());
+        putCached(key, response);
+        return response;
+    }
+
+    private boolean isOverBudget() {
+        if (!featureFlags.isLlmBudgetCapEnabled() || budgetAccountant.hasBudget()) {
+            return false;
+        }
+        shed.increment();
+        log.warn("LLM 일일 예산 상한 도달, 템플릿 미션으로 대체: 토큰 {}, 비용 ${}",
+            budgetAccountant.getTokensUsed(), budgetAccountant.getCostUsed());
+        return true;
+    }
+
+    /**
+     * 캐시 저장
+     *
+     * 새 키일 때만 입력 순서 큐에 넣으므로 큐에는 키마다 하나씩만 있고,
+     * 최대 개수를 넘으면 가장 먼저 들어온 키부터 제거합니다.
+     */
+    private void putCached(String key, LlmClient.LlmResponse response) {
+        if (!featureFlags.isLlmCacheEnabled()) {
+            return;
+        }
+        CachedResponse previous = cache.put(key, new CachedResponse(response, System.nanoTime() + cacheTtlNanos));
+        if (previous != null) {
+            return;
+        }
+        cacheOrder.add(key);
+        while (cache.size() > cacheMaxEntries) {
+            String eldest = cacheOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            cache.remove(eldest);
+        }
+    }
+
+    private LlmClient.LlmResponse getCached(String key) {
+        if (!featureFlags.isLlmCacheEnabled()) {
+            return null;
+        }
+        // 만료된 항목은 지우지 않고 둠 (같은 키로 다시 저장되거나 최대 개수 초과 시 순서대로 제거)
+        CachedResponse entry = cache.get(key);
+        if (entry == null || System.nanoTime() - entry.expiresAtNanos() >= 0) {
+            return null;
+        }
+        return entry.response();
+    }
+
+    private static LlmClient.LlmResponse await(CompletableFuture<LlmClient.LlmResponse> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시/합치기 키: 앞뒤 공백 제거, 연속 공백은 하나로
+     */
+    static String normalize(String prompt) {
+        if (prompt == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(prompt.trim()).replaceAll(" ");
+    }
+
+    private record CachedResponse(LlmClient.LlmResponse response, long expiresAtNanos) {}
+}
@@ -1,5 +1,7 @@
 package io.appback.lottoguide.infra.llm;
 
+import reactor.core.publisher.Flux;
+
 /**
  * 간단한 LLM Client 구현체
  * LLM 통합 전 단계에서 사용하는 임시 구현
@@ -18,4 +20,10 @@ public class SimpleLlmClient implements LlmClient {
             null  // costEstimate
         );
     }
+    
+    @Override
+    public Flux<String> streamMission(String prompt) {
+        // 실제 Provider처럼 단어 단위로 나누어 전달 (공백은 뒤 단어에 붙임)
+        return Flux.fromArray(PLACEHOLDER_MESSAGE.split("(?= )"));
+    }
 }
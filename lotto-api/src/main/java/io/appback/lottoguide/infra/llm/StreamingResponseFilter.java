@@ -0,0 +1,87 @@
+package io.appback.lottoguide.infra.llm;
+
+import io.appback.lottoguide.domain.exception.LlmResponseRejectedException;
+import io.appback.lottoguide.domain.mission.policy.MissionPolicy;
+
+/**
+ * 스트리밍 LLM 응답의 점진적 정제/검사 (스트림 하나당 인스턴스 하나, 스레드 안전하지 않음)
+ *
+ * 토큰이 들어올 때마다 새로 붙은 부분과 그 앞 (최장 금지 표현 길이 - 1)자만 검사하므로
+ * 토큰 경계에 걸친 금지 표현도 감지하고, 감지한 구간은 MissionPolicy로 가려서 내보냅니다.
+ * 마지막 (최장 금지 표현 길이 - 1)자는 검사가 끝날 때까지 내보내지 않으므로
+ * 금지 표현의 일부가 가려지기 전에 클라이언트에 먼저 전달되는 일이 없습니다.
+ * 검사는 원문 버퍼로, 내보내기는 가린 버퍼로 합니다.
+ *
+ * 정제는 LlmResponseSanitizer.sanitize와 같은 결과가 되도록 앞 공백은 버리고
+ * 뒤 공백은 다음 글자가 올 때까지 보류합니다.
+ */
+public class StreamingResponseFilter {
+
+    private final LlmResponseSanitizer sanitizer;
+    private final MissionPolicy policy;
+    private final int holdback;
+
+    // 원문 (검사용)
+    private final StringBuilder raw = new StringBuilder();
+    // 금지 표현을 가린 텍스트 (내보내기용, raw와 길이/위치 동일)
+    private final StringBuilder text = new StringBuilder();
+    private int emitted;
+    private int scanned;
+
+    public StreamingResponseFilter(LlmResponseSanitizer sanitizer, MissionPolicy policy) {
+        this.sanitizer = sanitizer;
+        this.policy = policy;
+        this.holdback = Math.max(0, policy.getMaxPhraseLength() - 1);
+    }
+
+    /**
+     * 토큰 추가
+     *
+     * @param token LLM 토큰
+     * @return 지금 내보내도 되는 텍스트 (금지 표현은 가려짐, 없으면 빈 문자열)
+     */
+    public String accept(String token) {
+        if (token == null || token.isEmpty()) {
+            return "";
+        }
+        int start = 0;
+        if (text.isEmpty()) {
+            while (start < token.length() && Character.isWhitespace(token.charAt(start))) {
+                start++;
+            }
+        }
+        raw.append(token, start, token.length());
+        text.append(token, start, token.length());
+
+        policy.redactInto(raw, Math.max(0, scanned - holdback), text);
+        scanned = text.length();
+
+        int releasable = text.length() - holdback;
+        while (releasable > emitted && Character.isWhitespace(text.charAt(releasable - 1))) {
+            releasable--;
+        }
+        return release(releasable);
+    }
+
+    /**
+     * 스트림 종료: 보류 중인 나머지 텍스트 반환
+     *
+     * @throws LlmResponseRejectedException 전체 응답이 유효하지 않을 때 (최소 길이 등)
+     */
+    public String finish() {
+        String sanitized = sanitizer.sanitize(text.toString());
+        if (!sanitizer.isValid(sanitized)) {
+            throw new LlmResponseRejectedException("응답이 유효하지 않습니다.");
+        }
+        return release(sanitized.length());
+    }
+
+    private String release(int end) {
+        if (end <= emitted) {
+            return "";
+        }
+        String chunk = text.substring(emitted, end);
+        emitted = end;
+        return chunk;
+    }
+}
@@ -1,28 +1,74 @@
 package io.appback.lottoguide.infra.llm.adapter;
 
 import io.appback.lottoguide.application.port.out.LlmClientPort;
+import io.appback.lottoguide.domain.mission.model.MissionTemplate;
+import io.appback.lottoguide.domain.mission.policy.MissionPolicy;
+import io.appback.lottoguide.domain.mission.template.MissionTemplateSelector;
 import io.appback.lottoguide.infra.llm.LlmClient;
+import io.appback.lottoguide.infra.llm.LlmGateway;
+import io.appback.lottoguide.infra.llm.LlmResponseSanitizer;
+import io.appback.lottoguide.infra.llm.StreamingResponseFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * LlmClientPort 구현체
  * Infrastructure의 LlmClient를 Application Port로 어댑팅
+ * 
+ * 호출은 LlmGateway(캐시, 동일 프롬프트 합치기, 예산 상한)를 거치며,
+ * 예산 상한에 도달하거나 정제 후 응답이 비어 있으면 템플릿 미션 문장으로 대체합니다.
+ * 응답의 금지 표현은 MissionPolicy로 가리며,
+ * 스트리밍 응답은 StreamingResponseFilter로 토큰마다 정제/가리기를 합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class LlmClientAdapter implements LlmClientPort {
     
-    private final LlmClient llmClient;
+    private final LlmGateway llmGateway;
+    private final MissionTemplateSelector templateSelector;
+    private final LlmResponseSanitizer sanitizer;
+    private final MissionPolicy missionPolicy;
     
     @Override
     public LlmResponse generateMission(String prompt) {
-        LlmClient.LlmResponse response = llmClient.generateMission(prompt);
+        return llmGateway.generateMission(prompt)
+            .flatMap(response -> {
+                String text = sanitizer.sanitize(response.text());
+                if (missionPolicy.violatesPolicy(text)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new LlmResponse(
+                    missionPolicy.redact(text),
+                    response.tokenUsage(),
+                    response.costEstimate()
+                ));
+            })
+            .orElseGet(this::templateFallback);
+    }
+    
+    @Override
+    public Flux<String> streamMission(String prompt) {
+        Flux<String> tokens = llmGateway.streamMission(prompt)
+            .switchIfEmpty(Mono.fromSupplier(() -> templateFallback().text()));
         
-        return new LlmResponse(
-            response.text(),
-            response.tokenUsage(),
-            response.costEstimate()
-        );
+        return Flux.defer(() -> {
+            StreamingResponseFilter filter = new StreamingResponseFilter(sanitizer, missionPolicy);
+            return tokens.map(filter::accept)
+                .concatWith(Mono.fromCallable(filter::finish))
+                .filter(chunk -> !chunk.isEmpty());
+        });
+    }
+    
+    /**
+     * 예산 상한 도달 또는 빈 응답 시 템플릿 기반 응답 (토큰/비용 0)
+     */
+    private LlmResponse templateFallback() {
+        MissionTemplate template = templateSelector.selectTemplate(null, List.of());
+        return new LlmResponse(missionPolicy.redact(template.getText()), 0, 0.0);
     }
 }
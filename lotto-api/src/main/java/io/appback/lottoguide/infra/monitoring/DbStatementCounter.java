@@ -0,0 +1,29 @@
+package io.appback.lottoguide.infra.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청당 JPA SQL 실행 수 집계
+ *
+ * Hibernate가 SQL을 준비할 때마다 현재 스레드의 카운터를 올립니다 (SQL은 그대로 반환).
+ * 요청 경계에서 reset/current를 호출하는 것은 DbStatementMetricsInterceptor입니다.
+ * JdbcTemplate으로 직접 실행하는 SQL(대량 업로드, 쓰기 지연 배치 등)은 포함되지 않습니다.
+ */
+public class DbStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,38 @@
+package io.appback.lottoguide.infra.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 DB 호출 수 기록 (http.db.statements{uri})
+ *
+ * uri 태그는 매핑 패턴(/api/v1/history/{id} 등)을 사용해 태그 값 수가 늘어나지 않게 합니다.
+ */
+@RequiredArgsConstructor
+public class DbStatementMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        DbStatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.db.statements")
+            .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+            .register(meterRegistry)
+            .record(DbStatementCounter.current());
+    }
+}
@@ -0,0 +1,126 @@
+package io.appback.lottoguide.infra.monitoring;
+
+/**
+ * 요청 단위 단계별 소요 시간 (Server-Timing 헤더용)
+ *
+ * ServerTimingFilter가 요청 스레드에 하나를 붙이고, 각 단계는 정적 메서드로 시간을 보고합니다.
+ * 요청 스레드가 아니거나 타이밍이 꺼져 있으면 보고는 아무 일도 하지 않습니다.
+ *
+ * 단계는 고정 크기 배열에 이름별로 누적하므로 (같은 단계가 여러 번 호출되면 합산)
+ * 요청당 객체 하나와 배열 두 개 외에는 할당하지 않습니다.
+ */
+public final class RequestTimings {
+
+    private static final int MAX_STAGES = 16;
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final String[] names = new String[MAX_STAGES];
+    private final long[] nanos = new long[MAX_STAGES];
+    private final int[] counts = new int[MAX_STAGES];
+    private int size;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * 현재 스레드에서 측정 시작 (ServerTimingFilter 전용)
+     */
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * 현재 스레드 측정 종료 (ServerTimingFilter 전용)
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 측정값 (없으면 null)
+     */
+    static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 단계 시작 시각 (stop에 넘길 값)
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * start() 이후 경과 시간을 단계에 누적
+     *
+     * @param stage 단계 이름 (Server-Timing 토큰 규칙: 영문/숫자/-/_)
+     * @param startNanos start() 반환값
+     */
+    public static void stop(String stage, long startNanos) {
+        add(stage, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 이미 잰 시간을 단계에 누적
+     */
+    public static void add(String stage, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.accumulate(stage, elapsedNanos);
+        }
+    }
+
+    private void accumulate(String stage, long elapsedNanos) {
+        for (int i = 0; i < size; i++) {
+            if (names[i] == stage || names[i].equals(stage)) {
+                nanos[i] += elapsedNanos;
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < MAX_STAGES) {
+            names[size] = stage;
+            nanos[size] = elapsedNanos;
+            counts[size] = 1;
+            size++;
+        }
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: metrics;dur=1.2, generate;dur=8.4, total;dur=12.0)
+     */
+    String toServerTiming() {
+        StringBuilder sb = new StringBuilder(24 * (size + 1));
+        for (int i = 0; i < size; i++) {
+            appendDuration(sb.append(names[i]).append(";dur="), nanos[i]).append(", ");
+        }
+        return appendDuration(sb.append("total;dur="), System.nanoTime() - startNanos).toString();
+    }
+
+    /**
+     * 디버그용 JSON (예: {"totalMs":12.0,"stages":[{"name":"metrics","ms":1.2,"count":1}]})
+     */
+    String toDebugJson() {
+        StringBuilder sb = new StringBuilder(48 * (size + 1));
+        appendDuration(sb.append("{\"totalMs\":"), System.nanoTime() - startNanos).append(",\"stages\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"name\":\"").append(names[i]).append("\",\"ms\":");
+            appendDuration(sb, nanos[i]).append(",\"count\":").append(counts[i]).append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * 나노초를 소수점 한 자리 밀리초로 추가
+     */
+    private static StringBuilder appendDuration(StringBuilder sb, long elapsedNanos) {
+        long tenths = Math.max(0, elapsedNanos) / 100_000;
+        return sb.append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
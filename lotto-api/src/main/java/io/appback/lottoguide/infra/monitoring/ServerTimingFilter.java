@@ -0,0 +1,47 @@
+package io.appback.lottoguide.infra.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 번호 생성/미션 요청의 단계별 시간 측정 범위 설정 (app.server-timing.enabled)
+ *
+ * 요청 스레드에 RequestTimings를 붙이고 요청이 끝나면 떼어냅니다.
+ * 헤더는 응답 본문이 쓰이기 직전에 ServerTimingResponseAdvice가 추가합니다.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String GENERATE_PATH = "/api/v1/generate";
+    private static final String MISSION_PATH = "/api/v1/mission";
+
+    @Value("${app.server-timing.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(GENERATE_PATH) && !path.startsWith(MISSION_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.end();
+        }
+    }
+}
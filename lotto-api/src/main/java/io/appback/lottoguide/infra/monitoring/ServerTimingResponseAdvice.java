@@ -0,0 +1,58 @@
+package io.appback.lottoguide.infra.monitoring;
+
+import io.appback.lottoguide.infra.security.AdminCredentials;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Server-Timing 응답 헤더 추가
+ *
+ * 본문이 쓰이면 헤더를 더 붙일 수 없으므로 본문 직렬화 직전에 현재 요청의 단계별 시간을 헤더로 씁니다.
+ * app.server-timing.debug-enabled가 켜져 있고 요청에 X-Debug-Timing: true와 관리자 토큰(AdminCredentials)이 있으면
+ * 호출 횟수를 포함한 JSON을 X-Debug-Timing 응답 헤더로도 내보냅니다 (운영자 진단용).
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String DEBUG_HEADER = "X-Debug-Timing";
+
+    private final AdminCredentials adminCredentials;
+
+    @Value("${app.server-timing.debug-enabled:false}")
+    private boolean debugEnabled;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return body;
+        }
+        response.getHeaders().set(SERVER_TIMING_HEADER, timings.toServerTiming());
+        if (debugEnabled && "true".equalsIgnoreCase(request.getHeaders().getFirst(DEBUG_HEADER))
+                && request instanceof ServletServerHttpRequest servletRequest
+                && adminCredentials.isAdmin(servletRequest.getServletRequest())) {
+            response.getHeaders().set(DEBUG_HEADER, timings.toDebugJson());
+        }
+        return body;
+    }
+}
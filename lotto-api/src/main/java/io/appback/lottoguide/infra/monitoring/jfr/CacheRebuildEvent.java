@@ -0,0 +1,31 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인메모리 캐시/인덱스 재구성 (패턴 통계, 멘트 인덱스)
+ */
+@Name("lottoguide.CacheRebuild")
+@Label("Cache Rebuild")
+@Category({"Lotto Guide", "Cache"})
+@Description("인메모리 캐시 재계산 또는 인덱스 재구성")
+@StackTrace(false)
+public class CacheRebuildEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
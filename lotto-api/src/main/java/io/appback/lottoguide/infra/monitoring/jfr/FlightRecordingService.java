@@ -0,0 +1,187 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 운영 중 JFR(JDK Flight Recorder) 녹화 (app.jfr.enabled, 기본 비활성)
+ *
+ * 관리자 요청으로 녹화를 시작하면 JFR이 정해진 시간 뒤 스스로 멈추고 임시 파일에 기록하므로
+ * 요청 스레드는 기다리지 않습니다. 관리자는 상태를 확인한 뒤 완료된 .jfr 파일을 따로 내려받습니다.
+ * 프로파일러를 붙일 수 없는 운영 환경에서 추첨일 지연 구간을 분석하는 용도이며,
+ * JDK 기본 설정(default)은 오버헤드 1% 미만, profile은 샘플링이 더 촘촘합니다.
+ *
+ * - 동시에 하나의 녹화만 허용 (app.jfr.max-duration-seconds로 시간 상한)
+ * - 애플리케이션 이벤트(lottoguide.*)는 설정 프로파일과 관계없이 임계값 없이 모두 기록
+ * - 환경 변수, 시스템 프로퍼티, JVM 인자, 프로세스 목록 이벤트는 끔 (DB 비밀번호 등이 파일에 남지 않도록)
+ */
+@Service
+@Slf4j
+public class FlightRecordingService {
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+        PresetSimulationEvent.class,
+        CacheRebuildEvent.class,
+        MetricsRecomputeEvent.class,
+        IngestionBatchEvent.class,
+        PhraseSelectionEvent.class);
+
+    /**
+     * 비밀 값이 담길 수 있는 JDK 이벤트 (설정 프로파일과 관계없이 항상 끔)
+     */
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable",
+        "jdk.InitialSystemProperty",
+        "jdk.JVMInformation",
+        "jdk.SystemProcess",
+        "jdk.ProcessStart");
+
+    @Value("${app.jfr.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.jfr.max-duration-seconds:300}")
+    private long maxDurationSeconds;
+
+    private ActiveRecording current;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 녹화 시작 (바로 반환, 녹화는 seconds 뒤 자동 종료)
+     * 이전 녹화 파일이 내려받히지 않은 채 남아 있으면 지웁니다.
+     *
+     * @param seconds 녹화 시간 (초)
+     * @param settings JDK 설정 프로파일 이름 (default, profile)
+     * @return 시작한 녹화 상태
+     * @throws IllegalArgumentException 시간 범위 또는 설정 이름이 잘못된 경우
+     * @throws IllegalStateException 이미 녹화 중인 경우
+     */
+    public synchronized RecordingStatus start(long seconds, String settings) throws IOException {
+        if (seconds < 1 || seconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("녹화 시간은 1~" + maxDurationSeconds + "초여야 합니다.");
+        }
+        Configuration configuration = configuration(settings);
+        if (current != null && current.isRunning()) {
+            throw new IllegalStateException("이미 진행 중인 녹화가 있습니다.");
+        }
+        discardCurrent();
+
+        Path file = Files.createTempFile("lotto-guide-", ".jfr");
+        Recording jfr = new Recording(configuration);
+        try {
+            jfr.setName("lotto-guide-admin");
+            jfr.setToDisk(true);
+            for (String eventName : SENSITIVE_EVENTS) {
+                jfr.disable(eventName);
+            }
+            for (Class<? extends Event> eventType : APPLICATION_EVENTS) {
+                jfr.enable(eventType).withThreshold(Duration.ZERO);
+            }
+            jfr.setDuration(Duration.ofSeconds(seconds));
+            // 녹화가 끝나면 JFR이 이 파일에 기록
+            jfr.setDestination(file);
+            jfr.start();
+        } catch (IOException | RuntimeException e) {
+            jfr.close();
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        current = new ActiveRecording(jfr, file, settings, seconds, Instant.now());
+        log.info("JFR 녹화 시작: {}초, 설정={}", seconds, settings);
+        return current.status();
+    }
+
+    /**
+     * 현재(또는 마지막) 녹화 상태
+     */
+    public synchronized Optional<RecordingStatus> status() {
+        return Optional.ofNullable(current).map(ActiveRecording::status);
+    }
+
+    /**
+     * 완료된 녹화 파일 넘겨받기 (한 번만 가능, 호출자가 전송 후 삭제)
+     *
+     * @throws IllegalStateException 녹화가 없거나 아직 진행 중인 경우
+     */
+    public synchronized Path takeCompleted() {
+        if (current == null) {
+            throw new IllegalStateException("내려받을 녹화가 없습니다.");
+        }
+        if (current.isRunning()) {
+            throw new IllegalStateException("녹화가 아직 진행 중입니다.");
+        }
+        Path file = current.file();
+        current.recording().close();
+        current = null;
+        return file;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        discardCurrent();
+    }
+
+    private void discardCurrent() {
+        if (current == null) {
+            return;
+        }
+        current.recording().close();
+        try {
+            Files.deleteIfExists(current.file());
+        } catch (IOException e) {
+            log.warn("JFR 임시 파일 삭제 실패: {}", e.getMessage());
+        }
+        current = null;
+    }
+
+    /**
+     * JDK에 포함된 설정 중에서만 선택 (임의 경로의 .jfc 파일을 읽지 않도록)
+     */
+    private static Configuration configuration(String settings) {
+        List<Configuration> configurations = Configuration.getConfigurations();
+        return configurations.stream()
+            .filter(configuration -> configuration.getName().equals(settings))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 JFR 설정입니다: " + settings
+                + " (사용 가능: " + configurations.stream().map(Configuration::getName).toList() + ")"));
+    }
+
+    private record ActiveRecording(Recording recording, Path file, String settings, long seconds,
+                                   Instant startedAt) {
+
+        /**
+         * 대상 파일이 있는 녹화는 파일 기록을 마친 뒤 CLOSED가 됨 (STOPPED는 아직 기록 중)
+         */
+        boolean isRunning() {
+            return recording.getState() != RecordingState.CLOSED;
+        }
+
+        RecordingStatus status() {
+            return new RecordingStatus(isRunning() ? "RUNNING" : "COMPLETED", settings, seconds, startedAt);
+        }
+    }
+
+    /**
+     * 녹화 상태
+     *
+     * @param state RUNNING 또는 COMPLETED (내려받기 가능)
+     */
+    public record RecordingStatus(String state, String settings, long seconds, Instant startedAt) {}
+}
@@ -0,0 +1,31 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 추첨 데이터 수집 한 묶음 (CSV 대량 업로드, 외부 API 범위 수집)
+ */
+@Name("lottoguide.IngestionBatch")
+@Label("Ingestion Batch")
+@Category({"Lotto Guide", "Ingestion"})
+@StackTrace(false)
+public class IngestionBatchEvent extends Event {
+
+    @Label("Source")
+    @Description("csv 또는 api")
+    public String source;
+
+    @Label("Inserted")
+    public int inserted;
+
+    @Label("Skipped")
+    public int skipped;
+
+    @Label("Failed")
+    public int failed;
+}
@@ -0,0 +1,23 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 번호별 메트릭 전체 재계산 (MetricsRecomputeService.recomputeAllMetrics)
+ */
+@Name("lottoguide.MetricsRecompute")
+@Label("Metrics Recompute")
+@Category({"Lotto Guide", "Ingestion"})
+@StackTrace(false)
+public class MetricsRecomputeEvent extends Event {
+
+    @Label("Window Sizes")
+    public int windowSizes;
+
+    @Label("Failed Window Sizes")
+    public int failed;
+}
@@ -0,0 +1,25 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A/B/C 멘트 선택 (PhraseSelector)
+ */
+@Name("lottoguide.PhraseSelection")
+@Label("Phrase Selection")
+@Category({"Lotto Guide", "Mission"})
+@StackTrace(false)
+public class PhraseSelectionEvent extends Event {
+
+    @Label("Mode")
+    @Description("single 또는 batch")
+    public String mode;
+
+    @Label("Sets")
+    public int sets;
+}
@@ -0,0 +1,31 @@
+package io.appback.lottoguide.infra.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 번호 생성 한 번 (GeneratorEngine.generate)
+ *
+ * 이벤트 시간 = 전략 Preset 실행부터 중복 제거까지
+ */
+@Name("lottoguide.PresetSimulation")
+@Label("Preset Simulation")
+@Category({"Lotto Guide", "Generator"})
+@Description("전략별 번호 생성과 평가한 후보 조합 수")
+@StackTrace(false)
+public class PresetSimulationEvent extends Event {
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Requested Sets")
+    public int requestedSets;
+
+    @Label("Samples")
+    @Description("평가한 후보 조합 수 (세트 수 × 세트당 후보 수)")
+    public long samples;
+}
@@ -7,6 +7,7 @@ import io.appback.lottoguide.infra.persistence.entity.GeneratedSetEntity;
 import io.appback.lottoguide.infra.persistence.mapper.EntityMapper;
 import io.appback.lottoguide.infra.persistence.repository.GeneratedNumbersRepository;
 import io.appback.lottoguide.infra.persistence.repository.GeneratedSetRepository;
+import io.appback.lottoguide.infra.persistence.writebehind.GeneratedSetWriteBehind;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,24 +15,42 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * GeneratedSetRepositoryPort 구현체
+ * 
+ * 조회는 세트 목록 쿼리 1번 + 해당 세트들의 번호 IN 쿼리 1번으로 처리합니다 (세트마다 조회하지 않음).
+ * 저장은 쓰기 지연(app.write-behind.enabled)이 켜져 있으면 GeneratedSetWriteBehind에 맡깁니다.
  */
 @Component
 @RequiredArgsConstructor
 public class GeneratedSetRepositoryAdapter implements GeneratedSetRepositoryPort {
     
+    private static final String CURSOR_SEPARATOR = "|";
+    
     private final GeneratedSetRepository generatedSetRepository;
     private final GeneratedNumbersRepository generatedNumbersRepository;
     private final EntityMapper entityMapper;
+    private final GeneratedSetWriteBehind writeBehind;
     
     @Override
     @Transactional
     public Long save(Long userId, List<GeneratedSet> generatedSets, String strategyCode, 
                      String strategyParamsJson, String constraintsJson) {
+        if (writeBehind.isEnabled()) {
+            // ID만 미리 할당하고 DB 저장은 백그라운드 묶음 INSERT로
+            return writeBehind.enqueue(userId, entityMapper.toGeneratedNumbersEntities(null, null, generatedSets),
+                strategyCode, strategyParamsJson, constraintsJson);
+        }
+        
         // GeneratedSetEntity 저장
         GeneratedSetEntity setEntity = entityMapper.toGeneratedSetEntity(
             userId, generatedSets, strategyCode, strategyParamsJson, constraintsJson
@@ -40,7 +59,7 @@ public class GeneratedSetRepositoryAdapter implements GeneratedSetRepositoryPort
         
         // GeneratedNumbersEntity 리스트 저장
         List<GeneratedNumbersEntity> numbersEntities = entityMapper.toGeneratedNumbersEntities(
-            savedEntity.getId(), generatedSets
+            savedEntity.getId(), savedEntity.getCreatedAt(), generatedSets
         );
         generatedNumbersRepository.saveAll(numbersEntities);
         
@@ -51,9 +70,9 @@ public class GeneratedSetRepositoryAdapter implements GeneratedSetRepositoryPort
     public List<GeneratedSetInfo> findByUserId(Long userId) {
         List<GeneratedSetEntity> setEntities = generatedSetRepository.findByUserIdOrderByCreatedAtDesc(userId);
         
-        return setEntities.stream()
-            .map(this::toGeneratedSetInfo)
-            .collect(Collectors.toList());
+        return toGeneratedSetInfos(userId, setEntities.stream()
+            .map(entity -> new SetRow(entity.getId(), entity.getStrategyCode(), entity.getCreatedAt()))
+            .toList());
     }
     
     @Override
@@ -61,9 +80,9 @@ public class GeneratedSetRepositoryAdapter implements GeneratedSetRepositoryPort
         Pageable pageable = PageRequest.of(page, size);
         Page<GeneratedSetEntity> pageResult = generatedSetRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
         
-        List<GeneratedSetInfo> content = pageResult.getContent().stream()
-            .map(this::toGeneratedSetInfo)
-            .collect(Collectors.toList());
+        List<GeneratedSetInfo> content = toGeneratedSetInfos(userId, pageResult.getContent().stream()
+            .map(entity -> new SetRow(entity.getId(), entity.getStrategyCode(), entity.getCreatedAt()))
+            .toList());
         
         return new PagedResult<>(
             content,
@@ -74,21 +93,89 @@ public class GeneratedSetRepositoryAdapter implements GeneratedSetRepositoryPort
         );
     }
     
+    @Override
+    public CursorResult<GeneratedSetInfo> findByUserIdAfter(Long userId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<GeneratedSetRepository.SetSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = generatedSetRepository.findSummaries(userId, limit);
+        } else {
+            SetRow after = decodeCursor(cursor);
+            summaries = generatedSetRepository.findSummariesAfter(userId, after.createdAt(), after.setId(), limit);
+        }
+        
+        boolean hasNext = summaries.size() > size;
+        List<SetRow> rows = summaries.stream()
+            .limit(size)
+            .map(summary -> new SetRow(summary.getId(), summary.getStrategyCode(), summary.getCreatedAt()))
+            .toList();
+        
+        String nextCursor = hasNext ? encodeCursor(rows.get(rows.size() - 1)) : null;
+        return new CursorResult<>(toGeneratedSetInfos(userId, rows), size, nextCursor);
+    }
+    
     /**
-     * GeneratedSetEntity를 GeneratedSetInfo로 변환
+     * 세트 목록을 GeneratedSetInfo로 변환 (번호는 IN 쿼리 한 번으로 조회)
+     * 페이지의 생성 시간 범위를 함께 넘겨 generated_numbers에서 해당 월 파티션만 읽도록 합니다.
      */
-    private GeneratedSetInfo toGeneratedSetInfo(GeneratedSetEntity setEntity) {
-        List<GeneratedNumbersEntity> numbersEntities = 
-            generatedNumbersRepository.findByGeneratedSetIdOrderByIdxAsc(setEntity.getId());
+    private List<GeneratedSetInfo> toGeneratedSetInfos(Long userId, List<SetRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
         
-        List<GeneratedSet> generatedSets = entityMapper.toGeneratedSets(setEntity, numbersEntities);
+        List<Long> setIds = rows.stream().map(SetRow::setId).toList();
+        LocalDateTime from = rows.get(0).createdAt();
+        LocalDateTime to = from;
+        for (SetRow row : rows) {
+            from = row.createdAt().isBefore(from) ? row.createdAt() : from;
+            to = row.createdAt().isAfter(to) ? row.createdAt() : to;
+        }
+        Map<Long, List<GeneratedNumbersEntity>> numbersBySet = new HashMap<>();
+        for (GeneratedNumbersEntity numbers : generatedNumbersRepository
+                .findByGeneratedSetIdInAndCreatedAtBetweenOrderByGeneratedSetIdAscIdxAsc(setIds, from, to)) {
+            numbersBySet.computeIfAbsent(numbers.getGeneratedSetId(), id -> new ArrayList<>()).add(numbers);
+        }
         
-        return new GeneratedSetInfo(
-            setEntity.getId(),
-            setEntity.getUserId(),
-            setEntity.getStrategyCode(),
-            generatedSets,
-            setEntity.getCreatedAt()
-        );
+        List<GeneratedSetInfo> infos = new ArrayList<>(rows.size());
+        for (SetRow row : rows) {
+            List<GeneratedSet> generatedSets = entityMapper.toGeneratedSets(
+                row.createdAt(), numbersBySet.getOrDefault(row.setId(), List.of()));
+            infos.add(new GeneratedSetInfo(
+                row.setId(),
+                userId,
+                row.strategyCode(),
+                generatedSets,
+                row.createdAt()
+            ));
+        }
+        return infos;
     }
+    
+    /**
+     * 커서 인코딩: "createdAt|id"를 URL-safe Base64로 (클라이언트는 내용을 해석하지 않음)
+     */
+    private String encodeCursor(SetRow last) {
+        String raw = last.createdAt() + CURSOR_SEPARATOR + last.setId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private SetRow decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new SetRow(
+                Long.parseLong(raw.substring(separator + 1)),
+                null,
+                LocalDateTime.parse(raw.substring(0, separator))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+    
+    /**
+     * 세트 목록 한 행 (엔티티/요약 프로젝션 공통)
+     */
+    private record SetRow(Long setId, String strategyCode, LocalDateTime createdAt) {}
 }
@@ -0,0 +1,352 @@
+package io.appback.lottoguide.infra.persistence.bulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 콘텐츠 CSV 가져오기 엔진 (변경분만 반영)
+ *
+ * 테이블별 정의({@link CsvImportDescriptor})에 따라 CSV를 파싱하고,
+ * 기존 데이터와 행 내용 해시를 비교하여 추가/수정/삭제만 JDBC 배치로 반영합니다.
+ *
+ * 매칭 규칙:
+ * 1. CSV id가 기존 행 id와 같으면 같은 행 (내용 해시가 다르면 수정)
+ * 2. id가 없거나 기존에 없는 id면 내용 해시가 같은 기존 행과 매칭 (변경 없음)
+ * 3. 매칭되지 않은 CSV 행은 추가, 매칭되지 않은 기존 행은 삭제 (전체 교체 결과와 동일)
+ *
+ * 변경 없는 파일을 다시 올리면 조회 한 번 외에는 DB 쓰기가 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CsvContentImporter {
+
+    private static final int BATCH_SIZE = 500;
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * CSV 가져오기
+     *
+     * @param descriptor 테이블 정의
+     * @param in CSV 입력 스트림 (UTF-8, BOM 허용)
+     * @return 가져오기 결과
+     */
+    public ImportResult importCsv(CsvImportDescriptor descriptor, InputStream in) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        // 1. 파싱 및 검증
+        List<String> errors = new ArrayList<>();
+        List<CsvRecord> records = parse(descriptor, in, errors);
+
+        if (records.isEmpty()) {
+            // 유효한 행이 하나도 없으면 기존 데이터를 지우지 않음
+            log.warn("{} CSV 가져오기: 유효한 행이 없어 변경하지 않음 (오류 {}개)", descriptor.displayName(), errors.size());
+            return new ImportResult(0, 0, 0, 0, errors);
+        }
+
+        // 2. 기존 데이터 조회 (한 번) 및 비교
+        Diff diff = diff(descriptor, records);
+
+        // 3. 변경분만 배치 반영
+        if (diff.hasChanges()) {
+            transactionTemplate.executeWithoutResult(status -> apply(descriptor, diff));
+        }
+
+        ImportResult result = new ImportResult(diff.inserts.size(), diff.updates.size(),
+            diff.deleteIds.size(), diff.unchangedCount, errors);
+        log.info("{} CSV 가져오기 완료: 추가 {}개, 수정 {}개, 삭제 {}개, 변경 없음 {}개, 오류 {}개, {}ms",
+            descriptor.displayName(), result.insertedCount(), result.updatedCount(), result.deletedCount(),
+            result.unchangedCount(), errors.size(), System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private List<CsvRecord> parse(CsvImportDescriptor descriptor, InputStream in, List<String> errors) throws IOException {
+        List<CsvRecord> records = new ArrayList<>();
+        List<CsvImportDescriptor.Column> columns = descriptor.columns();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            boolean isFirstLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                // BOM 제거
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                // 헤더 건너뛰기
+                if (isFirstLine) {
+                    isFirstLine = false;
+                    String lower = line.toLowerCase();
+                    if (descriptor.headerMarkers().stream().allMatch(lower::contains)) {
+                        continue;
+                    }
+                }
+
+                List<String> csv = parseCsvLine(line);
+                if (csv.size() < descriptor.minColumns()) {
+                    errors.add(String.format("라인 %d: 컬럼 수가 부족합니다 (최소 %d개 필요, 실제: %d개)",
+                        lineNumber, descriptor.minColumns(), csv.size()));
+                    continue;
+                }
+
+                try {
+                    Object[] values = new Object[columns.size()];
+                    boolean missingRequired = false;
+                    for (int i = 0; i < columns.size(); i++) {
+                        CsvImportDescriptor.Column column = columns.get(i);
+                        String raw = column.csvIndex() < csv.size() ? csv.get(column.csvIndex()).trim() : "";
+                        values[i] = column.parser().parse(raw, records.size() + 1);
+                        if (column.required() && (values[i] == null || values[i].toString().isEmpty())) {
+                            missingRequired = true;
+                        }
+                    }
+                    if (missingRequired) {
+                        errors.add(String.format("라인 %d: %s", lineNumber, descriptor.requiredMessage()));
+                        continue;
+                    }
+
+                    String idValue = csv.get(0).trim();
+                    Long id = idValue.isEmpty() ? null : Long.parseLong(idValue);
+                    records.add(new CsvRecord(id, values, contentHash(values)));
+                } catch (Exception e) {
+                    errors.add(String.format("라인 %d: 저장 실패 - %s", lineNumber, e.getMessage()));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 기존 행과 비교하여 추가/수정/삭제 대상 계산
+     */
+    private Diff diff(CsvImportDescriptor descriptor, List<CsvRecord> records) {
+        int columnCount = descriptor.columns().size();
+        String selectSql = "SELECT id, " + columnList(descriptor) + " FROM " + descriptor.table();
+
+        Map<Long, String> existingHashById = new HashMap<>();
+        Map<String, Deque<Long>> existingIdsByHash = new HashMap<>();
+        jdbcTemplate.query(selectSql, (ResultSet rs) -> {
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = rs.getObject(i + 2);
+            }
+            long id = rs.getLong(1);
+            String hash = contentHash(values);
+            existingHashById.put(id, hash);
+            existingIdsByHash.computeIfAbsent(hash, key -> new ArrayDeque<>()).add(id);
+        });
+
+        Diff diff = new Diff();
+        Set<Long> claimed = new HashSet<>();
+        List<CsvRecord> unmatched = new ArrayList<>();
+
+        // 1차: id로 매칭
+        for (CsvRecord record : records) {
+            if (record.id != null && existingHashById.containsKey(record.id) && claimed.add(record.id)) {
+                if (existingHashById.get(record.id).equals(record.hash)) {
+                    diff.unchangedCount++;
+                } else {
+                    diff.updates.add(record);
+                }
+            } else {
+                unmatched.add(record);
+            }
+        }
+
+        // 2차: 내용 해시로 매칭 (id 없이 올린 파일, 다른 환경에서 내보낸 파일)
+        for (CsvRecord record : unmatched) {
+            Deque<Long> candidates = existingIdsByHash.get(record.hash);
+            Long matchedId = null;
+            while (candidates != null && !candidates.isEmpty()) {
+                Long candidate = candidates.poll();
+                if (claimed.add(candidate)) {
+                    matchedId = candidate;
+                    break;
+                }
+            }
+            if (matchedId != null) {
+                diff.unchangedCount++;
+            } else {
+                diff.inserts.add(record);
+            }
+        }
+
+        // 매칭되지 않은 기존 행은 삭제
+        for (Long id : existingHashById.keySet()) {
+            if (!claimed.contains(id)) {
+                diff.deleteIds.add(id);
+            }
+        }
+        return diff;
+    }
+
+    private void apply(CsvImportDescriptor descriptor, Diff diff) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String table = descriptor.table();
+        int columnCount = descriptor.columns().size();
+
+        if (!diff.deleteIds.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE id = ?", diff.deleteIds, BATCH_SIZE,
+                (ps, id) -> ps.setLong(1, id));
+        }
+
+        if (!diff.updates.isEmpty()) {
+            String setClause = descriptor.columns().stream()
+                .map(column -> column.name() + " = ?")
+                .collect(Collectors.joining(", "));
+            jdbcTemplate.batchUpdate("UPDATE " + table + " SET " + setClause + ", updated_at = ? WHERE id = ?",
+                diff.updates, BATCH_SIZE, (ps, record) -> {
+                    for (int i = 0; i < columnCount; i++) {
+                        ps.setObject(i + 1, record.values[i]);
+                    }
+                    ps.setTimestamp(columnCount + 1, now);
+                    ps.setLong(columnCount + 2, record.id);
+                });
+        }
+
+        if (!diff.inserts.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(columnCount + 2, "?"));
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (" + columnList(descriptor) + ", created_at, updated_at)"
+                    + " VALUES (" + placeholders + ")",
+                diff.inserts, BATCH_SIZE, (ps, record) -> {
+                    for (int i = 0; i < columnCount; i++) {
+                        ps.setObject(i + 1, record.values[i]);
+                    }
+                    ps.setTimestamp(columnCount + 1, now);
+                    ps.setTimestamp(columnCount + 2, now);
+                });
+        }
+    }
+
+    private static String columnList(CsvImportDescriptor descriptor) {
+        return descriptor.columns().stream()
+            .map(CsvImportDescriptor.Column::name)
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 행 내용 해시 (SHA-256, id/생성일 제외)
+     */
+    private static String contentHash(Object[] values) {
+        StringBuilder content = new StringBuilder();
+        for (Object value : values) {
+            if (value == null) {
+                content.append(NULL_MARKER);
+            } else {
+                content.append(value);
+            }
+            content.append(FIELD_SEPARATOR);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * CSV 라인 파싱 (따옴표 처리)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        boolean inQuotes = false;
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    // 이스케이프된 따옴표 ("")
+                    current.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private record CsvRecord(Long id, Object[] values, String hash) {}
+
+    private static final class Diff {
+        private final List<CsvRecord> inserts = new ArrayList<>();
+        private final List<CsvRecord> updates = new ArrayList<>();
+        private final List<Long> deleteIds = new ArrayList<>();
+        private int unchangedCount;
+
+        boolean hasChanges() {
+            return !inserts.isEmpty() || !updates.isEmpty() || !deleteIds.isEmpty();
+        }
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    public record ImportResult(
+        int insertedCount,      // 추가된 행 수
+        int updatedCount,       // 수정된 행 수
+        int deletedCount,       // 삭제된 행 수 (CSV에 없는 기존 행)
+        int unchangedCount,     // 변경 없는 행 수
+        List<String> errors     // 라인별 오류
+    ) {
+        /**
+         * CSV 반영 후 테이블에 남은(저장된) 행 수
+         */
+        public int savedCount() {
+            return insertedCount + updatedCount + unchangedCount;
+        }
+
+        /**
+         * 테이블 변경 여부
+         */
+        public boolean hasChanges() {
+            return insertedCount + updatedCount + deletedCount > 0;
+        }
+    }
+}
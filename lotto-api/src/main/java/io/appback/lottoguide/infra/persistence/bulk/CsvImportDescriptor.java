@@ -0,0 +1,65 @@
+package io.appback.lottoguide.infra.persistence.bulk;
+
+import java.util.List;
+
+/**
+ * CSV 가져오기 대상 테이블 정의
+ *
+ * CSV 첫 번째 컬럼은 항상 id이며(비어 있어도 됨), 나머지 컬럼은 columns에 정의된 순서대로 DB 컬럼에 매핑됩니다.
+ * 모든 대상 테이블은 id(IDENTITY), created_at, updated_at 컬럼을 가진다고 가정합니다.
+ *
+ * @param displayName 로그/메시지용 이름 (예: "A 멘트")
+ * @param table DB 테이블명
+ * @param headerMarkers 첫 줄에 모두 포함되면 헤더로 보고 건너뛰는 단어 (소문자)
+ * @param minColumns 최소 CSV 컬럼 수 (id 포함)
+ * @param requiredMessage 필수 값이 비었을 때 오류 메시지
+ * @param columns 컬럼 매핑 (id, created_at, updated_at 제외)
+ */
+public record CsvImportDescriptor(
+    String displayName,
+    String table,
+    List<String> headerMarkers,
+    int minColumns,
+    String requiredMessage,
+    List<Column> columns
+) {
+
+    /**
+     * CSV 값 변환 함수
+     */
+    @FunctionalInterface
+    public interface ValueParser {
+        /**
+         * @param value 앞뒤 공백을 제거한 CSV 값 (컬럼이 없으면 빈 문자열)
+         * @param ordinal 현재까지 유효한 행 수 + 1 (기본 순서값 계산용)
+         * @return DB에 저장할 값 (null 허용)
+         */
+        Object parse(String value, int ordinal) throws Exception;
+    }
+
+    /**
+     * 컬럼 매핑
+     *
+     * @param name DB 컬럼명
+     * @param csvIndex 값을 읽을 CSV 컬럼 위치 (0 = id), 같은 CSV 값에서 여러 DB 컬럼을 파생할 수 있음
+     * @param parser 값 변환 함수
+     * @param required 필수 여부 (null 또는 빈 문자열이면 오류)
+     */
+    public record Column(String name, int csvIndex, ValueParser parser, boolean required) {
+
+        /** 문자열 컬럼 (빈 값은 null) */
+        public static Column text(String name, int csvIndex) {
+            return new Column(name, csvIndex, (value, ordinal) -> value.isEmpty() ? null : value, false);
+        }
+
+        /** 필수 문자열 컬럼 */
+        public static Column requiredText(String name, int csvIndex) {
+            return new Column(name, csvIndex, (value, ordinal) -> value, true);
+        }
+
+        /** 파생/특수 변환 컬럼 */
+        public static Column of(String name, int csvIndex, ValueParser parser) {
+            return new Column(name, csvIndex, parser, false);
+        }
+    }
+}
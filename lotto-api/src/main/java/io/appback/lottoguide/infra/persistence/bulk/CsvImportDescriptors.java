@@ -0,0 +1,139 @@
+package io.appback.lottoguide.infra.persistence.bulk;
+
+import io.appback.lottoguide.infra.persistence.bulk.CsvImportDescriptor.Column;
+
+import java.util.List;
+
+/**
+ * 관리자 콘텐츠 테이블별 CSV 가져오기 정의
+ *
+ * CSV 형식은 각 테이블의 CSV 다운로드 형식과 같습니다.
+ */
+public final class CsvImportDescriptors {
+
+    private CsvImportDescriptors() {
+    }
+
+    /**
+     * 운명의 번호 추천 경고 메시지
+     * CSV 형식: id,message,orderIndex
+     */
+    public static final CsvImportDescriptor DESTINY_LIMIT_MESSAGE = new CsvImportDescriptor(
+        "경고 메시지",
+        "destiny_limit_message",
+        List.of("id", "message"),
+        2,
+        "메시지가 비어있습니다",
+        List.of(
+            Column.requiredText("message", 1),
+            // a/b 문구 분리 (예: "별들의 계시가 모두 전달되었습니다. 내일 다시 당신의 운명을 확인하세요.")
+            Column.of("message_part_a", 1, (value, ordinal) -> splitMessage(value)[0]),
+            Column.of("message_part_b", 1, (value, ordinal) -> splitMessage(value)[1]),
+            // orderIndex가 없으면 파일 내 순서 사용
+            Column.of("order_index", 2, (value, ordinal) -> value.isEmpty() ? ordinal : Integer.parseInt(value))
+        )
+    );
+
+    /**
+     * 운명의 번호 추천 미션 템플릿
+     * CSV 형식: id,category,theme,tone,placeHint,timeHint,text,weight
+     */
+    public static final CsvImportDescriptor MISSION_TEMPLATE = new CsvImportDescriptor(
+        "미션 템플릿",
+        "mission_templates",
+        List.of("id", "category"),
+        4,
+        "필수 필드가 비어있습니다",
+        List.of(
+            Column.requiredText("category", 1),
+            Column.requiredText("theme", 2),
+            Column.requiredText("tone", 3),
+            Column.text("place_hint", 4),
+            Column.text("time_hint", 5),
+            Column.requiredText("text", 6),
+            Column.of("weight", 7, (value, ordinal) -> value.isEmpty() ? 1 : Integer.parseInt(value))
+        )
+    );
+
+    /**
+     * A 멘트
+     * CSV 형식: id,text,strategy_tags,combo_tags,zodiac_tags,tone_tags,weight_base
+     */
+    public static final CsvImportDescriptor MISSION_PHRASE_A = new CsvImportDescriptor(
+        "A 멘트",
+        "mission_phrase_a",
+        List.of("id", "text"),
+        2,
+        "text는 필수 필드입니다",
+        List.of(
+            Column.requiredText("text", 1),
+            Column.text("strategy_tags", 2),
+            Column.text("combo_tags", 3),
+            Column.text("zodiac_tags", 4),
+            Column.text("tone_tags", 5),
+            Column.of("weight_base", 6, (value, ordinal) -> parseWeight(value))
+        )
+    );
+
+    /**
+     * B 멘트
+     * CSV 형식: id,text,place_hint,color_hint,align_tags,avoid_tags,weight_base
+     */
+    public static final CsvImportDescriptor MISSION_PHRASE_B = new CsvImportDescriptor(
+        "B 멘트",
+        "mission_phrase_b",
+        List.of("id", "text"),
+        2,
+        "text는 필수 필드입니다",
+        List.of(
+            Column.requiredText("text", 1),
+            Column.text("place_hint", 2),
+            Column.text("color_hint", 3),
+            Column.text("align_tags", 4),
+            Column.text("avoid_tags", 5),
+            Column.of("weight_base", 6, (value, ordinal) -> parseWeight(value))
+        )
+    );
+
+    /**
+     * C 멘트
+     * CSV 형식: id,text,tone_tags,weight_base
+     */
+    public static final CsvImportDescriptor MISSION_PHRASE_C = new CsvImportDescriptor(
+        "C 멘트",
+        "mission_phrase_c",
+        List.of("id", "text"),
+        2,
+        "text는 필수 필드입니다",
+        List.of(
+            Column.requiredText("text", 1),
+            Column.text("tone_tags", 2),
+            Column.of("weight_base", 3, (value, ordinal) -> parseWeight(value))
+        )
+    );
+
+    /**
+     * 가중치 파싱 (소수점 값은 반올림, 예: 0.8 -> 1, 파싱 실패 시 기본값 1)
+     */
+    private static Integer parseWeight(String value) {
+        if (value.isEmpty()) {
+            return 1;
+        }
+        try {
+            return value.contains(".") ? (int) Math.round(Double.parseDouble(value)) : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * 메시지를 a/b 문구로 분리 (마침표가 없으면 전체를 a 문구로)
+     */
+    private static String[] splitMessage(String message) {
+        String[] parts = message.split("[.。]\\s+", 2);
+        if (parts.length >= 2) {
+            return new String[]{parts[0].trim(), parts[1].trim()};
+        }
+        return new String[]{parts[0].trim(), null};
+    }
+}
@@ -0,0 +1,376 @@
+package io.appback.lottoguide.infra.persistence.bulk;
+
+import io.appback.lottoguide.infra.monitoring.jfr.IngestionBatchEvent;
+import io.appback.lottoguide.infra.refresh.DrawRefreshService;
+import io.appback.lottoguide.infra.refresh.MetricsRecomputeService;
+import io.appback.lottoguide.infra.refresh.PatternStatisticsCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추첨 결과 CSV 대량 업로드 (PostgreSQL COPY)
+ *
+ * 처리 순서:
+ * 1. 업로드 스트림을 줄 단위로 읽기
+ * 2. 각 줄을 병렬로 파싱/검증 (줄 번호별 오류 수집)
+ * 3. 임시 스테이징 테이블로 COPY 후 INSERT ... ON CONFLICT DO NOTHING 한 번으로 병합
+ * 4. 커밋 후 캐시 무효화 + 메트릭/패턴 통계 재계산 한 번
+ *
+ * 행 단위 save() 대신 왕복 몇 번으로 끝나므로 전체 회차 업로드도 수백 ms 수준입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DrawCsvBulkLoader {
+
+    private static final int MIN_COLUMNS = 9;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMP TABLE lotto_draw_staging (
+            draw_no INTEGER NOT NULL,
+            draw_date DATE NOT NULL,
+            n1 INTEGER NOT NULL, n2 INTEGER NOT NULL, n3 INTEGER NOT NULL,
+            n4 INTEGER NOT NULL, n5 INTEGER NOT NULL, n6 INTEGER NOT NULL,
+            bonus INTEGER NOT NULL,
+            total_prize DOUBLE PRECISION,
+            winner_count INTEGER,
+            prize_per_person DOUBLE PRECISION
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_SQL = """
+        COPY lotto_draw_staging (draw_no, draw_date, n1, n2, n3, n4, n5, n6, bonus,
+                                 total_prize, winner_count, prize_per_person)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String MERGE_SQL = """
+        INSERT INTO lotto_draw (draw_no, draw_date, n1, n2, n3, n4, n5, n6, bonus,
+                                total_prize, winner_count, prize_per_person, created_at)
+        SELECT draw_no, draw_date, n1, n2, n3, n4, n5, n6, bonus,
+               total_prize, winner_count, prize_per_person, NOW()
+        FROM lotto_draw_staging
+        ON CONFLICT (draw_no) DO NOTHING
+        """;
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final DrawRefreshService drawRefreshService;
+    private final MetricsRecomputeService metricsRecomputeService;
+    private final PatternStatisticsCache patternStatisticsCache;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * CSV 스트림을 대량 업로드
+     *
+     * @param in CSV 입력 스트림 (UTF-8, BOM 허용)
+     * @param includeHeader 첫 줄이 헤더인지 여부
+     * @param delimiter 구분자
+     * @return 업로드 결과 (줄 번호별 오류 포함)
+     */
+    public BulkImportResult load(InputStream in, boolean includeHeader, String delimiter) throws IOException {
+        long startTime = System.currentTimeMillis();
+        IngestionBatchEvent event = new IngestionBatchEvent();
+        event.begin();
+
+        // 1. 줄 읽기 (빈 줄/헤더 제외, 원래 줄 번호 유지)
+        List<RawLine> lines = readLines(in, includeHeader);
+
+        // 2. 병렬 파싱/검증
+        List<ParsedLine> parsed = lines.parallelStream()
+            .map(line -> parseLine(line, delimiter))
+            .toList();
+
+        List<DrawRow> rows = new ArrayList<>();
+        List<LineError> errors = new ArrayList<>();
+        Set<Integer> seenDrawNos = new HashSet<>();
+        int duplicateCount = 0;
+        for (ParsedLine line : parsed) {
+            if (line.error() != null) {
+                errors.add(line.error());
+            } else if (!seenDrawNos.add(line.row().drawNo())) {
+                // 파일 안에서 같은 회차가 반복되면 처음 것만 사용
+                duplicateCount++;
+            } else {
+                rows.add(line.row());
+            }
+        }
+
+        // 3. COPY + 병합 (단일 트랜잭션)
+        int insertedCount = rows.isEmpty() ? 0 : copyAndMerge(rows);
+        int skippedCount = rows.size() - insertedCount + duplicateCount;
+
+        // 4. 커밋 후 재계산 한 번
+        if (insertedCount > 0) {
+            drawRefreshService.clearCache();
+            try {
+                metricsRecomputeService.recomputeAllMetrics();
+                patternStatisticsCache.recomputeAllPatternStatistics();
+            } catch (Exception e) {
+                log.warn("메트릭 재계산 실패 (데이터는 저장됨): error={}", e.getMessage());
+            }
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startTime;
+        log.info("CSV 대량 업로드 완료: 읽은 줄 {}개, 저장 {}개, 건너뜀 {}개, 오류 {}개, {}ms",
+            lines.size(), insertedCount, skippedCount, errors.size(), elapsedMs);
+        recordIngestion(insertedCount, skippedCount, errors.size(), elapsedMs);
+        if (event.shouldCommit()) {
+            event.source = "csv";
+            event.inserted = insertedCount;
+            event.skipped = skippedCount;
+            event.failed = errors.size();
+            event.commit();
+        }
+        return new BulkImportResult(insertedCount, skippedCount, errors);
+    }
+
+    /**
+     * 수집 처리량 메트릭 (ingestion.rows{source=csv,result} / ingestion.duration{source=csv})
+     */
+    private void recordIngestion(int inserted, int skipped, int failed, long elapsedMs) {
+        meterRegistry.counter("ingestion.rows", "source", "csv", "result", "inserted").increment(inserted);
+        meterRegistry.counter("ingestion.rows", "source", "csv", "result", "skipped").increment(skipped);
+        meterRegistry.counter("ingestion.rows", "source", "csv", "result", "error").increment(failed);
+        meterRegistry.timer("ingestion.duration", "source", "csv").record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    private List<RawLine> readLines(InputStream in, boolean includeHeader) throws IOException {
+        List<RawLine> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            boolean isFirstLine = true;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // BOM 제거 (첫 줄에 BOM이 있을 수 있음)
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (isFirstLine) {
+                    isFirstLine = false;
+                    if (includeHeader) {
+                        continue;
+                    }
+                }
+                lines.add(new RawLine(lineNumber, line));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 한 줄 파싱 및 검증 (기존 CSV 업로드와 같은 규칙)
+     */
+    private ParsedLine parseLine(RawLine line, String delimiter) {
+        String[] columns = split(line.text(), delimiter);
+        if (columns.length < MIN_COLUMNS) {
+            return ParsedLine.error(line.number(),
+                String.format("컬럼 수가 부족합니다 (최소 %d개 필요, 실제: %d개)", MIN_COLUMNS, columns.length));
+        }
+        for (int i = 0; i < MIN_COLUMNS; i++) {
+            if (columns[i].trim().isEmpty()) {
+                return ParsedLine.error(line.number(), "필수 필드가 비어있습니다 (회차만 있고 내용이 없는 경우 저장하지 않음)");
+            }
+        }
+
+        try {
+            int drawNo = Integer.parseInt(columns[0].trim());
+            LocalDate drawDate = LocalDate.parse(columns[1].trim(), DATE_FORMATTER);
+            int[] numbers = new int[6];
+            for (int i = 0; i < 6; i++) {
+                numbers[i] = Integer.parseInt(columns[2 + i].trim());
+            }
+            int bonus = Integer.parseInt(columns[8].trim());
+
+            if (drawNo < 1) {
+                return ParsedLine.error(line.number(), "회차 번호는 1 이상이어야 합니다: " + drawNo);
+            }
+            // 번호 정렬 후 범위/중복 검증
+            Arrays.sort(numbers);
+            for (int i = 0; i < 6; i++) {
+                if (numbers[i] < 1 || numbers[i] > 45 || (i > 0 && numbers[i] == numbers[i - 1])) {
+                    return ParsedLine.error(line.number(), "당첨 번호가 올바르지 않습니다: " + Arrays.toString(numbers));
+                }
+            }
+            if (bonus < 1 || bonus > 45) {
+                return ParsedLine.error(line.number(), "보너스 번호가 올바르지 않습니다: " + bonus);
+            }
+
+            // 선택적 데이터 (당첨금 정보) - 파싱 실패 시 무시
+            Double totalPrize = columns.length >= 10 ? parseDoubleOrNull(columns[9]) : null;
+            Integer winnerCount = columns.length >= 11 ? parseWinnerCountOrNull(columns[10]) : null;
+            Double prizePerPerson = columns.length >= 12 ? parseDoubleOrNull(columns[11]) : null;
+
+            return ParsedLine.ok(new DrawRow(drawNo, drawDate, numbers, bonus, totalPrize, winnerCount, prizePerPerson));
+        } catch (Exception e) {
+            return ParsedLine.error(line.number(), "파싱 실패 - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 구분자로 분리 (정규식 없이, 한 글자 이상 구분자 지원)
+     */
+    private static String[] split(String text, String delimiter) {
+        List<String> parts = new ArrayList<>(12);
+        int start = 0;
+        int index;
+        while ((index = text.indexOf(delimiter, start)) >= 0) {
+            parts.add(text.substring(start, index));
+            start = index + delimiter.length();
+        }
+        parts.add(text.substring(start));
+        // String.split과 같이 끝의 빈 컬럼은 제거
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size).toArray(new String[0]);
+    }
+
+    private static Double parseDoubleOrNull(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseWinnerCountOrNull(String value) {
+        // "15명" 형식에서 "명" 제거
+        String digits = value.trim().replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 스테이징 테이블로 COPY 후 lotto_draw에 병합
+     *
+     * @return 실제 삽입된 행 수 (이미 있는 회차 제외)
+     */
+    private int copyAndMerge(List<DrawRow> rows) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Writer writer = new OutputStreamWriter(
+                        new PGCopyOutputStream(pgConnection, COPY_SQL), StandardCharsets.UTF_8)) {
+                    for (DrawRow row : rows) {
+                        row.writeCsv(writer);
+                    }
+                }
+
+                try (Statement statement = connection.createStatement()) {
+                    return statement.executeUpdate(MERGE_SQL);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY 대량 업로드 실패: " + e.getMessage(), e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("COPY 스트림 쓰기 실패: " + e.getMessage(), e);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private record RawLine(int number, String text) {}
+
+    private record ParsedLine(DrawRow row, LineError error) {
+        static ParsedLine ok(DrawRow row) {
+            return new ParsedLine(row, null);
+        }
+
+        static ParsedLine error(int lineNumber, String message) {
+            return new ParsedLine(null, new LineError(lineNumber, message));
+        }
+    }
+
+    private record DrawRow(int drawNo, LocalDate drawDate, int[] numbers, int bonus,
+                           Double totalPrize, Integer winnerCount, Double prizePerPerson) {
+
+        /**
+         * COPY csv 형식 한 줄 (빈 값은 NULL)
+         */
+        void writeCsv(Writer writer) throws IOException {
+            writer.write(Integer.toString(drawNo));
+            writer.write(',');
+            writer.write(drawDate.format(DATE_FORMATTER));
+            for (int number : numbers) {
+                writer.write(',');
+                writer.write(Integer.toString(number));
+            }
+            writer.write(',');
+            writer.write(Integer.toString(bonus));
+            writer.write(',');
+            if (totalPrize != null) writer.write(Double.toString(totalPrize));
+            writer.write(',');
+            if (winnerCount != null) writer.write(Integer.toString(winnerCount));
+            writer.write(',');
+            if (prizePerPerson != null) writer.write(Double.toString(prizePerPerson));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * 줄 번호별 오류
+     */
+    public record LineError(
+        int line,            // CSV 줄 번호 (1부터)
+        String message       // 오류 내용
+    ) {}
+
+    /**
+     * 대량 업로드 결과
+     */
+    public record BulkImportResult(
+        int savedCount,           // 저장된 회차 수
+        int skippedCount,         // 이미 존재하거나 파일 내 중복으로 건너뛴 회차 수
+        List<LineError> errors    // 줄 번호별 오류
+    ) {}
+}
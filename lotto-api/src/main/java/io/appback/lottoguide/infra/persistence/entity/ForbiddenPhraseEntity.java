@@ -0,0 +1,42 @@
+package io.appback.lottoguide.infra.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 금지 표현 사전 엔티티
+ * 테이블명: forbidden_phrase
+ * 
+ * 미션/LLM 응답에서 차단하거나 가릴 표현 (관리자 편집)
+ */
+@Entity
+@Table(name = "forbidden_phrase")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForbiddenPhraseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "phrase", nullable = false, unique = true, length = 200)
+    private String phrase;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
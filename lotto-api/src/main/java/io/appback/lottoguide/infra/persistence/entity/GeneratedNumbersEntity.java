@@ -6,13 +6,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 생성된 번호 엔티티 (Member 전용)
  * 테이블명: generated_numbers
  * GeneratedSetEntity와 1:N 관계
+ * 번호 6개와 태그는 비트마스크 두 컬럼으로 압축 저장 (JSON 직렬화 없음)
+ * created_at(세트 생성 시간)으로 월 단위 파티셔닝 (V009, GeneratedSetPartitionManager)
  */
 @Entity
-@Table(name = "generated_numbers")
+@Table(name = "generated_numbers", indexes = {
+    @Index(name = "idx_generated_numbers_set_idx", columnList = "generated_set_id, idx")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -29,24 +35,12 @@ public class GeneratedNumbersEntity {
     @Column(name = "idx", nullable = false)
     private Integer idx; // 세트 내 인덱스 (0부터 시작)
 
-    @Column(name = "n1", nullable = false)
-    private Integer n1;
-
-    @Column(name = "n2", nullable = false)
-    private Integer n2;
-
-    @Column(name = "n3", nullable = false)
-    private Integer n3;
-
-    @Column(name = "n4", nullable = false)
-    private Integer n4;
-
-    @Column(name = "n5", nullable = false)
-    private Integer n5;
+    @Column(name = "numbers_mask", nullable = false)
+    private Long numbersMask; // 번호 비트마스크 (GeneratedNumbersCodec)
 
-    @Column(name = "n6", nullable = false)
-    private Integer n6;
+    @Column(name = "tags_mask", nullable = false)
+    private Short tagsMask; // Explain Tags 비트셋 (GeneratedNumbersCodec)
 
-    @Column(name = "tags_json", columnDefinition = "TEXT")
-    private String tagsJson; // Explain Tags JSON
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 세트 생성 시간 (파티션 키, generated_set.created_at과 같음)
 }
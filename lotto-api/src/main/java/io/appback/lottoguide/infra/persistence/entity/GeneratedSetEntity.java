@@ -11,9 +11,12 @@ import java.time.LocalDateTime;
 /**
  * 생성된 번호 세트 엔티티 (Member 전용)
  * 테이블명: generated_set
+ * created_at 기준 월 단위 파티셔닝 (V009, GeneratedSetPartitionManager)
  */
 @Entity
-@Table(name = "generated_set")
+@Table(name = "generated_set", indexes = {
+    @Index(name = "idx_generated_set_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -23,6 +23,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class SystemOptionEntity {
     
+    /**
+     * 서버 내부용 옵션 키 접두어 (공개 시스템 옵션 API 응답과 일련번호에서 제외)
+     */
+    public static final String INTERNAL_KEY_PREFIX = "internal.";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -52,4 +57,11 @@ public class SystemOptionEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+    
+    /**
+     * 서버 내부용 옵션인지 여부
+     */
+    public static boolean isInternalKey(String optionKey) {
+        return optionKey != null && optionKey.startsWith(INTERNAL_KEY_PREFIX);
+    }
 }
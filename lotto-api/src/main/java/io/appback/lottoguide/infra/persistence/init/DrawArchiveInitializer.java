@@ -0,0 +1,76 @@
+package io.appback.lottoguide.infra.persistence.init;
+
+import io.appback.lottoguide.infra.archive.DrawArchive;
+import io.appback.lottoguide.infra.archive.DrawArchiveService;
+import io.appback.lottoguide.infra.persistence.repository.DrawRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * 추첨 결과 초기 데이터 삽입 (번들 아카이브)
+ *
+ * 애플리케이션 시작 시 lotto_draw 테이블이 비어 있으면
+ * 번들된 바이너리 아카이브(LGDA)로 추첨 결과를 채웁니다.
+ * 아카이브에 없는 최신 회차는 기존 수집 스케줄러가 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DrawArchiveInitializer implements CommandLineRunner {
+
+    private final DrawRepository drawRepository;
+    private final DrawArchiveService drawArchiveService;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${app.draw-archive.bootstrap-enabled:true}")
+    private boolean bootstrapEnabled;
+
+    @Value("${app.draw-archive.location:classpath:archive/lotto_draws.lgda}")
+    private String archiveLocation;
+
+    @Override
+    public void run(String... args) {
+        if (!bootstrapEnabled) {
+            return;
+        }
+
+        if (drawRepository.count() > 0) {
+            log.info("추첨 결과 데이터가 존재합니다. 아카이브 초기화를 건너뜁니다.");
+            return;
+        }
+
+        Resource resource = resourceLoader.getResource(archiveLocation);
+        if (!resource.exists()) {
+            log.info("번들 아카이브가 없습니다. 아카이브 초기화를 건너뜁니다: {}", archiveLocation);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            DrawArchive archive;
+            if (resource.isFile()) {
+                // 파일 시스템 경로면 메모리 매핑으로 직접 읽기
+                archive = DrawArchive.map(resource.getFile().toPath());
+            } else {
+                try (InputStream in = resource.getInputStream()) {
+                    archive = DrawArchive.wrap(in.readAllBytes());
+                }
+            }
+
+            DrawArchiveService.ImportResult result = drawArchiveService.importArchive(archive);
+            log.info("번들 아카이브로 추첨 결과 초기화 완료: {}개 회차 ({}~{}), {}ms",
+                result.savedCount(), result.minDrawNo(), result.maxDrawNo(),
+                System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            // 초기화 실패해도 애플리케이션은 기동 (수집/CSV 업로드로 채울 수 있음)
+            log.warn("번들 아카이브 초기화 실패: location={}, error={}", archiveLocation, e.getMessage());
+        }
+    }
+}
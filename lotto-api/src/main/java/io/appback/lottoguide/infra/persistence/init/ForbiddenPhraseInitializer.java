@@ -0,0 +1,59 @@
+package io.appback.lottoguide.infra.persistence.init;
+
+import io.appback.lottoguide.domain.mission.policy.ForbiddenPhraseDetector;
+import io.appback.lottoguide.infra.persistence.entity.ForbiddenPhraseEntity;
+import io.appback.lottoguide.infra.persistence.entity.SystemOptionEntity;
+import io.appback.lottoguide.infra.persistence.repository.ForbiddenPhraseRepository;
+import io.appback.lottoguide.infra.persistence.repository.SystemOptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 금지 표현 사전 초기 데이터 삽입
+ * 애플리케이션 시작 시 실행 (최초 한 번만)
+ * 
+ * 삽입 후 system_options에 서버 내부용 표시(internal.forbidden_phrase_seeded_at, 공개 옵션 API에서 제외)를 남기므로,
+ * 관리자가 사전을 모두 지워도 다음 시작 때 기본 표현을 다시 넣지 않습니다.
+ * V006 마이그레이션으로 이미 채워진 DB는 표시만 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ForbiddenPhraseInitializer implements CommandLineRunner {
+    
+    private static final String SEEDED_OPTION_KEY = SystemOptionEntity.INTERNAL_KEY_PREFIX + "forbidden_phrase_seeded_at";
+    
+    private final ForbiddenPhraseRepository forbiddenPhraseRepository;
+    private final SystemOptionRepository systemOptionRepository;
+    
+    @Override
+    @Transactional
+    public void run(String... args) {
+        if (systemOptionRepository.findByOptionKey(SEEDED_OPTION_KEY).isPresent()) {
+            log.info("금지 표현 사전 초기화가 이미 완료되었습니다. 초기화를 건너뜁니다.");
+            return;
+        }
+        
+        if (forbiddenPhraseRepository.count() > 0) {
+            log.info("금지 표현 사전 데이터가 이미 존재합니다. 초기화 완료 표시만 남깁니다.");
+        } else {
+            List<ForbiddenPhraseEntity> phrases = ForbiddenPhraseDetector.DEFAULT_PHRASES.stream()
+                .map(phrase -> ForbiddenPhraseEntity.builder().phrase(phrase).build())
+                .toList();
+            forbiddenPhraseRepository.saveAll(phrases);
+            log.info("금지 표현 사전 초기 데이터 삽입 완료: {}개", phrases.size());
+        }
+        
+        systemOptionRepository.save(SystemOptionEntity.builder()
+            .optionKey(SEEDED_OPTION_KEY)
+            .optionValue(LocalDateTime.now().toString())
+            .description("금지 표현 사전 초기 데이터 삽입 시각 (삭제하면 다음 시작 시 기본 표현을 다시 삽입)")
+            .build());
+    }
+}
@@ -5,11 +5,10 @@ import io.appback.lottoguide.application.port.out.MetricsRepositoryPort;
 import io.appback.lottoguide.domain.generator.model.ExplainTag;
 import io.appback.lottoguide.domain.generator.model.GeneratedSet;
 import io.appback.lottoguide.infra.persistence.entity.*;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,8 +21,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EntityMapper {
     
-    private final ObjectMapper objectMapper;
-    
     /**
      * DrawEntity를 DrawInfo로 변환
      */
@@ -57,21 +54,24 @@ public class EntityMapper {
      * GeneratedSetEntity와 GeneratedNumbersEntity 리스트를 GeneratedSet 리스트로 변환
      */
     public List<GeneratedSet> toGeneratedSets(GeneratedSetEntity setEntity, List<GeneratedNumbersEntity> numbersEntities) {
+        return toGeneratedSets(setEntity.getCreatedAt(), numbersEntities);
+    }
+    
+    /**
+     * 세트 생성 시간과 GeneratedNumbersEntity 리스트를 GeneratedSet 리스트로 변환
+     */
+    public List<GeneratedSet> toGeneratedSets(LocalDateTime createdAt, List<GeneratedNumbersEntity> numbersEntities) {
         List<GeneratedSet> sets = new ArrayList<>();
         
         for (GeneratedNumbersEntity numbersEntity : numbersEntities) {
-            List<Integer> numbers = Arrays.asList(
-                numbersEntity.getN1(), numbersEntity.getN2(), numbersEntity.getN3(),
-                numbersEntity.getN4(), numbersEntity.getN5(), numbersEntity.getN6()
-            );
-            
-            List<ExplainTag> tags = parseTagsJson(numbersEntity.getTagsJson());
+            List<Integer> numbers = GeneratedNumbersCodec.decodeNumbers(numbersEntity.getNumbersMask());
+            List<ExplainTag> tags = GeneratedNumbersCodec.decodeTags(numbersEntity.getTagsMask());
             
             GeneratedSet set = GeneratedSet.builder()
                 .index(numbersEntity.getIdx())
                 .numbers(numbers)
                 .tags(tags)
-                .createdAt(setEntity.getCreatedAt())
+                .createdAt(createdAt)
                 .build();
             
             sets.add(set);
@@ -96,67 +96,18 @@ public class EntityMapper {
     
     /**
      * GeneratedSet 리스트를 GeneratedNumbersEntity 리스트로 변환
+     * @param createdAt 세트 생성 시간 (파티션 키)
      */
-    public List<GeneratedNumbersEntity> toGeneratedNumbersEntities(Long generatedSetId, List<GeneratedSet> generatedSets) {
+    public List<GeneratedNumbersEntity> toGeneratedNumbersEntities(Long generatedSetId, LocalDateTime createdAt,
+                                                                   List<GeneratedSet> generatedSets) {
         return generatedSets.stream()
-            .map(set -> {
-                String tagsJson = set.getTags() != null ? toTagsJson(set.getTags()) : null;
-                
-                return GeneratedNumbersEntity.builder()
-                    .generatedSetId(generatedSetId)
-                    .idx(set.getIndex())
-                    .n1(set.getNumbers().get(0))
-                    .n2(set.getNumbers().get(1))
-                    .n3(set.getNumbers().get(2))
-                    .n4(set.getNumbers().get(3))
-                    .n5(set.getNumbers().get(4))
-                    .n6(set.getNumbers().get(5))
-                    .tagsJson(tagsJson)
-                    .build();
-            })
+            .map(set -> GeneratedNumbersEntity.builder()
+                .generatedSetId(generatedSetId)
+                .createdAt(createdAt)
+                .idx(set.getIndex())
+                .numbersMask(GeneratedNumbersCodec.encodeNumbers(set.getNumbers()))
+                .tagsMask(GeneratedNumbersCodec.encodeTags(set.getTags()))
+                .build())
             .collect(Collectors.toList());
     }
-    
-    /**
-     * Tags JSON을 ExplainTag 리스트로 파싱
-     */
-    private List<ExplainTag> parseTagsJson(String tagsJson) {
-        if (tagsJson == null || tagsJson.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        try {
-            List<String> tagStrings = objectMapper.readValue(tagsJson, new TypeReference<List<String>>() {});
-            return tagStrings.stream()
-                .map(tag -> {
-                    try {
-                        return ExplainTag.valueOf(tag);
-                    } catch (IllegalArgumentException e) {
-                        return null;
-                    }
-                })
-                .filter(tag -> tag != null)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            return new ArrayList<>();
-        }
-    }
-    
-    /**
-     * ExplainTag 리스트를 JSON으로 변환
-     */
-    private String toTagsJson(List<ExplainTag> tags) {
-        if (tags == null || tags.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            List<String> tagStrings = tags.stream()
-                .map(ExplainTag::name)
-                .collect(Collectors.toList());
-            return objectMapper.writeValueAsString(tagStrings);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
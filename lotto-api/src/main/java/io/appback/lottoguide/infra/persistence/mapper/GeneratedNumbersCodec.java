@@ -0,0 +1,91 @@
+package io.appback.lottoguide.infra.persistence.mapper;
+
+import io.appback.lottoguide.domain.generator.model.ExplainTag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * generated_numbers 압축 저장 형식
+ *
+ * - numbers_mask (BIGINT): 번호 n(1~45)을 비트 (n - 1)에 표시. 풀면 오름차순 번호 목록
+ * - tags_mask (SMALLINT): ExplainTag를 ordinal 비트에 표시
+ *
+ * 태그 비트는 ordinal에 묶여 있으므로 ExplainTag 상수는 뒤에만 추가해야 합니다.
+ */
+public final class GeneratedNumbersCodec {
+
+    private static final int MIN_NUMBER = 1;
+    private static final int MAX_NUMBER = 45;
+
+    private static final ExplainTag[] TAGS = ExplainTag.values();
+
+    static {
+        if (TAGS.length > Short.SIZE - 1) {
+            throw new IllegalStateException("ExplainTag가 tags_mask(SMALLINT) 비트 수를 넘습니다: " + TAGS.length);
+        }
+    }
+
+    private GeneratedNumbersCodec() {
+    }
+
+    /**
+     * 번호 목록 → 비트마스크
+     *
+     * @throws IllegalArgumentException 범위를 벗어나거나 중복된 번호가 있을 때
+     */
+    public static long encodeNumbers(List<Integer> numbers) {
+        long mask = 0L;
+        for (Integer number : numbers) {
+            if (number == null || number < MIN_NUMBER || number > MAX_NUMBER) {
+                throw new IllegalArgumentException("번호는 1~45 범위여야 합니다: " + number);
+            }
+            long bit = 1L << (number - 1);
+            if ((mask & bit) != 0) {
+                throw new IllegalArgumentException("중복된 번호가 있습니다: " + number);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크 → 번호 목록 (오름차순)
+     */
+    public static List<Integer> decodeNumbers(long mask) {
+        List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            numbers.add(Long.numberOfTrailingZeros(rest) + 1);
+        }
+        return numbers;
+    }
+
+    /**
+     * 태그 목록 → 비트셋 (null/빈 목록은 0)
+     */
+    public static short encodeTags(List<ExplainTag> tags) {
+        int mask = 0;
+        if (tags != null) {
+            for (ExplainTag tag : tags) {
+                if (tag != null) {
+                    mask |= 1 << tag.ordinal();
+                }
+            }
+        }
+        return (short) mask;
+    }
+
+    /**
+     * 비트셋 → 태그 목록 (ordinal 순, 알 수 없는 비트는 무시)
+     */
+    public static List<ExplainTag> decodeTags(short mask) {
+        List<ExplainTag> tags = new ArrayList<>(Integer.bitCount(mask & 0xFFFF));
+        for (int rest = mask & 0xFFFF; rest != 0; rest &= rest - 1) {
+            int ordinal = Integer.numberOfTrailingZeros(rest);
+            if (ordinal < TAGS.length) {
+                tags.add(TAGS[ordinal]);
+            }
+        }
+        return tags;
+    }
+}
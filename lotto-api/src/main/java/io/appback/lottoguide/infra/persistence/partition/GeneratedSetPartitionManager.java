@@ -0,0 +1,163 @@
+package io.appback.lottoguide.infra.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * generated_set / generated_numbers 월 파티션 관리
+ *
+ * 두 테이블은 created_at 기준 RANGE 파티션(V009)이며, 파티션 이름은 {테이블}_y{YYYY}m{MM}입니다.
+ * - 이번 달부터 months-ahead개월 뒤까지 파티션을 미리 만듭니다 (DEFAULT 파티션으로 새는 행 방지).
+ * - retention-months가 0보다 크면 그보다 오래된 월 파티션을 expired-action에 따라 분리(DETACH)하거나 삭제(DROP)합니다.
+ *   분리한 파티션은 archive-schema가 있으면 그 스키마로 옮겨 백업/덤프 후 직접 지우도록 남겨 둡니다.
+ *
+ * 테이블이 파티션 테이블이 아니면 (V009 미적용, ddl-auto로 만든 개발 DB 등) 아무것도 하지 않습니다.
+ */
+@Component
+@Slf4j
+public class GeneratedSetPartitionManager {
+
+    /** 번호 테이블을 먼저 처리 (세트가 있는데 번호가 없는 구간이 생기지 않도록) */
+    static final List<String> TABLES = List.of("generated_numbers", "generated_set");
+
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_y(\\d{4})m(\\d{2})$");
+
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))";
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass(?)
+        """;
+
+    public enum ExpiredAction { DETACH, DROP }
+
+    /**
+     * 파티션 관리 결과
+     *
+     * @param created 새로 만든 파티션
+     * @param expired 분리/삭제한 파티션
+     */
+    public record MaintenanceResult(List<String> created, List<String> expired) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partition.retention-months:0}")
+    private int retentionMonths;
+
+    @Value("${app.partition.expired-action:DETACH}")
+    private ExpiredAction expiredAction;
+
+    @Value("${app.partition.archive-schema:}")
+    private String archiveSchema;
+
+    public GeneratedSetPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 파티션 사전 생성 + 보존 기간 지난 파티션 정리
+     *
+     * @param currentMonth 기준 월 (보통 이번 달)
+     */
+    public MaintenanceResult maintain(YearMonth currentMonth) {
+        List<String> created = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+
+        for (String table : TABLES) {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, table))) {
+                log.debug("{}는 파티션 테이블이 아니므로 파티션 관리를 건너뜀", table);
+                continue;
+            }
+            Set<String> partitions = new HashSet<>(jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table));
+
+            for (int i = 0; i <= Math.max(0, monthsAhead); i++) {
+                YearMonth month = currentMonth.plusMonths(i);
+                String name = partitionName(table, month);
+                if (!partitions.contains(name) && createPartition(table, name, month)) {
+                    created.add(name);
+                }
+            }
+
+            if (retentionMonths > 0) {
+                YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+                for (String name : partitions) {
+                    YearMonth month = monthOf(table, name);
+                    if (month != null && month.isBefore(oldestKept) && expirePartition(table, name)) {
+                        expired.add(name);
+                    }
+                }
+            }
+        }
+
+        if (!created.isEmpty() || !expired.isEmpty()) {
+            log.info("생성 세트 파티션 관리: 생성 {}, {} {}", created, expiredAction, expired);
+        }
+        return new MaintenanceResult(created, expired);
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return String.format("%s_y%04dm%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    private static YearMonth monthOf(String table, String partition) {
+        if (!partition.startsWith(table + "_")) {
+            return null;
+        }
+        Matcher matcher = MONTH_SUFFIX.matcher(partition);
+        if (!matcher.find() || matcher.start() != table.length()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    private boolean createPartition(String table, String name, YearMonth month) {
+        try {
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                quote(name), quote(table), month.atDay(1), month.plusMonths(1).atDay(1)));
+            return true;
+        } catch (Exception e) {
+            // DEFAULT 파티션에 이미 해당 월 행이 있으면 실패 (수동으로 옮겨야 함)
+            log.warn("파티션 생성 실패: {}, error={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean expirePartition(String table, String name) {
+        try {
+            if (expiredAction == ExpiredAction.DROP) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + quote(name));
+                return true;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + quote(table) + " DETACH PARTITION " + quote(name));
+            if (archiveSchema != null && !archiveSchema.isBlank()) {
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + quote(archiveSchema.trim()));
+                jdbcTemplate.execute("ALTER TABLE " + quote(name) + " SET SCHEMA " + quote(archiveSchema.trim()));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("만료 파티션 정리 실패: {}, action={}, error={}", name, expiredAction, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -1,10 +1,15 @@
 package io.appback.lottoguide.infra.persistence.repository;
 
 import io.appback.lottoguide.infra.persistence.entity.DestinyLimitMessageEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 운명의 번호 추천 경고 메시지 Repository
@@ -16,4 +21,14 @@ public interface DestinyLimitMessageRepository extends JpaRepository<DestinyLimi
      * orderIndex 순서로 정렬하여 모든 메시지 조회
      */
     List<DestinyLimitMessageEntity> findAllByOrderByOrderIndexAsc();
+
+    /**
+     * orderIndex 순 스트리밍 조회 (CSV 내보내기용, DB 커서 사용)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM DestinyLimitMessageEntity m ORDER BY m.orderIndex ASC")
+    Stream<DestinyLimitMessageEntity> streamAllByOrderByOrderIndexAsc();
 }
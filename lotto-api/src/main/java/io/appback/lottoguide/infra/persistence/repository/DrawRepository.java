@@ -1,13 +1,18 @@
 package io.appback.lottoguide.infra.persistence.repository;
 
 import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * 로또 추첨 결과 Repository
@@ -52,7 +57,13 @@ public interface DrawRepository extends JpaRepository<DrawEntity, Integer> {
      */
     @Query("SELECT d FROM DrawEntity d ORDER BY d.drawNo ASC")
     List<DrawEntity> findAllByOrderByDrawNoAsc();
-    
+
+    /**
+     * 저장된 모든 회차 번호 조회 (엔티티 로딩 없이 중복 확인용)
+     */
+    @Query("SELECT d.drawNo FROM DrawEntity d")
+    Set<Integer> findAllDrawNos();
+
     /**
      * 최소 회차 번호 조회
      */
@@ -81,4 +92,14 @@ public interface DrawRepository extends JpaRepository<DrawEntity, Integer> {
         AND EXISTS (SELECT 1 FROM lotto_draw d3 WHERE d3.draw_no > d1.draw_no)
         """, nativeQuery = true)
     Optional<Integer> findFirstMissingDrawNo();
+
+    /**
+     * 회차 번호 오름차순 스트리밍 조회 (CSV 내보내기용, DB 커서 사용)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM DrawEntity d ORDER BY d.drawNo ASC")
+    Stream<DrawEntity> streamAllByOrderByDrawNoAsc();
 }
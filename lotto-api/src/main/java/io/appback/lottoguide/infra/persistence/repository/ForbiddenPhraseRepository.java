@@ -0,0 +1,31 @@
+package io.appback.lottoguide.infra.persistence.repository;
+
+import io.appback.lottoguide.infra.persistence.entity.ForbiddenPhraseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 금지 표현 사전 리포지토리
+ */
+@Repository
+public interface ForbiddenPhraseRepository extends JpaRepository<ForbiddenPhraseEntity, Long> {
+    
+    /**
+     * 표현으로 존재 여부 확인
+     */
+    boolean existsByPhrase(String phrase);
+    
+    /**
+     * 전체 표현 문자열만 조회 (오토마톤 구성용)
+     */
+    @Query("SELECT f.phrase FROM ForbiddenPhraseEntity f")
+    List<String> findAllPhrases();
+    
+    /**
+     * ID 순 전체 조회 (관리자 목록용)
+     */
+    List<ForbiddenPhraseEntity> findAllByOrderByIdAsc();
+}
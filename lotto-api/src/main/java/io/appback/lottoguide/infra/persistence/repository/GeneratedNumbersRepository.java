@@ -4,6 +4,8 @@ import io.appback.lottoguide.infra.persistence.entity.GeneratedNumbersEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +19,13 @@ public interface GeneratedNumbersRepository extends JpaRepository<GeneratedNumbe
      */
     List<GeneratedNumbersEntity> findByGeneratedSetIdOrderByIdxAsc(Long generatedSetId);
 
+    /**
+     * 여러 세트의 생성된 번호 일괄 조회 (히스토리 한 페이지를 IN 쿼리 한 번으로)
+     * 세트 생성 시간 범위를 같이 넘기면 해당 월 파티션만 읽음
+     */
+    List<GeneratedNumbersEntity> findByGeneratedSetIdInAndCreatedAtBetweenOrderByGeneratedSetIdAscIdxAsc(
+        Collection<Long> generatedSetIds, LocalDateTime from, LocalDateTime to);
+
     /**
      * 세트 ID로 생성된 번호 개수 조회
      */
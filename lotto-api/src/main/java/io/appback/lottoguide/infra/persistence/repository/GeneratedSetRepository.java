@@ -4,8 +4,11 @@ import io.appback.lottoguide.infra.persistence.entity.GeneratedSetEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -24,8 +27,38 @@ public interface GeneratedSetRepository extends JpaRepository<GeneratedSetEntity
      */
     Page<GeneratedSetEntity> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 세트 요약 첫 페이지 (최신순, 키셋 페이징 시작)
+     * (user_id, created_at, id) 인덱스만으로 처리되도록 요약 컬럼만 조회
+     */
+    @Query("SELECT s.id AS id, s.strategyCode AS strategyCode, s.createdAt AS createdAt " +
+           "FROM GeneratedSetEntity s WHERE s.userId = :userId " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SetSummary> findSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 세트 요약 다음 페이지 (커서 (createdAt, id) 이후, 최신순)
+     */
+    @Query("SELECT s.id AS id, s.strategyCode AS strategyCode, s.createdAt AS createdAt " +
+           "FROM GeneratedSetEntity s WHERE s.userId = :userId " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SetSummary> findSummariesAfter(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     /**
      * 사용자별 세트 개수 조회
      */
     long countByUserId(Long userId);
+
+    /**
+     * 히스토리 목록용 세트 요약 (프로젝션)
+     */
+    interface SetSummary {
+        Long getId();
+        String getStrategyCode();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -1,9 +1,15 @@
 package io.appback.lottoguide.infra.persistence.repository;
 
 import io.appback.lottoguide.infra.persistence.entity.MissionPhraseBEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 /**
  * B 멘트 리포지토리
  * 
@@ -12,4 +18,14 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface MissionPhraseBRepository extends JpaRepository<MissionPhraseBEntity, Long> {
+
+    /**
+     * ID 순 스트리밍 조회 (CSV 내보내기용, DB 커서 사용)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM MissionPhraseBEntity p ORDER BY p.id ASC")
+    Stream<MissionPhraseBEntity> streamAllByOrderByIdAsc();
 }
@@ -1,13 +1,16 @@
 package io.appback.lottoguide.infra.persistence.repository;
 
 import io.appback.lottoguide.infra.persistence.entity.MissionTemplateEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 미션 템플릿 리포지토리
@@ -50,8 +53,12 @@ public interface MissionTemplateRepository extends JpaRepository<MissionTemplate
     List<MissionTemplateEntity> findByCategoryOrderByWeightDesc(@Param("category") String category);
     
     /**
-     * 랜덤 템플릿 조회 (테마별)
+     * ID 순 스트리밍 조회 (CSV 내보내기용, DB 커서 사용)
      */
-    @Query(value = "SELECT * FROM mission_templates WHERE theme = :theme ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
-    Optional<MissionTemplateEntity> findRandomByTheme(@Param("theme") String theme);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM MissionTemplateEntity t ORDER BY t.id ASC")
+    Stream<MissionTemplateEntity> streamAllByOrderByIdAsc();
 }
@@ -1,10 +1,15 @@
 package io.appback.lottoguide.infra.persistence.repository;
 
 import io.appback.lottoguide.infra.persistence.entity.StrategyDescriptionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 전략 설명 Repository
@@ -21,4 +26,14 @@ public interface StrategyDescriptionRepository extends JpaRepository<StrategyDes
      * 전략 코드 존재 여부 확인
      */
     boolean existsByStrategyCode(String strategyCode);
+
+    /**
+     * 전략 코드 순 스트리밍 조회 (CSV 내보내기용, DB 커서 사용)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM StrategyDescriptionEntity s ORDER BY s.strategyCode ASC")
+    Stream<StrategyDescriptionEntity> streamAllByOrderByStrategyCodeAsc();
 }
@@ -0,0 +1,112 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 생성 세트 다중 행 INSERT
+ *
+ * generated_set은 미리 할당한 ID로 넣고 중복 키는 ON CONFLICT DO NOTHING으로 건너뛰므로
+ * 저널 재처리 시 같은 세트를 다시 써도 안전합니다. 번호는 이번에 실제로 들어간 세트의 것만 넣습니다.
+ * 세트와 번호는 한 트랜잭션으로 반영됩니다.
+ * 충돌 대상을 지정하지 않으므로 파티션 테이블의 (id, created_at) 기본 키에서도 그대로 동작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+class GeneratedSetBatchWriter {
+
+    /** PostgreSQL 바인드 파라미터 상한(32767)을 넘지 않도록 한 문장당 행 수 제한 */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String SET_INSERT_PREFIX = """
+        INSERT INTO generated_set (id, user_id, strategy_code, strategy_params_json,
+                                   constraints_json, generated_count, created_at)
+        VALUES\s""";
+    private static final String SET_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String SET_INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id";
+
+    private static final String NUMBERS_INSERT_PREFIX = """
+        INSERT INTO generated_numbers (generated_set_id, idx, numbers_mask, tags_mask, created_at)
+        VALUES\s""";
+    private static final String NUMBERS_ROW = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 세트 묶음 저장
+     *
+     * @return 이번에 새로 들어간 세트 수
+     */
+    int write(List<PendingGeneratedSet> sets) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<Long> insertedIds = new HashSet<>();
+            for (List<PendingGeneratedSet> chunk : chunks(sets)) {
+                insertedIds.addAll(insertSets(chunk));
+            }
+
+            List<Object[]> numberRows = new ArrayList<>();
+            for (PendingGeneratedSet set : sets) {
+                if (!insertedIds.contains(set.setId())) {
+                    continue;
+                }
+                Timestamp createdAt = Timestamp.valueOf(set.createdAt());
+                for (PendingGeneratedSet.NumbersRow row : set.numbers()) {
+                    numberRows.add(new Object[]{set.setId(), row.idx(), row.numbersMask(), row.tagsMask(), createdAt});
+                }
+            }
+            for (List<Object[]> chunk : chunks(numberRows)) {
+                jdbcTemplate.update(multiRowSql(NUMBERS_INSERT_PREFIX, NUMBERS_ROW, chunk.size(), ""), flatten(chunk));
+            }
+            return insertedIds.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private List<Long> insertSets(List<PendingGeneratedSet> chunk) {
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (PendingGeneratedSet set : chunk) {
+            rows.add(new Object[]{set.setId(), set.userId(), set.strategyCode(), set.strategyParamsJson(),
+                set.constraintsJson(), set.numbers().size(), Timestamp.valueOf(set.createdAt())});
+        }
+        return jdbcTemplate.queryForList(multiRowSql(SET_INSERT_PREFIX, SET_ROW, rows.size(), SET_INSERT_SUFFIX),
+            Long.class, flatten(rows));
+    }
+
+    private static String multiRowSql(String prefix, String row, int rowCount, String suffix) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rowCount * (row.length() + 2) + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.append(suffix).toString();
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        int width = rows.get(0).length;
+        Object[] args = new Object[rows.size() * width];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, args, i * width, width);
+        }
+        return args;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + MAX_ROWS_PER_STATEMENT)));
+        }
+        return chunks;
+    }
+}
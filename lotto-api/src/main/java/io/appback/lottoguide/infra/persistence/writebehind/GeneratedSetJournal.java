@@ -0,0 +1,209 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 저장용 로컬 저널 (append-only)
+ *
+ * 줄 형식:
+ * - P\t{JSON}: 저장 대기 세트
+ * - A\t{id},{id},...: DB 반영 완료
+ *
+ * 요청 스레드는 큐에 넣기 전에 P 줄을 쓰고, 작성 스레드는 커밋 후 A 줄을 씁니다.
+ * 기동 시 A가 없는 P만 다시 저장합니다. 대기 중인 세트가 0이 되면 파일을 비우고,
+ * 대기 세트가 계속 남아 있어도 완료 기록이 compact-threshold개를 넘으면
+ * 대기 중인 P 줄만 임시 파일에 다시 쓴 뒤 원자적으로 교체합니다 (파일이 끝없이 커지지 않도록).
+ *
+ * 쓰기는 매번 OS로 넘기므로 프로세스가 죽어도 남고, 디스크 동기화(force)는 작성 스레드가 주기적으로 합니다.
+ */
+@Slf4j
+class GeneratedSetJournal implements AutoCloseable {
+
+    private static final String PENDING = "P\t";
+    private static final String ACKED = "A\t";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final int compactThreshold;
+    private FileChannel channel;
+    private Writer writer;
+    private int pendingCount;
+    private int ackedSinceCompaction;
+
+    /**
+     * @param compactThreshold 정리(compaction) 기준 완료 건수 (0 이하이면 대기 세트가 0이 될 때만 비움)
+     */
+    GeneratedSetJournal(Path path, ObjectMapper objectMapper, int compactThreshold) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.compactThreshold = compactThreshold;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        open();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 세트 (기동 시 한 번)
+     */
+    synchronized List<PendingGeneratedSet> readPending() throws IOException {
+        List<PendingGeneratedSet> pending = scanPending();
+        pendingCount = pending.size();
+        return pending;
+    }
+
+    synchronized void append(PendingGeneratedSet set) throws IOException {
+        writer.write(pendingLine(objectMapper, set));
+        writer.flush();
+        pendingCount++;
+    }
+
+    synchronized void ack(List<PendingGeneratedSet> sets) throws IOException {
+        StringBuilder line = new StringBuilder(ACKED);
+        for (int i = 0; i < sets.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(sets.get(i).setId());
+        }
+        writer.write(line.append('\n').toString());
+        writer.flush();
+        pendingCount = Math.max(0, pendingCount - sets.size());
+        ackedSinceCompaction += sets.size();
+
+        if (pendingCount == 0) {
+            channel.truncate(0);
+            ackedSinceCompaction = 0;
+        } else if (compactThreshold > 0 && ackedSinceCompaction >= compactThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * 디스크 동기화 (전원 장애 대비)
+     */
+    synchronized void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * 저널 P 줄 (대기 세트 파일에도 같은 형식 사용)
+     */
+    static String pendingLine(ObjectMapper objectMapper, PendingGeneratedSet set) throws IOException {
+        return PENDING + objectMapper.writeValueAsString(set) + '\n';
+    }
+
+    /**
+     * 대기 중인 P 줄만 남기고 다시 쓰기
+     * 임시 파일을 디스크에 동기화한 뒤 원자적으로 교체하므로, 도중에 죽어도 기존 저널이 그대로 남습니다.
+     * 실패하면 기존 저널에 계속 추가합니다.
+     */
+    private void compact() {
+        long startTime = System.currentTimeMillis();
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        List<PendingGeneratedSet> pending;
+        try {
+            pending = scanPending();
+            try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 Writer tempWriter = Channels.newWriter(tempChannel, StandardCharsets.UTF_8)) {
+                for (PendingGeneratedSet set : pending) {
+                    tempWriter.write(pendingLine(objectMapper, set));
+                }
+                tempWriter.flush();
+                tempChannel.force(true);
+            }
+        } catch (IOException e) {
+            log.warn("생성 세트 저널 정리 실패 (기존 저널 유지): {}", e.getMessage());
+            deleteQuietly(temp);
+            ackedSinceCompaction = 0;
+            return;
+        }
+
+        try {
+            writer.close();
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            pendingCount = pending.size();
+            log.debug("생성 세트 저널 정리: 완료 {}건 제거, 대기 {}건 유지, {}ms",
+                ackedSinceCompaction, pending.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            log.warn("생성 세트 저널 교체 실패 (기존 저널 유지): {}", e.getMessage());
+            deleteQuietly(temp);
+        } finally {
+            ackedSinceCompaction = 0;
+            reopen();
+        }
+    }
+
+    private List<PendingGeneratedSet> scanPending() throws IOException {
+        Map<Long, PendingGeneratedSet> pending = new LinkedHashMap<>();
+        int corrupted = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    if (line.startsWith(PENDING)) {
+                        PendingGeneratedSet set = objectMapper.readValue(line.substring(PENDING.length()),
+                            PendingGeneratedSet.class);
+                        pending.put(set.setId(), set);
+                    } else if (line.startsWith(ACKED)) {
+                        for (String id : line.substring(ACKED.length()).split(",")) {
+                            pending.remove(Long.parseLong(id));
+                        }
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    // 기록 도중 종료되어 잘린 마지막 줄 등
+                    corrupted++;
+                }
+            }
+        }
+        if (corrupted > 0) {
+            log.warn("생성 세트 저널에서 읽을 수 없는 줄 {}개를 건너뜀: {}", corrupted, path);
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    private void reopen() {
+        try {
+            open();
+        } catch (IOException e) {
+            // 다음 append/ack에서 예외가 나므로 호출자가 즉시 저장/재시도로 처리
+            log.error("생성 세트 저널 다시 열기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 다음 정리 때 덮어씀
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,363 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.infra.persistence.entity.GeneratedNumbersEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 생성 세트 쓰기 지연 저장 (app.write-behind.enabled)
+ *
+ * 요청 스레드는 세트 ID를 미리 할당받아 저널에 기록하고 큐에 넣은 뒤 바로 반환합니다.
+ * 백그라운드 작성 스레드 하나가 큐를 비우며 batch-size 단위 다중 행 INSERT로 저장합니다.
+ *
+ * - 세트 ID: generated_set.id 컬럼의 시퀀스에서 id-block-size개씩 한 번에 받아 둠 (IDENTITY 저장과 충돌 없음)
+ * - 큐가 가득 차면 요청 스레드에서 바로 저장 (메모리 상한 유지)
+ * - DB 오류 시 묶음의 세트를 한 건씩 다시 저장하고, 여전히 실패한 세트만 큐 뒤로 돌려 다음 세트를 계속 저장
+ * - max-attempts번 실패한 세트는 대기 세트 파일(dead-letter-file)로 옮기고 저널에서 완료 처리
+ *   (파일의 줄은 저널과 같은 형식이므로 원인 해결 후 저널 파일 끝에 붙이고 재기동하면 다시 저장)
+ * - 종료 시 남은 세트는 저널에 남아 다음 기동 때 저장
+ *
+ * 저장이 끝나기 전(보통 flush-interval-ms 이내)에는 히스토리 조회에 새 세트가 보이지 않을 수 있습니다.
+ */
+@Component
+@Slf4j
+public class GeneratedSetWriteBehind {
+
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+
+    private final GeneratedSetBatchWriter batchWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.write-behind.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.write-behind.id-block-size:100}")
+    private int idBlockSize;
+
+    @Value("${app.write-behind.journal-file:data/generated-set-journal.log}")
+    private String journalFile;
+
+    @Value("${app.write-behind.journal-compact-threshold:10000}")
+    private int journalCompactThreshold;
+
+    @Value("${app.write-behind.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.write-behind.dead-letter-file:data/generated-set-dead-letter.log}")
+    private String deadLetterFile;
+
+    private BlockingQueue<PendingGeneratedSet> queue;
+    private GeneratedSetJournal journal;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // 세트별 저장 실패 횟수 (작성 스레드 전용)
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+    private int consecutiveFailedBatches;
+
+    private String idSequence;
+    private long[] idBlock = new long[0];
+    private int idBlockNext;
+
+    public GeneratedSetWriteBehind(GeneratedSetBatchWriter batchWriter, JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        meterRegistry.gauge("generated_set.write_behind.queue", this, GeneratedSetWriteBehind::queueSize);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        if (journalFile != null && !journalFile.isBlank()) {
+            Path path = Paths.get(journalFile).toAbsolutePath().normalize();
+            try {
+                journal = new GeneratedSetJournal(path, objectMapper, journalCompactThreshold);
+                List<PendingGeneratedSet> pending = journal.readPending();
+                if (!pending.isEmpty()) {
+                    log.info("생성 세트 저널에서 미저장 세트 {}개 복구: {}", pending.size(), path);
+                    for (PendingGeneratedSet set : pending) {
+                        if (!queue.offer(set)) {
+                            writeNow(set);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("생성 세트 저널을 열 수 없어 저널 없이 동작합니다: file={}, error={}", path, e.getMessage());
+                journal = null;
+            }
+        }
+
+        running = true;
+        writerThread = new Thread(this::drainLoop, "generated-set-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("생성 세트 쓰기 지연 저장 시작: 큐 {}개, 묶음 {}개, 간격 {}ms", queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세트 저장 예약
+     *
+     * @param numbersEntities 번호 엔티티 (generatedSetId는 무시)
+     * @return 미리 할당한 세트 ID (바로 사용 가능)
+     */
+    public Long enqueue(Long userId, List<GeneratedNumbersEntity> numbersEntities, String strategyCode,
+                        String strategyParamsJson, String constraintsJson) {
+        List<PendingGeneratedSet.NumbersRow> numbers = new ArrayList<>(numbersEntities.size());
+        for (GeneratedNumbersEntity entity : numbersEntities) {
+            numbers.add(new PendingGeneratedSet.NumbersRow(entity.getIdx(), entity.getNumbersMask(),
+                entity.getTagsMask()));
+        }
+        PendingGeneratedSet set = new PendingGeneratedSet(nextSetId(), userId, strategyCode, strategyParamsJson,
+            constraintsJson, LocalDateTime.now(), numbers);
+
+        if (journal != null) {
+            try {
+                journal.append(set);
+            } catch (IOException e) {
+                // 저널에 남기지 못하면 유실 위험이 있으므로 바로 저장
+                log.warn("생성 세트 저널 기록 실패, 즉시 저장: {}", e.getMessage());
+                batchWriter.write(List.of(set));
+                return set.setId();
+            }
+        }
+        if (!queue.offer(set)) {
+            log.debug("쓰기 지연 큐가 가득 차 요청 스레드에서 저장: setId={}", set.setId());
+            writeNow(set);
+        }
+        return set.setId();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!enabled || writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            try {
+                journal.force();
+                journal.close();
+            } catch (IOException e) {
+                log.warn("생성 세트 저널 닫기 실패: {}", e.getMessage());
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("종료 시 미저장 생성 세트 {}개 (저널에서 다음 기동 시 저장)", queue.size());
+        }
+    }
+
+    int queueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * 작성 스레드: 큐를 묶음 단위로 비우며 저장, 종료 요청 시 남은 것까지 저장 시도
+     *
+     * 묶음 저장이 실패하면 한 건씩 다시 저장하여 문제 세트만 골라내므로, 한 세트 때문에 큐 전체가 멈추지 않습니다.
+     * 묶음의 모든 세트가 실패하면(DB 장애 등) 실패가 이어지는 동안 대기 시간을 늘립니다.
+     */
+    private void drainLoop() {
+        List<PendingGeneratedSet> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingGeneratedSet first = running
+                        ? queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS)
+                        : queue.poll();
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                flush(batch);
+                if (!failedAttempts.isEmpty()) {
+                    batch.forEach(set -> failedAttempts.remove(set.setId()));
+                }
+                consecutiveFailedBatches = 0;
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 종료 요청: running=false로 바뀌었으므로 남은 큐를 계속 비움
+                Thread.interrupted();
+            } catch (Exception e) {
+                if (!running) {
+                    // 종료 중에는 재시도하지 않고 저널에 남김
+                    log.warn("종료 중 생성 세트 저장 실패 ({}개, 저널에서 다음 기동 시 저장): {}",
+                        batch.size(), e.getMessage());
+                    return;
+                }
+                log.warn("생성 세트 묶음 저장 실패 ({}개), 한 건씩 다시 저장: {}", batch.size(), e.getMessage());
+                List<PendingGeneratedSet> failed = flushEach(batch);
+                boolean allFailed = failed.size() == batch.size();
+                batch.clear();
+                requeue(failed, batch);
+
+                if (!allFailed) {
+                    consecutiveFailedBatches = 0;
+                    continue;
+                }
+                consecutiveFailedBatches++;
+                long delay = Math.min(MAX_RETRY_DELAY_MS,
+                    RETRY_DELAY_MS << Math.min(consecutiveFailedBatches - 1, 5));
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ignored) {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 건씩 저장 (묶음 저장 실패 후)
+     *
+     * @return 다시 시도할 세트 (max-attempts에 도달한 세트는 대기 세트 파일로 옮기고 제외)
+     */
+    private List<PendingGeneratedSet> flushEach(List<PendingGeneratedSet> batch) {
+        List<PendingGeneratedSet> failed = new ArrayList<>();
+        for (PendingGeneratedSet set : batch) {
+            try {
+                flush(List.of(set));
+                failedAttempts.remove(set.setId());
+            } catch (Exception e) {
+                int attempts = failedAttempts.merge(set.setId(), 1, Integer::sum);
+                if (attempts >= Math.max(1, maxAttempts)) {
+                    failedAttempts.remove(set.setId());
+                    deadLetter(set, attempts, e);
+                } else {
+                    log.debug("생성 세트 저장 실패 ({}/{}회): setId={}, error={}",
+                        attempts, maxAttempts, set.setId(), e.getMessage());
+                    failed.add(set);
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 실패한 세트를 큐 뒤로 돌림 (큐가 가득 차면 다음 묶음으로 이어서 시도)
+     */
+    private void requeue(List<PendingGeneratedSet> failed, List<PendingGeneratedSet> carry) {
+        for (PendingGeneratedSet set : failed) {
+            if (!queue.offer(set)) {
+                carry.add(set);
+            }
+        }
+    }
+
+    /**
+     * 계속 실패하는 세트를 대기 세트 파일로 옮기고 저널에서 완료 처리 (재기동 때 반복 재시도 방지)
+     * 파일이 설정되지 않았으면 세트 내용을 오류 로그에 남기고, 파일 기록이 실패하면 저널에 남겨 다음 기동 때 다시 시도합니다.
+     */
+    private void deadLetter(PendingGeneratedSet set, int attempts, Exception cause) {
+        try {
+            String line = GeneratedSetJournal.pendingLine(objectMapper, set);
+            if (deadLetterFile == null || deadLetterFile.isBlank()) {
+                log.error("생성 세트 {}회 저장 실패, 재시도 중단: setId={}, error={}, set={}",
+                    attempts, set.setId(), cause.getMessage(), line.strip());
+            } else {
+                Path path = Paths.get(deadLetterFile).toAbsolutePath().normalize();
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.writeString(path, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                log.error("생성 세트 {}회 저장 실패, 대기 세트 파일로 이동: setId={}, userId={}, file={}, error={}",
+                    attempts, set.setId(), set.userId(), path, cause.getMessage());
+            }
+            if (journal != null) {
+                journal.ack(List.of(set));
+            }
+        } catch (IOException e) {
+            log.warn("대기 세트 파일 기록 실패 (저널에 유지): setId={}, error={}", set.setId(), e.getMessage());
+        }
+    }
+
+    private void flush(List<PendingGeneratedSet> batch) throws IOException {
+        long startTime = System.currentTimeMillis();
+        int inserted = batchWriter.write(batch);
+        if (journal != null) {
+            journal.ack(batch);
+            journal.force();
+        }
+        log.debug("생성 세트 {}개 저장 (신규 {}개), {}ms", batch.size(), inserted, System.currentTimeMillis() - startTime);
+    }
+
+    private void writeNow(PendingGeneratedSet set) {
+        batchWriter.write(List.of(set));
+        if (journal != null) {
+            try {
+                journal.ack(List.of(set));
+            } catch (IOException e) {
+                log.warn("생성 세트 저널 완료 기록 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 세트 ID 할당 (블록 단위로 시퀀스에서 받아 둔 값 사용)
+     */
+    private synchronized long nextSetId() {
+        if (idBlockNext >= idBlock.length) {
+            if (idSequence == null) {
+                idSequence = jdbcTemplate.queryForObject(
+                    "SELECT pg_get_serial_sequence('generated_set', 'id')", String.class);
+                if (idSequence == null) {
+                    throw new IllegalStateException("generated_set.id 시퀀스를 찾을 수 없습니다");
+                }
+            }
+            idBlock = jdbcTemplate.queryForList("SELECT nextval(?::regclass) FROM generate_series(1, ?)",
+                Long.class, idSequence, Math.max(1, idBlockSize)).stream().mapToLong(Long::longValue).toArray();
+            idBlockNext = 0;
+        }
+        return idBlock[idBlockNext++];
+    }
+}
@@ -0,0 +1,26 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 저장 대기 중인 생성 세트 (저널에 JSON 한 줄로 기록)
+ *
+ * @param setId 미리 할당한 generated_set.id
+ * @param numbers generated_numbers 행 (idx 순)
+ */
+record PendingGeneratedSet(
+    long setId,
+    long userId,
+    String strategyCode,
+    String strategyParamsJson,
+    String constraintsJson,
+    LocalDateTime createdAt,
+    List<NumbersRow> numbers
+) {
+
+    /**
+     * generated_numbers 한 행 (GeneratedNumbersCodec 형식)
+     */
+    record NumbersRow(int idx, long numbersMask, short tagsMask) {}
+}
@@ -6,12 +6,14 @@ import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
 import io.appback.lottoguide.infra.persistence.repository.DrawRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -47,6 +49,10 @@ public class DrawRefreshService {
     // 수집 중단 플래그
     private volatile boolean isCancelled = false;
     
+    // 한 번에 동시 조회할 회차 구간 크기 (구간 사이에만 Rate limiting 대기)
+    @Value("${external.dhlottery.bulk.window-size:8}")
+    private int bulkWindowSize;
+    
     /**
      * 데이터가 있는지 확인 (고객 API용)
      * 
@@ -254,143 +260,105 @@ public class DrawRefreshService {
             int count = latestDrawNo - startDrawNo + 1;
             log.info("추첨 결과 {}개 수집 시작: {} ~ {}", count, startDrawNo, latestDrawNo);
             
-            // 4. 회차별 수집 (1회차부터 순차적으로)
+            // 4. 회차 구간별 수집 (구간 안에서는 동시 조회, 구간 사이에만 대기)
             int savedCount = 0;
             int failedCount = 0;
             List<Integer> failedDrawNos = new ArrayList<>(); // 실패한 회차 목록
             int consecutiveFailures = 0; // 연속 실패 횟수
             final int MAX_CONSECUTIVE_FAILURES = 10; // 최대 연속 실패 허용 횟수 (최신회차 탐지)
-            final long RATE_LIMIT_DELAY_MS = 5000; // Rate limiting: 회차 간 5초 대기 (API 차단 방지)
+            final long RATE_LIMIT_DELAY_MS = 5000; // Rate limiting: 구간 간 5초 대기 (API 차단 방지)
+            final int windowSize = Math.max(1, bulkWindowSize);
+            boolean stopped = false;
             
-            for (int drawNo = startDrawNo; drawNo <= latestDrawNo; drawNo++) {
+            for (int windowStart = startDrawNo; windowStart <= latestDrawNo && !stopped; windowStart += windowSize) {
                 // 중단 플래그 확인
                 if (isCancelled) {
-                    log.warn("사용자 요청으로 수집 중단: drawNo={}", drawNo);
+                    log.warn("사용자 요청으로 수집 중단: drawNo={}", windowStart);
                     break;
                 }
                 
-                // 강제 업데이트가 아닐 경우, 이미 존재하는 회차는 건너뛰기
-                if (!forceUpdate && drawRepository.findByDrawNo(drawNo).isPresent()) {
-                    log.debug("회차 {}는 이미 존재함, 건너뜀 (forceUpdate=false)", drawNo);
-                    continue;
+                int windowEnd = Math.min(latestDrawNo, windowStart + windowSize - 1);
+                
+                // 구간 안에서 조회할 회차 선별
+                List<Integer> targetDrawNos = new ArrayList<>();
+                for (int drawNo = windowStart; drawNo <= windowEnd; drawNo++) {
+                    boolean exists = drawRepository.findByDrawNo(drawNo).isPresent();
+                    
+                    // 강제 업데이트가 아닐 경우, 이미 존재하는 회차는 건너뛰기
+                    if (!forceUpdate && exists) {
+                        log.debug("회차 {}는 이미 존재함, 건너뜀 (forceUpdate=false)", drawNo);
+                        continue;
+                    }
+                    
+                    // 강제 업데이트일 경우 로컬 응답 캐시를 비우고 외부 API에서 다시 수집
+                    if (forceUpdate && exists) {
+                        log.info("회차 {} 강제 업데이트: 기존 데이터를 새로 수집하여 업데이트", drawNo);
+                        apiClient.evictCachedDraw(drawNo);
+                    }
+                    targetDrawNos.add(drawNo);
                 }
                 
-                // 강제 업데이트일 경우 로그 출력
-                if (forceUpdate && drawRepository.findByDrawNo(drawNo).isPresent()) {
-                    log.info("회차 {} 강제 업데이트: 기존 데이터를 새로 수집하여 업데이트", drawNo);
+                if (targetDrawNos.isEmpty()) {
+                    continue;
                 }
                 
-                // API 호출
-                Optional<DrawApiResponse> apiResponseOpt = apiClient.fetchDraw(drawNo);
+                // API 호출 (구간 내 회차 동시 조회)
+                Map<Integer, DrawApiResponse> fetched = apiClient.fetchDrawBatch(targetDrawNos);
                 
-                if (apiResponseOpt.isPresent()) {
-                    // 성공: DB에 저장 또는 업데이트
-                    DrawApiResponse apiResponse = apiResponseOpt.get();
-                    int[] numbers = apiResponse.getNumbers();
-                    Arrays.sort(numbers); // 정렬
-                    
-                    // 기존 엔티티 조회 (강제 업데이트일 경우)
-                    Optional<DrawEntity> existingOpt = drawRepository.findByDrawNo(drawNo);
-                    DrawEntity drawEntity;
-                    
-                    if (existingOpt.isPresent() && forceUpdate) {
-                        // 기존 데이터 업데이트
-                        DrawEntity existing = existingOpt.get();
-                        drawEntity = DrawEntity.builder()
-                            .drawNo(existing.getDrawNo())
-                            .drawDate(apiResponse.getDrawDate())
-                            .n1(numbers[0])
-                            .n2(numbers[1])
-                            .n3(numbers[2])
-                            .n4(numbers[3])
-                            .n5(numbers[4])
-                            .n6(numbers[5])
-                            .bonus(apiResponse.getBnusNo())
-                            .totalPrize(apiResponse.getTotalPrize())
-                            .winnerCount(apiResponse.getWinnerCount())
-                            .prizePerPerson(apiResponse.getPrizePerPerson())
-                            .createdAt(existing.getCreatedAt()) // 기존 생성일 유지
-                            .build();
-                        log.debug("회차 {} 기존 데이터 업데이트", drawNo);
-                    } else {
-                        // 신규 저장
-                        drawEntity = DrawEntity.builder()
-                            .drawNo(apiResponse.getDrwNo())
-                            .drawDate(apiResponse.getDrawDate())
-                            .n1(numbers[0])
-                            .n2(numbers[1])
-                            .n3(numbers[2])
-                            .n4(numbers[3])
-                            .n5(numbers[4])
-                            .n6(numbers[5])
-                            .bonus(apiResponse.getBnusNo())
-                            .totalPrize(apiResponse.getTotalPrize())
-                            .winnerCount(apiResponse.getWinnerCount())
-                            .prizePerPerson(apiResponse.getPrizePerPerson())
-                            .build();
-                    }
+                // 결과는 회차 순서대로 처리 (연속 실패 판정 유지)
+                for (Integer drawNo : targetDrawNos) {
+                    DrawApiResponse apiResponse = fetched.get(drawNo);
                     
-                    drawRepository.save(drawEntity);
-                    savedCount++;
-                    consecutiveFailures = 0; // 성공 시 연속 실패 카운터 리셋
-                    
-                    // 저장 확인 (실제로 DB에 저장되었는지 확인)
-                    Optional<DrawEntity> savedEntity = drawRepository.findByDrawNo(apiResponse.getDrwNo());
-                    if (savedEntity.isPresent()) {
-                        log.info("회차 {} 저장 완료 및 확인: drawDate={}, totalPrize={}, winnerCount={}, prizePerPerson={}", 
-                            apiResponse.getDrwNo(), apiResponse.getDrawDate(), 
-                            apiResponse.getTotalPrize(), apiResponse.getWinnerCount(), apiResponse.getPrizePerPerson());
+                    if (apiResponse != null) {
+                        // 성공: DB에 저장 또는 업데이트
+                        saveOrUpdate(apiResponse, forceUpdate);
+                        savedCount++;
+                        consecutiveFailures = 0; // 성공 시 연속 실패 카운터 리셋
+                        
+                        // 진행 상황 로깅 (100회차마다)
+                        if (savedCount % 100 == 0) {
+                            log.info("수집 진행: {}개 저장 완료 (현재 회차: {}/{})", savedCount, drawNo, latestDrawNo);
+                        }
                     } else {
-                        log.error("회차 {} 저장 실패: DB에 저장되지 않음 (트랜잭션 롤백 가능성)", apiResponse.getDrwNo());
-                    }
-                    
-                    // 진행 상황 로깅 (100회차마다)
-                    if (savedCount % 100 == 0) {
-                        log.info("수집 진행: {}개 저장 완료 (현재 회차: {}/{})", savedCount, drawNo, latestDrawNo);
-                    }
-                } else {
-                    // 실패: 실패 목록에 추가
-                    failedCount++;
-                    failedDrawNos.add(drawNo);
-                    consecutiveFailures++;
-                    
-                    log.warn("회차 {} 수집 실패 (연속 실패: {}/{})", drawNo, consecutiveFailures, MAX_CONSECUTIVE_FAILURES);
-                    
-                    // 연속 실패 시 더 긴 대기 시간 (API 차단 가능성 대비)
-                    if (consecutiveFailures > 0 && consecutiveFailures % 3 == 0) {
-                        long failureDelay = RATE_LIMIT_DELAY_MS * 2; // 실패 시 2배 대기
-                        log.info("연속 실패 {}회, {}ms 대기 후 재시도", consecutiveFailures, failureDelay);
-                        try {
-                            Thread.sleep(failureDelay);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            log.warn("수집 중단: drawNo={}", drawNo);
+                        // 실패: 실패 목록에 추가
+                        failedCount++;
+                        failedDrawNos.add(drawNo);
+                        consecutiveFailures++;
+                        
+                        log.warn("회차 {} 수집 실패 (연속 실패: {}/{})", drawNo, consecutiveFailures, MAX_CONSECUTIVE_FAILURES);
+                        
+                        // 연속 실패가 너무 많으면 중단 (최신회차 탐지 전략)
+                        if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                            log.warn("연속 실패 횟수 초과 ({}회), 수집 중단. 최신 회차 도달로 판단: drawNo={}", 
+                                consecutiveFailures, drawNo);
+                            stopped = true;
                             break;
                         }
                     }
-                    
-                    // 연속 실패가 너무 많으면 중단 (최신회차 탐지 전략)
-                    if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
-                        log.warn("연속 실패 횟수 초과 ({}회), 수집 중단. 최신 회차 도달로 판단: drawNo={}", 
-                            consecutiveFailures, drawNo);
-                        break;
-                    }
                 }
                 
-                // Rate limiting: API 부하 방지 (성공 시에도 대기)
-                if (drawNo < latestDrawNo) {
+                if (stopped) {
+                    break;
+                }
+                
+                // Rate limiting: API 부하 방지 (연속 실패가 누적되면 2배 대기, API 차단 가능성 대비)
+                if (windowEnd < latestDrawNo) {
+                    long delay = consecutiveFailures >= 3 ? RATE_LIMIT_DELAY_MS * 2 : RATE_LIMIT_DELAY_MS;
+                    if (consecutiveFailures >= 3) {
+                        log.info("연속 실패 {}회, {}ms 대기 후 재시도", consecutiveFailures, delay);
+                    }
                     try {
-                        Thread.sleep(RATE_LIMIT_DELAY_MS);
+                        Thread.sleep(delay);
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
-                        log.warn("수집 중단: drawNo={}", drawNo);
+                        log.warn("수집 중단: drawNo={}", windowEnd);
                         break;
                     }
                 }
                 
                 // 중단 플래그 재확인 (대기 중에 중단 요청이 들어올 수 있음)
                 if (isCancelled) {
-                    log.warn("사용자 요청으로 수집 중단: drawNo={}", drawNo);
+                    log.warn("사용자 요청으로 수집 중단: drawNo={}", windowEnd);
                     break;
                 }
             }
@@ -535,58 +503,67 @@ public class DrawRefreshService {
      * @return 재시도로 저장된 회차 수
      */
     private int retryFailedDraws(List<Integer> failedDrawNos) {
-        int retrySavedCount = 0;
-        final long RETRY_DELAY_MS = 5000; // 재시도 시 5초 대기 시간
-        
+        // 이미 저장되었는지 확인 (다른 스레드가 저장했을 수 있음)
+        List<Integer> retryDrawNos = new ArrayList<>();
         for (Integer drawNo : failedDrawNos) {
-            // 이미 저장되었는지 확인 (다른 스레드가 저장했을 수 있음)
             if (drawRepository.findByDrawNo(drawNo).isPresent()) {
                 log.debug("회차 {}는 이미 저장됨 (재시도 불필요)", drawNo);
                 continue;
             }
-            
-            Optional<DrawApiResponse> apiResponseOpt = apiClient.fetchDraw(drawNo);
-            
-            if (apiResponseOpt.isPresent()) {
-                DrawApiResponse apiResponse = apiResponseOpt.get();
-                int[] numbers = apiResponse.getNumbers();
-                Arrays.sort(numbers);
-                
-                DrawEntity drawEntity = DrawEntity.builder()
-                    .drawNo(apiResponse.getDrwNo())
-                    .drawDate(apiResponse.getDrawDate())
-                    .n1(numbers[0])
-                    .n2(numbers[1])
-                    .n3(numbers[2])
-                    .n4(numbers[3])
-                    .n5(numbers[4])
-                    .n6(numbers[5])
-                    .bonus(apiResponse.getBnusNo())
-                    .totalPrize(apiResponse.getTotalPrize())
-                    .winnerCount(apiResponse.getWinnerCount())
-                    .prizePerPerson(apiResponse.getPrizePerPerson())
-                    .build();
-                
-                drawRepository.save(drawEntity);
+            retryDrawNos.add(drawNo);
+        }
+        
+        int retrySavedCount = 0;
+        Map<Integer, DrawApiResponse> fetched = apiClient.fetchDrawBatch(retryDrawNos);
+        for (Integer drawNo : retryDrawNos) {
+            DrawApiResponse apiResponse = fetched.get(drawNo);
+            if (apiResponse != null) {
+                saveOrUpdate(apiResponse, false);
                 retrySavedCount++;
                 log.debug("회차 {} 재시도 성공: totalPrize={}, winnerCount={}, prizePerPerson={}", 
                     drawNo, apiResponse.getTotalPrize(), apiResponse.getWinnerCount(), apiResponse.getPrizePerPerson());
             } else {
                 log.warn("회차 {} 재시도 실패", drawNo);
             }
-            
-            // Rate limiting
-            try {
-                Thread.sleep(RETRY_DELAY_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
         }
         
         return retrySavedCount;
     }
     
+    /**
+     * API 응답을 DB에 저장 (강제 업데이트면 기존 생성일을 유지하며 덮어씀)
+     */
+    private void saveOrUpdate(DrawApiResponse apiResponse, boolean forceUpdate) {
+        int[] numbers = apiResponse.getNumbers();
+        Arrays.sort(numbers); // 정렬
+        
+        // 기존 엔티티 조회 (강제 업데이트일 경우)
+        Optional<DrawEntity> existingOpt = forceUpdate
+            ? drawRepository.findByDrawNo(apiResponse.getDrwNo())
+            : Optional.empty();
+        
+        DrawEntity drawEntity = DrawEntity.builder()
+            .drawNo(apiResponse.getDrwNo())
+            .drawDate(apiResponse.getDrawDate())
+            .n1(numbers[0])
+            .n2(numbers[1])
+            .n3(numbers[2])
+            .n4(numbers[3])
+            .n5(numbers[4])
+            .n6(numbers[5])
+            .bonus(apiResponse.getBnusNo())
+            .totalPrize(apiResponse.getTotalPrize())
+            .winnerCount(apiResponse.getWinnerCount())
+            .prizePerPerson(apiResponse.getPrizePerPerson())
+            .createdAt(existingOpt.map(DrawEntity::getCreatedAt).orElse(null)) // 기존 생성일 유지
+            .build();
+        
+        drawRepository.save(drawEntity);
+        log.info("회차 {} 저장 완료: drawDate={}, totalPrize={}, winnerCount={}, prizePerPerson={}", 
+            apiResponse.getDrwNo(), apiResponse.getDrawDate(), 
+            apiResponse.getTotalPrize(), apiResponse.getWinnerCount(), apiResponse.getPrizePerPerson());
+    }
+    
     /**
      * 수집 결과
      */
@@ -1,5 +1,6 @@
 package io.appback.lottoguide.infra.refresh;
 
+import io.appback.lottoguide.infra.monitoring.jfr.MetricsRecomputeEvent;
 import io.appback.lottoguide.infra.persistence.entity.DrawEntity;
 import io.appback.lottoguide.infra.persistence.entity.LottoNumberMetricsEntity;
 import io.appback.lottoguide.infra.persistence.repository.DrawRepository;
@@ -37,16 +38,23 @@ public class MetricsRecomputeService {
     @Transactional
     public void recomputeAllMetrics() {
         log.info("메트릭 재계산 시작");
+        MetricsRecomputeEvent event = new MetricsRecomputeEvent();
+        event.begin();
         
+        int failed = 0;
         for (Integer windowSize : WINDOW_SIZES) {
             try {
                 recomputeMetricsForWindowSize(windowSize);
                 log.info("windowSize {} 메트릭 재계산 완료", windowSize);
             } catch (Exception e) {
+                failed++;
                 log.error("windowSize {} 메트릭 재계산 실패: {}", windowSize, e.getMessage());
             }
         }
         
+        event.windowSizes = WINDOW_SIZES.size();
+        event.failed = failed;
+        event.commit();
         log.info("메트릭 재계산 완료");
     }
     
@@ -2,6 +2,9 @@ package io.appback.lottoguide.infra.refresh;
 
 import io.appback.lottoguide.application.port.out.DrawRepositoryPort;
 import io.appback.lottoguide.domain.generator.preset.util.PatternAnalyzer;
+import io.appback.lottoguide.infra.monitoring.RequestTimings;
+import io.appback.lottoguide.infra.monitoring.jfr.CacheRebuildEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PatternStatisticsCache {
     
     private final DrawRepositoryPort drawRepositoryPort;
+    private final MeterRegistry meterRegistry;
     
     // windowSize별 패턴 통계 캐시 (메모리 캐시)
     private final Map<Integer, PatternAnalyzer.PatternStatistics> cache = new ConcurrentHashMap<>();
@@ -39,8 +43,11 @@ public class PatternStatisticsCache {
             windowSize = 50; // 기본값
         }
         
-        // 캐시 무효화 확인
-        if (isCacheInvalid()) {
+        // 캐시 무효화 확인 (최신 회차 조회, 요청 단계 시간에는 pattern-check로 표시)
+        long checkStart = RequestTimings.start();
+        boolean invalid = isCacheInvalid();
+        RequestTimings.stop("pattern-check", checkStart);
+        if (invalid) {
             log.debug("패턴 통계 캐시 무효화, 재계산 필요");
             invalidateCache();
         }
@@ -49,12 +56,16 @@ public class PatternStatisticsCache {
         PatternAnalyzer.PatternStatistics cached = cache.get(windowSize);
         if (cached != null) {
             log.debug("패턴 통계 캐시 히트: windowSize={}", windowSize);
+            meterRegistry.counter("pattern_statistics.cache", "result", "hit").increment();
             return cached;
         }
         
         // 캐시 미스: 계산하여 캐싱
         log.info("패턴 통계 캐시 미스, 계산 시작: windowSize={}", windowSize);
+        meterRegistry.counter("pattern_statistics.cache", "result", "miss").increment();
+        long computeStart = RequestTimings.start();
         PatternAnalyzer.PatternStatistics statistics = computePatternStatistics(windowSize);
+        RequestTimings.stop("pattern-compute", computeStart);
         cache.put(windowSize, statistics);
         
         // 최신 추첨 번호 업데이트
@@ -70,14 +81,18 @@ public class PatternStatisticsCache {
      * @return 패턴 통계
      */
     private PatternAnalyzer.PatternStatistics computePatternStatistics(Integer windowSize) {
+        CacheRebuildEvent event = new CacheRebuildEvent();
+        event.begin();
         try {
             // 최근 N회 추첨 데이터 조회
             List<DrawRepositoryPort.DrawInfo> draws = drawRepositoryPort.findRecentDraws(windowSize);
+            event.success = true;
             
             if (draws == null || draws.isEmpty()) {
                 log.warn("과거 당첨 데이터가 없어 기본 패턴 통계 사용: windowSize={}", windowSize);
                 return createDefaultStatistics();
             }
+            event.entries = draws.size();
             
             // 번호 리스트로 변환
             List<List<Integer>> pastDrawNumbers = draws.stream()
@@ -89,7 +104,14 @@ public class PatternStatisticsCache {
             
         } catch (Exception e) {
             log.error("패턴 통계 계산 실패, 기본 통계 사용: windowSize={}, error={}", windowSize, e.getMessage(), e);
+            event.success = false;
             return createDefaultStatistics();
+        } finally {
+            if (event.shouldCommit()) {
+                event.cache = "pattern_statistics";
+                event.key = String.valueOf(windowSize);
+                event.commit();
+            }
         }
     }
     
@@ -0,0 +1,47 @@
+package io.appback.lottoguide.infra.scheduler;
+
+import io.appback.lottoguide.infra.persistence.partition.GeneratedSetPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 생성 세트 파티션 관리 Job
+ *
+ * 기동 직후 한 번, 이후 매일 새벽 (app.partition.cron) 다음 달 파티션 생성과 만료 파티션 정리를 실행
+ * 하루 한 번이면 months-ahead 여유 안에서 월이 바뀌기 전에 파티션이 준비됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceJob {
+
+    private final GeneratedSetPartitionManager partitionManager;
+
+    @Value("${app.partition.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.partition.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            GeneratedSetPartitionManager.MaintenanceResult result = partitionManager.maintain(YearMonth.now());
+            log.debug("PartitionMaintenanceJob 완료: 생성 {}개, 정리 {}개", result.created().size(), result.expired().size());
+        } catch (Exception e) {
+            log.warn("PartitionMaintenanceJob 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.appback.lottoguide.infra.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자 토큰 확인 (app.admin.token)
+ *
+ * 운영 진단 기능(JFR 녹화, Prometheus 메트릭, 상세 타이밍 헤더)은 일반 관리자 API와 달리
+ * 민감한 내부 정보를 담으므로 이 토큰을 보낸 요청에만 허용합니다.
+ * - 요청 헤더: X-Admin-Token: {토큰} 또는 Authorization: Bearer {토큰} (Prometheus 스크레이퍼용)
+ * - 토큰이 설정되지 않았으면(기본값) 어떤 요청도 관리자로 보지 않습니다.
+ */
+@Component
+public class AdminCredentials {
+
+    public static final String TOKEN_HEADER = "X-Admin-Token";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] token;
+
+    public AdminCredentials(@Value("${app.admin.token:}") String token) {
+        this.token = token == null || token.isBlank() ? null : token.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 관리자 토큰이 설정되어 있는지 여부
+     */
+    public boolean isConfigured() {
+        return token != null;
+    }
+
+    /**
+     * 요청이 관리자 토큰을 가지고 있는지 확인 (길이와 무관하게 일정 시간 비교)
+     */
+    public boolean isAdmin(HttpServletRequest request) {
+        if (token == null) {
+            return false;
+        }
+        String presented = request.getHeader(TOKEN_HEADER);
+        if (presented == null) {
+            String authorization = request.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+                presented = authorization.substring(BEARER_PREFIX.length());
+            }
+        }
+        return presented != null
+            && MessageDigest.isEqual(token, presented.trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
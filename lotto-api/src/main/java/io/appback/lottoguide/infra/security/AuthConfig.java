@@ -1,11 +1,15 @@
 package io.appback.lottoguide.infra.security;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -19,13 +23,20 @@ import java.util.List;
  * 프로토타입에서는 최소한의 보안 설정
  * - Guest/Member 구분은 X-User-Id 헤더로 처리
  * - 실제 인증은 후반 작업으로 예정
+ * - 운영 진단 경로(JFR 녹화, Prometheus 메트릭)는 관리자 토큰(AdminCredentials)이 있어야 허용
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class AuthConfig {
     
+    private final AdminCredentials adminCredentials;
+    
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        AuthorizationManager<RequestAuthorizationContext> adminOnly = (authentication, context) ->
+            new AuthorizationDecision(adminCredentials.isAdmin(context.getRequest()));
+        
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable()) // 프로토타입에서는 CSRF 비활성화
@@ -33,9 +44,13 @@ public class AuthConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // 운영 진단 경로 (관리자 토큰 필요, 없으면 403)
+                .requestMatchers("/api/v1/admin/jfr/**").access(adminOnly)
+                .requestMatchers("/actuator/prometheus").access(adminOnly) // 스크레이퍼는 Authorization: Bearer {토큰}
+                
                 // API 경로
                 .requestMatchers("/api/v1/**").permitAll() // 프로토타입에서는 모든 API 허용
-                .requestMatchers("/actuator/**").permitAll() // Actuator 엔드포인트 허용
+                .requestMatchers("/actuator/**").permitAll() // health, info
                 
                 // 정적 리소스
                 .requestMatchers("/lotto/assets/**", "/lotto/vite.svg", "/lotto/build-info.json").permitAll()
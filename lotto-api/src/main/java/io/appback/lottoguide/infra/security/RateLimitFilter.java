@@ -1,35 +1,278 @@
 package io.appback.lottoguide.infra.security;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appback.lottoguide.api.dto.ErrorResponse;
+import io.appback.lottoguide.config.FeatureFlags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 /**
- * API 호출 제한 Filter
- * 
- * 프로토타입에서는 기본 구조만 구현
- * 실제 Rate Limiting은 Redis나 다른 메커니즘으로 구현 필요
+ * API 호출 제한 Filter (app.features.rate-limit-enabled)
+ *
+ * /api/v1/** 요청마다 클라이언트 IP 버킷과 (X-User-Id가 있으면) 사용자 버킷에서 토큰을 소비합니다.
+ * 두 버킷 모두 통과해야 허용하며, 하나라도 부족하면 429와 Retry-After를 반환합니다.
+ * X-User-Id는 클라이언트가 임의로 보낼 수 있으므로 IP 버킷은 항상 적용합니다.
+ *
+ * - 비용: 요청당 1, POST /api/v1/generate의 AI_ 전략은 ai-strategy-cost (AI 스레드 풀 보호)
+ *   기본 비용 1을 먼저 검사한 뒤에만 본문을 읽고(max-body-bytes 초과 시 413), 추가 비용은 그 다음에 차감
+ * - 응답 헤더: RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset (남은 토큰이 적은 쪽 기준)
+ *
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr가 실제 클라이언트 IP가 되도록 합니다
+ * (prod 프로파일은 native로 설정, 설정이 없으면 모든 사용자가 프록시 IP 버킷 하나를 나눠 씀).
  */
 @Component
 @Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
-    
+
+    private static final String API_PREFIX = "/api/v1/";
+    private static final String GENERATE_PATH = "/api/v1/generate";
+    private static final String USER_HEADER = "X-User-Id";
+    private static final String AI_STRATEGY_PREFIX = "AI_";
+
+    private final FeatureFlags featureFlags;
+    private final ObjectMapper objectMapper;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter userLimiter;
+    private final long aiStrategyCost;
+    private final int maxBodyBytes;
+    private final Counter rejected;
+
+    public RateLimitFilter(FeatureFlags featureFlags,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.ip.capacity:60}") long ipCapacity,
+                           @Value("${app.rate-limit.ip.refill-per-minute:30}") long ipRefillPerMinute,
+                           @Value("${app.rate-limit.user.capacity:120}") long userCapacity,
+                           @Value("${app.rate-limit.user.refill-per-minute:60}") long userRefillPerMinute,
+                           @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${app.rate-limit.ai-strategy-cost:5}") long aiStrategyCost,
+                           @Value("${app.rate-limit.max-body-bytes:16384}") int maxBodyBytes) {
+        this.featureFlags = featureFlags;
+        this.objectMapper = objectMapper;
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxKeys);
+        this.userLimiter = new TokenBucketLimiter(userCapacity, userRefillPerMinute, maxKeys);
+        this.aiStrategyCost = Math.max(1, aiStrategyCost);
+        this.maxBodyBytes = Math.max(1, maxBodyBytes);
+        this.rejected = Counter.builder("rate_limit.rejected").register(meterRegistry);
+        meterRegistry.gauge("rate_limit.keys", this, filter -> filter.ipLimiter.size() + filter.userLimiter.size());
+    }
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !featureFlags.isRateLimitEnabled() || !apiPath(request).startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        
-        // TODO: 실제 구현 시 Rate Limiting 로직 추가
-        // 1. 클라이언트 식별 (IP, User ID 등)
-        // 2. 요청 횟수 체크
-        // 3. 제한 초과 시 429 Too Many Requests 반환
-        
-        // 프로토타입에서는 모든 요청 허용
-        filterChain.doFilter(request, response);
+        String ipKey = request.getRemoteAddr();
+        Long userId = parseUserId(request.getHeader(USER_HEADER));
+
+        // 1. 기본 비용으로 먼저 검사 (제한된 클라이언트의 본문은 읽지 않음)
+        TokenBucketLimiter.Result result = tryConsume(ipKey, userId, 1);
+        if (!result.allowed()) {
+            reject(request, response, result, ipKey, userId, 1);
+            return;
+        }
+
+        // 2. 번호 생성 요청은 본문(상한 있음)을 읽어 추가 비용 차감
+        HttpServletRequest target = request;
+        if ("POST".equals(request.getMethod()) && GENERATE_PATH.equals(apiPath(request))) {
+            CachedBodyRequest cached = CachedBodyRequest.read(request, maxBodyBytes);
+            if (cached == null) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.", "PAYLOAD_TOO_LARGE");
+                return;
+            }
+            target = cached;
+            long extraCost = generateCost(cached.body) - 1;
+            if (extraCost > 0) {
+                result = tryConsume(ipKey, userId, extraCost);
+                if (!result.allowed()) {
+                    reject(request, response, result, ipKey, userId, extraCost + 1);
+                    return;
+                }
+            }
+        }
+
+        setRateLimitHeaders(response, result);
+        filterChain.doFilter(target, response);
+    }
+
+    /**
+     * IP 버킷과 (있으면) 사용자 버킷에서 함께 차감 (사용자 버킷이 부족하면 IP 버킷 차감을 되돌림)
+     *
+     * @return 남은 토큰이 적은 쪽 결과 (거부 시 거부한 버킷의 결과)
+     */
+    private TokenBucketLimiter.Result tryConsume(String ipKey, Long userId, long cost) {
+        TokenBucketLimiter.Result result = ipLimiter.tryConsume(ipKey, cost);
+        if (result.allowed() && userId != null) {
+            TokenBucketLimiter.Result userResult = userLimiter.tryConsume(userId.toString(), cost);
+            if (!userResult.allowed()) {
+                ipLimiter.refund(ipKey, cost);
+                result = userResult;
+            } else if (userResult.remaining() < result.remaining()) {
+                result = userResult;
+            }
+        }
+        return result;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, TokenBucketLimiter.Result result,
+                        String ipKey, Long userId, long cost) throws IOException {
+        rejected.increment();
+        log.debug("호출 제한: ip={}, userId={}, path={}, cost={}", ipKey, userId, apiPath(request), cost);
+        setRateLimitHeaders(response, result);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, result.retryAfterSeconds())));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", "RATE_LIMITED");
+    }
+
+    private static void setRateLimitHeaders(HttpServletResponse response, TokenBucketLimiter.Result result) {
+        response.setHeader("RateLimit-Limit", String.valueOf(result.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(result.resetSeconds()));
+    }
+
+    /**
+     * 번호 생성 요청 비용 (본문의 strategy가 AI_ 전략이면 가중)
+     */
+    private long generateCost(byte[] body) {
+        try {
+            JsonNode strategy = objectMapper.readTree(body).path("strategy");
+            if (strategy.isTextual() && strategy.asText().startsWith(AI_STRATEGY_PREFIX)) {
+                return aiStrategyCost;
+            }
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러에서 400 처리
+        }
+        return 1;
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message, String errorCode)
+            throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+            .message(message)
+            .errorCode(errorCode)
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * X-User-Id (숫자가 아니면 컨트롤러에서도 쓰이지 않으므로 사용자 버킷 생략)
+     */
+    private static Long parseUserId(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String apiPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 본문을 미리 읽어 둔 요청 (비용 계산 후 컨트롤러가 같은 본문을 다시 읽을 수 있도록)
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * 최대 maxBytes까지만 읽기
+         *
+         * @return 본문을 읽어 둔 요청 (Content-Length 또는 실제 본문이 상한을 넘으면 null)
+         */
+        static CachedBodyRequest read(HttpServletRequest request, int maxBytes) throws IOException {
+            if (request.getContentLengthLong() > maxBytes) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+            if (body.length > maxBytes) {
+                return null;
+            }
+            return new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 바로 읽기 가능/완료를 알림
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
     }
 }
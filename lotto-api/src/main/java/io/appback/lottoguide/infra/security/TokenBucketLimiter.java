@@ -0,0 +1,164 @@
+package io.appback.lottoguide.infra.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 토큰 버킷 (메모리 상한 있음, 소비는 잠금 없이 CAS)
+ *
+ * 버킷 상태는 GCRA 방식의 "버킷이 가득 차는 시각"(nanoTime) long 하나입니다.
+ * 토큰 cost개 소비 = 그 시각을 cost × 보충 간격만큼 미루기이며, 미룬 시각이 now + 용량 × 간격을 넘으면 거절합니다.
+ *
+ * 키는 해시로 나눈 stripe(ConcurrentHashMap)에 저장하고 stripe마다 개수 상한을 둡니다.
+ * 상한에 닿으면 이미 가득 찬 버킷(새 버킷과 구별되지 않으므로 지워도 동작이 같음)을 지우고 (stripe당 초당 한 번),
+ * 그래도 자리가 없으면 앞쪽 몇 개 중 가장 오래 쓰지 않은 버킷을 지웁니다 (근사 LRU).
+ * 고유 IP가 대량으로 들어와도 메모리는 max-keys 안에서 유지됩니다.
+ */
+public class TokenBucketLimiter {
+
+    private static final int STRIPES = 16;
+    private static final int EVICTION_SAMPLE = 8;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+    /** stripe별 마지막 전체 정리 시각 (정리는 stripe당 초당 한 번까지) */
+    private final AtomicLongArray lastSweep = new AtomicLongArray(STRIPES);
+
+    /**
+     * 소비 결과
+     *
+     * @param allowed 허용 여부
+     * @param limit 버킷 용량
+     * @param remaining 남은 토큰
+     * @param resetSeconds 버킷이 다시 가득 차기까지 초
+     * @param retryAfterSeconds 거절 시 다시 시도할 수 있기까지 초 (허용이면 0)
+     */
+    public record Result(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {}
+
+    /**
+     * @param capacity 버킷 용량 (버스트 허용량)
+     * @param refillPerMinute 분당 보충 토큰 수
+     * @param maxKeys 최대 키 수
+     */
+    public TokenBucketLimiter(long capacity, long refillPerMinute, int maxKeys) {
+        this.capacity = Math.max(1, capacity);
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+        this.burstNanos = this.capacity * intervalNanos;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        long start = System.nanoTime() - SWEEP_INTERVAL_NANOS;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            lastSweep.set(i, start);
+        }
+    }
+
+    /**
+     * 토큰 소비 시도
+     *
+     * @param key 버킷 키
+     * @param cost 소비할 토큰 수 (용량보다 크면 용량으로 제한)
+     */
+    public Result tryConsume(String key, long cost) {
+        long now = System.nanoTime();
+        long increment = Math.min(Math.max(1, cost), capacity) * intervalNanos;
+        AtomicLong fullAt = bucket(key, now);
+
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + increment;
+            long overflow = next - now - burstNanos;
+            if (overflow > 0) {
+                long base = Math.max(current, now);
+                return new Result(false, capacity, remaining(base, now), toSeconds(base - now), toSeconds(overflow));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Result(true, capacity, remaining(next, now), toSeconds(next - now), 0);
+            }
+        }
+    }
+
+    /**
+     * 소비한 토큰 되돌리기 (여러 버킷 중 뒤쪽에서 거절되었을 때)
+     */
+    public void refund(String key, long cost) {
+        AtomicLong fullAt = stripes[stripeIndex(key)].get(key);
+        if (fullAt != null) {
+            long decrement = Math.min(Math.max(1, cost), capacity) * intervalNanos;
+            fullAt.addAndGet(-decrement);
+        }
+    }
+
+    /**
+     * 현재 키 수 (모니터링용)
+     */
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        int index = stripeIndex(key);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            evict(index, now);
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void evict(int index, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+        // 1. 가득 찬 버킷 제거 (전체 순회이므로 간격 제한, 한 스레드만)
+        long last = lastSweep.get(index);
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(index, last, now)) {
+            stripe.values().removeIf(bucket -> bucket.get() - now <= 0);
+            if (stripe.size() < maxKeysPerStripe) {
+                return;
+            }
+        }
+        // 2. 앞쪽 몇 개 중 가득 차는 시각이 가장 이른 버킷 제거
+        String oldestKey = null;
+        long oldestFullAt = Long.MAX_VALUE;
+        Iterator<Map.Entry<String, AtomicLong>> iterator = stripe.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+            Map.Entry<String, AtomicLong> entry = iterator.next();
+            long fullAt = entry.getValue().get();
+            if (oldestKey == null || fullAt - oldestFullAt < 0) {
+                oldestKey = entry.getKey();
+                oldestFullAt = fullAt;
+            }
+        }
+        if (oldestKey != null) {
+            stripe.remove(oldestKey);
+        }
+    }
+
+    private static int stripeIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private long remaining(long fullAt, long now) {
+        return Math.min(capacity, Math.max(0, (burstNanos - (fullAt - now)) / intervalNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
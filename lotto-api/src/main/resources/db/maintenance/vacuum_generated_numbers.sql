@@ -0,0 +1,10 @@
+-- generated_numbers 공간 회수 (V008 이후 점검 작업, 마이그레이션 아님)
+-- V008에서 삭제한 n1~n6, tags_json 컬럼 공간과 인덱스를 회수합니다.
+--
+-- - VACUUM FULL은 트랜잭션 블록 안에서 실행할 수 없으므로 --single-transaction 없이 단독 실행
+--   psql -h ${DB_HOST} -U ${DB_USERNAME} -d ${DB_NAME} -f vacuum_generated_numbers.sql
+-- - 실행 중 테이블 전체가 잠기므로(ACCESS EXCLUSIVE) 애플리케이션을 멈춘 점검 시간에 실행
+-- - 테이블 크기만큼의 여유 디스크 공간이 필요 (새 파일로 다시 쓴 뒤 교체)
+-- - V009(월 파티셔닝)를 이어서 적용하면 행을 새 테이블로 옮기므로 이 작업은 필요 없음
+
+VACUUM (FULL, ANALYZE, VERBOSE) generated_numbers;
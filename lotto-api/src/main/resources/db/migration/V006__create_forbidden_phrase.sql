@@ -0,0 +1,25 @@
+-- 금지 표현 사전 테이블 생성 (관리자 편집, 미션/LLM 응답 검사용)
+CREATE TABLE IF NOT EXISTS forbidden_phrase (
+    id BIGSERIAL PRIMARY KEY,
+    phrase VARCHAR(200) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 기본 금지 표현 삽입 (확률/보장 관련)
+INSERT INTO forbidden_phrase (phrase, created_at)
+VALUES ('보장', CURRENT_TIMESTAMP),
+       ('확실', CURRENT_TIMESTAMP),
+       ('확률 증가', CURRENT_TIMESTAMP),
+       ('당첨 보장', CURRENT_TIMESTAMP),
+       ('100%', CURRENT_TIMESTAMP),
+       ('반드시', CURRENT_TIMESTAMP),
+       ('절대', CURRENT_TIMESTAMP),
+       ('확실히', CURRENT_TIMESTAMP)
+ON CONFLICT (phrase) DO NOTHING;
+
+-- 초기 데이터 삽입 완료 표시 (ForbiddenPhraseInitializer가 다시 삽입하지 않도록, internal. 키는 공개 옵션 API에서 제외)
+INSERT INTO system_options (option_key, option_value, description, created_at, updated_at)
+VALUES ('internal.forbidden_phrase_seeded_at', CURRENT_TIMESTAMP::TEXT,
+        '금지 표현 사전 초기 데이터 삽입 시각 (삭제하면 다음 시작 시 기본 표현을 다시 삽입)',
+        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+ON CONFLICT (option_key) DO NOTHING;
@@ -0,0 +1,9 @@
+-- 히스토리 키셋 페이징용 커버링 인덱스
+-- 목록 쿼리(id, strategy_code, created_at)를 테이블 접근 없이 인덱스만으로 처리
+DROP INDEX IF EXISTS idx_generated_set_user_created;
+CREATE INDEX IF NOT EXISTS idx_generated_set_user_created
+    ON generated_set (user_id, created_at DESC, id DESC) INCLUDE (strategy_code);
+
+-- 한 페이지의 번호를 IN 쿼리 한 번으로 조회
+CREATE INDEX IF NOT EXISTS idx_generated_numbers_set_idx
+    ON generated_numbers (generated_set_id, idx);
@@ -0,0 +1,57 @@
+-- generated_numbers 압축 저장 형식으로 전환
+-- n1~n6 (INT 6개) + tags_json (TEXT) → numbers_mask (BIGINT) + tags_mask (SMALLINT)
+-- 번호 n은 numbers_mask의 비트 (n - 1), ExplainTag는 ordinal 비트 (GeneratedNumbersCodec 참고)
+-- 새 버전 배포 전에 실행해야 합니다 (기존 행이 있으면 ddl-auto로는 NOT NULL 컬럼을 추가할 수 없음)
+
+ALTER TABLE generated_numbers ADD COLUMN IF NOT EXISTS numbers_mask BIGINT;
+ALTER TABLE generated_numbers ADD COLUMN IF NOT EXISTS tags_mask SMALLINT NOT NULL DEFAULT 0;
+
+-- tags_json이 비어 있거나 JSON 배열이 아닌 행은 기존 parseTagsJson처럼 태그 없음(tags_mask 0)으로 변환
+CREATE FUNCTION pg_temp.safe_tags_json(raw TEXT) RETURNS JSONB
+LANGUAGE plpgsql IMMUTABLE AS $$
+DECLARE
+    parsed JSONB;
+BEGIN
+    IF raw IS NULL OR btrim(raw) = '' THEN
+        RETURN '[]'::JSONB;
+    END IF;
+    parsed := raw::JSONB;
+    IF jsonb_typeof(parsed) <> 'array' THEN
+        RETURN '[]'::JSONB;
+    END IF;
+    RETURN parsed;
+EXCEPTION WHEN invalid_text_representation OR untranslatable_character THEN
+    RETURN '[]'::JSONB;
+END;
+$$;
+
+UPDATE generated_numbers
+SET numbers_mask = (1::BIGINT << (n1 - 1)) | (1::BIGINT << (n2 - 1)) | (1::BIGINT << (n3 - 1))
+                 | (1::BIGINT << (n4 - 1)) | (1::BIGINT << (n5 - 1)) | (1::BIGINT << (n6 - 1)),
+    -- 아래 ordinal 목록은 ExplainTag 선언 순서를 그대로 옮긴 것 (enum 순서를 바꾸면 안 됨)
+    tags_mask = COALESCE((
+        SELECT bit_or(1 << t.ordinal)::SMALLINT
+        FROM jsonb_array_elements_text(pg_temp.safe_tags_json(tags_json)) AS e(tag)
+        JOIN (VALUES ('WINDOW_50', 0),
+                     ('ODD_3_EVEN_3', 1),
+                     ('SUM_126', 2),
+                     ('FREQ_BIAS', 3),
+                     ('OVERDUE_BIAS', 4),
+                     ('NO_LONG_CONSEC', 5)) AS t(name, ordinal) ON t.name = e.tag
+    ), 0)
+WHERE numbers_mask IS NULL;
+
+ALTER TABLE generated_numbers ALTER COLUMN numbers_mask SET NOT NULL;
+ALTER TABLE generated_numbers ALTER COLUMN tags_mask DROP DEFAULT;
+
+ALTER TABLE generated_numbers
+    DROP COLUMN IF EXISTS n1,
+    DROP COLUMN IF EXISTS n2,
+    DROP COLUMN IF EXISTS n3,
+    DROP COLUMN IF EXISTS n4,
+    DROP COLUMN IF EXISTS n5,
+    DROP COLUMN IF EXISTS n6,
+    DROP COLUMN IF EXISTS tags_json;
+
+-- 삭제한 컬럼 공간 회수(VACUUM FULL)는 트랜잭션 안에서 실행할 수 없으므로 이 파일에 두지 않습니다.
+-- V009를 바로 이어서 적용하지 않는 경우에만 db/maintenance/vacuum_generated_numbers.sql을 따로 실행하세요.
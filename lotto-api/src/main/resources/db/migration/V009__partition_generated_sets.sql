@@ -0,0 +1,91 @@
+-- generated_set / generated_numbers 월 단위 파티셔닝 (created_at RANGE)
+-- 조회는 항상 사용자별 최신순이므로 최근 월 파티션만 읽고, 오래된 월은 파티션 단위로 분리/삭제합니다.
+-- 이후 파티션 생성과 보존 기간 정리는 GeneratedSetPartitionManager(app.partition.*)가 맡습니다.
+--
+-- - 파티션 키가 기본 키에 포함되어야 하므로 기본 키는 (id, created_at)
+-- - generated_numbers에 세트 생성 시간(created_at)을 복사해 같은 월 파티션에 두고 함께 정리
+-- - ID는 기존 시퀀스의 마지막 값부터 이어받음 (쓰기 지연 저널에 남은 ID와 겹치지 않음)
+--
+-- V008 이후, 애플리케이션을 멈춘 점검 시간에 한 트랜잭션으로 실행 (psql --single-transaction)
+
+ALTER TABLE generated_set RENAME TO generated_set_legacy;
+ALTER TABLE generated_numbers RENAME TO generated_numbers_legacy;
+DROP INDEX IF EXISTS idx_generated_set_user_created;
+DROP INDEX IF EXISTS idx_generated_numbers_set_idx;
+
+CREATE SEQUENCE generated_set_id_part_seq;
+CREATE SEQUENCE generated_numbers_id_part_seq;
+SELECT setval('generated_set_id_part_seq', GREATEST(
+    COALESCE(pg_sequence_last_value(pg_get_serial_sequence('generated_set_legacy', 'id')::REGCLASS), 0),
+    COALESCE((SELECT max(id) FROM generated_set_legacy), 0),
+    1));
+SELECT setval('generated_numbers_id_part_seq', GREATEST(
+    COALESCE(pg_sequence_last_value(pg_get_serial_sequence('generated_numbers_legacy', 'id')::REGCLASS), 0),
+    COALESCE((SELECT max(id) FROM generated_numbers_legacy), 0),
+    1));
+
+CREATE TABLE generated_set (
+    id BIGINT NOT NULL DEFAULT nextval('generated_set_id_part_seq'),
+    user_id BIGINT NOT NULL,
+    strategy_code VARCHAR(50) NOT NULL,
+    strategy_params_json TEXT,
+    constraints_json TEXT,
+    generated_count INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE generated_set_id_part_seq OWNED BY generated_set.id;
+
+CREATE TABLE generated_numbers (
+    id BIGINT NOT NULL DEFAULT nextval('generated_numbers_id_part_seq'),
+    generated_set_id BIGINT NOT NULL,
+    idx INTEGER NOT NULL,
+    numbers_mask BIGINT NOT NULL,
+    tags_mask SMALLINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE generated_numbers_id_part_seq OWNED BY generated_numbers.id;
+
+-- 파티션별 로컬 인덱스로 만들어짐
+CREATE INDEX idx_generated_set_user_created
+    ON generated_set (user_id, created_at DESC, id DESC) INCLUDE (strategy_code);
+CREATE INDEX idx_generated_numbers_set_idx
+    ON generated_numbers (generated_set_id, idx);
+
+-- 미리 만든 월 범위를 벗어난 행 보관용 (평소에는 비어 있어야 함)
+CREATE TABLE generated_set_default PARTITION OF generated_set DEFAULT;
+CREATE TABLE generated_numbers_default PARTITION OF generated_numbers DEFAULT;
+
+-- 기존 데이터의 첫 달부터 앞으로 3개월까지 월 파티션 생성
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT min(created_at) FROM generated_set_legacy), now()))::DATE;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::DATE;
+    suffix TEXT;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        suffix := to_char(month_start, '"_y"YYYY"m"MM');
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF generated_set FOR VALUES FROM (%L) TO (%L)',
+                       'generated_set' || suffix, month_start, (month_start + INTERVAL '1 month')::DATE);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF generated_numbers FOR VALUES FROM (%L) TO (%L)',
+                       'generated_numbers' || suffix, month_start, (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO generated_set (id, user_id, strategy_code, strategy_params_json, constraints_json,
+                           generated_count, created_at)
+SELECT id, user_id, strategy_code, strategy_params_json, constraints_json, generated_count, created_at
+FROM generated_set_legacy;
+
+INSERT INTO generated_numbers (id, generated_set_id, idx, numbers_mask, tags_mask, created_at)
+SELECT n.id, n.generated_set_id, n.idx, n.numbers_mask, n.tags_mask, s.created_at
+FROM generated_numbers_legacy n
+JOIN generated_set_legacy s ON s.id = n.generated_set_id;
+
+DROP TABLE generated_numbers_legacy;
+DROP TABLE generated_set_legacy;
+
+ANALYZE generated_set;
+ANALYZE generated_numbers;
@@ -0,0 +1,68 @@
+package io.appback.lottoguide.domain.mission.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PhraseAutomaton 일치 구간 테스트
+ */
+class PhraseAutomatonTest {
+
+    @Test
+    void findAll_reportsOverlappingAndNestedMatchesInEndOrder() {
+        PhraseAutomaton automaton = new PhraseAutomaton(List.of("확실", "확실히", "실히", "당첨 보장", "보장"));
+
+        List<PhraseAutomaton.Match> matches = automaton.findAll("확실히 당첨 보장!");
+
+        assertThat(matches).containsExactly(
+            new PhraseAutomaton.Match(0, 2, "확실"),
+            new PhraseAutomaton.Match(0, 3, "확실히"),
+            new PhraseAutomaton.Match(1, 3, "실히"),
+            new PhraseAutomaton.Match(4, 9, "당첨 보장"),
+            new PhraseAutomaton.Match(7, 9, "보장"));
+    }
+
+    @Test
+    void findAll_followsFailureLinksAfterPartialMatch() {
+        // "he"까지 진행하다 실패해도 "she"/"hers"의 접미사 일치를 놓치지 않음
+        PhraseAutomaton automaton = new PhraseAutomaton(List.of("he", "she", "his", "hers"));
+
+        List<PhraseAutomaton.Match> matches = automaton.findAll("ushers");
+
+        assertThat(matches).extracting(PhraseAutomaton.Match::phrase).containsExactly("she", "he", "hers");
+        assertThat(matches).extracting(PhraseAutomaton.Match::start).containsExactly(1, 2, 2);
+    }
+
+    @Test
+    void findAll_ignoresCaseButKeepsOriginalIndices() {
+        PhraseAutomaton automaton = new PhraseAutomaton(List.of("Guaranteed", "100%"));
+
+        List<PhraseAutomaton.Match> matches = automaton.findAll("It is GUARANTEED, 100%.");
+
+        assertThat(matches).containsExactly(
+            new PhraseAutomaton.Match(6, 16, "guaranteed"),
+            new PhraseAutomaton.Match(18, 22, "100%"));
+    }
+
+    @Test
+    void constructor_dropsBlankAndDuplicatePhrases() {
+        PhraseAutomaton automaton = new PhraseAutomaton(Arrays.asList("보장", " 보장 ", "", null, "절대"));
+
+        assertThat(automaton.phrases()).containsExactly("보장", "절대");
+        assertThat(automaton.maxPhraseLength()).isEqualTo(2);
+    }
+
+    @Test
+    void containsAny_isFalseForEmptyDictionaryAndCleanText() {
+        assertThat(new PhraseAutomaton(List.of()).containsAny("보장")).isFalse();
+        assertThat(new PhraseAutomaton(List.of()).findAll("보장")).isEmpty();
+
+        PhraseAutomaton automaton = new PhraseAutomaton(ForbiddenPhraseDetector.DEFAULT_PHRASES);
+        assertThat(automaton.containsAny("오늘은 산책을 해보세요")).isFalse();
+        assertThat(automaton.containsAny("반드시 당첨")).isTrue();
+    }
+}
@@ -0,0 +1,176 @@
+package io.appback.lottoguide.infra.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.appback.lottoguide.infra.external.dto.DrawApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DonghaengLottoApiClient 스텁 서버 테스트
+ *
+ * 로컬 HTTP 스텁 서버로 세션 쿠키 전달, 재시도, 전체 리스트 폴백, 일괄 조회를 확인합니다.
+ * 응답 캐시는 비활성 상태(@Value 미주입)로 사용하므로 모든 조회가 스텁 서버로 갑니다.
+ */
+class DonghaengLottoApiClientTest {
+
+    private HttpServer server;
+    private DonghaengLottoApiClient client;
+
+    // 경로별 호출 횟수
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    // common.do 요청에 실린 Cookie 헤더
+    private final List<String> apiCookies = new java.util.concurrent.CopyOnWriteArrayList<>();
+
+    // common.do 응답 방식
+    private volatile boolean baseEndpointReturnsHtml = false;
+    private volatile int baseEndpointFailuresBeforeSuccess = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            count("/");
+            exchange.getResponseHeaders().add("Set-Cookie", "DHJSESSIONID=stub-session; Path=/");
+            respond(exchange, 200, "text/html", "<html>main</html>");
+        });
+        server.createContext("/lt645/result", exchange -> {
+            count("/lt645/result");
+            respond(exchange, 200, "text/html", "<html>result</html>");
+        });
+        server.createContext("/common.do", exchange -> {
+            int call = count("/common.do");
+            apiCookies.add(String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")));
+            if (baseEndpointReturnsHtml) {
+                respond(exchange, 200, "text/html", "<html>blocked</html>");
+                return;
+            }
+            if (call <= baseEndpointFailuresBeforeSuccess) {
+                respond(exchange, 500, "text/plain", "error");
+                return;
+            }
+            int drawNo = Integer.parseInt(queryParam(exchange, "drwNo"));
+            respond(exchange, 200, "application/json", drawJson(drawNo));
+        });
+        server.createContext("/lt645/selectPstLt645Info.do", exchange -> {
+            count("/lt645/selectPstLt645Info.do");
+            respond(exchange, 200, "application/json", listJson());
+        });
+        server.start();
+
+        WebClient webClient = WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(true)))
+            .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        client = new DonghaengLottoApiClient(webClient, objectMapper, new DrawResponseCache(objectMapper));
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetchDraw_sendsSessionCookieAndRetriesServerError() {
+        baseEndpointFailuresBeforeSuccess = 1;
+
+        Optional<DrawApiResponse> result = client.fetchDraw(1000);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getDrwNo()).isEqualTo(1000);
+        assertThat(result.get().getNumbers()).containsExactlyInAnyOrder(2, 8, 19, 22, 32, 42);
+        // 첫 시도 500 -> 재시도 성공
+        assertThat(calls.get("/common.do").get()).isEqualTo(2);
+        // 세션 쿠키는 한 번만 획득하고 모든 API 호출에 실림
+        assertThat(calls.get("/").get()).isEqualTo(1);
+        assertThat(apiCookies).allMatch(cookie -> cookie.contains("DHJSESSIONID=stub-session"));
+    }
+
+    @Test
+    void fetchDraw_fallsBackToListApiWhenBaseEndpointReturnsHtml() {
+        baseEndpointReturnsHtml = true;
+
+        Optional<DrawApiResponse> first = client.fetchDraw(1001);
+        Optional<DrawApiResponse> second = client.fetchDraw(1002);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getDrwNoDate()).isEqualTo("2022-01-22");
+        assertThat(first.get().getFirstWinamnt()).isEqualTo(2_000_000_000L);
+        assertThat(second).isPresent();
+        // 한 번 HTML을 받으면 이후에는 기본 엔드포인트를 건너뜀
+        assertThat(calls.get("/common.do").get()).isEqualTo(1);
+        assertThat(calls.get("/lt645/selectPstLt645Info.do").get()).isEqualTo(2);
+    }
+
+    @Test
+    void fetchDrawBatch_fetchesConcurrentlyAndSharesSessionCookie() {
+        Map<Integer, DrawApiResponse> result = client.fetchDrawBatch(List.of(1000, 1001, 1002, 1003));
+
+        assertThat(result).containsOnlyKeys(1000, 1001, 1002, 1003);
+        assertThat(calls.get("/").get()).isEqualTo(1);
+        assertThat(apiCookies).hasSize(4)
+            .allMatch(cookie -> cookie.contains("DHJSESSIONID=stub-session"));
+    }
+
+    private int count(String path) {
+        return calls.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        for (String pair : exchange.getRequestURI().getQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv[0].equals(name)) {
+                return kv[1];
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static String drawJson(int drawNo) {
+        return "{\"returnValue\":\"success\",\"drwNo\":" + drawNo + ",\"drwNoDate\":\"2022-01-15\","
+            + "\"drwtNo1\":42,\"drwtNo2\":8,\"drwtNo3\":19,\"drwtNo4\":2,\"drwtNo5\":32,\"drwtNo6\":22,"
+            + "\"bnusNo\":7,\"firstWinamnt\":2000000000,\"firstPrzwnerCo\":10,\"totSellamnt\":100000000000}";
+    }
+
+    private static String listJson() {
+        StringBuilder sb = new StringBuilder("{\"resultCode\":null,\"resultMessage\":null,\"data\":{\"list\":[");
+        for (int drawNo = 1000; drawNo <= 1003; drawNo++) {
+            if (drawNo > 1000) {
+                sb.append(',');
+            }
+            sb.append("{\"ltEpsd\":").append(drawNo)
+                .append(",\"ltRflYmd\":\"202201").append(drawNo - 979).append('"')
+                .append(",\"tm1WnNo\":1,\"tm2WnNo\":2,\"tm3WnNo\":3,\"tm4WnNo\":4,\"tm5WnNo\":5,\"tm6WnNo\":6")
+                .append(",\"bnsWnNo\":7,\"rnk1WnAmt\":2000000000,\"rnk1WnNope\":10}");
+        }
+        return sb.append("]}}").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.appback.lottoguide.infra.llm;
+
+import io.appback.lottoguide.config.FeatureFlags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LlmGateway 스텁 Provider 테스트
+ *
+ * 호출 횟수를 세는 스텁 LlmClient로 캐시, 동일 프롬프트 합치기, 예산 상한, 캐시 최대 개수를 확인합니다.
+ */
+class LlmGatewayTest {
+
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    // 설정되면 Provider 호출이 이 래치가 풀릴 때까지 대기
+    private volatile CountDownLatch providerGate;
+
+    private final LlmClient stubProvider = prompt -> {
+        providerCalls.incrementAndGet();
+        CountDownLatch gate = providerGate;
+        if (gate != null) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new LlmClient.LlmResponse("미션: " + prompt, 10, 0.001);
+    };
+
+    private FeatureFlags featureFlags;
+
+    @BeforeEach
+    void setUp() {
+        featureFlags = new FeatureFlags();
+        featureFlags.setLlmCacheEnabled(true);
+        featureFlags.setLlmBudgetCapEnabled(true);
+    }
+
+    private LlmGateway gateway(LlmBudgetAccountant accountant, int cacheMaxEntries) {
+        return gateway(accountant, cacheMaxEntries, new SimpleMeterRegistry());
+    }
+
+    private LlmGateway gateway(LlmBudgetAccountant accountant, int cacheMaxEntries, MeterRegistry meterRegistry) {
+        return new LlmGateway(stubProvider, featureFlags, accountant, meterRegistry, 3600, cacheMaxEntries);
+    }
+
+    /**
+     * llm.gateway.requests{result=coalesced}가 오를 때마다 래치를 내리는 레지스트리
+     * (진행 중인 호출에 합류한 요청 수를 시간 대기 없이 확인)
+     */
+    private static MeterRegistry countingCoalesced(CountDownLatch coalesced) {
+        return new SimpleMeterRegistry() {
+            @Override
+            protected Counter newCounter(Meter.Id id) {
+                Counter counter = super.newCounter(id);
+                if (!"coalesced".equals(id.getTag("result"))) {
+                    return counter;
+                }
+                return new Counter() {
+                    @Override
+                    public void increment(double amount) {
+                        counter.increment(amount);
+                        coalesced.countDown();
+                    }
+
+                    @Override
+                    public double count() {
+                        return counter.count();
+                    }
+
+                    @Override
+                    public Meter.Id getId() {
+                        return counter.getId();
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    void generateMission_servesNormalizedDuplicatePromptFromCache() {
+        LlmGateway gateway = gateway(new LlmBudgetAccountant(0, 0), 100);
+
+        Optional<LlmClient.LlmResponse> first = gateway.generateMission("오늘의  미션 ");
+        Optional<LlmClient.LlmResponse> second = gateway.generateMission(" 오늘의 미션");
+        List<String> streamed = gateway.streamMission("오늘의 미션").collectList().block();
+
+        assertThat(first).isPresent();
+        assertThat(second).contains(first.get());
+        assertThat(streamed).containsExactly(first.get().text());
+        assertThat(providerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void generateMission_coalescesConcurrentCallsForSamePrompt() throws Exception {
+        int callers = 8;
+        CountDownLatch coalesced = new CountDownLatch(callers - 1);
+        LlmGateway gateway = gateway(new LlmBudgetAccountant(0, 0), 100, countingCoalesced(coalesced));
+        providerGate = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<LlmClient.LlmResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> gateway.generateMission("합치기 미션")));
+            }
+            // 대표 요청을 제외한 모두가 진행 중인 호출에 합류한 뒤 Provider 해제
+            assertThat(coalesced.await(5, TimeUnit.SECONDS)).isTrue();
+            providerGate.countDown();
+
+            for (Future<Optional<LlmClient.LlmResponse>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(providerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void generateMission_skipsProviderOnceBudgetCapIsReached() {
+        LlmBudgetAccountant accountant = new LlmBudgetAccountant(15, 0);
+        LlmGateway gateway = gateway(accountant, 100);
+
+        assertThat(gateway.generateMission("첫 번째")).isPresent();
+        assertThat(gateway.generateMission("두 번째")).isPresent();
+        assertThat(accountant.getTokensUsed()).isEqualTo(20);
+
+        assertThat(gateway.generateMission("세 번째")).isEmpty();
+        assertThat(gateway.streamMission("네 번째").collectList().block()).isEmpty();
+        assertThat(providerCalls.get()).isEqualTo(2);
+        // 이미 캐시된 응답은 상한과 무관하게 반환
+        assertThat(gateway.generateMission("첫 번째")).isPresent();
+    }
+
+    @Test
+    void generateMission_evictsOldestCacheEntryOverMaxEntries() {
+        LlmGateway gateway = gateway(new LlmBudgetAccountant(0, 0), 2);
+
+        gateway.generateMission("a");
+        gateway.generateMission("b");
+        gateway.generateMission("c");
+        assertThat(providerCalls.get()).isEqualTo(3);
+
+        gateway.generateMission("b");
+        gateway.generateMission("c");
+        assertThat(providerCalls.get()).isEqualTo(3);
+
+        gateway.generateMission("a");
+        assertThat(providerCalls.get()).isEqualTo(4);
+    }
+}
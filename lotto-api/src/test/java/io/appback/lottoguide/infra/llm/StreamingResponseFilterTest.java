@@ -0,0 +1,82 @@
+package io.appback.lottoguide.infra.llm;
+
+import io.appback.lottoguide.domain.exception.LlmResponseRejectedException;
+import io.appback.lottoguide.domain.mission.policy.ForbiddenPhraseDetector;
+import io.appback.lottoguide.domain.mission.policy.MissionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StreamingResponseFilter 보류/가리기 테스트
+ *
+ * 기본 금지 표현 사전(DB 로드 전 기본값)을 사용합니다. 가장 긴 표현은 "당첨 보장"(5자)이므로 4자를 보류합니다.
+ */
+class StreamingResponseFilterTest {
+
+    private final MissionPolicy policy = new MissionPolicy(new ForbiddenPhraseDetector(null));
+
+    private StreamingResponseFilter newFilter() {
+        return new StreamingResponseFilter(new LlmResponseSanitizer(), policy);
+    }
+
+    /**
+     * 토큰을 차례로 넣고 내보낸 조각 목록 (마지막은 finish 결과)
+     */
+    private static List<String> stream(StreamingResponseFilter filter, String... tokens) {
+        List<String> chunks = new ArrayList<>();
+        for (String token : tokens) {
+            chunks.add(filter.accept(token));
+        }
+        chunks.add(filter.finish());
+        return chunks;
+    }
+
+    @Test
+    void accept_redactsPhraseSplitAcrossTokens() {
+        List<String> chunks = stream(newFilter(), "오늘은 당첨 ", "보", "장은 없지만 즐겁게 산책하세요");
+
+        assertThat(String.join("", chunks)).isEqualTo("오늘은 ** **은 없지만 즐겁게 산책하세요");
+        // 금지 표현의 앞부분이 가려지기 전에 나간 조각은 없음
+        for (String chunk : chunks) {
+            assertThat(chunk).doesNotContain("당", "보");
+        }
+    }
+
+    @Test
+    void accept_holdsBackTailUntilItCanNoLongerStartPhrase() {
+        StreamingResponseFilter filter = newFilter();
+
+        assertThat(filter.accept("가나다라마바사")).isEqualTo("가나다");
+        assertThat(filter.accept("아자차카")).isEqualTo("라마바사");
+        assertThat(filter.finish()).isEqualTo("아자차카");
+    }
+
+    @Test
+    void accept_redactsOverlappingPhrasesAfterEarlierMask() {
+        // "확실"이 먼저 가려져도 원문 기준으로 검사하므로 "확실히" 전체를 가림
+        List<String> chunks = stream(newFilter(), "  확실", "히 좋은 하루가 될 거예요");
+
+        assertThat(String.join("", chunks)).isEqualTo("*** 좋은 하루가 될 거예요");
+    }
+
+    @Test
+    void accept_matchesSanitizerTrimming() {
+        List<String> chunks = stream(newFilter(), "\n  오늘의 미션은 ", "가벼운 산책입니다   ", "  \n");
+
+        assertThat(String.join("", chunks))
+            .isEqualTo(new LlmResponseSanitizer().sanitize("\n  오늘의 미션은 가벼운 산책입니다     \n"));
+    }
+
+    @Test
+    void finish_rejectsTooShortResponse() {
+        StreamingResponseFilter filter = newFilter();
+        filter.accept("짧음");
+
+        assertThatThrownBy(filter::finish).isInstanceOf(LlmResponseRejectedException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package io.appback.lottoguide.infra.persistence.mapper;
+
+import io.appback.lottoguide.domain.generator.model.ExplainTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * generated_numbers 압축 형식 왕복 테스트
+ */
+class GeneratedNumbersCodecTest {
+
+    @Test
+    void encodeNumbers_roundTripsToAscendingList() {
+        long mask = GeneratedNumbersCodec.encodeNumbers(List.of(45, 3, 17, 1, 29, 8));
+
+        assertThat(Long.bitCount(mask)).isEqualTo(6);
+        assertThat(GeneratedNumbersCodec.decodeNumbers(mask)).containsExactly(1, 3, 8, 17, 29, 45);
+    }
+
+    @Test
+    void encodeNumbers_usesBitNMinusOne() {
+        assertThat(GeneratedNumbersCodec.encodeNumbers(List.of(1))).isEqualTo(1L);
+        assertThat(GeneratedNumbersCodec.encodeNumbers(List.of(45))).isEqualTo(1L << 44);
+    }
+
+    @Test
+    void encodeNumbers_rejectsOutOfRangeNullAndDuplicates() {
+        assertThatThrownBy(() -> GeneratedNumbersCodec.encodeNumbers(List.of(0, 1, 2)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeneratedNumbersCodec.encodeNumbers(List.of(1, 46)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeneratedNumbersCodec.encodeNumbers(Arrays.asList(1, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeneratedNumbersCodec.encodeNumbers(List.of(7, 7)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void encodeTags_roundTripsEveryTagInOrdinalOrder() {
+        List<ExplainTag> all = List.of(ExplainTag.values());
+        List<ExplainTag> reversed = new ArrayList<>(all);
+        Collections.reverse(reversed);
+
+        short mask = GeneratedNumbersCodec.encodeTags(reversed);
+
+        assertThat(GeneratedNumbersCodec.decodeTags(mask)).containsExactlyElementsOf(all);
+        assertThat(GeneratedNumbersCodec.decodeTags(GeneratedNumbersCodec.encodeTags(
+            List.of(ExplainTag.SUM_126, ExplainTag.WINDOW_50))))
+            .containsExactly(ExplainTag.WINDOW_50, ExplainTag.SUM_126);
+    }
+
+    @Test
+    void encodeTags_matchesOrdinalsHardCodedInV008() {
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.WINDOW_50))).isEqualTo((short) (1 << 0));
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.ODD_3_EVEN_3))).isEqualTo((short) (1 << 1));
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.SUM_126))).isEqualTo((short) (1 << 2));
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.FREQ_BIAS))).isEqualTo((short) (1 << 3));
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.OVERDUE_BIAS))).isEqualTo((short) (1 << 4));
+        assertThat(GeneratedNumbersCodec.encodeTags(List.of(ExplainTag.NO_LONG_CONSEC))).isEqualTo((short) (1 << 5));
+    }
+
+    @Test
+    void encodeTags_treatsNullAsEmpty() {
+        assertThat(GeneratedNumbersCodec.encodeTags(null)).isZero();
+        assertThat(GeneratedNumbersCodec.encodeTags(Arrays.asList(ExplainTag.FREQ_BIAS, null)))
+            .isEqualTo((short) (1 << ExplainTag.FREQ_BIAS.ordinal()));
+        assertThat(GeneratedNumbersCodec.decodeTags((short) 0)).isEmpty();
+    }
+
+    @Test
+    void decodeTags_ignoresUnknownBits() {
+        short mask = (short) ((1 << 14) | (1 << ExplainTag.OVERDUE_BIAS.ordinal()) | 0x8000);
+
+        assertThat(GeneratedNumbersCodec.decodeTags(mask)).containsExactly(ExplainTag.OVERDUE_BIAS);
+    }
+}
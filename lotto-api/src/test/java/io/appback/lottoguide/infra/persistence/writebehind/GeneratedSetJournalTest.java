@@ -0,0 +1,107 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeneratedSetJournal 복구/정리 테스트 (임시 디렉터리의 실제 파일 사용)
+ */
+class GeneratedSetJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path tempDir;
+
+    static PendingGeneratedSet set(long setId) {
+        return new PendingGeneratedSet(setId, 7L, "FREQUENT_TOP", "{}", "{}",
+            LocalDateTime.of(2026, 10, 1, 12, 0),
+            List.of(new PendingGeneratedSet.NumbersRow(0, 0b111111L, (short) 1)));
+    }
+
+    @Test
+    void readPending_replaysSetsWithoutAckAfterCrash() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 0);
+        journal.readPending();
+        journal.append(set(1));
+        journal.append(set(2));
+        journal.append(set(3));
+        journal.ack(List.of(set(2)));
+        // close 없이 버림: 프로세스가 죽은 상황 (쓰기는 매번 OS로 넘어가 있음)
+
+        GeneratedSetJournal restarted = new GeneratedSetJournal(path, objectMapper, 0);
+        List<PendingGeneratedSet> pending = restarted.readPending();
+        restarted.close();
+
+        assertThat(pending).extracting(PendingGeneratedSet::setId).containsExactly(1L, 3L);
+        assertThat(pending.get(0)).isEqualTo(set(1));
+    }
+
+    @Test
+    void readPending_skipsTruncatedLastLine() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 0)) {
+            journal.readPending();
+            journal.append(set(1));
+        }
+        // 기록 도중 죽어 잘린 줄
+        Files.writeString(path, "P\t{\"setId\":2,\"userId\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 0)) {
+            assertThat(journal.readPending()).extracting(PendingGeneratedSet::setId).containsExactly(1L);
+        }
+    }
+
+    @Test
+    void ack_truncatesFileWhenNothingIsPending() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 0)) {
+            journal.readPending();
+            journal.append(set(1));
+            journal.append(set(2));
+            journal.ack(List.of(set(1), set(2)));
+
+            assertThat(Files.size(path)).isZero();
+        }
+    }
+
+    @Test
+    void ack_compactsToPendingLinesOnceThresholdIsReached() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 2)) {
+            journal.readPending();
+            for (long id = 1; id <= 4; id++) {
+                journal.append(set(id));
+            }
+            journal.ack(List.of(set(1)));
+            assertThat(Files.readAllLines(path)).hasSize(5);
+
+            journal.ack(List.of(set(3)));
+
+            List<String> lines = Files.readAllLines(path);
+            assertThat(lines).hasSize(2).allMatch(line -> line.startsWith("P\t"));
+            assertThat(Files.exists(tempDir.resolve("journal.log.compact"))).isFalse();
+
+            // 교체 후에도 같은 저널에 계속 기록
+            journal.append(set(5));
+            journal.ack(List.of(set(2)));
+        }
+
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(path, objectMapper, 2)) {
+            assertThat(journal.readPending()).extracting(PendingGeneratedSet::setId).containsExactly(4L, 5L);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.appback.lottoguide.infra.persistence.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import static io.appback.lottoguide.infra.persistence.writebehind.GeneratedSetJournalTest.set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeneratedSetWriteBehind 작성 스레드 테스트
+ *
+ * DB 대신 특정 세트가 들어간 묶음을 항상 거부하는 스텁 작성기를 사용합니다.
+ * 세트는 저널에 미리 기록해 두고 기동 시 복구하므로, 모두 한 묶음으로 작성 스레드에 넘어갑니다.
+ */
+class GeneratedSetWriteBehindTest {
+
+    private static final long FAILING_SET_ID = 2L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final StubBatchWriter batchWriter = new StubBatchWriter();
+
+    @TempDir
+    Path tempDir;
+
+    private GeneratedSetWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void start_replaysJournalAndDeadLettersOnlyTheFailingSet() throws Exception {
+        Path journalPath = tempDir.resolve("journal.log");
+        Path deadLetterPath = tempDir.resolve("dead-letter.log");
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(journalPath, objectMapper, 0)) {
+            journal.readPending();
+            journal.append(set(1));
+            journal.append(set(FAILING_SET_ID));
+            journal.append(set(3));
+        }
+
+        writeBehind = writeBehind(journalPath, deadLetterPath, 2);
+        writeBehind.start();
+
+        await(() -> Files.exists(deadLetterPath) && size(journalPath) == 0);
+        writeBehind.shutdown();
+        writeBehind = null;
+
+        // 나머지 세트는 한 건씩 다시 저장되어 큐가 멈추지 않음
+        assertThat(batchWriter.saved).extracting(PendingGeneratedSet::setId).containsExactlyInAnyOrder(1L, 3L);
+        // 실패 횟수는 한 건씩 저장할 때만 셈: (묶음 + 한 건) x max-attempts 2회 후 중단
+        assertThat(batchWriter.failingAttempts).isEqualTo(4);
+
+        List<String> deadLetters = Files.readAllLines(deadLetterPath);
+        assertThat(deadLetters).hasSize(1);
+
+        // 대기 세트 파일의 줄을 저널 끝에 붙이면 다음 기동 때 다시 저장됨
+        Files.write(journalPath, deadLetters);
+        try (GeneratedSetJournal journal = new GeneratedSetJournal(journalPath, objectMapper, 0)) {
+            assertThat(journal.readPending()).containsExactly(set(FAILING_SET_ID));
+        }
+    }
+
+    private GeneratedSetWriteBehind writeBehind(Path journalPath, Path deadLetterPath, int maxAttempts) {
+        GeneratedSetWriteBehind target = new GeneratedSetWriteBehind(batchWriter, null, objectMapper,
+            new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(target, "enabled", true);
+        ReflectionTestUtils.setField(target, "queueCapacity", 100);
+        ReflectionTestUtils.setField(target, "batchSize", 10);
+        ReflectionTestUtils.setField(target, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(target, "journalFile", journalPath.toString());
+        ReflectionTestUtils.setField(target, "journalCompactThreshold", 0);
+        ReflectionTestUtils.setField(target, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(target, "deadLetterFile", deadLetterPath.toString());
+        return target;
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("작성 스레드 처리 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * FAILING_SET_ID가 들어간 묶음은 항상 실패하는 작성기
+     */
+    private static class StubBatchWriter extends GeneratedSetBatchWriter {
+
+        private final Queue<PendingGeneratedSet> saved = new ConcurrentLinkedQueue<>();
+        private volatile int failingAttempts;
+
+        StubBatchWriter() {
+            super(null, null);
+        }
+
+        @Override
+        int write(List<PendingGeneratedSet> sets) {
+            if (sets.stream().anyMatch(set -> set.setId() == FAILING_SET_ID)) {
+                failingAttempts++;
+                throw new IllegalStateException("constraint violation");
+            }
+            saved.addAll(sets);
+            return sets.size();
+        }
+    }
+}